@@ -1,6 +1,7 @@
 package com.acme.policyapi.application.dto;
 
 import com.acme.policyapi.domain.entity.CustomerRiskClassification;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -22,4 +23,10 @@ public class FraudAnalysisResponseDTO {
     private LocalDateTime analyzedAt;
     private CustomerRiskClassification classification;
     private List<OccurrenceDTO> occurrences;
+
+    /**
+     * Indica uma classificação de contingência, gerada localmente porque a API não respondeu.
+     */
+    @JsonIgnore
+    private boolean fallback;
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.acme.policyapi.application.dto;
+
+import com.acme.policyapi.domain.entity.PolicyRequestStatus;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO com o resultado individual de um item da criação em lote.
+ *
+ * @author Sistema ACME
+ */
+@Getter
+@Setter
+public class PolicyRequestBatchItemDTO {
+
+    private int index;
+    private UUID id;
+    private LocalDateTime createdAt;
+    private PolicyRequestStatus status;
+    private List<String> errors;
+}
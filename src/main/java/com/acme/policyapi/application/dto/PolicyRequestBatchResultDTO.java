@@ -0,0 +1,21 @@
+package com.acme.policyapi.application.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * DTO de resposta para a criação em lote de solicitações de apólice.
+ *
+ * @author Sistema ACME
+ */
+@Getter
+@Setter
+public class PolicyRequestBatchResultDTO {
+
+    private int total;
+    private int created;
+    private int failed;
+    private List<PolicyRequestBatchItemDTO> items;
+}
@@ -1,7 +1,9 @@
 package com.acme.policyapi.application.dto;
 
 import com.acme.policyapi.domain.entity.InsuranceCategory;
+import com.acme.policyapi.domain.entity.Money;
 import com.acme.policyapi.domain.entity.PaymentMethod;
+import com.acme.policyapi.domain.entity.PositiveMoney;
 import com.acme.policyapi.domain.entity.SalesChannel;
 import lombok.Data;
 
@@ -9,7 +11,6 @@ import jakarta.validation.constraints.*;
 import lombok.Getter;
 import lombok.Setter;
 
-import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -39,16 +40,16 @@ public class PolicyRequestCreateDTO {
     private PaymentMethod paymentMethod;
 
     @NotNull(message = "Valor total do prêmio mensal é obrigatório")
-    @DecimalMin(value = "0.01", message = "Valor do prêmio deve ser maior que zero")
-    private BigDecimal totalMonthlyPremiumAmount;
+    @PositiveMoney(message = "Valor do prêmio deve ser maior que zero")
+    private Money totalMonthlyPremiumAmount;
 
     @NotNull(message = "Valor do capital segurado é obrigatório")
-    @DecimalMin(value = "0.01", message = "Valor do capital segurado deve ser maior que zero")
-    private BigDecimal insuredAmount;
+    @PositiveMoney(message = "Valor do capital segurado deve ser maior que zero")
+    private Money insuredAmount;
 
     @NotNull(message = "Coberturas são obrigatórias")
     @Size(min = 1, message = "Deve haver pelo menos uma cobertura")
-    private Map<String, BigDecimal> coverages;
+    private Map<String, Money> coverages;
 
     @NotNull(message = "Assistências são obrigatórias")
     private List<String> assistances;
@@ -0,0 +1,22 @@
+package com.acme.policyapi.application.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * DTO de resposta da busca paginada de solicitações de apólice.
+ * 
+ * @author Sistema ACME
+ */
+@Getter
+@Setter
+public class PolicyRequestPageDTO {
+
+    private List<PolicyRequestResponseDTO> items;
+    private boolean hasNext;
+
+    /** Cursor opaco para a próxima página; nulo quando não há mais resultados */
+    private String nextCursor;
+}
@@ -4,7 +4,6 @@ import com.acme.policyapi.domain.entity.*;
 import lombok.Getter;
 import lombok.Setter;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
@@ -28,9 +27,9 @@ public class PolicyRequestResponseDTO {
     private PolicyRequestStatus status;
     private LocalDateTime createdAt;
     private LocalDateTime finishedAt;
-    private BigDecimal totalMonthlyPremiumAmount;
-    private BigDecimal insuredAmount;
-    private Map<String, BigDecimal> coverages;
+    private Money totalMonthlyPremiumAmount;
+    private Money insuredAmount;
+    private Map<String, Money> coverages;
     private List<String> assistances;
     private List<StatusHistoryDTO> history;
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.acme.policyapi.application.dto;
+
+import com.acme.policyapi.domain.entity.InsuranceCategory;
+import com.acme.policyapi.domain.entity.PolicyRequestStatus;
+import com.acme.policyapi.domain.entity.SalesChannel;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO com os filtros da busca paginada de solicitações de apólice.
+ * 
+ * @author Sistema ACME
+ */
+@Getter
+@Setter
+public class PolicyRequestSearchDTO {
+
+    private UUID customerId;
+    private PolicyRequestStatus status;
+    private InsuranceCategory category;
+    private SalesChannel salesChannel;
+    private LocalDateTime createdFrom;
+    private LocalDateTime createdTo;
+    private String cursor;
+    private Integer limit;
+    private boolean includeHistory;
+}
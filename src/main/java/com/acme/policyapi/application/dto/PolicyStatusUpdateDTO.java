@@ -0,0 +1,35 @@
+package com.acme.policyapi.application.dto;
+
+import com.acme.policyapi.domain.entity.ConfirmationType;
+import com.acme.policyapi.domain.entity.PolicyRequestStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.UUID;
+
+/**
+ * DTO com uma alteração de status solicitada por um sistema externo
+ * (pagamento ou subscrição), aplicada em lote.
+ *
+ * <p>Quando {@code confirmation} é informado, a alteração é uma confirmação: a aprovação
+ * só é aplicada se ela completar as confirmações exigidas da solicitação.</p>
+ *
+ * @author Sistema ACME
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PolicyStatusUpdateDTO {
+
+    private UUID policyRequestId;
+    private PolicyRequestStatus status;
+    private String reason;
+    private ConfirmationType confirmation;
+
+    public PolicyStatusUpdateDTO(UUID policyRequestId, PolicyRequestStatus status, String reason) {
+        this(policyRequestId, status, reason, null);
+    }
+}
@@ -4,6 +4,7 @@ import com.acme.policyapi.application.dto.FraudAnalysisResponseDTO;
 import com.acme.policyapi.domain.entity.PolicyRequest;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Interface para serviço de análise de fraudes.
@@ -28,4 +29,14 @@ public interface FraudAnalysisService {
      * @return resultado da análise de fraudes
      */
     FraudAnalysisResponseDTO analyzeFraud(UUID orderId, UUID customerId);
-}
\ No newline at end of file
+
+    /**
+     * Solicita análise de fraudes sem ocupar a thread chamadora enquanto a API responde,
+     * quando o cliente não bloqueante estiver habilitado.
+     * 
+     * @param policyRequest a solicitação a ser analisada
+     * @return resultado da análise; falhas da API resultam na mesma classificação de
+     *         contingência da versão síncrona
+     */
+    CompletableFuture<FraudAnalysisResponseDTO> analyzeFraudAsync(PolicyRequest policyRequest);
+}
@@ -1,9 +1,16 @@
 package com.acme.policyapi.application.service;
 
+import com.acme.policyapi.application.dto.PolicyRequestBatchResultDTO;
 import com.acme.policyapi.application.dto.PolicyRequestCreateDTO;
+import com.acme.policyapi.application.dto.PolicyRequestPageDTO;
 import com.acme.policyapi.application.dto.PolicyRequestResponseDTO;
+import com.acme.policyapi.application.dto.PolicyRequestSearchDTO;
+import com.acme.policyapi.application.dto.PolicyStatusUpdateDTO;
+import com.acme.policyapi.domain.entity.ConfirmationType;
 import com.acme.policyapi.domain.entity.PolicyRequest;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.UUID;
 
@@ -22,6 +29,14 @@ public interface PolicyRequestService {
      */
     PolicyRequestResponseDTO createPolicyRequest(PolicyRequestCreateDTO createDTO);
 
+    /**
+     * Cria várias solicitações de apólice em lote.
+     * 
+     * @param createDTOs dados das solicitações (itens nulos são tratados como inválidos)
+     * @return resultado por item com IDs gerados ou erros
+     */
+    PolicyRequestBatchResultDTO createPolicyRequests(List<PolicyRequestCreateDTO> createDTOs);
+
     /**
      * Busca uma solicitação por ID.
      * 
@@ -38,6 +53,24 @@ public interface PolicyRequestService {
      */
     List<PolicyRequestResponseDTO> findByCustomerId(UUID customerId);
 
+    /**
+     * Busca solicitações por filtros com paginação por cursor.
+     * 
+     * @param searchDTO filtros, cursor e tamanho da página
+     * @return página de solicitações
+     */
+    PolicyRequestPageDTO search(PolicyRequestSearchDTO searchDTO);
+
+    /**
+     * Exporta as solicitações que atendem aos filtros em NDJSON.
+     * 
+     * @param filters filtros da exportação (cursor e limite são ignorados)
+     * @param output destino das linhas
+     * @return quantidade de solicitações exportadas
+     * @throws IOException se a escrita falhar
+     */
+    long exportPolicyRequests(PolicyRequestSearchDTO filters, OutputStream output) throws IOException;
+
     /**
      * Processa uma solicitação através da análise de fraudes e validação.
      * 
@@ -67,6 +100,15 @@ public interface PolicyRequestService {
      */
     void approveRequest(UUID policyRequestId);
 
+    /**
+     * Aprova uma solicitação, executando {@code inTransaction} na mesma transação.
+     * 
+     * @param policyRequestId ID da solicitação
+     * @param inTransaction gravação complementar, repetida a cada tentativa; se falhar, a
+     *        aprovação é desfeita
+     */
+    void approveRequest(UUID policyRequestId, Runnable inTransaction);
+
     /**
      * Rejeita uma solicitação.
      * 
@@ -74,4 +116,53 @@ public interface PolicyRequestService {
      * @param reason motivo da rejeição
      */
     void rejectRequest(UUID policyRequestId, String reason);
+
+    /**
+     * Rejeita uma solicitação, executando {@code inTransaction} na mesma transação.
+     * 
+     * @param policyRequestId ID da solicitação
+     * @param reason motivo da rejeição
+     * @param inTransaction gravação complementar, repetida a cada tentativa; se falhar, a
+     *        rejeição é desfeita
+     */
+    void rejectRequest(UUID policyRequestId, String reason, Runnable inTransaction);
+
+    /**
+     * Registra uma confirmação de pagamento ou subscrição, aprovando a solicitação
+     * quando as duas tiverem sido recebidas.
+     * 
+     * @param policyRequestId ID da solicitação
+     * @param type confirmação recebida
+     * @return true se a solicitação foi aprovada por esta confirmação
+     */
+    boolean registerConfirmation(UUID policyRequestId, ConfirmationType type);
+
+    /**
+     * Registra uma confirmação, executando {@code inTransaction} na mesma transação.
+     * 
+     * @param policyRequestId ID da solicitação
+     * @param type confirmação recebida
+     * @param inTransaction gravação complementar, repetida a cada tentativa; se falhar, a
+     *        confirmação é desfeita
+     * @return true se a solicitação foi aprovada por esta confirmação
+     */
+    boolean registerConfirmation(UUID policyRequestId, ConfirmationType type, Runnable inTransaction);
+
+    /**
+     * Aplica várias alterações de status em uma única transação.
+     * 
+     * @param updates alterações na ordem em que foram recebidas
+     * @return quantidade de alterações aplicadas
+     */
+    int applyStatusUpdates(List<PolicyStatusUpdateDTO> updates);
+
+    /**
+     * Aplica várias alterações de status, executando {@code inTransaction} na mesma transação.
+     * 
+     * @param updates alterações na ordem em que foram recebidas
+     * @param inTransaction gravação complementar, repetida a cada tentativa; se falhar, o
+     *        lote é desfeito
+     * @return quantidade de alterações aplicadas
+     */
+    int applyStatusUpdates(List<PolicyStatusUpdateDTO> updates, Runnable inTransaction);
 }
\ No newline at end of file
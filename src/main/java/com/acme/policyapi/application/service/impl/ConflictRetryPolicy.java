@@ -0,0 +1,119 @@
+package com.acme.policyapi.application.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Repete, em processo, operações de escrita que perderam a disputa de versão para outra
+ * transação ({@link OptimisticLockingFailureException}).
+ *
+ * <p>Cada tentativa deve abrir a sua própria transação e reler a solicitação, por isso a
+ * política envolve as chamadas aos casos de uso e nunca é usada dentro de uma transação.
+ * Entre tentativas aguarda um atraso curto, crescente e com variação aleatória, para que
+ * os concorrentes não colidam de novo. Esgotadas as tentativas o conflito é propagado.</p>
+ *
+ * <p>Métricas: {@code policy.request.conflicts} (tag {@code operation}) conta cada conflito
+ * e {@code policy.request.conflict.retry} (tags {@code operation} e
+ * {@code outcome=success|exhausted}) mede o tempo total das operações que tiveram ao menos
+ * um conflito.</p>
+ *
+ * @author Sistema ACME
+ */
+@Component
+@Slf4j
+public class ConflictRetryPolicy {
+
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final Duration backoff;
+
+    public ConflictRetryPolicy(MeterRegistry meterRegistry,
+                               @Value("${policy-request.concurrency.max-attempts:3}") int maxAttempts,
+                               @Value("${policy-request.concurrency.backoff:20ms}") Duration backoff) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("O número de tentativas deve ser maior que zero");
+        }
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = maxAttempts;
+        this.backoff = backoff;
+    }
+
+    /**
+     * Executa a operação, repetindo-a enquanto houver conflito de versão.
+     *
+     * @param operation nome da operação, usado nas métricas e logs
+     * @param action operação transacional completa (leitura e escrita)
+     * @return resultado da tentativa bem-sucedida
+     * @throws OptimisticLockingFailureException se todas as tentativas conflitarem
+     */
+    public <T> T execute(String operation, Supplier<T> action) {
+        long start = System.nanoTime();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                T result = action.get();
+                if (attempt > 1) {
+                    recordRetry(operation, "success", start);
+                }
+                return result;
+            } catch (OptimisticLockingFailureException e) {
+                conflicts(operation).increment();
+
+                if (attempt >= maxAttempts) {
+                    recordRetry(operation, "exhausted", start);
+                    log.warn("Conflito em {} após {} tentativas: {}", operation, attempt, e.getMessage());
+                    throw e;
+                }
+
+                log.debug("Conflito em {} (tentativa {} de {}): {}", operation, attempt, maxAttempts, e.getMessage());
+                pause(attempt);
+            }
+        }
+    }
+
+    public void run(String operation, Runnable action) {
+        execute(operation, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private void pause(int attempt) {
+        long base = backoff.toMillis() * attempt;
+        if (base <= 0) {
+            return;
+        }
+
+        try {
+            Thread.sleep(base + ThreadLocalRandom.current().nextLong(base + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrompido aguardando nova tentativa", e);
+        }
+    }
+
+    private Counter conflicts(String operation) {
+        return Counter.builder("policy.request.conflicts")
+                .description("Conflitos de versão em alterações de solicitações")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    private void recordRetry(String operation, String outcome, long start) {
+        Timer.builder("policy.request.conflict.retry")
+                .description("Tempo total de operações repetidas por conflito de versão")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(Duration.ofNanos(System.nanoTime() - start));
+    }
+}
@@ -1,19 +1,36 @@
 package com.acme.policyapi.application.service.impl;
 
+import com.acme.policyapi.application.dto.PolicyRequestBatchResultDTO;
 import com.acme.policyapi.application.dto.PolicyRequestCreateDTO;
+import com.acme.policyapi.application.dto.PolicyRequestPageDTO;
 import com.acme.policyapi.application.dto.PolicyRequestResponseDTO;
+import com.acme.policyapi.application.dto.PolicyRequestSearchDTO;
+import com.acme.policyapi.application.dto.PolicyStatusUpdateDTO;
 import com.acme.policyapi.application.service.PolicyRequestService;
 import com.acme.policyapi.application.usecase.*;
+import com.acme.policyapi.domain.entity.ConfirmationType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * Implementação do serviço de aplicação para solicitações de apólice.
  * 
+ * <p>As alterações de status são executadas pela {@link ConflictRetryPolicy}: se outra
+ * transação alterar a mesma solicitação entre a leitura e a gravação, o caso de uso é
+ * repetido em uma nova transação.</p>
+ * 
+ * <p>As variantes com {@code inTransaction} abrem a transação aqui, a cada tentativa, e
+ * executam a gravação complementar (por exemplo, o registro do evento Kafka de origem
+ * como processado) nela, logo após o caso de uso.</p>
+ * 
  * @author Sistema ACME
  */
 @Service
@@ -23,17 +40,27 @@ public class PolicyRequestServiceImpl implements PolicyRequestService {
 
     private final CreatePolicyRequestUseCase createPolicyRequestUseCase;
     private final FindPolicyRequestUseCase findPolicyRequestUseCase;
+    private final ExportPolicyRequestsUseCase exportPolicyRequestsUseCase;
     private final ProcessPolicyRequestUseCase processPolicyRequestUseCase;
     private final CancelPolicyRequestUseCase cancelPolicyRequestUseCase;
     private final SetPendingPolicyRequestUseCase setPendingPolicyRequestUseCase;
     private final ApprovePolicyRequestUseCase approvePolicyRequestUseCase;
     private final RejectPolicyRequestUseCase rejectPolicyRequestUseCase;
+    private final ApplyStatusUpdatesUseCase applyStatusUpdatesUseCase;
+    private final RegisterConfirmationUseCase registerConfirmationUseCase;
+    private final ConflictRetryPolicy conflictRetryPolicy;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
     public PolicyRequestResponseDTO createPolicyRequest(PolicyRequestCreateDTO createDTO) {
         return createPolicyRequestUseCase.execute(createDTO);
     }
 
+    @Override
+    public PolicyRequestBatchResultDTO createPolicyRequests(List<PolicyRequestCreateDTO> createDTOs) {
+        return createPolicyRequestUseCase.executeBatch(createDTOs);
+    }
+
     @Override
     public PolicyRequestResponseDTO findById(UUID id) {
         return findPolicyRequestUseCase.findById(id);
@@ -44,6 +71,16 @@ public class PolicyRequestServiceImpl implements PolicyRequestService {
         return findPolicyRequestUseCase.findByCustomerId(customerId);
     }
 
+    @Override
+    public PolicyRequestPageDTO search(PolicyRequestSearchDTO searchDTO) {
+        return findPolicyRequestUseCase.search(searchDTO);
+    }
+
+    @Override
+    public long exportPolicyRequests(PolicyRequestSearchDTO filters, OutputStream output) throws IOException {
+        return exportPolicyRequestsUseCase.execute(filters, output);
+    }
+
     @Override
     public void processRequest(UUID policyRequestId) {
         processPolicyRequestUseCase.execute(policyRequestId);
@@ -51,21 +88,73 @@ public class PolicyRequestServiceImpl implements PolicyRequestService {
 
     @Override
     public void cancelRequest(UUID policyRequestId, String reason) {
-        cancelPolicyRequestUseCase.execute(policyRequestId, reason);
+        conflictRetryPolicy.run("cancel", () -> cancelPolicyRequestUseCase.execute(policyRequestId, reason));
     }
 
     @Override
     public void setPending(UUID policyRequestId) {
-        setPendingPolicyRequestUseCase.execute(policyRequestId);
+        conflictRetryPolicy.run("set-pending", () -> setPendingPolicyRequestUseCase.execute(policyRequestId));
     }
 
     @Override
     public void approveRequest(UUID policyRequestId) {
-        approvePolicyRequestUseCase.execute(policyRequestId);
+        conflictRetryPolicy.run("approve", () -> approvePolicyRequestUseCase.execute(policyRequestId));
+    }
+
+    @Override
+    public void approveRequest(UUID policyRequestId, Runnable inTransaction) {
+        conflictRetryPolicy.run("approve",
+                () -> runInTransaction(() -> approvePolicyRequestUseCase.execute(policyRequestId), inTransaction));
     }
 
     @Override
     public void rejectRequest(UUID policyRequestId, String reason) {
-        rejectPolicyRequestUseCase.execute(policyRequestId, reason);
+        conflictRetryPolicy.run("reject", () -> rejectPolicyRequestUseCase.execute(policyRequestId, reason));
+    }
+
+    @Override
+    public void rejectRequest(UUID policyRequestId, String reason, Runnable inTransaction) {
+        conflictRetryPolicy.run("reject",
+                () -> runInTransaction(() -> rejectPolicyRequestUseCase.execute(policyRequestId, reason), inTransaction));
+    }
+
+    @Override
+    public boolean registerConfirmation(UUID policyRequestId, ConfirmationType type) {
+        return conflictRetryPolicy.execute("confirmation", () -> registerConfirmationUseCase.execute(policyRequestId, type));
+    }
+
+    @Override
+    public boolean registerConfirmation(UUID policyRequestId, ConfirmationType type, Runnable inTransaction) {
+        return conflictRetryPolicy.execute("confirmation",
+                () -> executeInTransaction(() -> registerConfirmationUseCase.execute(policyRequestId, type), inTransaction));
+    }
+
+    @Override
+    public int applyStatusUpdates(List<PolicyStatusUpdateDTO> updates) {
+        return conflictRetryPolicy.execute("status-updates", () -> applyStatusUpdatesUseCase.execute(updates));
+    }
+
+    @Override
+    public int applyStatusUpdates(List<PolicyStatusUpdateDTO> updates, Runnable inTransaction) {
+        return conflictRetryPolicy.execute("status-updates",
+                () -> executeInTransaction(() -> applyStatusUpdatesUseCase.execute(updates), inTransaction));
+    }
+
+    private void runInTransaction(Runnable useCase, Runnable inTransaction) {
+        executeInTransaction(() -> {
+            useCase.run();
+            return null;
+        }, inTransaction);
+    }
+
+    /**
+     * Executa o caso de uso, que adere à transação aberta aqui, e a gravação complementar.
+     */
+    private <T> T executeInTransaction(Supplier<T> useCase, Runnable inTransaction) {
+        return transactionTemplate.execute(status -> {
+            T result = useCase.get();
+            inTransaction.run();
+            return result;
+        });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,154 @@
+package com.acme.policyapi.application.usecase;
+
+import com.acme.policyapi.application.dto.PolicyStatusUpdateDTO;
+import com.acme.policyapi.domain.entity.ConfirmationType;
+import com.acme.policyapi.domain.entity.PolicyRequest;
+import com.acme.policyapi.domain.entity.PolicyRequestStatus;
+import com.acme.policyapi.domain.entity.StatusHistory;
+import com.acme.policyapi.domain.repository.PolicyConfirmationRepository;
+import com.acme.policyapi.domain.repository.PolicyRequestRepository;
+import com.acme.policyapi.domain.repository.StatusTransition;
+import com.acme.policyapi.infrastructure.cache.PolicyRequestResponseCache;
+import com.acme.policyapi.infrastructure.messaging.PolicyEventPublisher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ApplyStatusUpdatesUseCase {
+
+    private final PolicyRequestRepository policyRequestRepository;
+    private final PolicyEventPublisher eventPublisher;
+    private final PolicyRequestResponseCache policyRequestCache;
+    private final PolicyConfirmationRepository confirmationRepository;
+
+    /**
+     * Aplica um lote de alterações de status (aprovação ou rejeição) em uma única transação.
+     * 
+     * <p>As solicitações referenciadas são carregadas em uma consulta, as transições são
+     * aplicadas na ordem recebida e as transições são gravadas juntas
+     * ({@link PolicyRequestRepository#updateStatuses}): um lote de UPDATEs condicionais ao
+     * status e à versão lidos e um lote de registros de histórico, sem regravar o agregado.
+     * Alterações para solicitações inexistentes ou com transição inválida são ignoradas sem
+     * afetar as demais; uma solicitação alterada por outra transação desfaz o lote.</p>
+     * 
+     * <p>Confirmações de pagamento e subscrição são registradas antes, em uma única gravação;
+     * somente as solicitações cujas confirmações ficaram completas são carregadas e aprovadas,
+     * uma vez cada. Se a aprovação não puder ser aplicada (solicitação inexistente ou ainda
+     * não pendente), a correlação volta a ficar incompleta na mesma transação.</p>
+     * 
+     * @param updates alterações na ordem em que foram recebidas
+     * @return quantidade de alterações aplicadas
+     */
+    @Transactional
+    public int execute(List<PolicyStatusUpdateDTO> updates) {
+        log.info("Aplicando lote de {} alterações de status", updates.size());
+        
+        Set<UUID> confirmed = registerConfirmations(updates);
+        
+        Map<UUID, PolicyRequest> policyRequests = policyRequestRepository
+                .findAllById(updates.stream()
+                        .filter(update -> update.getConfirmation() == null || confirmed.contains(update.getPolicyRequestId()))
+                        .map(PolicyStatusUpdateDTO::getPolicyRequestId)
+                        .distinct()
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(PolicyRequest::getId, Function.identity()));
+        
+        Map<UUID, StatusTransition> changed = new LinkedHashMap<>();
+        List<UUID> reopened = new ArrayList<>();
+        int applied = 0;
+        
+        for (PolicyStatusUpdateDTO update : updates) {
+            if (update.getConfirmation() != null && !confirmed.remove(update.getPolicyRequestId())) {
+                continue;
+            }
+            
+            PolicyRequest policyRequest = policyRequests.get(update.getPolicyRequestId());
+            if (policyRequest == null) {
+                log.warn("Solicitação não encontrada: {}", update.getPolicyRequestId());
+                reopenIfConfirmation(update, reopened);
+                continue;
+            }
+            
+            PolicyRequestStatus previousStatus = policyRequest.getStatus();
+            StatusHistory entry;
+            try {
+                entry = policyRequest.updateStatus(update.getStatus(), update.getReason());
+            } catch (IllegalStateException e) {
+                log.warn("Alteração ignorada para solicitação {}: {}", update.getPolicyRequestId(), e.getMessage());
+                reopenIfConfirmation(update, reopened);
+                continue;
+            }
+            
+            changed.computeIfAbsent(policyRequest.getId(),
+                            id -> new StatusTransition(policyRequest, previousStatus, new ArrayList<>()))
+                    .entries().add(entry);
+            applied++;
+        }
+        
+        if (!changed.isEmpty()) {
+            policyRequestRepository.updateStatuses(new ArrayList<>(changed.values()));
+            changed.keySet().forEach(policyRequestCache::evictAfterCommit);
+            // Eventos só depois da gravação: se o lote falhar, a reaplicação individual não os duplica
+            changed.values().forEach(transition -> publish(transition.policyRequest()));
+        }
+        
+        if (!reopened.isEmpty()) {
+            confirmationRepository.reopen(reopened);
+        }
+        
+        log.info("Lote de alterações de status concluído: {} aplicadas, {} ignoradas", applied, updates.size() - applied);
+        
+        return applied;
+    }
+
+    /**
+     * @return IDs das solicitações cujas confirmações foram completadas por este lote
+     */
+    private Set<UUID> registerConfirmations(List<PolicyStatusUpdateDTO> updates) {
+        Map<UUID, Set<ConfirmationType>> confirmations = new LinkedHashMap<>();
+        for (PolicyStatusUpdateDTO update : updates) {
+            if (update.getConfirmation() != null) {
+                confirmations.computeIfAbsent(update.getPolicyRequestId(), id -> EnumSet.noneOf(ConfirmationType.class))
+                        .add(update.getConfirmation());
+            }
+        }
+        
+        return confirmations.isEmpty() ? new HashSet<>() : new HashSet<>(confirmationRepository.register(confirmations));
+    }
+
+    /**
+     * Uma aprovação por confirmações que não pôde ser aplicada não deixa a correlação
+     * completa, como ocorre com o rollback em {@link RegisterConfirmationUseCase}.
+     */
+    private void reopenIfConfirmation(PolicyStatusUpdateDTO update, List<UUID> reopened) {
+        if (update.getConfirmation() != null) {
+            reopened.add(update.getPolicyRequestId());
+        }
+    }
+
+    private void publish(PolicyRequest policyRequest) {
+        if (policyRequest.getStatus() == PolicyRequestStatus.APPROVED) {
+            eventPublisher.publishPolicyRequestApproved(policyRequest);
+        } else if (policyRequest.getStatus() == PolicyRequestStatus.REJECTED) {
+            eventPublisher.publishPolicyRequestRejected(policyRequest);
+        } else if (policyRequest.getStatus() == PolicyRequestStatus.CANCELLED) {
+            eventPublisher.publishPolicyRequestCancelled(policyRequest);
+        }
+    }
+}
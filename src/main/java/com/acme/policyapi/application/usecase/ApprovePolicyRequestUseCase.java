@@ -2,13 +2,16 @@ package com.acme.policyapi.application.usecase;
 
 import com.acme.policyapi.domain.entity.PolicyRequest;
 import com.acme.policyapi.domain.entity.PolicyRequestStatus;
+import com.acme.policyapi.domain.entity.StatusHistory;
 import com.acme.policyapi.domain.repository.PolicyRequestRepository;
+import com.acme.policyapi.infrastructure.cache.PolicyRequestResponseCache;
 import com.acme.policyapi.infrastructure.messaging.PolicyEventPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.UUID;
 
 @Component
@@ -16,16 +19,28 @@ import java.util.UUID;
 @Slf4j
 public class ApprovePolicyRequestUseCase {
 
+    public static final String APPROVAL_REASON = "Pagamento confirmado e subscrição autorizada";
+
     private final PolicyRequestRepository policyRequestRepository;
     private final PolicyEventPublisher eventPublisher;
+    private final PolicyRequestResponseCache policyRequestCache;
 
     @Transactional
     public void execute(UUID policyRequestId) {
         log.info("Aprovando solicitação: {}", policyRequestId);
         
-        PolicyRequest policyRequest = findPolicyRequestById(policyRequestId);
-        policyRequest.updateStatus(PolicyRequestStatus.APPROVED, "Pagamento confirmado e subscrição autorizada");
-        policyRequestRepository.save(policyRequest);
+        approve(findPolicyRequestById(policyRequestId));
+    }
+
+    /**
+     * Aprova uma solicitação já carregada na transação corrente, sem lê-la de novo.
+     */
+    @Transactional
+    public void approve(PolicyRequest policyRequest) {
+        PolicyRequestStatus previousStatus = policyRequest.getStatus();
+        StatusHistory entry = policyRequest.updateStatus(PolicyRequestStatus.APPROVED, APPROVAL_REASON);
+        policyRequestRepository.updateStatus(policyRequest, previousStatus, List.of(entry));
+        policyRequestCache.evictAfterCommit(policyRequest.getId());
         
         eventPublisher.publishPolicyRequestApproved(policyRequest);
     }
@@ -2,13 +2,16 @@ package com.acme.policyapi.application.usecase;
 
 import com.acme.policyapi.domain.entity.PolicyRequest;
 import com.acme.policyapi.domain.entity.PolicyRequestStatus;
+import com.acme.policyapi.domain.entity.StatusHistory;
 import com.acme.policyapi.domain.repository.PolicyRequestRepository;
+import com.acme.policyapi.infrastructure.cache.PolicyRequestResponseCache;
 import com.acme.policyapi.infrastructure.messaging.PolicyEventPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.UUID;
 
 @Component
@@ -18,6 +21,7 @@ public class CancelPolicyRequestUseCase {
 
     private final PolicyRequestRepository policyRequestRepository;
     private final PolicyEventPublisher eventPublisher;
+    private final PolicyRequestResponseCache policyRequestCache;
 
     @Transactional
     public void execute(UUID policyRequestId, String reason) {
@@ -30,8 +34,10 @@ public class CancelPolicyRequestUseCase {
                                           + policyRequest.getStatus());
         }
         
-        policyRequest.updateStatus(PolicyRequestStatus.CANCELLED, reason);
-        policyRequestRepository.save(policyRequest);
+        PolicyRequestStatus previousStatus = policyRequest.getStatus();
+        StatusHistory entry = policyRequest.updateStatus(PolicyRequestStatus.CANCELLED, reason);
+        policyRequestRepository.updateStatus(policyRequest, previousStatus, List.of(entry));
+        policyRequestCache.evictAfterCommit(policyRequestId);
         
         eventPublisher.publishPolicyRequestCancelled(policyRequest);
     }
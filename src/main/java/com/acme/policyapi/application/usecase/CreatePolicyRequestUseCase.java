@@ -1,15 +1,27 @@
 package com.acme.policyapi.application.usecase;
 
+import com.acme.policyapi.application.dto.PolicyRequestBatchItemDTO;
+import com.acme.policyapi.application.dto.PolicyRequestBatchResultDTO;
 import com.acme.policyapi.application.dto.PolicyRequestCreateDTO;
 import com.acme.policyapi.application.dto.PolicyRequestResponseDTO;
 import com.acme.policyapi.application.service.impl.PolicyRequestMapper;
 import com.acme.policyapi.domain.entity.PolicyRequest;
 import com.acme.policyapi.domain.repository.PolicyRequestRepository;
 import com.acme.policyapi.infrastructure.messaging.PolicyEventPublisher;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
@@ -20,6 +32,10 @@ public class CreatePolicyRequestUseCase {
     private final PolicyEventPublisher eventPublisher;
     private final PolicyRequestMapper policyRequestMapper;
     private final ProcessPolicyRequestUseCase processPolicyRequestUseCase;
+    private final Validator validator;
+
+    @Value("${policy-request.batch.process-chunk-size:100}")
+    private int processChunkSize = 100;
 
     @Transactional
     public PolicyRequestResponseDTO execute(PolicyRequestCreateDTO createDTO) {
@@ -36,4 +52,101 @@ public class CreatePolicyRequestUseCase {
         
         return policyRequestMapper.toResponseDTO(policyRequest);
     }
-}
\ No newline at end of file
+
+    /**
+     * Cria várias solicitações em uma única transação.
+     *
+     * <p>Todos os itens são validados antes da persistência; os válidos são gravados
+     * com inserções em lote, os eventos de criação são publicados em bloco e o
+     * processamento assíncrono é disparado em blocos de IDs. Itens inválidos (ou nulos,
+     * quando não puderam ser lidos) são retornados com seus erros sem interromper o lote.</p>
+     *
+     * @param createDTOs dados das solicitações
+     * @return resultado por item com IDs gerados ou erros de validação
+     */
+    @Transactional
+    public PolicyRequestBatchResultDTO executeBatch(List<PolicyRequestCreateDTO> createDTOs) {
+        log.info("Executando criação em lote de {} solicitações de apólice", createDTOs.size());
+
+        List<PolicyRequestBatchItemDTO> items = new ArrayList<>(createDTOs.size());
+        List<PolicyRequestBatchItemDTO> validItems = new ArrayList<>();
+        List<PolicyRequest> toSave = new ArrayList<>();
+
+        for (int i = 0; i < createDTOs.size(); i++) {
+            PolicyRequestCreateDTO createDTO = createDTOs.get(i);
+            PolicyRequestBatchItemDTO item = new PolicyRequestBatchItemDTO();
+            item.setIndex(i);
+            item.setErrors(validate(createDTO));
+            items.add(item);
+
+            if (item.getErrors().isEmpty()) {
+                validItems.add(item);
+                toSave.add(policyRequestMapper.toEntity(createDTO));
+            }
+        }
+
+        List<PolicyRequest> saved = toSave.isEmpty() ? List.of() : policyRequestRepository.saveAll(toSave);
+
+        for (int i = 0; i < saved.size(); i++) {
+            PolicyRequest policyRequest = saved.get(i);
+            PolicyRequestBatchItemDTO item = validItems.get(i);
+            item.setId(policyRequest.getId());
+            item.setCreatedAt(policyRequest.getCreatedAt());
+            item.setStatus(policyRequest.getStatus());
+        }
+
+        if (!saved.isEmpty()) {
+            eventPublisher.publishPolicyRequestsCreated(saved);
+            dispatchProcessingAfterCommit(saved.stream().map(PolicyRequest::getId).toList());
+        }
+
+        PolicyRequestBatchResultDTO result = new PolicyRequestBatchResultDTO();
+        result.setTotal(createDTOs.size());
+        result.setCreated(saved.size());
+        result.setFailed(createDTOs.size() - saved.size());
+        result.setItems(items);
+
+        log.info("Criação em lote concluída: {} criadas, {} com erro", result.getCreated(), result.getFailed());
+
+        return result;
+    }
+
+    private List<String> validate(PolicyRequestCreateDTO createDTO) {
+        if (createDTO == null) {
+            return List.of("Registro inválido ou mal formatado");
+        }
+
+        Set<ConstraintViolation<PolicyRequestCreateDTO>> violations = validator.validate(createDTO);
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .toList();
+    }
+
+    /**
+     * Dispara o processamento somente após o commit, garantindo que as tarefas
+     * assíncronas encontrem as solicitações já gravadas.
+     */
+    private void dispatchProcessingAfterCommit(List<UUID> ids) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatchProcessing(ids);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatchProcessing(ids);
+            }
+        });
+    }
+
+    private void dispatchProcessing(List<UUID> ids) {
+        int chunkSize = Math.max(1, processChunkSize);
+
+        for (int start = 0; start < ids.size(); start += chunkSize) {
+            processPolicyRequestUseCase.executeAllAsync(
+                    List.copyOf(ids.subList(start, Math.min(start + chunkSize, ids.size()))));
+        }
+    }
+}
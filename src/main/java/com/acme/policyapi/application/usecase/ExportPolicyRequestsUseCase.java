@@ -0,0 +1,88 @@
+package com.acme.policyapi.application.usecase;
+
+import com.acme.policyapi.application.dto.PolicyRequestResponseDTO;
+import com.acme.policyapi.application.dto.PolicyRequestSearchDTO;
+import com.acme.policyapi.application.service.impl.PolicyRequestMapper;
+import com.acme.policyapi.domain.entity.PolicyRequest;
+import com.acme.policyapi.domain.repository.PolicyRequestRepository;
+import com.acme.policyapi.domain.repository.PolicyRequestSearchCriteria;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ExportPolicyRequestsUseCase {
+
+    private final PolicyRequestRepository policyRequestRepository;
+    private final PolicyRequestMapper policyRequestMapper;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Exporta as solicitações que atendem aos filtros em NDJSON (uma solicitação por linha),
+     * escrevendo cada linha à medida que é lida do banco.
+     * 
+     * <p>A transação somente-leitura mantém aberto o cursor do banco durante toda a escrita.
+     * O histórico não é exportado e a saída não é descarregada a cada linha; o buffer do
+     * servidor decide quando enviar os dados ao cliente.</p>
+     * 
+     * @param filters filtros de status, cliente, categoria, canal e intervalo de criação
+     * @param output destino das linhas (não é fechado)
+     * @return quantidade de solicitações exportadas
+     * @throws IOException se a escrita falhar, por exemplo quando o cliente desconecta
+     */
+    @Transactional(readOnly = true)
+    public long execute(PolicyRequestSearchDTO filters, OutputStream output) throws IOException {
+        PolicyRequestSearchCriteria criteria = PolicyRequestSearchCriteria.builder()
+                .customerId(filters.getCustomerId())
+                .status(filters.getStatus())
+                .category(filters.getCategory())
+                .salesChannel(filters.getSalesChannel())
+                .createdFrom(filters.getCreatedFrom())
+                .createdTo(filters.getCreatedTo())
+                .build();
+        
+        log.info("Iniciando exportação de solicitações: status={}, de={}, até={}", 
+                 filters.getStatus(), filters.getCreatedFrom(), filters.getCreatedTo());
+        long start = System.nanoTime();
+        
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long exported;
+        
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            exported = policyRequestRepository.streamAll(criteria,
+                    policyRequest -> writeLine(writer, generator, policyRequest));
+        } catch (UncheckedIOException e) {
+            log.warn("Exportação interrompida: {}", e.getCause().getMessage());
+            throw e.getCause();
+        }
+        
+        log.info("Exportação concluída: {} solicitações em {} ms", 
+                 exported, (System.nanoTime() - start) / 1_000_000);
+        return exported;
+    }
+
+    private void writeLine(ObjectWriter writer, JsonGenerator generator, PolicyRequest policyRequest) {
+        PolicyRequestResponseDTO dto = policyRequestMapper.toResponseDTO(policyRequest);
+        dto.setHistory(null);
+        
+        try {
+            writer.writeValue(generator, dto);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
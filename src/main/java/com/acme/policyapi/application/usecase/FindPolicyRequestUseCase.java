@@ -1,34 +1,73 @@
 package com.acme.policyapi.application.usecase;
 
+import com.acme.policyapi.application.dto.PolicyRequestPageDTO;
 import com.acme.policyapi.application.dto.PolicyRequestResponseDTO;
+import com.acme.policyapi.application.dto.PolicyRequestSearchDTO;
+import com.acme.policyapi.application.exception.InvalidSearchCursorException;
 import com.acme.policyapi.application.exception.PolicyRequestNotFoundException;
 import com.acme.policyapi.application.service.impl.PolicyRequestMapper;
 import com.acme.policyapi.domain.entity.PolicyRequest;
 import com.acme.policyapi.domain.repository.PolicyRequestRepository;
-import lombok.RequiredArgsConstructor;
+import com.acme.policyapi.domain.repository.PolicyRequestSearchCriteria;
+import com.acme.policyapi.infrastructure.cache.PolicyRequestResponseCache;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.List;
 import java.util.UUID;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class FindPolicyRequestUseCase {
 
     private final PolicyRequestRepository policyRequestRepository;
     private final PolicyRequestMapper policyRequestMapper;
+    private final PolicyRequestResponseCache policyRequestCache;
+    private final TransactionTemplate readOnlyTransaction;
 
-    @Transactional(readOnly = true)
+    @Value("${policy-request.search.default-limit:50}")
+    private int defaultLimit = 50;
+
+    @Value("${policy-request.search.max-limit:200}")
+    private int maxLimit = 200;
+
+    public FindPolicyRequestUseCase(PolicyRequestRepository policyRequestRepository,
+                                    PolicyRequestMapper policyRequestMapper,
+                                    PolicyRequestResponseCache policyRequestCache,
+                                    PlatformTransactionManager transactionManager) {
+        this.policyRequestRepository = policyRequestRepository;
+        this.policyRequestMapper = policyRequestMapper;
+        this.policyRequestCache = policyRequestCache;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Busca uma solicitação por ID passando pelo cache local. A transação só é aberta
+     * na falta do cache, para que consultas atendidas pelo cache não ocupem conexões, e é
+     * somente leitura como nas demais consultas.
+     * A instância retornada pode ser compartilhada e não deve ser alterada.
+     */
     public PolicyRequestResponseDTO findById(UUID id) {
+        return policyRequestCache.get(id, this::loadById);
+    }
+
+    private PolicyRequestResponseDTO loadById(UUID id) {
         log.debug("Buscando solicitação por ID: {}", id);
         
-        PolicyRequest policyRequest = policyRequestRepository.findByIdWithHistory(id)
-                .orElseThrow(() -> new PolicyRequestNotFoundException("Solicitação não encontrada: " + id));
-        
-        return policyRequestMapper.toResponseDTO(policyRequest);
+        return readOnlyTransaction.execute(status -> {
+            PolicyRequest policyRequest = policyRequestRepository.findByIdWithHistory(id)
+                    .orElseThrow(() -> new PolicyRequestNotFoundException("Solicitação não encontrada: " + id));
+            
+            return policyRequestMapper.toResponseDTO(policyRequest);
+        });
     }
 
     @Transactional(readOnly = true)
@@ -39,4 +78,72 @@ public class FindPolicyRequestUseCase {
         return policyRequestMapper.toResponseDTOList(policyRequests);
     }
 
+    /**
+     * Busca solicitações por filtros com paginação por cursor sobre {@code (createdAt, id)}.
+     * 
+     * <p>É lido um registro além do tamanho da página para saber se existe próxima página
+     * sem executar COUNT. O histórico só é carregado quando solicitado.</p>
+     * 
+     * @param searchDTO filtros, cursor e tamanho da página
+     * @return página de solicitações com o cursor da próxima página
+     */
+    @Transactional(readOnly = true)
+    public PolicyRequestPageDTO search(PolicyRequestSearchDTO searchDTO) {
+        int limit = resolveLimit(searchDTO.getLimit());
+        
+        PolicyRequestSearchCriteria.PolicyRequestSearchCriteriaBuilder criteria = PolicyRequestSearchCriteria.builder()
+                .customerId(searchDTO.getCustomerId())
+                .status(searchDTO.getStatus())
+                .category(searchDTO.getCategory())
+                .salesChannel(searchDTO.getSalesChannel())
+                .createdFrom(searchDTO.getCreatedFrom())
+                .createdTo(searchDTO.getCreatedTo())
+                .includeHistory(searchDTO.isIncludeHistory())
+                .limit(limit + 1);
+        
+        if (searchDTO.getCursor() != null && !searchDTO.getCursor().isBlank()) {
+            decodeCursor(searchDTO.getCursor(), criteria);
+        }
+        
+        List<PolicyRequest> policyRequests = policyRequestRepository.search(criteria.build());
+        boolean hasNext = policyRequests.size() > limit;
+        List<PolicyRequest> page = hasNext ? policyRequests.subList(0, limit) : policyRequests;
+        
+        log.debug("Busca paginada retornou {} solicitações (próxima página: {})", page.size(), hasNext);
+        
+        List<PolicyRequestResponseDTO> items = policyRequestMapper.toResponseDTOList(page);
+        if (!searchDTO.isIncludeHistory()) {
+            items.forEach(item -> item.setHistory(null));
+        }
+        
+        PolicyRequestPageDTO pageDTO = new PolicyRequestPageDTO();
+        pageDTO.setItems(items);
+        pageDTO.setHasNext(hasNext);
+        pageDTO.setNextCursor(hasNext ? encodeCursor(page.get(page.size() - 1)) : null);
+        return pageDTO;
+    }
+
+    private int resolveLimit(Integer requestedLimit) {
+        if (requestedLimit == null || requestedLimit < 1) {
+            return defaultLimit;
+        }
+        return Math.min(requestedLimit, maxLimit);
+    }
+
+    private String encodeCursor(PolicyRequest last) {
+        String raw = last.getCreatedAt() + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void decodeCursor(String cursor, PolicyRequestSearchCriteria.PolicyRequestSearchCriteriaBuilder criteria) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            criteria.afterCreatedAt(LocalDateTime.parse(raw.substring(0, separator)))
+                    .afterId(UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidSearchCursorException("Cursor de paginação inválido: " + cursor);
+        }
+    }
+
 }
\ No newline at end of file
@@ -4,16 +4,32 @@ import com.acme.policyapi.application.dto.FraudAnalysisResponseDTO;
 import com.acme.policyapi.application.service.FraudAnalysisService;
 import com.acme.policyapi.domain.entity.PolicyRequest;
 import com.acme.policyapi.domain.entity.PolicyRequestStatus;
+import com.acme.policyapi.domain.entity.StatusHistory;
 import com.acme.policyapi.domain.repository.PolicyRequestRepository;
 import com.acme.policyapi.domain.service.PolicyValidationService;
+import com.acme.policyapi.domain.service.UnderwritingDecision;
+import com.acme.policyapi.infrastructure.cache.PolicyRequestResponseCache;
+import com.acme.policyapi.infrastructure.external.AsyncConcurrencyLimiter;
 import com.acme.policyapi.infrastructure.messaging.PolicyEventPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @RequiredArgsConstructor
@@ -24,51 +40,229 @@ public class ProcessPolicyRequestUseCase {
     private final FraudAnalysisService fraudAnalysisService;
     private final PolicyValidationService policyValidationService;
     private final PolicyEventPublisher eventPublisher;
+    private final PolicyRequestResponseCache policyRequestCache;
     private final SetPendingPolicyRequestUseCase setPendingPolicyRequestUseCase;
     private final RejectPolicyRequestUseCase rejectPolicyRequestUseCase;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectProvider<AsyncConcurrencyLimiter> fraudAnalysisLimiter;
+    private final AsyncConfigurer asyncConfigurer;
+
+    /**
+     * Quando verdadeiro, as transições RECEIVED → VALIDATED → PENDING são aplicadas em
+     * memória e persistidas em uma única gravação, com os dois eventos enviados juntos.
+     */
+    @Value("${policy-request.processing.single-write:false}")
+    private boolean singleWrite;
+
+    /**
+     * Espera antes de tentar de novo uma análise recusada por fila cheia no limitador.
+     */
+    @Value("${policy-request.processing.requeue-delay:100ms}")
+    private Duration requeueDelay = Duration.ofMillis(100);
 
     @Transactional
     public void execute(UUID policyRequestId) {
         log.info("Processando solicitação: {}", policyRequestId);
-        
+
         PolicyRequest policyRequest = findPolicyRequestById(policyRequestId);
-        
-        if (policyRequest.getStatus() != PolicyRequestStatus.RECEIVED) {
-            log.warn("Solicitação {} não está no status RECEIVED. Status atual: {}", 
-                     policyRequestId, policyRequest.getStatus());
+        if (!isReceived(policyRequest)) {
+            return;
+        }
+
+        FraudAnalysisResponseDTO fraudAnalysis;
+        try {
+            AsyncConcurrencyLimiter limiter = fraudAnalysisLimiter.getIfAvailable();
+            fraudAnalysis = limiter != null
+                    ? analyzeWithLimiter(limiter, policyRequest).join()
+                    : fraudAnalysisService.analyzeFraud(policyRequest);
+        } catch (CompletionException e) {
+            reject(policyRequestId, e.getCause() != null ? e.getCause() : e);
+            return;
+        } catch (Exception e) {
+            reject(policyRequestId, e);
             return;
         }
-        
+
+        applyAnalysis(policyRequest, fraudAnalysis);
+    }
+
+    /**
+     * Processa uma solicitação sem ocupar a thread chamadora durante a análise de fraudes.
+     *
+     * <p>A solicitação é lida, a análise é disparada por
+     * {@link FraudAnalysisService#analyzeFraudAsync} e o resultado é aplicado em uma
+     * transação própria quando a análise conclui. Nenhuma conexão do banco fica presa
+     * durante a chamada externa; uma alteração concorrente nesse intervalo é detectada
+     * pela versão da solicitação.</p>
+     *
+     * <p>A gravação do resultado roda no executor do processamento assíncrono
+     * ({@link AsyncConfigurer#getAsyncExecutor()}), e não na thread que concluiu a análise,
+     * para que o número de transações simultâneas continue limitado por ele.</p>
+     *
+     * <p>Com o limite adaptativo habilitado ({@code fraud-analysis.adaptive-limit.enabled}),
+     * a análise aguarda uma vaga no limitador. Se a fila dele estiver cheia, a solicitação
+     * permanece em RECEIVED e a análise é submetida de novo após
+     * {@code policy-request.processing.requeue-delay}, até conseguir lugar.</p>
+     *
+     * @param policyRequestId ID da solicitação
+     * @return concluído quando o resultado da análise tiver sido aplicado; falha se a
+     *         gravação falhar ou não puder ser agendada
+     */
+    public CompletableFuture<Void> executeNonBlocking(UUID policyRequestId) {
+        log.info("Processando solicitação: {}", policyRequestId);
+
+        PolicyRequest policyRequest = findPolicyRequestById(policyRequestId);
+        if (!isReceived(policyRequest)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        AsyncConcurrencyLimiter limiter = fraudAnalysisLimiter.getIfAvailable();
+        CompletableFuture<FraudAnalysisResponseDTO> analysis = limiter != null
+                ? analyzeWithLimiter(limiter, policyRequest)
+                : fraudAnalysisService.analyzeFraudAsync(policyRequest);
+
+        return analysis
+                .handle((fraudAnalysis, failure) -> (Runnable) () -> {
+                    if (failure != null) {
+                        reject(policyRequestId, failure instanceof CompletionException && failure.getCause() != null
+                                ? failure.getCause() : failure);
+                    } else {
+                        transactionTemplate.executeWithoutResult(status -> applyAnalysis(policyRequest, fraudAnalysis));
+                    }
+                })
+                .thenCompose(apply -> CompletableFuture.runAsync(apply, processingExecutor()));
+    }
+
+    @Async
+    public void executeAsync(UUID policyRequestId) {
+        executeNonBlocking(policyRequestId)
+                .exceptionally(e -> {
+                    log.error("Erro ao processar solicitação {}: {}", policyRequestId, e.getMessage(), e);
+                    return null;
+                });
+    }
+
+    /**
+     * Processa um bloco de solicitações em uma única tarefa assíncrona,
+     * evitando enfileirar uma tarefa por solicitação em criações em lote.
+     *
+     * <p>As análises de fraude do bloco são disparadas juntas e, com o cliente não
+     * bloqueante, ficam em andamento ao mesmo tempo. A tarefa termina depois do disparo,
+     * sem aguardar as gravações: elas rodam no mesmo executor e aguardá-las aqui ocuparia
+     * as vagas de que elas precisam.</p>
+     *
+     * @param policyRequestIds IDs das solicitações
+     */
+    @Async
+    public void executeAllAsync(List<UUID> policyRequestIds) {
+        log.info("Processando bloco de {} solicitações", policyRequestIds.size());
+
+        for (UUID policyRequestId : policyRequestIds) {
+            try {
+                executeNonBlocking(policyRequestId)
+                        .exceptionally(e -> {
+                            log.error("Erro ao processar solicitação {} do bloco: {}", policyRequestId, e.getMessage(), e);
+                            return null;
+                        });
+            } catch (Exception e) {
+                log.error("Erro ao processar solicitação {} do bloco: {}", policyRequestId, e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Aplica o resultado da análise de fraudes: valida e segue para PENDING, ou rejeita.
+     */
+    private void applyAnalysis(PolicyRequest policyRequest, FraudAnalysisResponseDTO fraudAnalysis) {
+        UUID policyRequestId = policyRequest.getId();
+
         try {
-            FraudAnalysisResponseDTO fraudAnalysis = fraudAnalysisService.analyzeFraud(policyRequest);
-            
-            boolean isValid = policyValidationService.validatePolicyRequest(
+            UnderwritingDecision decision = policyValidationService.evaluate(
                 policyRequest, fraudAnalysis.getClassification());
-            
-            if (isValid) {
-                policyRequest.updateStatus(PolicyRequestStatus.VALIDATED, "Validado pela análise de fraudes");
-                policyRequestRepository.save(policyRequest);
+            boolean isValid = decision.isApproved();
+
+            if (isValid && singleWrite) {
+                validateAndSetPending(policyRequest);
+            } else if (isValid) {
+                StatusHistory entry = policyRequest.updateStatus(PolicyRequestStatus.VALIDATED, "Validado pela análise de fraudes");
+                policyRequestRepository.updateStatus(policyRequest, PolicyRequestStatus.RECEIVED, List.of(entry));
+                policyRequestCache.evictAfterCommit(policyRequestId);
                 eventPublisher.publishPolicyRequestValidated(policyRequest);
-                
+
                 setPendingPolicyRequestUseCase.execute(policyRequestId);
             } else {
-                String reason = policyValidationService.getRejectionReason(policyRequest, fraudAnalysis.getClassification());
-                rejectPolicyRequestUseCase.execute(policyRequestId, reason);
+                rejectPolicyRequestUseCase.execute(policyRequestId, decision.reason());
             }
-            
+
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("Solicitação {} alterada durante o processamento: {}", policyRequestId, e.getMessage());
         } catch (Exception e) {
-            log.error("Erro ao processar solicitação {}: {}", policyRequestId, e.getMessage(), e);
-            rejectPolicyRequestUseCase.execute(policyRequestId, "Erro no processamento: " + e.getMessage());
+            reject(policyRequestId, e);
         }
     }
 
-    @Async
-    public void executeAsync(UUID policyRequestId) {
-        execute(policyRequestId);
+    /**
+     * Aplica VALIDATED e PENDING sobre a solicitação já carregada, grava o status e os
+     * dois registros de histórico com um único UPDATE condicional e publica os eventos
+     * {@code POLICY_REQUEST_VALIDATED} e {@code POLICY_REQUEST_PENDING} em um só envio.
+     * Confirmações que chegaram antes da pendência aprovam a solicitação em seguida.
+     */
+    private void validateAndSetPending(PolicyRequest policyRequest) {
+        StatusHistory validated = policyRequest.updateStatus(PolicyRequestStatus.VALIDATED, "Validado pela análise de fraudes");
+        StatusHistory pending = policyRequest.updateStatus(PolicyRequestStatus.PENDING, SetPendingPolicyRequestUseCase.PENDING_REASON);
+        policyRequestRepository.updateStatus(policyRequest, PolicyRequestStatus.RECEIVED, List.of(validated, pending));
+        policyRequestCache.evictAfterCommit(policyRequest.getId());
+
+        eventPublisher.publishPolicyRequestValidatedAndPending(policyRequest);
+        setPendingPolicyRequestUseCase.approveIfConfirmed(policyRequest);
+    }
+
+    /**
+     * Submete a análise ao limitador, aguardando e submetendo de novo enquanto a fila dele
+     * estiver cheia. A espera não ocupa thread; a solicitação não é alterada até a análise
+     * ser disparada.
+     */
+    private CompletableFuture<FraudAnalysisResponseDTO> analyzeWithLimiter(AsyncConcurrencyLimiter limiter,
+                                                                           PolicyRequest policyRequest) {
+        return limiter.submit(() -> fraudAnalysisService.analyzeFraudAsync(policyRequest))
+                .exceptionallyCompose(failure -> {
+                    if (!(failure instanceof RejectedExecutionException)) {
+                        return CompletableFuture.failedFuture(failure);
+                    }
+                    log.debug("Fila de análises cheia; solicitação {} submetida de novo em {}",
+                              policyRequest.getId(), requeueDelay);
+                    return CompletableFuture
+                            .runAsync(() -> { }, CompletableFuture.delayedExecutor(
+                                    requeueDelay.toMillis(), TimeUnit.MILLISECONDS))
+                            .thenCompose(ignored -> analyzeWithLimiter(limiter, policyRequest));
+                });
+    }
+
+    /**
+     * Executor das gravações do caminho não bloqueante; sem executor configurado, a gravação
+     * roda na thread que concluiu a análise.
+     */
+    private Executor processingExecutor() {
+        Executor executor = asyncConfigurer.getAsyncExecutor();
+        return executor != null ? executor : Runnable::run;
+    }
+
+    private void reject(UUID policyRequestId, Throwable e) {
+        log.error("Erro ao processar solicitação {}: {}", policyRequestId, e.getMessage(), e);
+        rejectPolicyRequestUseCase.execute(policyRequestId, "Erro no processamento: " + e.getMessage());
+    }
+
+    private boolean isReceived(PolicyRequest policyRequest) {
+        if (policyRequest.getStatus() != PolicyRequestStatus.RECEIVED) {
+            log.warn("Solicitação {} não está no status RECEIVED. Status atual: {}",
+                     policyRequest.getId(), policyRequest.getStatus());
+            return false;
+        }
+        return true;
     }
 
     private PolicyRequest findPolicyRequestById(UUID id) {
         return policyRequestRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Solicitação não encontrada: " + id));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,64 @@
+package com.acme.policyapi.application.usecase;
+
+import com.acme.policyapi.domain.entity.ConfirmationType;
+import com.acme.policyapi.domain.entity.PolicyRequest;
+import com.acme.policyapi.domain.entity.PolicyRequestStatus;
+import com.acme.policyapi.domain.repository.PolicyConfirmationRepository;
+import com.acme.policyapi.domain.repository.PolicyRequestRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RegisterConfirmationUseCase {
+
+    private final PolicyConfirmationRepository confirmationRepository;
+    private final ApprovePolicyRequestUseCase approvePolicyRequestUseCase;
+    private final PolicyRequestRepository policyRequestRepository;
+
+    /**
+     * Registra uma confirmação externa e aprova a solicitação quando ela completa o par
+     * pagamento e subscrição.
+     * 
+     * <p>O registro e a aprovação ocorrem na mesma transação: se a aprovação falhar, a
+     * confirmação também é desfeita e pode ser reprocessada. Enquanto o par não estiver
+     * completo a solicitação não é lida.</p>
+     * 
+     * <p>Se o par se completar antes de a solicitação ficar pendente, a correlação volta a
+     * ficar incompleta com as duas confirmações guardadas, e a aprovação ocorre na
+     * transição para PENDING ({@link SetPendingPolicyRequestUseCase#approveIfConfirmed}).</p>
+     * 
+     * @param policyRequestId ID da solicitação
+     * @param type confirmação recebida
+     * @return true se a solicitação foi aprovada por esta confirmação
+     */
+    @Transactional
+    public boolean execute(UUID policyRequestId, ConfirmationType type) {
+        log.info("Registrando confirmação {} para solicitação {}", type, policyRequestId);
+        
+        if (!confirmationRepository.register(Map.of(policyRequestId, Set.of(type))).contains(policyRequestId)) {
+            log.info("Solicitação {} aguardando as demais confirmações", policyRequestId);
+            return false;
+        }
+        
+        PolicyRequest policyRequest = policyRequestRepository.findById(policyRequestId)
+                .orElseThrow(() -> new RuntimeException("Solicitação não encontrada: " + policyRequestId));
+        if (policyRequest.getStatus() == PolicyRequestStatus.RECEIVED
+                || policyRequest.getStatus() == PolicyRequestStatus.VALIDATED) {
+            log.info("Solicitação {} ainda não está pendente; aprovação adiada", policyRequestId);
+            confirmationRepository.reopen(List.of(policyRequestId));
+            return false;
+        }
+        
+        approvePolicyRequestUseCase.approve(policyRequest);
+        return true;
+    }
+}
@@ -2,13 +2,16 @@ package com.acme.policyapi.application.usecase;
 
 import com.acme.policyapi.domain.entity.PolicyRequest;
 import com.acme.policyapi.domain.entity.PolicyRequestStatus;
+import com.acme.policyapi.domain.entity.StatusHistory;
 import com.acme.policyapi.domain.repository.PolicyRequestRepository;
+import com.acme.policyapi.infrastructure.cache.PolicyRequestResponseCache;
 import com.acme.policyapi.infrastructure.messaging.PolicyEventPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.UUID;
 
 @Component
@@ -18,14 +21,17 @@ public class RejectPolicyRequestUseCase {
 
     private final PolicyRequestRepository policyRequestRepository;
     private final PolicyEventPublisher eventPublisher;
+    private final PolicyRequestResponseCache policyRequestCache;
 
     @Transactional
     public void execute(UUID policyRequestId, String reason) {
         log.info("Rejeitando solicitação: {} - Motivo: {}", policyRequestId, reason);
         
         PolicyRequest policyRequest = findPolicyRequestById(policyRequestId);
-        policyRequest.updateStatus(PolicyRequestStatus.REJECTED, reason);
-        policyRequestRepository.save(policyRequest);
+        PolicyRequestStatus previousStatus = policyRequest.getStatus();
+        StatusHistory entry = policyRequest.updateStatus(PolicyRequestStatus.REJECTED, reason);
+        policyRequestRepository.updateStatus(policyRequest, previousStatus, List.of(entry));
+        policyRequestCache.evictAfterCommit(policyRequestId);
         
         eventPublisher.publishPolicyRequestRejected(policyRequest);
     }
@@ -2,13 +2,17 @@ package com.acme.policyapi.application.usecase;
 
 import com.acme.policyapi.domain.entity.PolicyRequest;
 import com.acme.policyapi.domain.entity.PolicyRequestStatus;
+import com.acme.policyapi.domain.entity.StatusHistory;
+import com.acme.policyapi.domain.repository.PolicyConfirmationRepository;
 import com.acme.policyapi.domain.repository.PolicyRequestRepository;
+import com.acme.policyapi.infrastructure.cache.PolicyRequestResponseCache;
 import com.acme.policyapi.infrastructure.messaging.PolicyEventPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.UUID;
 
 @Component
@@ -16,18 +20,40 @@ import java.util.UUID;
 @Slf4j
 public class SetPendingPolicyRequestUseCase {
 
+    static final String PENDING_REASON = "Aguardando pagamento e autorização de subscrição";
+
     private final PolicyRequestRepository policyRequestRepository;
     private final PolicyEventPublisher eventPublisher;
+    private final PolicyRequestResponseCache policyRequestCache;
+    private final PolicyConfirmationRepository confirmationRepository;
+    private final ApprovePolicyRequestUseCase approvePolicyRequestUseCase;
 
     @Transactional
     public void execute(UUID policyRequestId) {
         log.info("Alterando solicitação para pendente: {}", policyRequestId);
         
         PolicyRequest policyRequest = findPolicyRequestById(policyRequestId);
-        policyRequest.updateStatus(PolicyRequestStatus.PENDING, "Aguardando pagamento e autorização de subscrição");
-        policyRequestRepository.save(policyRequest);
+        PolicyRequestStatus previousStatus = policyRequest.getStatus();
+        StatusHistory entry = policyRequest.updateStatus(PolicyRequestStatus.PENDING, PENDING_REASON);
+        policyRequestRepository.updateStatus(policyRequest, previousStatus, List.of(entry));
+        policyRequestCache.evictAfterCommit(policyRequestId);
         
         eventPublisher.publishPolicyRequestPending(policyRequest);
+        approveIfConfirmed(policyRequest);
+    }
+
+    /**
+     * Aprova na mesma transação uma solicitação que acabou de ficar pendente, se as
+     * confirmações de pagamento e subscrição chegaram antes dela.
+     * 
+     * @param policyRequest solicitação já gravada como PENDING
+     */
+    @Transactional
+    public void approveIfConfirmed(PolicyRequest policyRequest) {
+        if (confirmationRepository.markPending(policyRequest.getId())) {
+            log.info("Confirmações da solicitação {} recebidas antes da pendência", policyRequest.getId());
+            approvePolicyRequestUseCase.approve(policyRequest);
+        }
     }
 
     private PolicyRequest findPolicyRequestById(UUID id) {
@@ -0,0 +1,31 @@
+package com.acme.policyapi.domain.entity;
+
+/**
+ * Confirmações externas exigidas para aprovar uma solicitação pendente.
+ * 
+ * <p>Cada tipo ocupa um bit; a solicitação é aprovada quando todos os bits de
+ * {@link #ALL_MASK} foram recebidos.</p>
+ * 
+ * @author Sistema ACME
+ */
+public enum ConfirmationType {
+    
+    /** Pagamento confirmado pelo sistema de pagamentos */
+    PAYMENT(1),
+    
+    /** Subscrição autorizada pelo sistema de subscrição */
+    UNDERWRITING(2);
+    
+    /** Máscara com todas as confirmações necessárias para a aprovação */
+    public static final int ALL_MASK = PAYMENT.mask | UNDERWRITING.mask;
+    
+    private final int mask;
+    
+    ConfirmationType(int mask) {
+        this.mask = mask;
+    }
+    
+    public int getMask() {
+        return mask;
+    }
+}
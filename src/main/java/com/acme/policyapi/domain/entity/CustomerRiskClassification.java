@@ -32,50 +32,13 @@ public enum CustomerRiskClassification {
     }
     
     /**
-     * Obtém o limite máximo de capital segurado para a categoria de seguro especificada.
+     * Obtém o limite máximo de capital segurado para a categoria de seguro especificada,
+     * conforme {@link InsuredAmountLimits#DEFAULT}.
      * 
      * @param category categoria do seguro
      * @return valor limite em reais
      */
     public BigDecimal getInsuredAmountLimit(InsuranceCategory category) {
-        return switch (this) {
-            case REGULAR -> getRegularLimits(category);
-            case HIGH_RISK -> getHighRiskLimits(category);
-            case PREFERENTIAL -> getPreferentialLimits(category);
-            case NO_INFORMATION -> getNoInformationLimits(category);
-        };
-    }
-    
-    private BigDecimal getRegularLimits(InsuranceCategory category) {
-        return switch (category) {
-            case VIDA, RESIDENCIAL -> new BigDecimal("500000.00");
-            case AUTO -> new BigDecimal("350000.00");
-            default -> new BigDecimal("255000.00");
-        };
-    }
-    
-    private BigDecimal getHighRiskLimits(InsuranceCategory category) {
-        return switch (category) {
-            case AUTO -> new BigDecimal("250000.00");
-            case RESIDENCIAL -> new BigDecimal("150000.00");
-            default -> new BigDecimal("125000.00");
-        };
-    }
-    
-    private BigDecimal getPreferentialLimits(InsuranceCategory category) {
-        return switch (category) {
-            case VIDA -> new BigDecimal("800000.00");
-            case AUTO -> new BigDecimal("450000.00");
-            case RESIDENCIAL -> new BigDecimal("600000.00");
-            default -> new BigDecimal("375000.00");
-        };
-    }
-    
-    private BigDecimal getNoInformationLimits(InsuranceCategory category) {
-        return switch (category) {
-            case VIDA, RESIDENCIAL -> new BigDecimal("200000.00");
-            case AUTO -> new BigDecimal("75000.00");
-            default -> new BigDecimal("55000.00");
-        };
+        return InsuredAmountLimits.DEFAULT.getLimit(this, category);
     }
 }
\ No newline at end of file
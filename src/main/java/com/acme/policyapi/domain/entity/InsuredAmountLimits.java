@@ -0,0 +1,122 @@
+package com.acme.policyapi.domain.entity;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * Tabela imutável de limites de capital segurado por classificação de risco e categoria.
+ *
+ * <p>Os limites ficam pré-calculados em centavos em um vetor indexado pelos ordinais de
+ * {@link CustomerRiskClassification} e {@link InsuranceCategory}; a consulta é um acesso a
+ * vetor, sem alocação. A versão {@link BigDecimal} de cada limite também é criada uma única
+ * vez, para mensagens e consultas que ainda usam esse tipo.</p>
+ *
+ * <p>Ajustes geram uma nova tabela ({@link #withLimit}); quem consulta mantém a referência
+ * antiga até trocá-la por inteiro.</p>
+ *
+ * @author Sistema ACME
+ */
+public final class InsuredAmountLimits {
+
+    private static final int CATEGORIES = InsuranceCategory.values().length;
+    private static final int SIZE = CustomerRiskClassification.values().length * CATEGORIES;
+
+    /** Limites padrão das regras de subscrição. */
+    public static final InsuredAmountLimits DEFAULT = defaults();
+
+    private final long[] limitsInCents;
+    private final BigDecimal[] limits;
+
+    private InsuredAmountLimits(long[] limitsInCents) {
+        this.limitsInCents = limitsInCents;
+        this.limits = new BigDecimal[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            limits[i] = BigDecimal.valueOf(limitsInCents[i], 2);
+        }
+    }
+
+    /**
+     * @return limite em centavos
+     */
+    public long getLimitInCents(CustomerRiskClassification classification, InsuranceCategory category) {
+        return limitsInCents[index(classification, category)];
+    }
+
+    /**
+     * @return limite em centavos, pelos ordinais da classificação e da categoria
+     */
+    public long getLimitInCents(int classificationOrdinal, int categoryOrdinal) {
+        return limitsInCents[classificationOrdinal * CATEGORIES + categoryOrdinal];
+    }
+
+    /**
+     * @return limite em reais, com duas casas decimais
+     */
+    public BigDecimal getLimit(CustomerRiskClassification classification, InsuranceCategory category) {
+        return limits[index(classification, category)];
+    }
+
+    public boolean isWithinLimit(long amountInCents, CustomerRiskClassification classification, InsuranceCategory category) {
+        return amountInCents <= limitsInCents[index(classification, category)];
+    }
+
+    public boolean isWithinLimit(Money amount, CustomerRiskClassification classification, InsuranceCategory category) {
+        return isWithinLimit(amount.getCents(), classification, category);
+    }
+
+    /**
+     * Cria uma cópia da tabela com o limite informado.
+     *
+     * @param limit limite em reais, positivo e com no máximo duas casas decimais
+     * @throws IllegalArgumentException se o limite for inválido
+     */
+    public InsuredAmountLimits withLimit(CustomerRiskClassification classification, InsuranceCategory category,
+                                         BigDecimal limit) {
+        if (limit.signum() <= 0 || limit.stripTrailingZeros().scale() > 2) {
+            throw new IllegalArgumentException("Limite inválido para " + classification + "/" + category + ": " + limit);
+        }
+        long[] copy = Arrays.copyOf(limitsInCents, SIZE);
+        copy[index(classification, category)] = limit.movePointRight(2).longValueExact();
+        return new InsuredAmountLimits(copy);
+    }
+
+    private static int index(CustomerRiskClassification classification, InsuranceCategory category) {
+        return classification.ordinal() * CATEGORIES + category.ordinal();
+    }
+
+    private static InsuredAmountLimits defaults() {
+        long[] cents = new long[SIZE];
+        for (CustomerRiskClassification classification : CustomerRiskClassification.values()) {
+            for (InsuranceCategory category : InsuranceCategory.values()) {
+                cents[index(classification, category)] = defaultLimitInReais(classification, category) * 100;
+            }
+        }
+        return new InsuredAmountLimits(cents);
+    }
+
+    private static long defaultLimitInReais(CustomerRiskClassification classification, InsuranceCategory category) {
+        return switch (classification) {
+            case REGULAR -> switch (category) {
+                case VIDA, RESIDENCIAL -> 500_000;
+                case AUTO -> 350_000;
+                default -> 255_000;
+            };
+            case HIGH_RISK -> switch (category) {
+                case AUTO -> 250_000;
+                case RESIDENCIAL -> 150_000;
+                default -> 125_000;
+            };
+            case PREFERENTIAL -> switch (category) {
+                case VIDA -> 800_000;
+                case AUTO -> 450_000;
+                case RESIDENCIAL -> 600_000;
+                default -> 375_000;
+            };
+            case NO_INFORMATION -> switch (category) {
+                case VIDA, RESIDENCIAL -> 200_000;
+                case AUTO -> 75_000;
+                default -> 55_000;
+            };
+        };
+    }
+}
@@ -0,0 +1,176 @@
+package com.acme.policyapi.domain.entity;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.math.BigDecimal;
+
+/**
+ * Valor monetário em reais, armazenado como quantidade inteira de centavos.
+ *
+ * <p>Imutável; soma, subtração e comparação são operações sobre {@code long}, sem a alocação
+ * de {@link BigDecimal}. Valores com mais de duas casas decimais significativas são recusados
+ * em vez de arredondados.</p>
+ *
+ * <p>Em JSON é escrito e lido como número ({@code 1500.50}) por {@link MoneyJsonSerializer} e
+ * {@link MoneyJsonDeserializer}; no banco é gravado em colunas {@code DECIMAL(19,2)} por
+ * {@link MoneyConverter}.</p>
+ *
+ * @author Sistema ACME
+ */
+@JsonSerialize(using = MoneyJsonSerializer.class)
+@JsonDeserialize(using = MoneyJsonDeserializer.class)
+public final class Money implements Comparable<Money> {
+
+    public static final Money ZERO = new Money(0);
+
+    private final long cents;
+
+    private Money(long cents) {
+        this.cents = cents;
+    }
+
+    /**
+     * @throws IllegalArgumentException se {@code cents} for {@link Long#MIN_VALUE}, que não tem
+     *         simétrico em {@code long}
+     */
+    public static Money ofCents(long cents) {
+        if (cents == Long.MIN_VALUE) {
+            throw new IllegalArgumentException("Valor monetário fora do limite: " + cents + " centavos");
+        }
+        return cents == 0 ? ZERO : new Money(cents);
+    }
+
+    /**
+     * @throws IllegalArgumentException se o valor tiver mais de duas casas decimais ou não couber em centavos
+     */
+    public static Money of(BigDecimal amount) {
+        try {
+            return ofCents(amount.movePointRight(2).longValueExact());
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Valor monetário inválido: " + amount, e);
+        }
+    }
+
+    /**
+     * Converte um texto decimal ({@code "1500"}, {@code "-12.5"}, {@code "0.01"}) diretamente em
+     * centavos. Notação científica é aceita, mas passa por {@link BigDecimal}.
+     *
+     * @throws IllegalArgumentException se o texto não for um valor válido
+     */
+    public static Money parse(CharSequence text) {
+        int length = text.length();
+        int i = 0;
+        boolean negative = false;
+        if (length > 0 && (text.charAt(0) == '-' || text.charAt(0) == '+')) {
+            negative = text.charAt(0) == '-';
+            i++;
+        }
+
+        long units = 0;
+        int integerDigits = 0;
+        try {
+            for (; i < length && isAsciiDigit(text.charAt(i)); i++, integerDigits++) {
+                units = Math.addExact(Math.multiplyExact(units, 10), text.charAt(i) - '0');
+            }
+
+            long fraction = 0;
+            int fractionDigits = 0;
+            if (i < length && text.charAt(i) == '.') {
+                for (i++; i < length && isAsciiDigit(text.charAt(i)); i++, fractionDigits++) {
+                    int digit = text.charAt(i) - '0';
+                    if (fractionDigits < 2) {
+                        fraction = fraction * 10 + digit;
+                    } else if (digit != 0) {
+                        throw new IllegalArgumentException("Valor monetário com mais de duas casas decimais: " + text);
+                    }
+                }
+            }
+
+            if (i < length && (text.charAt(i) == 'e' || text.charAt(i) == 'E')) {
+                return of(new BigDecimal(text.toString()));
+            }
+            if (i != length || integerDigits + fractionDigits == 0) {
+                throw new IllegalArgumentException("Valor monetário inválido: " + text);
+            }
+
+            fraction *= fractionDigits == 1 ? 10 : fractionDigits == 0 ? 100 : 1;
+            long cents = Math.addExact(Math.multiplyExact(units, 100), fraction);
+            return ofCents(negative ? -cents : cents);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Valor monetário fora do limite: " + text, e);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valor monetário inválido: " + text, e);
+        }
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Soma os valores informados; ignora entradas nulas.
+     */
+    public static Money sum(Iterable<Money> amounts) {
+        long total = 0;
+        for (Money amount : amounts) {
+            if (amount != null) {
+                total = Math.addExact(total, amount.cents);
+            }
+        }
+        return ofCents(total);
+    }
+
+    public long getCents() {
+        return cents;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    public Money plus(Money other) {
+        return ofCents(Math.addExact(cents, other.cents));
+    }
+
+    public Money minus(Money other) {
+        return ofCents(Math.subtractExact(cents, other.cents));
+    }
+
+    public boolean isPositive() {
+        return cents > 0;
+    }
+
+    public boolean isGreaterThan(Money other) {
+        return cents > other.cents;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || other instanceof Money money && cents == money.cents;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cents);
+    }
+
+    /**
+     * @return valor com duas casas decimais e ponto como separador, por exemplo {@code 1500.50}
+     */
+    @Override
+    public String toString() {
+        long abs = Math.abs(cents);
+        long fraction = abs % 100;
+        StringBuilder text = new StringBuilder(24);
+        if (cents < 0) {
+            text.append('-');
+        }
+        return text.append(abs / 100).append('.').append(fraction < 10 ? "0" : "").append(fraction).toString();
+    }
+}
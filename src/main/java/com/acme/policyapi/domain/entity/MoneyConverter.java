@@ -0,0 +1,25 @@
+package com.acme.policyapi.domain.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.math.BigDecimal;
+
+/**
+ * Grava {@link Money} nas colunas {@code DECIMAL(19,2)} existentes.
+ *
+ * @author Sistema ACME
+ */
+@Converter(autoApply = true)
+public class MoneyConverter implements AttributeConverter<Money, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Money amount) {
+        return amount != null ? amount.toBigDecimal() : null;
+    }
+
+    @Override
+    public Money convertToEntityAttribute(BigDecimal column) {
+        return column != null ? Money.of(column) : null;
+    }
+}
@@ -0,0 +1,40 @@
+package com.acme.policyapi.domain.entity;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+
+import java.io.IOException;
+
+/**
+ * Lê {@link Money} de um número JSON ou de um texto numérico. Inteiros são convertidos
+ * direto em centavos; decimais são lidos do texto do token, sem passar por {@code double}
+ * nem {@code BigDecimal}.
+ *
+ * @author Sistema ACME
+ */
+public class MoneyJsonDeserializer extends StdDeserializer<Money> {
+
+    public MoneyJsonDeserializer() {
+        super(Money.class);
+    }
+
+    @Override
+    public Money deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+        try {
+            if (token == JsonToken.VALUE_NUMBER_INT && parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER) {
+                return Money.ofCents(Math.multiplyExact(parser.getLongValue(), 100));
+            }
+            if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT
+                    || token == JsonToken.VALUE_STRING) {
+                return Money.parse(parser.getText().trim());
+            }
+        } catch (ArithmeticException | IllegalArgumentException e) {
+            throw InvalidFormatException.from(parser, e.getMessage(), parser.getText(), Money.class);
+        }
+        return (Money) context.handleUnexpectedToken(Money.class, parser);
+    }
+}
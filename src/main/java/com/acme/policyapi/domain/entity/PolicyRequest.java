@@ -4,7 +4,6 @@ import lombok.*;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.*;
 
@@ -61,19 +60,19 @@ public class PolicyRequest {
 
     @Column(name = "total_monthly_premium_amount", nullable = false, precision = 19, scale = 2)
     @NotNull(message = "Valor total do prêmio mensal é obrigatório")
-    @DecimalMin(value = "0.01", message = "Valor do prêmio deve ser maior que zero")
-    private BigDecimal totalMonthlyPremiumAmount;
+    @PositiveMoney(message = "Valor do prêmio deve ser maior que zero")
+    private Money totalMonthlyPremiumAmount;
 
     @Column(name = "insured_amount", nullable = false, precision = 19, scale = 2)
     @NotNull(message = "Valor do capital segurado é obrigatório")
-    @DecimalMin(value = "0.01", message = "Valor do capital segurado deve ser maior que zero")
-    private BigDecimal insuredAmount;
+    @PositiveMoney(message = "Valor do capital segurado deve ser maior que zero")
+    private Money insuredAmount;
 
     @ElementCollection
     @CollectionTable(name = "policy_coverages", joinColumns = @JoinColumn(name = "policy_request_id"))
     @MapKeyColumn(name = "coverage_name")
     @Column(name = "coverage_amount", precision = 19, scale = 2)
-    private Map<String, BigDecimal> coverages = new HashMap<>();
+    private Map<String, Money> coverages = new HashMap<>();
 
     @ElementCollection
     @CollectionTable(name = "policy_assistances", joinColumns = @JoinColumn(name = "policy_request_id"))
@@ -84,6 +83,13 @@ public class PolicyRequest {
     @OrderBy("timestamp ASC")
     private List<StatusHistory> history = new ArrayList<>();
 
+    /**
+     * Versão lida do banco; incrementada a cada gravação e usada para detectar
+     * alterações concorrentes.
+     */
+    @Version
+    private Long version;
+
     @PrePersist
     public void prePersist() {
         if (createdAt == null) {
@@ -99,8 +105,9 @@ public class PolicyRequest {
      * 
      * @param newStatus o novo status
      * @param reason motivo da alteração (opcional)
+     * @return registro de histórico criado pela alteração
      */
-    public void updateStatus(PolicyRequestStatus newStatus, String reason) {
+    public StatusHistory updateStatus(PolicyRequestStatus newStatus, String reason) {
         if (!this.status.canTransitionTo(newStatus)) {
             throw new IllegalStateException(
                 String.format("Transição inválida de %s para %s", this.status, newStatus)
@@ -115,6 +122,7 @@ public class PolicyRequest {
 
         StatusHistory historyEntry = new StatusHistory(this.id, newStatus, LocalDateTime.now(), reason);
         this.history.add(historyEntry);
+        return historyEntry;
     }
 
     /**
@@ -0,0 +1,29 @@
+package com.acme.policyapi.domain.entity;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * O valor {@link Money} anotado deve ser maior que zero. Valores nulos são aceitos;
+ * combine com {@code @NotNull} quando obrigatório.
+ *
+ * @author Sistema ACME
+ */
+@Documented
+@Constraint(validatedBy = PositiveMoneyValidator.class)
+@Target({ElementType.FIELD, ElementType.TYPE_USE, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface PositiveMoney {
+
+    String message() default "Valor deve ser maior que zero";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
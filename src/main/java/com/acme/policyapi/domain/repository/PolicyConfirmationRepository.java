@@ -0,0 +1,59 @@
+package com.acme.policyapi.domain.repository;
+
+import com.acme.policyapi.domain.entity.ConfirmationType;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Repositório da correlação entre confirmações de pagamento e de subscrição.
+ * 
+ * <p>Guarda, por solicitação, quais confirmações já chegaram. As entradas expiram após
+ * um tempo configurado sem completar o par.</p>
+ * 
+ * @author Sistema ACME
+ */
+public interface PolicyConfirmationRepository {
+
+    /**
+     * Registra confirmações recebidas de forma atômica, sem leitura prévia.
+     * 
+     * <p>Uma solicitação é devolvida somente pela chamada que completou suas confirmações;
+     * chamadas concorrentes ou repetidas para a mesma solicitação não a devolvem de novo.</p>
+     * 
+     * @param confirmations confirmações recebidas por solicitação
+     * @return IDs das solicitações cujas confirmações foram completadas nesta chamada
+     */
+    Set<UUID> register(Map<UUID, Set<ConfirmationType>> confirmations);
+
+    /**
+     * Registra que a solicitação passou a aguardar as confirmações e completa a correlação
+     * se as duas já tiverem chegado antes disso.
+     * 
+     * <p>A gravação cria a correlação vazia quando ainda não existe, de modo que uma
+     * confirmação concorrente espera o fim da transação e lê a solicitação já pendente.
+     * Assim nenhuma confirmação recebida antes da transição para PENDING se perde.</p>
+     * 
+     * @param policyRequestId ID da solicitação
+     * @return true se esta chamada completou a correlação e a solicitação deve ser aprovada
+     */
+    boolean markPending(UUID policyRequestId);
+
+    /**
+     * Desfaz a conclusão de correlações cuja aprovação não pôde ser aplicada, mantendo as
+     * confirmações recebidas. A próxima confirmação registrada para essas solicitações as
+     * devolve novamente como completas.
+     * 
+     * @param policyRequestIds IDs das solicitações
+     */
+    void reopen(Collection<UUID> policyRequestIds);
+
+    /**
+     * Remove as correlações expiradas.
+     * 
+     * @return quantidade de correlações removidas
+     */
+    int deleteExpired();
+}
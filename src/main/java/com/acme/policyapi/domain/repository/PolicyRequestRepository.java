@@ -1,10 +1,14 @@
 package com.acme.policyapi.domain.repository;
 
 import com.acme.policyapi.domain.entity.PolicyRequest;
+import com.acme.policyapi.domain.entity.PolicyRequestStatus;
+import com.acme.policyapi.domain.entity.StatusHistory;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Repositório para operações de persistência de solicitações de apólice.
@@ -14,8 +18,49 @@ import java.util.UUID;
 public interface PolicyRequestRepository {
 
     PolicyRequest save(PolicyRequest policyRequest);
+
+    /**
+     * Persiste várias solicitações utilizando inserções em lote (JDBC batching).
+     * 
+     * @param policyRequests solicitações a serem persistidas
+     * @return solicitações persistidas, na mesma ordem da entrada
+     */
+    List<PolicyRequest> saveAll(List<PolicyRequest> policyRequests);
+
+    /**
+     * Grava uma transição de status sem regravar o agregado: atualiza status e data de
+     * finalização somente se o status gravado ainda for {@code expectedStatus} e a versão
+     * ainda for a da solicitação, e insere os registros de histórico da transição. A versão
+     * da solicitação é incrementada.
+     * 
+     * @param policyRequest solicitação com a transição já aplicada
+     * @param expectedStatus status da solicitação quando foi lida
+     * @param entries registros de histórico criados pela transição, em ordem
+     * @throws org.springframework.dao.OptimisticLockingFailureException se a solicitação foi
+     *         alterada por outra transação (ou não existe); nada é gravado
+     */
+    void updateStatus(PolicyRequest policyRequest, PolicyRequestStatus expectedStatus, List<StatusHistory> entries);
+
+    /**
+     * Grava várias transições de status como {@link #updateStatus}, com os UPDATEs
+     * condicionais em um único lote JDBC e os registros de histórico em outro.
+     * 
+     * @param transitions transições a gravar, no máximo uma por solicitação
+     * @throws org.springframework.dao.OptimisticLockingFailureException se alguma solicitação
+     *         foi alterada por outra transação (ou não existe); o histórico não é gravado e a
+     *         transação deve ser desfeita
+     */
+    void updateStatuses(List<StatusTransition> transitions);
     
     Optional<PolicyRequest> findById(UUID id);
+
+    /**
+     * Busca várias solicitações em uma única consulta, sem histórico.
+     * 
+     * @param ids IDs das solicitações
+     * @return solicitações encontradas, em qualquer ordem; IDs inexistentes são ignorados
+     */
+    List<PolicyRequest> findAllById(Collection<UUID> ids);
     
     void deleteById(UUID id);
     
@@ -46,4 +91,26 @@ public interface PolicyRequestRepository {
      * @return lista de solicitações com histórico
      */
     List<PolicyRequest> findByCustomerIdWithHistory(UUID customerId);
+
+    /**
+     * Busca solicitações por filtros com paginação por chave em {@code (createdAt, id)},
+     * da mais recente para a mais antiga.
+     * 
+     * @param criteria filtros, posição do cursor e tamanho da página
+     * @return no máximo {@code criteria.limit} solicitações; histórico carregado somente
+     *         quando {@code criteria.includeHistory} for verdadeiro
+     */
+    List<PolicyRequest> search(PolicyRequestSearchCriteria criteria);
+
+    /**
+     * Percorre todas as solicitações que atendem aos filtros, em ordem de criação,
+     * entregando uma a uma ao consumidor sem acumulá-las em memória.
+     * 
+     * <p>Os campos de cursor, limite e histórico dos critérios são ignorados.</p>
+     * 
+     * @param criteria filtros da exportação
+     * @param consumer recebe cada solicitação (sem histórico)
+     * @return quantidade de solicitações entregues
+     */
+    long streamAll(PolicyRequestSearchCriteria criteria, Consumer<PolicyRequest> consumer);
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.acme.policyapi.domain.repository;
+
+import com.acme.policyapi.domain.entity.InsuranceCategory;
+import com.acme.policyapi.domain.entity.PolicyRequestStatus;
+import com.acme.policyapi.domain.entity.SalesChannel;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Critérios de busca paginada de solicitações de apólice.
+ * 
+ * <p>A paginação é por chave (keyset) sobre {@code (createdAt, id)} em ordem decrescente:
+ * quando {@code afterCreatedAt}/{@code afterId} são informados, retornam-se apenas as
+ * solicitações posteriores a essa posição na ordenação. Filtros nulos são ignorados.</p>
+ * 
+ * @author Sistema ACME
+ */
+@Getter
+@Builder
+public class PolicyRequestSearchCriteria {
+
+    private final UUID customerId;
+    private final PolicyRequestStatus status;
+    private final InsuranceCategory category;
+    private final SalesChannel salesChannel;
+
+    /** Início do intervalo de criação (inclusivo) */
+    private final LocalDateTime createdFrom;
+
+    /** Fim do intervalo de criação (exclusivo) */
+    private final LocalDateTime createdTo;
+
+    private final LocalDateTime afterCreatedAt;
+    private final UUID afterId;
+
+    private final int limit;
+    private final boolean includeHistory;
+
+    public boolean hasCursor() {
+        return afterCreatedAt != null && afterId != null;
+    }
+}
@@ -0,0 +1,19 @@
+package com.acme.policyapi.domain.repository;
+
+import com.acme.policyapi.domain.entity.PolicyRequest;
+import com.acme.policyapi.domain.entity.PolicyRequestStatus;
+import com.acme.policyapi.domain.entity.StatusHistory;
+
+import java.util.List;
+
+/**
+ * Transição de status já aplicada em memória, a ser gravada por
+ * {@link PolicyRequestRepository#updateStatuses}.
+ *
+ * @param policyRequest solicitação com a transição aplicada
+ * @param expectedStatus status da solicitação quando foi lida
+ * @param entries registros de histórico criados pela transição, em ordem
+ * @author Sistema ACME
+ */
+public record StatusTransition(PolicyRequest policyRequest, PolicyRequestStatus expectedStatus, List<StatusHistory> entries) {
+}
@@ -0,0 +1,46 @@
+package com.acme.policyapi.domain.service;
+
+import java.util.BitSet;
+
+/**
+ * Resultado de {@link PolicyValidationService#validateBatch}: um bit por solicitação
+ * (ligado quando aprovada) e um código de motivo por posição.
+ *
+ * <p>O código é {@code 0} para aprovadas e {@code ordinal + 1} da {@link UnderwritingRule}
+ * que recusou nas demais.</p>
+ *
+ * @param size quantidade de solicitações avaliadas
+ * @param approved posições aprovadas
+ * @param reasonCodes código de motivo por posição
+ * @author Sistema ACME
+ */
+public record BatchValidationResult(int size, BitSet approved, byte[] reasonCodes) {
+
+    public static final byte APPROVED = 0;
+
+    private static final UnderwritingRule[] RULES = UnderwritingRule.values();
+
+    public boolean isApproved(int index) {
+        return approved.get(index);
+    }
+
+    /**
+     * @return regra que recusou a solicitação da posição, ou {@code null} se aprovada
+     */
+    public UnderwritingRule getRule(int index) {
+        byte code = reasonCodes[index];
+        return code == APPROVED ? null : RULES[code - 1];
+    }
+
+    public int approvedCount() {
+        return approved.cardinality();
+    }
+
+    public int rejectedCount() {
+        return size - approved.cardinality();
+    }
+
+    static byte codeOf(UnderwritingRule rule) {
+        return (byte) (rule.ordinal() + 1);
+    }
+}
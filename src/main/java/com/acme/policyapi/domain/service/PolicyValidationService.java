@@ -1,16 +1,31 @@
 package com.acme.policyapi.domain.service;
 
 import com.acme.policyapi.domain.entity.CustomerRiskClassification;
-import com.acme.policyapi.domain.entity.InsuranceCategory;
 import com.acme.policyapi.domain.entity.PolicyRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
 /**
  * Serviço responsável por aplicar regras de validação de apólices baseadas 
  * na classificação de risco do cliente.
+ *
+ * <p>As regras vêm de uma {@link UnderwritingRules} compilada, que pode ser trocada em
+ * execução ({@link #updateRules}); cada validação lê uma única versão da tabela, sem
+ * bloqueios.</p>
+ *
+ * <p>Métricas: {@code policy.validation.rules.evaluation} (tempo de avaliação) e
+ * {@code policy.validation.rules.hits} (recusas, tag {@code rule}) e
+ * {@code policy.validation.rules.batch} (tempo de avaliação de cada lote).</p>
  * 
  * @author Sistema ACME
  */
@@ -18,6 +33,49 @@ import java.math.BigDecimal;
 @Slf4j
 public class PolicyValidationService {
 
+    /** Tamanho do bloco de cada tarefa paralela; múltiplo de 64 para que cada tarefa grave suas próprias palavras do bitset. */
+    static final int BATCH_CHUNK_SIZE = 4096;
+
+    private volatile UnderwritingRules rules = UnderwritingRules.DEFAULT;
+    private final Timer evaluationTimer;
+    private final Timer batchTimer;
+    private final Map<UnderwritingRule, Counter> ruleHits = new EnumMap<>(UnderwritingRule.class);
+
+    /**
+     * A partir deste tamanho, {@link #validateBatch} divide o lote entre os núcleos disponíveis.
+     */
+    @Value("${policy-validation.batch.parallel-threshold:16384}")
+    private int parallelThreshold;
+
+    public PolicyValidationService(MeterRegistry meterRegistry) {
+        this.evaluationTimer = Timer.builder("policy.validation.rules.evaluation")
+                .description("Tempo de avaliação das regras de subscrição")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("policy.validation.rules.batch")
+                .description("Tempo de avaliação de lotes de solicitações pelas regras de subscrição")
+                .register(meterRegistry);
+        for (UnderwritingRule rule : UnderwritingRule.values()) {
+            ruleHits.put(rule, Counter.builder("policy.validation.rules.hits")
+                    .description("Solicitações recusadas por regra de subscrição")
+                    .tag("rule", rule.getId())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Substitui as regras usadas nas validações seguintes.
+     *
+     * @param rules nova tabela de regras
+     */
+    public void updateRules(UnderwritingRules rules) {
+        this.rules = rules;
+    }
+
+    public UnderwritingRules getRules() {
+        return rules;
+    }
+
     /**
      * Valida se uma solicitação atende aos critérios baseados na classificação de risco.
      * 
@@ -26,20 +84,86 @@ public class PolicyValidationService {
      * @return true se a solicitação é válida, false caso contrário
      */
     public boolean validatePolicyRequest(PolicyRequest policyRequest, CustomerRiskClassification riskClassification) {
+        return evaluate(policyRequest, riskClassification).isApproved();
+    }
+
+    /**
+     * Avalia a solicitação uma única vez e devolve a decisão com a regra e o motivo da
+     * recusa, sem uma segunda leitura das regras, que podem ter sido trocadas no intervalo.
+     * 
+     * @param policyRequest a solicitação a ser validada
+     * @param riskClassification classificação de risco do cliente
+     * @return decisão das regras de subscrição
+     */
+    public UnderwritingDecision evaluate(PolicyRequest policyRequest, CustomerRiskClassification riskClassification) {
         log.info("Validando solicitação {} para cliente com classificação {}", 
                  policyRequest.getId(), riskClassification);
-        
-        BigDecimal insuredAmount = policyRequest.getInsuredAmount();
-        InsuranceCategory category = policyRequest.getCategory();
-        
-        BigDecimal limit = riskClassification.getInsuredAmountLimit(category);
-        
-        boolean isValid = insuredAmount.compareTo(limit) <= 0;
-        
-        log.info("Valor segurado: R$ {}, Limite para {}/{}: R$ {}, Válido: {}", 
-                 insuredAmount, riskClassification, category, limit, isValid);
-        
-        return isValid;
+
+        long start = System.nanoTime();
+        UnderwritingDecision decision = rules.evaluate(policyRequest, riskClassification);
+        evaluationTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        if (decision.isApproved()) {
+            log.info("Solicitação {} aprovada pelas regras de subscrição (R$ {}, {}/{})",
+                     policyRequest.getId(), policyRequest.getInsuredAmount(), riskClassification, policyRequest.getCategory());
+            return decision;
+        }
+
+        ruleHits.get(decision.rule()).increment();
+        log.info("Solicitação {} recusada pela regra {}: {}", policyRequest.getId(), decision.rule().getId(), decision.reason());
+        return decision;
+    }
+
+    /**
+     * Valida um lote de solicitações em formato colunar, sem montar uma {@link PolicyRequest}
+     * por item: a posição {@code i} de cada array descreve a mesma solicitação.
+     *
+     * <p>Avalia o limite de capital segurado por classificação, categoria e canal; as regras de
+     * coberturas e assistências dependem da solicitação completa e continuam em
+     * {@link #validatePolicyRequest}. Todo o lote usa a mesma versão das regras e, a partir de
+     * {@code policy-validation.batch.parallel-threshold} itens, é dividido em blocos avaliados em
+     * paralelo. Não há log por item: o lote registra uma linha de resumo e as métricas de recusa.</p>
+     *
+     * @param classificationOrdinals ordinais de {@link CustomerRiskClassification}
+     * @param categoryOrdinals ordinais de {@code InsuranceCategory}
+     * @param channelOrdinals ordinais de {@code SalesChannel}, ou {@code null} para ignorar o canal
+     * @param insuredAmountsInCents capitais segurados em centavos
+     * @return aprovações e códigos de motivo por posição
+     * @throws IllegalArgumentException se os arrays tiverem tamanhos diferentes ou algum ordinal for inválido
+     */
+    public BatchValidationResult validateBatch(int[] classificationOrdinals, int[] categoryOrdinals,
+                                               int[] channelOrdinals, long[] insuredAmountsInCents) {
+        int size = insuredAmountsInCents.length;
+        if (classificationOrdinals.length != size || categoryOrdinals.length != size
+                || (channelOrdinals != null && channelOrdinals.length != size)) {
+            throw new IllegalArgumentException("Colunas do lote com tamanhos diferentes");
+        }
+
+        UnderwritingRules current = rules;
+        long[] words = new long[(size + 63) >>> 6];
+        byte[] reasonCodes = new byte[size];
+
+        long start = System.nanoTime();
+        if (size < parallelThreshold) {
+            current.evaluateInsuredAmounts(classificationOrdinals, categoryOrdinals, channelOrdinals,
+                    insuredAmountsInCents, 0, size, words, reasonCodes);
+        } else {
+            int chunks = (size + BATCH_CHUNK_SIZE - 1) / BATCH_CHUNK_SIZE;
+            IntStream.range(0, chunks).parallel().forEach(chunk -> {
+                int from = chunk * BATCH_CHUNK_SIZE;
+                current.evaluateInsuredAmounts(classificationOrdinals, categoryOrdinals, channelOrdinals,
+                        insuredAmountsInCents, from, Math.min(size, from + BATCH_CHUNK_SIZE), words, reasonCodes);
+            });
+        }
+        batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        BatchValidationResult result = new BatchValidationResult(size, BitSet.valueOf(words), reasonCodes);
+        int rejected = result.rejectedCount();
+        if (rejected > 0) {
+            ruleHits.get(UnderwritingRule.INSURED_AMOUNT_LIMIT).increment(rejected);
+        }
+        log.info("Lote de {} solicitações validado: {} aprovadas, {} recusadas", size, size - rejected, rejected);
+        return result;
     }
 
     /**
@@ -50,15 +174,6 @@ public class PolicyValidationService {
      * @return motivo da rejeição ou null se válida
      */
     public String getRejectionReason(PolicyRequest policyRequest, CustomerRiskClassification riskClassification) {
-        if (validatePolicyRequest(policyRequest, riskClassification)) {
-            return null;
-        }
-        
-        BigDecimal limit = riskClassification.getInsuredAmountLimit(policyRequest.getCategory());
-        return String.format("Valor do capital segurado (R$ %s) excede o limite para cliente %s na categoria %s (R$ %s)",
-                           policyRequest.getInsuredAmount(), 
-                           riskClassification.getDescription(),
-                           policyRequest.getCategory().getDescription(),
-                           limit);
+        return rules.evaluate(policyRequest, riskClassification).reason();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,21 @@
+package com.acme.policyapi.domain.service;
+
+/**
+ * Resultado da avaliação das regras de subscrição para uma solicitação.
+ *
+ * @param rule regra que recusou a solicitação, ou {@code null} se aprovada
+ * @param reason motivo da recusa, ou {@code null} se aprovada
+ * @author Sistema ACME
+ */
+public record UnderwritingDecision(UnderwritingRule rule, String reason) {
+
+    public static final UnderwritingDecision APPROVED = new UnderwritingDecision(null, null);
+
+    public static UnderwritingDecision rejected(UnderwritingRule rule, String reason) {
+        return new UnderwritingDecision(rule, reason);
+    }
+
+    public boolean isApproved() {
+        return rule == null;
+    }
+}
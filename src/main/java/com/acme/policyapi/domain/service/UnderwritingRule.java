@@ -0,0 +1,34 @@
+package com.acme.policyapi.domain.service;
+
+/**
+ * Regras de subscrição avaliadas por {@link UnderwritingRules}, na ordem de avaliação.
+ *
+ * @author Sistema ACME
+ */
+public enum UnderwritingRule {
+
+    /** Capital segurado acima do limite da classificação, categoria e canal */
+    INSURED_AMOUNT_LIMIT("insured-amount-limit"),
+
+    /** Cobertura acima do teto definido para a categoria */
+    COVERAGE_CAP("coverage-cap"),
+
+    /** Mais assistências do que o permitido para a categoria */
+    ASSISTANCE_LIMIT("assistance-limit"),
+
+    /** Assistência não oferecida na categoria */
+    ASSISTANCE_NOT_ALLOWED("assistance-not-allowed");
+
+    private final String id;
+
+    UnderwritingRule(String id) {
+        this.id = id;
+    }
+
+    /**
+     * @return identificador usado em métricas e logs
+     */
+    public String getId() {
+        return id;
+    }
+}
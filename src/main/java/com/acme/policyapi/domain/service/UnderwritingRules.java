@@ -0,0 +1,258 @@
+package com.acme.policyapi.domain.service;
+
+import com.acme.policyapi.domain.entity.CustomerRiskClassification;
+import com.acme.policyapi.domain.entity.InsuranceCategory;
+import com.acme.policyapi.domain.entity.InsuredAmountLimits;
+import com.acme.policyapi.domain.entity.Money;
+import com.acme.policyapi.domain.entity.PolicyRequest;
+import com.acme.policyapi.domain.entity.SalesChannel;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+/**
+ * Tabela de decisão imutável com as regras de subscrição.
+ *
+ * <p>As definições recebidas pelo {@link Builder} são compiladas uma única vez: o limite de
+ * capital segurado de cada combinação classificação × categoria × canal fica em um vetor de
+ * centavos indexado pelos ordinais, e os tetos de cobertura e as restrições de assistências
+ * ficam em mapas por categoria. A avaliação só lê a tabela, sem bloqueios; uma nova versão é
+ * aplicada trocando a referência inteira.</p>
+ *
+ * <p>As regras são avaliadas na ordem de {@link UnderwritingRule} e a primeira violada
+ * define a recusa. Sem definições além dos limites padrão, o resultado é o mesmo da
+ * validação por {@link InsuredAmountLimits#DEFAULT}.</p>
+ *
+ * @author Sistema ACME
+ */
+public final class UnderwritingRules {
+
+    private static final int CATEGORIES = InsuranceCategory.values().length;
+    private static final int CHANNELS = SalesChannel.values().length;
+
+    /** Apenas os limites padrão de capital segurado. */
+    public static final UnderwritingRules DEFAULT = builder(InsuredAmountLimits.DEFAULT).build();
+
+    private final InsuredAmountLimits baseLimits;
+    private final long[] limitsInCents;
+    private final Map<InsuranceCategory, Map<String, Long>> coverageCaps;
+    private final Map<InsuranceCategory, Set<String>> allowedAssistances;
+    private final Map<InsuranceCategory, Integer> maxAssistances;
+    private final int definitions;
+
+    private UnderwritingRules(Builder builder) {
+        this.baseLimits = builder.baseLimits;
+        this.limitsInCents = new long[CustomerRiskClassification.values().length * CATEGORIES * CHANNELS];
+        for (CustomerRiskClassification classification : CustomerRiskClassification.values()) {
+            for (InsuranceCategory category : InsuranceCategory.values()) {
+                for (SalesChannel channel : SalesChannel.values()) {
+                    int index = index(classification, category, channel);
+                    Long override = builder.channelLimits.get(index);
+                    limitsInCents[index] = override != null ? override : baseLimits.getLimitInCents(classification, category);
+                }
+            }
+        }
+        this.coverageCaps = immutable(builder.coverageCaps, Map::copyOf);
+        this.allowedAssistances = immutable(builder.allowedAssistances, Set::copyOf);
+        this.maxAssistances = immutable(builder.maxAssistances, max -> max);
+        this.definitions = builder.definitions;
+    }
+
+    public static Builder builder(InsuredAmountLimits baseLimits) {
+        return new Builder(baseLimits);
+    }
+
+    /**
+     * Avalia a solicitação contra a tabela.
+     *
+     * @param policyRequest solicitação
+     * @param classification classificação de risco do cliente
+     * @return aprovação ou a primeira regra violada, com o motivo
+     */
+    public UnderwritingDecision evaluate(PolicyRequest policyRequest, CustomerRiskClassification classification) {
+        InsuranceCategory category = policyRequest.getCategory();
+
+        long limit = getLimitInCents(classification, category, policyRequest.getSalesChannel());
+        if (policyRequest.getInsuredAmount().getCents() > limit) {
+            return UnderwritingDecision.rejected(UnderwritingRule.INSURED_AMOUNT_LIMIT, String.format(
+                    "Valor do capital segurado (R$ %s) excede o limite para cliente %s na categoria %s (R$ %s)",
+                    policyRequest.getInsuredAmount(), classification.getDescription(),
+                    category.getDescription(), Money.ofCents(limit)));
+        }
+
+        Map<String, Long> caps = coverageCaps.get(category);
+        Map<String, Money> coverages = policyRequest.getCoverages();
+        if (caps != null && coverages != null) {
+            for (Map.Entry<String, Money> coverage : coverages.entrySet()) {
+                Long cap = caps.get(coverage.getKey());
+                if (cap != null && coverage.getValue() != null && coverage.getValue().getCents() > cap) {
+                    return UnderwritingDecision.rejected(UnderwritingRule.COVERAGE_CAP, String.format(
+                            "Cobertura %s (R$ %s) excede o limite da categoria %s (R$ %s)",
+                            coverage.getKey(), coverage.getValue(), category.getDescription(), Money.ofCents(cap)));
+                }
+            }
+        }
+
+        List<String> assistances = policyRequest.getAssistances();
+        if (assistances == null) {
+            return UnderwritingDecision.APPROVED;
+        }
+        Integer max = maxAssistances.get(category);
+        if (max != null && assistances.size() > max) {
+            return UnderwritingDecision.rejected(UnderwritingRule.ASSISTANCE_LIMIT, String.format(
+                    "Quantidade de assistências (%d) excede o máximo para a categoria %s (%d)",
+                    assistances.size(), category.getDescription(), max));
+        }
+        Set<String> allowed = allowedAssistances.get(category);
+        if (allowed != null) {
+            for (String assistance : assistances) {
+                if (!allowed.contains(assistance)) {
+                    return UnderwritingDecision.rejected(UnderwritingRule.ASSISTANCE_NOT_ALLOWED, String.format(
+                            "Assistência %s não disponível para a categoria %s", assistance, category.getDescription()));
+                }
+            }
+        }
+
+        return UnderwritingDecision.APPROVED;
+    }
+
+    /**
+     * @param channel canal de venda; {@code null} usa o limite sem ajuste por canal
+     * @return limite de capital segurado em centavos
+     */
+    public long getLimitInCents(CustomerRiskClassification classification, InsuranceCategory category, SalesChannel channel) {
+        return channel != null
+                ? limitsInCents[index(classification, category, channel)]
+                : baseLimits.getLimitInCents(classification, category);
+    }
+
+    /**
+     * Avalia o limite de capital segurado das posições {@code [from, to)} de uma entrada
+     * colunar, ligando em {@code words} o bit de cada posição aprovada e gravando o código de
+     * motivo das recusadas em {@code reasonCodes}. Só a regra de capital segurado é avaliada:
+     * coberturas e assistências não fazem parte das colunas.
+     *
+     * @param channels ordinais de canal de venda, ou {@code null} para usar os limites sem ajuste por canal
+     * @throws IllegalArgumentException se algum ordinal for inválido
+     */
+    void evaluateInsuredAmounts(int[] classifications, int[] categories, int[] channels, long[] amountsInCents,
+                                int from, int to, long[] words, byte[] reasonCodes) {
+        int classificationCount = CustomerRiskClassification.values().length;
+        byte rejected = BatchValidationResult.codeOf(UnderwritingRule.INSURED_AMOUNT_LIMIT);
+
+        for (int i = from; i < to; i++) {
+            int classification = classifications[i];
+            int category = categories[i];
+            if (classification < 0 || classification >= classificationCount || category < 0 || category >= CATEGORIES
+                    || (channels != null && (channels[i] < 0 || channels[i] >= CHANNELS))) {
+                throw new IllegalArgumentException("Ordinal inválido na posição " + i);
+            }
+
+            long limit = channels != null
+                    ? limitsInCents[(classification * CATEGORIES + category) * CHANNELS + channels[i]]
+                    : baseLimits.getLimitInCents(classification, category);
+            if (amountsInCents[i] <= limit) {
+                words[i >>> 6] |= 1L << i;
+            } else {
+                reasonCodes[i] = rejected;
+            }
+        }
+    }
+
+    public InsuredAmountLimits getBaseLimits() {
+        return baseLimits;
+    }
+
+    /**
+     * @return quantidade de definições aplicadas sobre os limites base
+     */
+    public int getDefinitions() {
+        return definitions;
+    }
+
+    private static int index(CustomerRiskClassification classification, InsuranceCategory category, SalesChannel channel) {
+        return (classification.ordinal() * CATEGORIES + category.ordinal()) * CHANNELS + channel.ordinal();
+    }
+
+    private static <T> Map<InsuranceCategory, T> immutable(Map<InsuranceCategory, T> source,
+                                                          UnaryOperator<T> copy) {
+        Map<InsuranceCategory, T> result = new EnumMap<>(InsuranceCategory.class);
+        source.forEach((category, value) -> result.put(category, copy.apply(value)));
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Coleta as definições de regras; {@link #build()} compila a tabela.
+     */
+    public static final class Builder {
+
+        private final InsuredAmountLimits baseLimits;
+        private final Map<Integer, Long> channelLimits = new HashMap<>();
+        private final Map<InsuranceCategory, Map<String, Long>> coverageCaps = new EnumMap<>(InsuranceCategory.class);
+        private final Map<InsuranceCategory, Set<String>> allowedAssistances = new EnumMap<>(InsuranceCategory.class);
+        private final Map<InsuranceCategory, Integer> maxAssistances = new EnumMap<>(InsuranceCategory.class);
+        private int definitions;
+
+        private Builder(InsuredAmountLimits baseLimits) {
+            this.baseLimits = baseLimits;
+        }
+
+        /**
+         * Define o limite de capital segurado para vendas pelo canal informado.
+         */
+        public Builder insuredAmountLimit(CustomerRiskClassification classification, InsuranceCategory category,
+                                          SalesChannel channel, Money limit) {
+            requirePositive(limit, classification + "/" + category + "/" + channel);
+            channelLimits.put(index(classification, category, channel), limit.getCents());
+            definitions++;
+            return this;
+        }
+
+        /**
+         * Define o valor máximo da cobertura {@code coverage} na categoria.
+         */
+        public Builder coverageCap(InsuranceCategory category, String coverage, Money cap) {
+            requirePositive(cap, category + "/" + coverage);
+            coverageCaps.computeIfAbsent(category, c -> new HashMap<>()).put(coverage, cap.getCents());
+            definitions++;
+            return this;
+        }
+
+        /**
+         * Restringe as assistências aceitas na categoria às informadas.
+         */
+        public Builder allowedAssistances(InsuranceCategory category, Collection<String> assistances) {
+            allowedAssistances.put(category, Set.copyOf(assistances));
+            definitions++;
+            return this;
+        }
+
+        /**
+         * Define a quantidade máxima de assistências na categoria.
+         */
+        public Builder maxAssistances(InsuranceCategory category, int max) {
+            if (max < 0) {
+                throw new IllegalArgumentException("Máximo de assistências inválido para " + category + ": " + max);
+            }
+            maxAssistances.put(category, max);
+            definitions++;
+            return this;
+        }
+
+        public UnderwritingRules build() {
+            return new UnderwritingRules(this);
+        }
+
+        private static void requirePositive(Money value, String target) {
+            if (!value.isPositive()) {
+                throw new IllegalArgumentException("Valor inválido para " + target + ": " + value);
+            }
+        }
+    }
+}
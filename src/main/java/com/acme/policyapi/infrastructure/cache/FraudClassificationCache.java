@@ -0,0 +1,160 @@
+package com.acme.policyapi.infrastructure.cache;
+
+import com.acme.policyapi.application.dto.FraudAnalysisResponseDTO;
+import com.acme.policyapi.domain.entity.CustomerRiskClassification;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Cache local (por instância) da análise de fraudes por cliente.
+ *
+ * <p>A classificação de um cliente raramente muda entre solicitações; a primeira análise
+ * é reaproveitada nas seguintes até {@code fraud-analysis.cache.ttl}. O total de clientes
+ * é limitado por {@code fraud-analysis.cache.max-size}.</p>
+ *
+ * <ul>
+ *   <li>Resultados {@code NO_INFORMATION} vindos da API (cliente ainda sem histórico)
+ *       expiram antes, em {@code fraud-analysis.cache.negative-ttl}.</li>
+ *   <li>Respostas de contingência ({@link FraudAnalysisResponseDTO#isFallback()}) e falhas
+ *       não são armazenadas: a próxima solicitação consulta a API de novo.</li>
+ *   <li>Consultas simultâneas do mesmo cliente sem entrada em cache aguardam uma única
+ *       chamada à API.</li>
+ * </ul>
+ *
+ * <p>As instâncias retornadas são compartilhadas e não devem ser alteradas. Métricas
+ * {@code cache.*} com a tag {@code cache=fraud-classifications} e o gauge
+ * {@code fraud.classification.cache.hit-ratio}.</p>
+ *
+ * @author Sistema ACME
+ */
+@Component
+@Slf4j
+public class FraudClassificationCache {
+
+    static final String CACHE_NAME = "fraud-classifications";
+
+    private final AsyncCache<UUID, FraudAnalysisResponseDTO> cache;
+
+    public FraudClassificationCache(
+            MeterRegistry meterRegistry,
+            @Value("${fraud-analysis.cache.enabled:false}") boolean enabled,
+            @Value("${fraud-analysis.cache.max-size:50000}") long maxSize,
+            @Value("${fraud-analysis.cache.ttl:10m}") Duration ttl,
+            @Value("${fraud-analysis.cache.negative-ttl:1m}") Duration negativeTtl) {
+
+        if (!enabled) {
+            log.info("Cache de classificação de fraudes desabilitado");
+            this.cache = null;
+            return;
+        }
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new ClassificationExpiry(ttl, negativeTtl))
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder("fraud.classification.cache.hit-ratio", cache, c -> c.synchronous().stats().hitRate())
+                .description("Proporção de análises de fraude atendidas pelo cache")
+                .register(meterRegistry);
+
+        log.info("Cache de classificação de fraudes habilitado: max-size={}, ttl={}, negative-ttl={}",
+                 maxSize, ttl, negativeTtl);
+    }
+
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * Retorna a análise em cache do cliente ou a carrega com {@code loader} na thread
+     * chamadora. Outras threads que consultarem o mesmo cliente durante a carga aguardam
+     * o seu resultado.
+     */
+    public FraudAnalysisResponseDTO get(UUID customerId, Function<UUID, FraudAnalysisResponseDTO> loader) {
+        if (cache == null) {
+            return loader.apply(customerId);
+        }
+
+        CompletableFuture<FraudAnalysisResponseDTO> cached = cache.getIfPresent(customerId);
+        if (cached != null) {
+            return cached.join();
+        }
+
+        CompletableFuture<FraudAnalysisResponseDTO> loading = new CompletableFuture<>();
+        CompletableFuture<FraudAnalysisResponseDTO> existing = cache.asMap().putIfAbsent(customerId, loading);
+        if (existing != null) {
+            return existing.join();
+        }
+
+        try {
+            FraudAnalysisResponseDTO response = loader.apply(customerId);
+            loading.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Versão não bloqueante de {@link #get}: consultas simultâneas do mesmo cliente
+     * compartilham o futuro da primeira carga.
+     */
+    public CompletableFuture<FraudAnalysisResponseDTO> getAsync(
+            UUID customerId, Function<UUID, CompletableFuture<FraudAnalysisResponseDTO>> loader) {
+        if (cache == null) {
+            return loader.apply(customerId);
+        }
+        return cache.get(customerId, (key, executor) -> loader.apply(key));
+    }
+
+    public void evict(UUID customerId) {
+        if (cache != null) {
+            cache.synchronous().invalidate(customerId);
+        }
+    }
+
+    long size() {
+        return cache == null ? 0 : cache.synchronous().estimatedSize();
+    }
+
+    /**
+     * Define a validade de cada entrada pelo resultado: contingência expira de imediato,
+     * {@code NO_INFORMATION} usa o TTL negativo e as demais o TTL normal.
+     */
+    private record ClassificationExpiry(Duration ttl, Duration negativeTtl)
+            implements Expiry<UUID, FraudAnalysisResponseDTO> {
+
+        @Override
+        public long expireAfterCreate(UUID key, FraudAnalysisResponseDTO value, long currentTime) {
+            if (value.isFallback()) {
+                return 0;
+            }
+            return value.getClassification() == CustomerRiskClassification.NO_INFORMATION
+                    ? negativeTtl.toNanos() : ttl.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(UUID key, FraudAnalysisResponseDTO value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(UUID key, FraudAnalysisResponseDTO value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
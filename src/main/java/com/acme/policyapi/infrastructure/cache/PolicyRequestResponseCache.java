@@ -0,0 +1,138 @@
+package com.acme.policyapi.infrastructure.cache;
+
+import com.acme.policyapi.application.dto.PolicyRequestResponseDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Cache local (por instância) das respostas de consulta por ID, usado para aliviar
+ * o polling de status feito pelos canais.
+ * 
+ * <p>As entradas expiram após {@code policy-request.cache.ttl} e o total é limitado por
+ * {@code policy-request.cache.max-size}. Os casos de uso que alteram uma solicitação
+ * removem a entrada após o commit; nas demais instâncias a remoção chega pelos eventos
+ * de {@code policy-requests.events} ({@code PolicyCacheInvalidationConsumer}). O TTL é o
+ * limite de defasagem mesmo sem Kafka. Enquanto o cache estiver suspenso as consultas vão
+ * direto ao banco. As instâncias retornadas são compartilhadas e não devem ser alteradas.</p>
+ * 
+ * <p>Métricas {@code cache.*} com a tag {@code cache=policy-requests}.</p>
+ * 
+ * @author Sistema ACME
+ */
+@Component
+@Slf4j
+public class PolicyRequestResponseCache {
+
+    static final String CACHE_NAME = "policy-requests";
+
+    private final Cache<UUID, PolicyRequestResponseDTO> cache;
+    private final AtomicBoolean suspended = new AtomicBoolean();
+
+    public PolicyRequestResponseCache(
+            MeterRegistry meterRegistry,
+            @Value("${policy-request.cache.enabled:true}") boolean enabled,
+            @Value("${policy-request.cache.max-size:10000}") long maxSize,
+            @Value("${policy-request.cache.ttl:30s}") Duration ttl) {
+        
+        if (!enabled) {
+            log.info("Cache de consulta de solicitações desabilitado");
+            this.cache = null;
+            return;
+        }
+        
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        
+        log.info("Cache de consulta de solicitações habilitado: max-size={}, ttl={}", maxSize, ttl);
+    }
+
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * Retorna a resposta em cache ou a carrega com {@code loader}. Cargas concorrentes
+     * do mesmo ID são executadas uma única vez; exceções do loader não são armazenadas.
+     */
+    public PolicyRequestResponseDTO get(UUID id, Function<UUID, PolicyRequestResponseDTO> loader) {
+        if (cache == null || suspended.get()) {
+            return loader.apply(id);
+        }
+        return cache.get(id, loader);
+    }
+
+    /**
+     * Remove a entrada após o commit da transação corrente, ou imediatamente quando não
+     * há transação. Uma carga concorrente que tenha lido o estado anterior ao commit é
+     * descartada, pois a remoção aguarda a carga em andamento da mesma chave.
+     */
+    public void evictAfterCommit(UUID id) {
+        if (cache == null) {
+            return;
+        }
+        
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(id);
+            return;
+        }
+        
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(id);
+            }
+        });
+    }
+
+    public void evict(UUID id) {
+        if (cache != null) {
+            cache.invalidate(id);
+        }
+    }
+
+    public void evictAll() {
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * Deixa de servir (e de armazenar) respostas do cache até {@link #resume()}, usado
+     * quando a invalidação entre instâncias não consegue garantir a defasagem máxima.
+     */
+    public void suspend() {
+        if (suspended.compareAndSet(false, true)) {
+            log.warn("Cache de consulta de solicitações suspenso");
+        }
+    }
+
+    public void resume() {
+        if (suspended.compareAndSet(true, false)) {
+            log.info("Cache de consulta de solicitações retomado");
+        }
+    }
+
+    public boolean isSuspended() {
+        return suspended.get();
+    }
+
+    long size() {
+        return cache == null ? 0 : cache.estimatedSize();
+    }
+}
@@ -1,9 +1,67 @@
 package com.acme.policyapi.infrastructure.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.util.concurrent.Executor;
+
+/**
+ * Configuração da execução assíncrona do processamento de solicitações.
+ * 
+ * <p>No modo {@code platform} (padrão) é usado o pool configurado em {@code spring.task.execution}.
+ * No modo {@code virtual} cada tarefa roda em uma virtual thread, com concorrência limitada
+ * por {@code policy-request.processing.max-concurrency}.</p>
+ * 
+ * <p>O mesmo executor é usado pelo {@code ProcessPolicyRequestUseCase} para gravar o
+ * resultado das análises de fraude não bloqueantes, de modo que essas transações também
+ * respeitem o limite de concorrência.</p>
+ * 
+ * @author Sistema ACME
+ */
 @Configuration
 @EnableAsync
-public class AsyncConfig {
-}
\ No newline at end of file
+@RequiredArgsConstructor
+@Slf4j
+public class AsyncConfig implements AsyncConfigurer {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final ObjectProvider<ThreadPoolTaskExecutor> applicationTaskExecutor;
+
+    @Value("${policy-request.processing.executor:platform}")
+    private String executorMode = "platform";
+
+    @Value("${policy-request.processing.max-concurrency:15}")
+    private int maxConcurrency = 15;
+
+    @Value("${policy-request.processing.queue-capacity:10000}")
+    private int queueCapacity = 10000;
+
+    private Executor asyncExecutor;
+
+    /**
+     * Retorna o executor de virtual threads quando habilitado; no modo {@code platform},
+     * o executor padrão do Spring Boot ({@code null} se não houver). Criado uma única vez.
+     */
+    @Override
+    public synchronized Executor getAsyncExecutor() {
+        if (asyncExecutor != null) {
+            return asyncExecutor;
+        }
+        if (!"virtual".equalsIgnoreCase(executorMode)) {
+            asyncExecutor = applicationTaskExecutor.getIfAvailable();
+            return asyncExecutor;
+        }
+
+        log.info("Processamento assíncrono em virtual threads (limite: {}, fila: {})", maxConcurrency, queueCapacity);
+        asyncExecutor = new BoundedVirtualThreadExecutor("policy-processing-", maxConcurrency, queueCapacity,
+                                                         meterRegistry.getObject());
+        return asyncExecutor;
+    }
+}
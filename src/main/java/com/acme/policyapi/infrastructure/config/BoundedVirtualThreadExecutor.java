@@ -0,0 +1,102 @@
+package com.acme.policyapi.infrastructure.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executor que cria uma virtual thread por tarefa, limitando quantas executam ao mesmo tempo.
+ * 
+ * <p>Tarefas acima do limite aguardam uma permissão em ordem de chegada. A espera é feita
+ * na própria virtual thread, portanto não ocupa threads de plataforma nem bloqueia quem
+ * submeteu a tarefa. O limite deve ficar abaixo do tamanho do pool do Hikari para que o
+ * processamento assíncrono não esgote as conexões do banco; a fila de espera também é
+ * limitada e tarefas excedentes são rejeitadas.</p>
+ * 
+ * @author Sistema ACME
+ */
+@Slf4j
+public class BoundedVirtualThreadExecutor implements TaskExecutor {
+
+    private final ThreadFactory threadFactory;
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final int queueCapacity;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final Counter rejectedCounter;
+
+    public BoundedVirtualThreadExecutor(String threadNamePrefix, int maxConcurrency, int queueCapacity,
+                                        MeterRegistry meterRegistry) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("O limite de concorrência deve ser maior que zero");
+        }
+        this.threadFactory = Thread.ofVirtual().name(threadNamePrefix, 0).factory();
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.maxConcurrency = maxConcurrency;
+        this.queueCapacity = queueCapacity;
+
+        Gauge.builder("policy.processing.executor.queued", queued, AtomicInteger::get)
+                .description("Tarefas de processamento aguardando uma permissão de execução")
+                .register(meterRegistry);
+        Gauge.builder("policy.processing.executor.active", active, AtomicInteger::get)
+                .description("Tarefas de processamento em execução")
+                .register(meterRegistry);
+        Gauge.builder("policy.processing.executor.limit", this, BoundedVirtualThreadExecutor::getMaxConcurrency)
+                .description("Limite de tarefas de processamento simultâneas")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("policy.processing.executor.rejected")
+                .description("Tarefas rejeitadas por fila de espera cheia")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (queued.incrementAndGet() > queueCapacity) {
+            queued.decrementAndGet();
+            rejectedCounter.increment();
+            throw new TaskRejectedException("Fila de processamento cheia (" + queueCapacity + " tarefas aguardando)");
+        }
+
+        threadFactory.newThread(() -> runWithPermit(task)).start();
+    }
+
+    private void runWithPermit(Runnable task) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            queued.decrementAndGet();
+            Thread.currentThread().interrupt();
+            log.warn("Tarefa de processamento interrompida enquanto aguardava execução");
+            return;
+        }
+
+        queued.decrementAndGet();
+        active.incrementAndGet();
+        try {
+            task.run();
+        } finally {
+            active.decrementAndGet();
+            permits.release();
+        }
+    }
+
+    public int getQueuedCount() {
+        return queued.get();
+    }
+
+    public int getActiveCount() {
+        return active.get();
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+}
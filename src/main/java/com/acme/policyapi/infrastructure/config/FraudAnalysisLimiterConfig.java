@@ -0,0 +1,53 @@
+package com.acme.policyapi.infrastructure.config;
+
+import com.acme.policyapi.application.dto.FraudAnalysisResponseDTO;
+import com.acme.policyapi.infrastructure.external.AsyncConcurrencyLimiter;
+import com.acme.policyapi.infrastructure.external.GradientLimit;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Limite adaptativo de análises de fraude em andamento no processamento de solicitações.
+ *
+ * <p>Com {@code fraud-analysis.adaptive-limit.enabled=true}, o {@code ProcessPolicyRequestUseCase}
+ * passa cada análise por este limitador: o limite parte de {@code initial-limit} e acompanha o
+ * RTT do provedor ({@link GradientLimit}); o excedente aguarda em uma fila de até
+ * {@code max-queued} análises e, acima dela, é descartado.</p>
+ *
+ * <p>O serviço de análise converte timeouts, erros e o circuito aberto em uma resposta de
+ * contingência ({@link FraudAnalysisResponseDTO#isFallback()}), sem falhar o futuro; essas
+ * respostas contam como descarte e reduzem o limite.</p>
+ *
+ * <p>Métricas {@code fraud.analysis.adaptive.*}: {@code limit}, {@code in-flight},
+ * {@code queued}, {@code rtt} e {@code rejected}.</p>
+ *
+ * @author Sistema ACME
+ */
+@Configuration
+@ConditionalOnProperty(name = "fraud-analysis.adaptive-limit.enabled", havingValue = "true")
+@Slf4j
+public class FraudAnalysisLimiterConfig {
+
+    @Bean
+    public AsyncConcurrencyLimiter fraudAnalysisLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${fraud-analysis.adaptive-limit.initial-limit:20}") int initialLimit,
+            @Value("${fraud-analysis.adaptive-limit.min-limit:4}") int minLimit,
+            @Value("${fraud-analysis.adaptive-limit.max-limit:200}") int maxLimit,
+            @Value("${fraud-analysis.adaptive-limit.smoothing:0.2}") double smoothing,
+            @Value("${fraud-analysis.adaptive-limit.tolerance:1.5}") double tolerance,
+            @Value("${fraud-analysis.adaptive-limit.long-window:600}") int longWindow,
+            @Value("${fraud-analysis.adaptive-limit.max-queued:5000}") int maxQueued) {
+
+        log.info("Limite adaptativo da análise de fraudes: inicial={}, mínimo={}, máximo={}, fila={}",
+                 initialLimit, minLimit, maxLimit, maxQueued);
+        return new AsyncConcurrencyLimiter("fraud.analysis.adaptive",
+                new GradientLimit(initialLimit, minLimit, maxLimit, smoothing, tolerance, longWindow),
+                result -> result instanceof FraudAnalysisResponseDTO analysis && analysis.isFallback(),
+                maxQueued, meterRegistry);
+    }
+}
@@ -0,0 +1,52 @@
+package com.acme.policyapi.infrastructure.config;
+
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+
+/**
+ * Configuração dos containers de consumo Kafka.
+ * 
+ * <p>Além da fábrica padrão do Spring Boot (um registro por chamada), registra
+ * {@code batchKafkaListenerContainerFactory}, que entrega a cada chamada todos os registros
+ * de um poll (até {@code spring.kafka.consumer.max-poll-records}) com as mesmas
+ * configurações de {@code spring.kafka.listener}, e {@code asyncAckKafkaListenerContainerFactory},
+ * que aceita confirmações fora de ordem vindas de outras threads: os offsets só são
+ * confirmados até o menor registro contíguo concluído e o consumer é pausado enquanto
+ * houver registros do poll anterior sem confirmação.</p>
+ * 
+ * @author Sistema ACME
+ */
+@Configuration
+public class KafkaConsumerConfig {
+
+    public static final String BATCH_LISTENER_CONTAINER_FACTORY = "batchKafkaListenerContainerFactory";
+
+    public static final String ASYNC_ACK_LISTENER_CONTAINER_FACTORY = "asyncAckKafkaListenerContainerFactory";
+
+    @Bean(BATCH_LISTENER_CONTAINER_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> batchKafkaListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> consumerFactory) {
+        
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, consumerFactory);
+        factory.setBatchListener(true);
+        return factory;
+    }
+
+    @Bean(ASYNC_ACK_LISTENER_CONTAINER_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> asyncAckKafkaListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> consumerFactory) {
+        
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, consumerFactory);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.getContainerProperties().setAsyncAcks(true);
+        return factory;
+    }
+}
@@ -0,0 +1,94 @@
+package com.acme.policyapi.infrastructure.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executor que preserva a ordem das tarefas de uma mesma chave e executa chaves
+ * diferentes em paralelo.
+ * 
+ * <p>Cada chave mantém apenas a última tarefa submetida; a próxima é encadeada a ela e só
+ * começa quando a anterior termina, com ou sem erro. Tarefas de chaves diferentes rodam em
+ * virtual threads, limitadas a {@code maxConcurrency} simultâneas. Não há fila limitada:
+ * quem submete é responsável por limitar as tarefas pendentes.</p>
+ * 
+ * @author Sistema ACME
+ */
+@Slf4j
+public class KeyOrderedExecutor {
+
+    private static final CompletableFuture<Void> DONE = CompletableFuture.completedFuture(null);
+
+    private final Map<Object, CompletableFuture<Void>> tails = new ConcurrentHashMap<>();
+    private final Executor executor;
+    private final Semaphore permits;
+    private final AtomicInteger pending = new AtomicInteger();
+
+    public KeyOrderedExecutor(String name, int maxConcurrency, MeterRegistry meterRegistry) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("O limite de concorrência deve ser maior que zero");
+        }
+        ThreadFactory threadFactory = Thread.ofVirtual().name(name + "-", 0).factory();
+        this.executor = task -> threadFactory.newThread(task).start();
+        this.permits = new Semaphore(maxConcurrency, true);
+
+        Gauge.builder("policy.consumer.parallel.pending", pending, AtomicInteger::get)
+                .description("Tarefas submetidas e ainda não concluídas")
+                .tag("executor", name)
+                .register(meterRegistry);
+        Gauge.builder("policy.consumer.parallel.keys", tails, Map::size)
+                .description("Chaves com tarefas pendentes")
+                .tag("executor", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Agenda a tarefa após todas as tarefas já submetidas para a mesma chave.
+     * 
+     * @return future concluído quando a tarefa terminar; nunca conclui com erro
+     */
+    public CompletableFuture<Void> execute(Object key, Runnable task) {
+        pending.incrementAndGet();
+        CompletableFuture<Void> next = tails.compute(key,
+                (k, tail) -> (tail == null ? DONE : tail).thenRunAsync(() -> runWithPermit(key, task), executor));
+        next.whenComplete((result, error) -> tails.remove(key, next));
+        return next;
+    }
+
+    private void runWithPermit(Object key, Runnable task) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            pending.decrementAndGet();
+            Thread.currentThread().interrupt();
+            log.warn("Tarefa da chave {} interrompida enquanto aguardava execução", key);
+            return;
+        }
+
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            log.error("Erro na tarefa da chave {}: {}", key, e.getMessage(), e);
+        } finally {
+            permits.release();
+            pending.decrementAndGet();
+        }
+    }
+
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    public int getKeyCount() {
+        return tails.size();
+    }
+}
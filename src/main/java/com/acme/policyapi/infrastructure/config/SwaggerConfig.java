@@ -1,14 +1,17 @@
 package com.acme.policyapi.infrastructure.config;
 
+import com.acme.policyapi.domain.entity.Money;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Contact;
 import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.info.License;
 import io.swagger.v3.oas.models.servers.Server;
+import org.springdoc.core.utils.SpringDocUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 /**
@@ -19,6 +22,11 @@ import java.util.List;
 @Configuration
 public class SwaggerConfig {
 
+    static {
+        // Money é serializado como número decimal
+        SpringDocUtils.getConfig().replaceWithClass(Money.class, BigDecimal.class);
+    }
+
     @Value("${server.port:8080}")
     private String serverPort;
 
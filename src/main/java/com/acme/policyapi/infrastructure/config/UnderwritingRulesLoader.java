@@ -0,0 +1,166 @@
+package com.acme.policyapi.infrastructure.config;
+
+import com.acme.policyapi.domain.entity.CustomerRiskClassification;
+import com.acme.policyapi.domain.entity.InsuranceCategory;
+import com.acme.policyapi.domain.entity.InsuredAmountLimits;
+import com.acme.policyapi.domain.entity.Money;
+import com.acme.policyapi.domain.entity.SalesChannel;
+import com.acme.policyapi.domain.service.PolicyValidationService;
+import com.acme.policyapi.domain.service.UnderwritingRules;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Carrega as regras de subscrição de um arquivo externo e as aplica no
+ * {@link PolicyValidationService}, permitindo reajustá-las sem nova implantação.
+ *
+ * <p>O arquivo ({@code policy-validation.rules.file}) usa o formato de properties:</p>
+ * <ul>
+ *   <li>{@code CLASSIFICACAO.CATEGORIA=valor}: limite de capital segurado, por exemplo
+ *       {@code REGULAR.AUTO=350000.00}; limites ausentes mantêm o valor padrão;</li>
+ *   <li>{@code CLASSIFICACAO.CATEGORIA.CANAL=valor}: limite para vendas pelo canal;</li>
+ *   <li>{@code coverage-cap.CATEGORIA.COBERTURA=valor}: teto de uma cobertura;</li>
+ *   <li>{@code assistances.allowed.CATEGORIA=a,b}: assistências aceitas na categoria;</li>
+ *   <li>{@code assistances.max.CATEGORIA=n}: quantidade máxima de assistências.</li>
+ * </ul>
+ *
+ * <p>A data de modificação é verificada a cada {@code reload-interval-ms} e, quando muda, as
+ * definições são compiladas em uma nova {@link UnderwritingRules}, trocada por inteiro. Um
+ * arquivo inválido na inicialização impede a subida da aplicação; em uma recarga é ignorado e
+ * as regras anteriores continuam valendo.</p>
+ *
+ * <p>Métrica: {@code policy.validation.rules.reloads} (tag {@code outcome=success|failure}).</p>
+ *
+ * @author Sistema ACME
+ */
+@Component
+@ConditionalOnProperty(name = "policy-validation.rules.file")
+@Slf4j
+public class UnderwritingRulesLoader {
+
+    private final PolicyValidationService policyValidationService;
+    private final Path file;
+    private final Counter successes;
+    private final Counter failures;
+    private long lastModified = Long.MIN_VALUE;
+
+    public UnderwritingRulesLoader(PolicyValidationService policyValidationService,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${policy-validation.rules.file}") String file) {
+        this.policyValidationService = policyValidationService;
+        this.file = Path.of(file);
+        this.successes = Counter.builder("policy.validation.rules.reloads")
+                .description("Recargas das regras de subscrição")
+                .tag("outcome", "success")
+                .register(meterRegistry);
+        this.failures = Counter.builder("policy.validation.rules.reloads")
+                .description("Recargas das regras de subscrição")
+                .tag("outcome", "failure")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void load() {
+        try {
+            lastModified = Files.getLastModifiedTime(file).toMillis();
+            UnderwritingRules rules = read(file);
+            policyValidationService.updateRules(rules);
+            successes.increment();
+            log.info("Regras de subscrição carregadas de {} ({} definições)", file, rules.getDefinitions());
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalStateException("Não foi possível carregar as regras de " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Recarrega as regras quando o arquivo tiver sido modificado desde a última leitura.
+     */
+    @Scheduled(fixedDelayString = "${policy-validation.rules.reload-interval-ms:30000}")
+    public void reloadIfModified() {
+        long modified;
+        try {
+            modified = Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            log.warn("Arquivo de regras {} indisponível; mantendo as regras atuais: {}", file, e.getMessage());
+            return;
+        }
+        if (modified == lastModified) {
+            return;
+        }
+
+        lastModified = modified;
+        try {
+            UnderwritingRules rules = read(file);
+            policyValidationService.updateRules(rules);
+            successes.increment();
+            log.info("Regras de subscrição recarregadas de {} ({} definições)", file, rules.getDefinitions());
+        } catch (IOException | RuntimeException e) {
+            failures.increment();
+            log.error("Arquivo de regras {} inválido; mantendo as regras atuais: {}", file, e.getMessage());
+        }
+    }
+
+    static UnderwritingRules read(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+
+        // Ordem estável, para que um arquivo inválido sempre reporte o mesmo erro
+        TreeMap<String, String> entries = new TreeMap<>();
+        properties.stringPropertyNames().forEach(key -> entries.put(key.trim(), properties.getProperty(key).trim()));
+
+        InsuredAmountLimits limits = InsuredAmountLimits.DEFAULT;
+        for (var entry : entries.entrySet()) {
+            String[] parts = entry.getKey().split("\\.");
+            if (parts.length == 2 && !isRuleKey(parts[0])) {
+                limits = limits.withLimit(CustomerRiskClassification.valueOf(parts[0]),
+                        InsuranceCategory.valueOf(parts[1]), new BigDecimal(entry.getValue()));
+            }
+        }
+
+        UnderwritingRules.Builder builder = UnderwritingRules.builder(limits);
+        for (var entry : entries.entrySet()) {
+            String key = entry.getKey();
+            String value = entry.getValue();
+            String[] parts = key.split("\\.", 3);
+            if (parts.length == 2 && !isRuleKey(parts[0])) {
+                continue;
+            }
+            if (parts.length == 3 && parts[0].equals("coverage-cap")) {
+                builder.coverageCap(InsuranceCategory.valueOf(parts[1]), parts[2], Money.parse(value));
+            } else if (parts.length == 3 && parts[0].equals("assistances") && parts[1].equals("allowed")) {
+                builder.allowedAssistances(InsuranceCategory.valueOf(parts[2]),
+                        Arrays.stream(value.split(",")).map(String::trim).filter(a -> !a.isEmpty()).toList());
+            } else if (parts.length == 3 && parts[0].equals("assistances") && parts[1].equals("max")) {
+                builder.maxAssistances(InsuranceCategory.valueOf(parts[2]), Integer.parseInt(value));
+            } else if (parts.length == 3 && !isRuleKey(parts[0])) {
+                builder.insuredAmountLimit(CustomerRiskClassification.valueOf(parts[0]),
+                        InsuranceCategory.valueOf(parts[1]), SalesChannel.valueOf(parts[2]), Money.parse(value));
+            } else {
+                throw new IllegalArgumentException("Chave inválida: " + key);
+            }
+        }
+        return builder.build();
+    }
+
+    private static boolean isRuleKey(String prefix) {
+        return prefix.equals("coverage-cap") || prefix.equals("assistances");
+    }
+}
@@ -0,0 +1,229 @@
+package com.acme.policyapi.infrastructure.external;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Limita quantas chamadas assíncronas ficam em andamento ao mesmo tempo, sem bloquear
+ * threads.
+ *
+ * <p>Chamadas acima do limite são enfileiradas e disparadas, em ordem de chegada, pela
+ * conclusão de uma chamada anterior. A fila também é limitada: acima dela a chamada falha
+ * imediatamente com {@link RejectedExecutionException}, sem ser disparada.</p>
+ *
+ * <p>Cancelar o futuro devolvido cancela a chamada em andamento ou, se ela ainda estiver
+ * na fila, faz com que não seja disparada.</p>
+ *
+ * <p>O limite é fixo ou, com um {@link GradientLimit}, recalculado a cada chamada concluída
+ * a partir do RTT observado; ao crescer, as chamadas enfileiradas são disparadas na
+ * conclusão seguinte. Chamadas já em andamento não são interrompidas quando ele diminui.
+ * Quando a chamada converte falhas em uma resposta de contingência, um predicado informado
+ * na criação identifica essas respostas, que contam como descarte.</p>
+ *
+ * <p>Métricas (prefixo informado na criação): {@code .in-flight}, {@code .queued},
+ * {@code .limit}, {@code .rejected} e, no modo adaptativo, {@code .rtt} (ms).</p>
+ *
+ * @author Sistema ACME
+ */
+public class AsyncConcurrencyLimiter {
+
+    private volatile int limit;
+    private final GradientLimit adaptiveLimit;
+    private final Predicate<Object> droppedResult;
+    private final int maxQueued;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+    private final Counter rejectedCounter;
+
+    public AsyncConcurrencyLimiter(String metricPrefix, int limit, int maxQueued, MeterRegistry meterRegistry) {
+        this(metricPrefix, limit, null, result -> false, maxQueued, meterRegistry);
+    }
+
+    /**
+     * Cria um limitador cujo limite acompanha o RTT observado, conforme {@code adaptiveLimit}.
+     */
+    public AsyncConcurrencyLimiter(String metricPrefix, GradientLimit adaptiveLimit, int maxQueued, MeterRegistry meterRegistry) {
+        this(metricPrefix, adaptiveLimit, result -> false, maxQueued, meterRegistry);
+    }
+
+    /**
+     * Cria um limitador adaptativo em que os resultados aceitos por {@code droppedResult}
+     * (respostas de contingência no lugar de uma falha) contam como descarte, inclusive
+     * quando concluídos já no disparo.
+     */
+    public AsyncConcurrencyLimiter(String metricPrefix, GradientLimit adaptiveLimit, Predicate<Object> droppedResult,
+                                   int maxQueued, MeterRegistry meterRegistry) {
+        this(metricPrefix, adaptiveLimit.getLimit(), adaptiveLimit, droppedResult, maxQueued, meterRegistry);
+        Gauge.builder(metricPrefix + ".rtt", adaptiveLimit, l -> l.getLongRttNanos() / 1_000_000.0)
+                .description("RTT estimado sem fila (ms)")
+                .register(meterRegistry);
+    }
+
+    private AsyncConcurrencyLimiter(String metricPrefix, int limit, GradientLimit adaptiveLimit,
+                                    Predicate<Object> droppedResult, int maxQueued, MeterRegistry meterRegistry) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("O limite de concorrência deve ser maior que zero");
+        }
+        this.limit = limit;
+        this.adaptiveLimit = adaptiveLimit;
+        this.droppedResult = droppedResult;
+        this.maxQueued = maxQueued;
+
+        Gauge.builder(metricPrefix + ".in-flight", inFlight, AtomicInteger::get)
+                .description("Chamadas em andamento")
+                .register(meterRegistry);
+        Gauge.builder(metricPrefix + ".queued", queued, AtomicInteger::get)
+                .description("Chamadas aguardando uma vaga")
+                .register(meterRegistry);
+        Gauge.builder(metricPrefix + ".limit", this, AsyncConcurrencyLimiter::getLimit)
+                .description("Limite de chamadas simultâneas")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder(metricPrefix + ".rejected")
+                .description("Chamadas rejeitadas por fila cheia")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Dispara a chamada assim que houver vaga.
+     *
+     * @param call cria e dispara a chamada; executado uma única vez, possivelmente na
+     *             thread que concluiu outra chamada
+     * @return resultado da chamada, ou falha com {@link RejectedExecutionException} se a fila
+     *         estiver cheia
+     */
+    public <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Runnable task = () -> dispatch(call, result);
+
+        if (tryAcquire()) {
+            task.run();
+            return result;
+        }
+
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            rejectedCounter.increment();
+            result.completeExceptionally(new RejectedExecutionException(
+                    "Fila de chamadas cheia (" + maxQueued + " aguardando)"));
+            return result;
+        }
+
+        pending.add(task);
+        drain();
+        return result;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public int getQueued() {
+        return queued.get();
+    }
+
+    private <T> void dispatch(Supplier<CompletableFuture<T>> call, CompletableFuture<T> result) {
+        if (result.isDone()) {
+            release();
+            return;
+        }
+
+        int inFlightAtStart = inFlight.get();
+        long start = System.nanoTime();
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            release();
+            result.completeExceptionally(e);
+            return;
+        }
+
+        result.whenComplete((value, failure) -> {
+            if (result.isCancelled()) {
+                future.cancel(true);
+            }
+        });
+        boolean completedInline = future.isDone();
+        future.whenComplete((value, failure) -> {
+            boolean dropped = failure == null && adaptiveLimit != null && droppedResult.test(value);
+            if (!completedInline || dropped) {
+                adapt(System.nanoTime() - start, inFlightAtStart, failure, dropped);
+            }
+            release();
+            if (failure != null) {
+                result.completeExceptionally(failure);
+            } else {
+                result.complete(value);
+            }
+        });
+    }
+
+    /**
+     * Atualiza o limite adaptativo com a amostra da chamada. Cancelamentos e chamadas
+     * concluídas já no disparo (respostas em cache, por exemplo) não são amostras; estouro de
+     * prazo, recusa por sobrecarga e resultados de contingência contam como descarte.
+     */
+    private void adapt(long rttNanos, int inFlightAtStart, Throwable failure, boolean droppedResult) {
+        if (adaptiveLimit == null) {
+            return;
+        }
+
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+        if (cause instanceof CancellationException) {
+            return;
+        }
+        boolean dropped = droppedResult || cause instanceof TimeoutException || cause instanceof RejectedExecutionException;
+        limit = adaptiveLimit.update(rttNanos, inFlightAtStart, dropped);
+    }
+
+    private void release() {
+        inFlight.decrementAndGet();
+        drain();
+    }
+
+    /**
+     * Dispara chamadas enfileiradas enquanto houver vaga. Uma vaga obtida sem chamada
+     * pendente é devolvida e a fila é verificada de novo, para não perder uma chamada
+     * enfileirada concorrentemente.
+     */
+    private void drain() {
+        while (!pending.isEmpty() && tryAcquire()) {
+            Runnable task = pending.poll();
+            if (task == null) {
+                inFlight.decrementAndGet();
+                continue;
+            }
+            queued.decrementAndGet();
+            task.run();
+        }
+    }
+
+    private boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.acme.policyapi.infrastructure.external;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limita quantas chamadas bloqueantes a um serviço externo ocorrem ao mesmo tempo.
+ *
+ * <p>Uma chamada acima do limite aguarda uma vaga por no máximo {@code maxWait}; sem vaga
+ * ela é recusada, de modo que uma dependência lenta não ocupe todas as threads da
+ * aplicação.</p>
+ *
+ * <p>Métricas (prefixo informado na criação): {@code .bulkhead.in-flight},
+ * {@code .bulkhead.limit} e {@code .bulkhead.rejected}.</p>
+ *
+ * @author Sistema ACME
+ */
+public class Bulkhead {
+
+    private final int limit;
+    private final Duration maxWait;
+    private final Semaphore permits;
+    private final Counter rejectedCounter;
+
+    public Bulkhead(String metricPrefix, int limit, Duration maxWait, MeterRegistry meterRegistry) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("O limite de concorrência deve ser maior que zero");
+        }
+        this.limit = limit;
+        this.maxWait = maxWait;
+        this.permits = new Semaphore(limit, true);
+
+        Gauge.builder(metricPrefix + ".bulkhead.in-flight", this, Bulkhead::getInFlight)
+                .description("Chamadas em andamento")
+                .register(meterRegistry);
+        Gauge.builder(metricPrefix + ".bulkhead.limit", this, Bulkhead::getLimit)
+                .description("Limite de chamadas simultâneas")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder(metricPrefix + ".bulkhead.rejected")
+                .description("Chamadas recusadas por falta de vaga")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return verdadeiro se obteve uma vaga, que deve ser devolvida com {@link #release()}
+     */
+    public boolean tryAcquire() {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            rejectedCounter.increment();
+        }
+        return acquired;
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return limit - permits.availablePermits();
+    }
+}
@@ -0,0 +1,81 @@
+package com.acme.policyapi.infrastructure.external;
+
+import com.acme.policyapi.application.dto.FraudAnalysisResponseDTO;
+import com.acme.policyapi.application.service.FraudAnalysisService;
+import com.acme.policyapi.domain.entity.PolicyRequest;
+import com.acme.policyapi.infrastructure.cache.FraudClassificationCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Análise de fraudes com reaproveitamento da classificação por cliente.
+ *
+ * <p>Delega ao {@link FraudAnalysisServiceImpl} apenas quando o cliente não tem análise
+ * válida no {@link FraudClassificationCache}. Uma análise reaproveitada é devolvida com o
+ * ID da solicitação corrente.</p>
+ *
+ * @author Sistema ACME
+ */
+@Service
+@Primary
+@RequiredArgsConstructor
+@Slf4j
+public class CachedFraudAnalysisService implements FraudAnalysisService {
+
+    private final FraudAnalysisServiceImpl delegate;
+    private final FraudClassificationCache classificationCache;
+
+    @Override
+    public FraudAnalysisResponseDTO analyzeFraud(PolicyRequest policyRequest) {
+        return analyzeFraud(policyRequest.getId(), policyRequest.getCustomerId());
+    }
+
+    @Override
+    public FraudAnalysisResponseDTO analyzeFraud(UUID orderId, UUID customerId) {
+        if (customerId == null) {
+            return delegate.analyzeFraud(orderId, customerId);
+        }
+
+        FraudAnalysisResponseDTO response = classificationCache.get(customerId,
+                id -> delegate.analyzeFraud(orderId, id));
+        return forOrder(response, orderId);
+    }
+
+    @Override
+    public CompletableFuture<FraudAnalysisResponseDTO> analyzeFraudAsync(PolicyRequest policyRequest) {
+        if (policyRequest.getCustomerId() == null) {
+            return delegate.analyzeFraudAsync(policyRequest);
+        }
+
+        return classificationCache.getAsync(policyRequest.getCustomerId(),
+                        id -> delegate.analyzeFraudAsync(policyRequest))
+                .thenApply(response -> forOrder(response, policyRequest.getId()));
+    }
+
+    /**
+     * Copia a análise de outra solicitação do mesmo cliente para a solicitação corrente,
+     * sem alterar a instância compartilhada do cache.
+     */
+    private static FraudAnalysisResponseDTO forOrder(FraudAnalysisResponseDTO response, UUID orderId) {
+        if (response == null || orderId == null || orderId.equals(response.getOrderId())) {
+            return response;
+        }
+
+        log.debug("Análise de fraudes do cliente {} reaproveitada para a ordem {}", response.getCustomerId(), orderId);
+
+        FraudAnalysisResponseDTO copy = new FraudAnalysisResponseDTO();
+        copy.setOrderId(orderId);
+        copy.setCustomerId(response.getCustomerId());
+        copy.setAnalyzedAt(response.getAnalyzedAt());
+        copy.setClassification(response.getClassification());
+        copy.setOccurrences(response.getOccurrences() == null ? null : new ArrayList<>(response.getOccurrences()));
+        copy.setFallback(response.isFallback());
+        return copy;
+    }
+}
@@ -0,0 +1,221 @@
+package com.acme.policyapi.infrastructure.external;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Disjuntor de chamadas a um serviço externo.
+ *
+ * <p>Em {@link State#CLOSED} as chamadas passam e o resultado das últimas
+ * {@code windowSize} fica registrado. Atingido o mínimo de chamadas, se a taxa de falhas
+ * ou a taxa de chamadas lentas (acima de {@code slowCallThreshold}) alcançar o limite
+ * configurado, o circuito abre.</p>
+ *
+ * <p>Em {@link State#OPEN} as chamadas são recusadas de imediato, sem tocar o serviço,
+ * durante {@code openDuration}. Depois disso o circuito passa a {@link State#HALF_OPEN} e
+ * libera até {@code halfOpenCalls} chamadas de sondagem: se todas concluírem sem falha
+ * nem lentidão o circuito fecha; na primeira que falhar ele volta a abrir.</p>
+ *
+ * <p>Uso: {@link #tryAcquirePermission()} antes da chamada e, se concedida, exatamente um
+ * de {@link #onSuccess}, {@link #onError} ou {@link #releasePermission()} ao final.</p>
+ *
+ * <p>Métricas (prefixo informado na criação): {@code .circuit.state} (0 fechado,
+ * 1 aberto, 2 meio-aberto), {@code .circuit.transitions} (tags {@code from} e {@code to})
+ * e {@code .circuit.rejected}.</p>
+ *
+ * @author Sistema ACME
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    /**
+     * Parâmetros do disjuntor.
+     *
+     * @param windowSize quantidade de chamadas recentes avaliadas
+     * @param minimumCalls chamadas necessárias na janela antes de avaliar as taxas
+     * @param failureRateThreshold percentual de falhas que abre o circuito
+     * @param slowCallThreshold duração a partir da qual a chamada é considerada lenta
+     * @param slowCallRateThreshold percentual de chamadas lentas que abre o circuito
+     * @param openDuration tempo em que o circuito permanece aberto antes da sondagem
+     * @param halfOpenCalls chamadas de sondagem no estado meio-aberto
+     */
+    public record Config(int windowSize,
+                         int minimumCalls,
+                         int failureRateThreshold,
+                         Duration slowCallThreshold,
+                         int slowCallRateThreshold,
+                         Duration openDuration,
+                         int halfOpenCalls) {
+
+        public Config {
+            if (windowSize < 1 || minimumCalls < 1 || halfOpenCalls < 1) {
+                throw new IllegalArgumentException("Janela, mínimo de chamadas e sondagens devem ser maiores que zero");
+            }
+        }
+    }
+
+    private final String name;
+    private final Config config;
+    private final MeterRegistry meterRegistry;
+    private final String metricPrefix;
+    private final LongSupplier clock;
+    private final Counter rejectedCounter;
+
+    private final boolean[] failures;
+    private final boolean[] slowCalls;
+    private int recorded;
+    private int next;
+    private int failureCount;
+    private int slowCount;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSucceeded;
+
+    public CircuitBreaker(String metricPrefix, Config config, MeterRegistry meterRegistry) {
+        this(metricPrefix, config, meterRegistry, System::nanoTime);
+    }
+
+    CircuitBreaker(String metricPrefix, Config config, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.name = metricPrefix;
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+        this.metricPrefix = metricPrefix + ".circuit";
+        this.clock = clock;
+        this.failures = new boolean[config.windowSize()];
+        this.slowCalls = new boolean[config.windowSize()];
+
+        Gauge.builder(this.metricPrefix + ".state", this, breaker -> breaker.getState().ordinal())
+                .description("Estado do circuito (0 fechado, 1 aberto, 2 meio-aberto)")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder(this.metricPrefix + ".rejected")
+                .description("Chamadas recusadas com o circuito aberto")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return verdadeiro se a chamada pode ser feita; falso se o circuito estiver aberto ou
+     *         sem vagas de sondagem
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN && clock.getAsLong() - openedAt >= config.openDuration().toNanos()) {
+            transitionTo(State.HALF_OPEN);
+        }
+
+        boolean permitted = switch (state) {
+            case CLOSED -> true;
+            case OPEN -> false;
+            case HALF_OPEN -> {
+                if (halfOpenPermits > 0) {
+                    halfOpenPermits--;
+                    yield true;
+                }
+                yield false;
+            }
+        };
+
+        if (!permitted) {
+            rejectedCounter.increment();
+        }
+        return permitted;
+    }
+
+    public synchronized void onSuccess(long durationNanos) {
+        record(false, durationNanos);
+    }
+
+    public synchronized void onError(long durationNanos) {
+        record(true, durationNanos);
+    }
+
+    /**
+     * Devolve uma permissão cuja chamada não chegou a ser feita, sem registrar resultado.
+     */
+    public synchronized void releasePermission() {
+        if (state == State.HALF_OPEN && halfOpenPermits + halfOpenSucceeded < config.halfOpenCalls()) {
+            halfOpenPermits++;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void record(boolean failed, long durationNanos) {
+        boolean slow = durationNanos >= config.slowCallThreshold().toNanos();
+
+        switch (state) {
+            case CLOSED -> {
+                addToWindow(failed, slow);
+                if (recorded >= config.minimumCalls() && thresholdExceeded()) {
+                    log.warn("Circuito {} aberto: {}% de falhas e {}% de chamadas lentas nas últimas {} chamadas",
+                             name, failureCount * 100 / recorded, slowCount * 100 / recorded, recorded);
+                    transitionTo(State.OPEN);
+                }
+            }
+            case HALF_OPEN -> {
+                if (failed || slow) {
+                    log.warn("Sondagem do circuito {} falhou; circuito aberto novamente", name);
+                    transitionTo(State.OPEN);
+                } else if (++halfOpenSucceeded >= config.halfOpenCalls()) {
+                    log.info("Circuito {} fechado após {} sondagens bem-sucedidas", name, halfOpenSucceeded);
+                    transitionTo(State.CLOSED);
+                }
+            }
+            case OPEN -> {
+                // resultado de chamada iniciada antes da abertura; não altera o estado
+            }
+        }
+    }
+
+    private boolean thresholdExceeded() {
+        return failureCount * 100 >= config.failureRateThreshold() * recorded
+                || slowCount * 100 >= config.slowCallRateThreshold() * recorded;
+    }
+
+    private void addToWindow(boolean failed, boolean slow) {
+        if (recorded == failures.length) {
+            failureCount -= failures[next] ? 1 : 0;
+            slowCount -= slowCalls[next] ? 1 : 0;
+        } else {
+            recorded++;
+        }
+        failures[next] = failed;
+        slowCalls[next] = slow;
+        failureCount += failed ? 1 : 0;
+        slowCount += slow ? 1 : 0;
+        next = (next + 1) % failures.length;
+    }
+
+    private void transitionTo(State target) {
+        Counter.builder(metricPrefix + ".transitions")
+                .description("Transições de estado do circuito")
+                .tag("from", state.name())
+                .tag("to", target.name())
+                .register(meterRegistry)
+                .increment();
+
+        state = target;
+        switch (target) {
+            case OPEN -> openedAt = clock.getAsLong();
+            case HALF_OPEN -> {
+                halfOpenPermits = config.halfOpenCalls();
+                halfOpenSucceeded = 0;
+            }
+            case CLOSED -> {
+                recorded = 0;
+                next = 0;
+                failureCount = 0;
+                slowCount = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.acme.policyapi.infrastructure.external;
+
+/**
+ * Instante em que uma chamada à API de fraudes foi de fato enviada.
+ *
+ * <p>Entre o pedido e o envio a chamada pode esperar na fila do
+ * {@link AsyncConcurrencyLimiter}, na janela do {@link FraudAnalysisBatcher} ou no atraso
+ * da segunda tentativa do {@link FraudAnalysisHedger}. Esse tempo não é lentidão da API, e
+ * o {@link FraudAnalysisResilience} mede a duração da chamada a partir deste instante.</p>
+ *
+ * @author Sistema ACME
+ */
+public class DispatchClock {
+
+    private volatile long dispatchedAt;
+    private volatile boolean dispatched;
+
+    /**
+     * Registra o envio agora. Um novo envio (por exemplo, a chamada individual que substitui
+     * um lote recusado) substitui o anterior.
+     */
+    public void markDispatched() {
+        markDispatched(System.nanoTime());
+    }
+
+    /**
+     * Copia o envio de outra chamada, como a tentativa que respondeu primeiro.
+     */
+    public void copyFrom(DispatchClock other) {
+        if (other.dispatched) {
+            markDispatched(other.dispatchedAt);
+        }
+    }
+
+    /**
+     * @return nanossegundos desde o envio, ou zero se a chamada não chegou a ser enviada
+     */
+    public long elapsedNanos() {
+        return dispatched ? System.nanoTime() - dispatchedAt : 0;
+    }
+
+    public boolean isDispatched() {
+        return dispatched;
+    }
+
+    private void markDispatched(long nanoTime) {
+        dispatchedAt = nanoTime;
+        dispatched = true;
+    }
+}
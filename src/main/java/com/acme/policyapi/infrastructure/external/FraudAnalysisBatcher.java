@@ -0,0 +1,283 @@
+package com.acme.policyapi.infrastructure.external;
+
+import com.acme.policyapi.application.dto.FraudAnalysisResponseDTO;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Agrupa as análises de fraude pedidas em um intervalo curto em uma única chamada à API.
+ *
+ * <p>Cada pedido entra em um lote aberto. O lote é enviado quando completa
+ * {@code fraud-analysis.batch.max-size} pedidos ou quando passa
+ * {@code fraud-analysis.batch.window} desde o primeiro pedido, o que ocorrer antes. O envio
+ * usa {@code POST /analyze/batch} e o futuro de cada chamador é concluído com a análise da
+ * sua ordem; pedidos repetidos da mesma ordem no lote compartilham a resposta.</p>
+ *
+ * <p>O endpoint de lote só é usado com {@code fraud-analysis.batch.endpoint-enabled=true}
+ * (padrão {@code false}); sem ele, os pedidos do lote seguem como chamadas individuais em
+ * paralelo, ainda sujeitas ao {@link AsyncConcurrencyLimiter}. Qualquer resposta 4xx ou
+ * 501 ao lote indica que o provedor não o aceita: o lote recusado e os seguintes passam a
+ * usar chamadas individuais.</p>
+ *
+ * <p>Cancelar o futuro de um pedido (a tentativa perdedora do {@link FraudAnalysisHedger},
+ * por exemplo) o retira do lote ainda aberto; depois do envio, a chamada é cancelada quando
+ * todos os pedidos atendidos por ela tiverem sido cancelados.</p>
+ *
+ * <p>Métrica: histograma {@code fraud.analysis.batch.size} (tags
+ * {@code trigger=size|window|shutdown} e {@code mode=batch|single}).</p>
+ *
+ * @author Sistema ACME
+ */
+@Component
+@ConditionalOnExpression("'${fraud-analysis.client.mode:blocking}' == 'async' and ${fraud-analysis.batch.enabled:false}")
+@Slf4j
+public class FraudAnalysisBatcher {
+
+    private final FraudAnalysisHttpClient client;
+    private final MeterRegistry meterRegistry;
+    private final Duration window;
+    private final int maxSize;
+    private final ScheduledExecutorService scheduler;
+
+    private final Object lock = new Object();
+    private List<Pending> open = new ArrayList<>();
+    private ScheduledFuture<?> windowFlush;
+    private volatile boolean batchEndpointAvailable;
+
+    public FraudAnalysisBatcher(FraudAnalysisHttpClient client,
+                                MeterRegistry meterRegistry,
+                                @Value("${fraud-analysis.batch.window:10ms}") Duration window,
+                                @Value("${fraud-analysis.batch.max-size:50}") int maxSize,
+                                @Value("${fraud-analysis.batch.endpoint-enabled:false}") boolean endpointEnabled) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("O tamanho máximo do lote deve ser maior que zero");
+        }
+        this.client = client;
+        this.meterRegistry = meterRegistry;
+        this.window = window;
+        this.maxSize = maxSize;
+        this.batchEndpointAvailable = endpointEnabled;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "fraud-analysis-batcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Inclui a análise no lote aberto.
+     *
+     * @param orderId ID da solicitação
+     * @param customerId ID do cliente
+     * @return análise da ordem, concluída quando o lote for respondido
+     */
+    public CompletableFuture<FraudAnalysisResponseDTO> analyze(UUID orderId, UUID customerId) {
+        return analyze(orderId, customerId, new DispatchClock());
+    }
+
+    /**
+     * Inclui a análise no lote aberto.
+     *
+     * @param orderId ID da solicitação
+     * @param customerId ID do cliente
+     * @param clock recebe o envio da chamada que atende a ordem, lote ou individual
+     * @return análise da ordem, concluída quando o lote for respondido
+     */
+    public CompletableFuture<FraudAnalysisResponseDTO> analyze(UUID orderId, UUID customerId, DispatchClock clock) {
+        Pending pending = new Pending(orderId, customerId, clock, new CompletableFuture<>());
+        List<Pending> full = null;
+
+        synchronized (lock) {
+            open.add(pending);
+            if (open.size() >= maxSize) {
+                full = takeOpen();
+            } else if (open.size() == 1) {
+                windowFlush = scheduler.schedule(this::flushWindow, window.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+
+        if (full != null) {
+            dispatch(full, "size");
+        }
+        return pending.result();
+    }
+
+    public boolean isBatchEndpointAvailable() {
+        return batchEndpointAvailable;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        List<Pending> remaining;
+        synchronized (lock) {
+            remaining = takeOpen();
+        }
+        if (!remaining.isEmpty()) {
+            dispatch(remaining, "shutdown");
+        }
+        scheduler.shutdown();
+    }
+
+    private void flushWindow() {
+        List<Pending> batch;
+        synchronized (lock) {
+            batch = takeOpen();
+        }
+        if (!batch.isEmpty()) {
+            dispatch(batch, "window");
+        }
+    }
+
+    private List<Pending> takeOpen() {
+        List<Pending> batch = open;
+        open = new ArrayList<>();
+        if (windowFlush != null) {
+            windowFlush.cancel(false);
+            windowFlush = null;
+        }
+        return batch;
+    }
+
+    private void dispatch(List<Pending> taken, String trigger) {
+        List<Pending> batch = withoutCancelled(taken);
+        if (batch.isEmpty()) {
+            return;
+        }
+        boolean asBatch = batch.size() > 1 && batchEndpointAvailable;
+        DistributionSummary.builder("fraud.analysis.batch.size")
+                .description("Pedidos de análise de fraude por lote enviado")
+                .tag("trigger", trigger)
+                .tag("mode", asBatch ? "batch" : "single")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(batch.size());
+
+        if (asBatch) {
+            sendBatch(batch);
+        } else {
+            sendSingles(batch);
+        }
+    }
+
+    private void sendBatch(List<Pending> batch) {
+        Map<UUID, FraudAnalysisHttpClient.AnalysisRequest> requests = new LinkedHashMap<>();
+        for (Pending pending : batch) {
+            requests.putIfAbsent(pending.orderId(), new FraudAnalysisHttpClient.AnalysisRequest(pending.orderId(), pending.customerId()));
+        }
+
+        CompletableFuture<List<FraudAnalysisResponseDTO>> call =
+                client.analyzeBatch(new ArrayList<>(requests.values()), () -> markDispatched(batch));
+        cancelWhenAllCancelled(batch, call);
+        call.whenComplete((responses, failure) -> {
+            if (failure == null) {
+                complete(batch, responses);
+                return;
+            }
+
+            Throwable cause = unwrap(failure);
+            if (cause instanceof RestClientResponseException e && isUnsupported(e.getStatusCode())) {
+                batchEndpointAvailable = false;
+                log.warn("API de fraudes sem endpoint de lote ({}); usando chamadas individuais", e.getStatusCode().value());
+                sendSingles(withoutCancelled(batch));
+                return;
+            }
+
+            batch.forEach(pending -> pending.result().completeExceptionally(cause));
+        });
+    }
+
+    private void complete(List<Pending> batch, List<FraudAnalysisResponseDTO> responses) {
+        Map<UUID, FraudAnalysisResponseDTO> byOrder = new HashMap<>();
+        for (FraudAnalysisResponseDTO response : responses) {
+            byOrder.put(response.getOrderId(), response);
+        }
+
+        for (Pending pending : batch) {
+            FraudAnalysisResponseDTO response = byOrder.get(pending.orderId());
+            if (response != null) {
+                pending.result().complete(response);
+            } else {
+                pending.result().completeExceptionally(new IllegalStateException(
+                        "Lote da API de fraudes sem resposta para a ordem " + pending.orderId()));
+            }
+        }
+    }
+
+    private void sendSingles(List<Pending> batch) {
+        Map<UUID, List<Pending>> byOrder = new LinkedHashMap<>();
+        for (Pending pending : batch) {
+            byOrder.computeIfAbsent(pending.orderId(), orderId -> new ArrayList<>()).add(pending);
+        }
+
+        byOrder.forEach((orderId, pendings) -> {
+            CompletableFuture<FraudAnalysisResponseDTO> call =
+                    client.analyze(orderId, pendings.get(0).customerId(), () -> markDispatched(pendings));
+            cancelWhenAllCancelled(pendings, call);
+            call.whenComplete((response, failure) -> pendings.forEach(pending -> {
+                if (failure != null) {
+                    pending.result().completeExceptionally(unwrap(failure));
+                } else {
+                    pending.result().complete(response);
+                }
+            }));
+        });
+    }
+
+    /**
+     * Cancela a chamada, encerrando a troca HTTP, quando todos os pedidos que ela atende
+     * forem cancelados.
+     */
+    private static void cancelWhenAllCancelled(List<Pending> pendings, CompletableFuture<?> call) {
+        AtomicInteger remaining = new AtomicInteger(pendings.size());
+        for (Pending pending : pendings) {
+            pending.result().whenComplete((response, failure) -> {
+                if (pending.result().isCancelled() && remaining.decrementAndGet() == 0) {
+                    call.cancel(true);
+                }
+            });
+        }
+    }
+
+    private static boolean isUnsupported(HttpStatusCode status) {
+        return status.is4xxClientError() || status.value() == HttpStatus.NOT_IMPLEMENTED.value();
+    }
+
+    private static List<Pending> withoutCancelled(List<Pending> batch) {
+        return batch.stream().filter(pending -> !pending.result().isCancelled()).toList();
+    }
+
+    private static void markDispatched(List<Pending> pendings) {
+        pendings.forEach(pending -> pending.clock().markDispatched());
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+
+    private record Pending(UUID orderId, UUID customerId, DispatchClock clock,
+                           CompletableFuture<FraudAnalysisResponseDTO> result) {
+    }
+}
@@ -0,0 +1,260 @@
+package com.acme.policyapi.infrastructure.external;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Requisições "hedged" à API de análise de fraudes, para cortar a cauda de latência.
+ *
+ * <p>Se a primeira tentativa não responder dentro do percentil
+ * {@code fraud-analysis.hedging.percentile} das latências recentes, uma segunda tentativa
+ * idêntica é disparada. Vale a primeira resposta bem-sucedida; a outra tentativa é
+ * cancelada, o que encerra a troca HTTP (ou retira o pedido do lote do
+ * {@link FraudAnalysisBatcher}). A chamada só falha quando todas as tentativas disparadas
+ * falharem.</p>
+ *
+ * <ul>
+ *   <li>O atraso é recalculado a partir das últimas {@code window-size} chamadas e nunca
+ *       é menor que {@code min-delay}; com menos de {@code min-samples} amostras não há
+ *       segunda tentativa. A amostra de cada chamada é o tempo desde o disparo da primeira
+ *       tentativa até a resposta vencedora: quando a segunda vence, a latência da primeira
+ *       fica censurada nesse valor, que é um limite inferior dela. Registrar só as
+ *       tentativas concluídas descartaria justamente as primeiras tentativas lentas e
+ *       puxaria o percentil para baixo.</li>
+ *   <li>Orçamento: cada chamada acumula {@code budget-percent}% de uma tentativa extra, até
+ *       o máximo de {@code max-burst}; sem saldo a segunda tentativa não é feita. A carga
+ *       adicional fica limitada ao percentual configurado.</li>
+ * </ul>
+ *
+ * <p>Aplica-se às chamadas não bloqueantes. Métricas: {@code fraud.analysis.hedge.sent},
+ * {@code .won}, {@code .skipped} (sem orçamento) e os gauges {@code .delay} (ms) e
+ * {@code .budget}.</p>
+ *
+ * @author Sistema ACME
+ */
+@Component
+public class FraudAnalysisHedger {
+
+    private static final long TOKEN = 1_000;
+
+    private final boolean enabled;
+    private final double percentile;
+    private final long minDelayNanos;
+    private final int minSamples;
+    private final long depositPerCall;
+    private final long maxTokens;
+    private final ScheduledExecutorService scheduler;
+
+    private final long[] samples;
+    private int sampleCount;
+    private int nextSample;
+    private volatile long hedgeDelayNanos = -1;
+    private final AtomicLong tokens = new AtomicLong();
+
+    private final Counter sentCounter;
+    private final Counter wonCounter;
+    private final Counter skippedCounter;
+
+    public FraudAnalysisHedger(MeterRegistry meterRegistry,
+                               @Value("${fraud-analysis.hedging.enabled:false}") boolean enabled,
+                               @Value("${fraud-analysis.hedging.percentile:0.95}") double percentile,
+                               @Value("${fraud-analysis.hedging.min-delay:20ms}") Duration minDelay,
+                               @Value("${fraud-analysis.hedging.window-size:1000}") int windowSize,
+                               @Value("${fraud-analysis.hedging.min-samples:100}") int minSamples,
+                               @Value("${fraud-analysis.hedging.budget-percent:5}") double budgetPercent,
+                               @Value("${fraud-analysis.hedging.max-burst:10}") int maxBurst) {
+        if (percentile <= 0 || percentile >= 1) {
+            throw new IllegalArgumentException("O percentil deve estar entre 0 e 1");
+        }
+        if (windowSize < 1 || minSamples > windowSize) {
+            throw new IllegalArgumentException("A janela deve comportar o mínimo de amostras");
+        }
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.minDelayNanos = minDelay.toNanos();
+        this.minSamples = Math.max(1, minSamples);
+        this.depositPerCall = Math.round(budgetPercent / 100 * TOKEN);
+        this.maxTokens = maxBurst * TOKEN;
+        this.samples = new long[windowSize];
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "fraud-analysis-hedger");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.sentCounter = Counter.builder("fraud.analysis.hedge.sent")
+                .description("Segundas tentativas disparadas")
+                .register(meterRegistry);
+        this.wonCounter = Counter.builder("fraud.analysis.hedge.won")
+                .description("Segundas tentativas que responderam primeiro")
+                .register(meterRegistry);
+        this.skippedCounter = Counter.builder("fraud.analysis.hedge.skipped")
+                .description("Segundas tentativas não disparadas por falta de orçamento")
+                .register(meterRegistry);
+        Gauge.builder("fraud.analysis.hedge.delay", this, hedger -> Math.max(0, hedger.hedgeDelayNanos) / 1_000_000.0)
+                .description("Atraso atual antes da segunda tentativa (ms)")
+                .register(meterRegistry);
+        Gauge.builder("fraud.analysis.hedge.budget", tokens, t -> t.get() / (double) TOKEN)
+                .description("Segundas tentativas disponíveis no orçamento")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Executa a chamada, disparando uma segunda tentativa se a primeira demorar.
+     *
+     * @param call dispara uma tentativa; pode ser chamado duas vezes
+     * @return primeira resposta bem-sucedida, ou a falha da última tentativa
+     */
+    public <T> CompletableFuture<T> execute(Supplier<CompletableFuture<T>> call) {
+        return execute(new DispatchClock(), attemptClock -> call.get());
+    }
+
+    /**
+     * Executa a chamada, disparando uma segunda tentativa se a primeira demorar.
+     *
+     * <p>Cada tentativa recebe o seu {@link DispatchClock}; ao final, {@code clock} fica com
+     * o envio da tentativa que respondeu primeiro, ou da última a falhar.</p>
+     *
+     * @param clock recebe o envio da tentativa que concluiu a chamada
+     * @param call dispara uma tentativa e registra o envio no relógio recebido
+     * @return primeira resposta bem-sucedida, ou a falha da última tentativa
+     */
+    public <T> CompletableFuture<T> execute(DispatchClock clock, Function<DispatchClock, CompletableFuture<T>> call) {
+        if (!enabled) {
+            return call.apply(clock);
+        }
+
+        deposit();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicInteger outstanding = new AtomicInteger(1);
+        Queue<CompletableFuture<T>> attempts = new ConcurrentLinkedQueue<>();
+        AtomicBoolean settled = new AtomicBoolean();
+        long start = System.nanoTime();
+        CompletableFuture<T> primary = attempt(call, clock, start, result, outstanding, attempts, settled, false);
+        result.whenComplete((value, failure) -> {
+            if (result.isCancelled()) {
+                attempts.forEach(attempt -> attempt.cancel(true));
+            }
+        });
+
+        long delay = hedgeDelayNanos;
+        if (delay < 0 || result.isDone()) {
+            return result;
+        }
+
+        ScheduledFuture<?> hedgeTimer = scheduler.schedule(() -> {
+            if (result.isDone()) {
+                return;
+            }
+            if (!withdraw()) {
+                skippedCounter.increment();
+                return;
+            }
+            sentCounter.increment();
+            outstanding.incrementAndGet();
+            CompletableFuture<T> hedge = attempt(call, clock, start, result, outstanding, attempts, settled, true);
+            result.whenComplete((value, failure) -> {
+                primary.cancel(true);
+                hedge.cancel(true);
+            });
+        }, delay, TimeUnit.NANOSECONDS);
+
+        result.whenComplete((value, failure) -> hedgeTimer.cancel(false));
+        return result;
+    }
+
+    public long getHedgeDelayNanos() {
+        return hedgeDelayNanos;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private <T> CompletableFuture<T> attempt(Function<DispatchClock, CompletableFuture<T>> call, DispatchClock clock,
+                                             long start, CompletableFuture<T> result, AtomicInteger outstanding,
+                                             Queue<CompletableFuture<T>> attempts, AtomicBoolean settled, boolean isHedge) {
+        DispatchClock attemptClock = new DispatchClock();
+        CompletableFuture<T> future;
+        try {
+            future = call.apply(attemptClock);
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        attempts.add(future);
+
+        CompletableFuture<T> current = future;
+        future.whenComplete((value, failure) -> {
+            if (failure == null) {
+                if (!settled.compareAndSet(false, true)) {
+                    return;
+                }
+                record(System.nanoTime() - start);
+                // Registra a amostra, cancela a perdedora e conta a vitória antes de concluir o
+                // resultado, para que quem o aguarda já encontre tudo atualizado
+                attempts.stream().filter(other -> other != current).forEach(other -> other.cancel(true));
+                if (isHedge) {
+                    wonCounter.increment();
+                }
+                clock.copyFrom(attemptClock);
+                result.complete(value);
+            } else if (outstanding.decrementAndGet() == 0) {
+                clock.copyFrom(attemptClock);
+                result.completeExceptionally(failure);
+            }
+        });
+        return future;
+    }
+
+    private synchronized void record(long latencyNanos) {
+        samples[nextSample] = latencyNanos;
+        nextSample = (nextSample + 1) % samples.length;
+        if (sampleCount < samples.length) {
+            sampleCount++;
+        }
+
+        int recomputeEvery = Math.max(1, samples.length / 10);
+        if (sampleCount >= minSamples && (sampleCount == minSamples || nextSample % recomputeEvery == 0)) {
+            long[] window = Arrays.copyOf(samples, sampleCount);
+            Arrays.sort(window);
+            long value = window[(int) Math.min(window.length - 1, Math.ceil(percentile * window.length) - 1)];
+            hedgeDelayNanos = Math.max(minDelayNanos, value);
+        }
+    }
+
+    private void deposit() {
+        tokens.accumulateAndGet(depositPerCall, (current, amount) -> Math.min(maxTokens, current + amount));
+    }
+
+    private boolean withdraw() {
+        while (true) {
+            long current = tokens.get();
+            if (current < TOKEN) {
+                return false;
+            }
+            if (tokens.compareAndSet(current, current - TOKEN)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.acme.policyapi.infrastructure.external;
+
+import com.acme.policyapi.application.dto.FraudAnalysisResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Cliente HTTP não bloqueante da API de análise de fraudes.
+ *
+ * <p>Usa um único {@link HttpClient} do JDK, que mantém as conexões abertas e as
+ * reutiliza entre chamadas. Nenhuma thread fica parada aguardando a resposta: a chamada
+ * devolve um {@link CompletableFuture} concluído por uma virtual thread do cliente.</p>
+ *
+ * <ul>
+ *   <li>Cada chamada tem um prazo ({@code fraud-analysis.client.deadline}) contado a
+ *       partir do disparo; ao estourar, a troca HTTP é cancelada e o futuro falha com
+ *       {@link TimeoutException}. Cancelar o futuro devolvido também encerra a troca.</li>
+ *   <li>No máximo {@code fraud-analysis.client.max-concurrency} chamadas ficam em andamento;
+ *       as demais aguardam em uma fila limitada ({@link AsyncConcurrencyLimiter}).</li>
+ *   <li>Respostas fora da faixa 2xx falham com {@link RestClientResponseException}, como
+ *       no {@code RestTemplate}.</li>
+ * </ul>
+ *
+ * <p>Métricas: {@code fraud.analysis.client.*} do limitador e o timer
+ * {@code fraud.analysis.client.latency} (tags {@code endpoint=analyze|analyze-batch} e
+ * {@code outcome=success|error|timeout|cancelled}).</p>
+ *
+ * @author Sistema ACME
+ */
+@Component
+@ConditionalOnProperty(name = "fraud-analysis.client.mode", havingValue = "async")
+@Slf4j
+public class FraudAnalysisHttpClient {
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final AsyncConcurrencyLimiter limiter;
+    private final String baseUrl;
+    private final Duration deadline;
+
+    public FraudAnalysisHttpClient(ObjectMapper objectMapper,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${fraud-analysis.api.url:http://localhost:9999/fraud-analysis}") String baseUrl,
+                                   @Value("${fraud-analysis.client.connect-timeout:2s}") Duration connectTimeout,
+                                   @Value("${fraud-analysis.client.deadline:3s}") Duration deadline,
+                                   @Value("${fraud-analysis.client.max-concurrency:32}") int maxConcurrency,
+                                   @Value("${fraud-analysis.client.max-queued:1000}") int maxQueued) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(connectTimeout)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.limiter = new AsyncConcurrencyLimiter("fraud.analysis.client", maxConcurrency, maxQueued, meterRegistry);
+        this.baseUrl = baseUrl;
+        this.deadline = deadline;
+    }
+
+    /**
+     * Solicita a análise de fraudes sem bloquear a thread chamadora.
+     *
+     * @param orderId ID da solicitação
+     * @param customerId ID do cliente
+     * @return análise retornada pela API; falha com {@link TimeoutException},
+     *         {@link RestClientResponseException}, erro de E/S ou rejeição do limitador
+     */
+    public CompletableFuture<FraudAnalysisResponseDTO> analyze(UUID orderId, UUID customerId) {
+        return analyze(orderId, customerId, () -> { });
+    }
+
+    /**
+     * Solicita a análise de fraudes sem bloquear a thread chamadora.
+     *
+     * @param orderId ID da solicitação
+     * @param customerId ID do cliente
+     * @param onDispatch executado quando a requisição sai, depois da fila do limitador
+     * @return análise retornada pela API; falha como {@link #analyze(UUID, UUID)}
+     */
+    public CompletableFuture<FraudAnalysisResponseDTO> analyze(UUID orderId, UUID customerId, Runnable onDispatch) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(
+                        String.format("%s/analyze?orderId=%s&customerId=%s", baseUrl, orderId, customerId)))
+                .timeout(deadline)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+
+        return limiter.submit(() -> send(request, "analyze", orderId.toString(), FraudAnalysisResponseDTO.class, onDispatch));
+    }
+
+    /**
+     * Solicita a análise de várias solicitações em uma única chamada a
+     * {@code POST /analyze/batch}, ocupando uma única vaga do limitador.
+     *
+     * @param requests pares ordem/cliente a analisar
+     * @return análises retornadas pela API, em qualquer ordem; falha como {@link #analyze(UUID, UUID)}
+     */
+    public CompletableFuture<List<FraudAnalysisResponseDTO>> analyzeBatch(List<AnalysisRequest> requests) {
+        return analyzeBatch(requests, () -> { });
+    }
+
+    /**
+     * Solicita a análise de várias solicitações em uma única chamada a
+     * {@code POST /analyze/batch}, ocupando uma única vaga do limitador.
+     *
+     * @param requests pares ordem/cliente a analisar
+     * @param onDispatch executado quando a requisição sai, depois da fila do limitador
+     * @return análises retornadas pela API, em qualquer ordem; falha como {@link #analyze(UUID, UUID)}
+     */
+    public CompletableFuture<List<FraudAnalysisResponseDTO>> analyzeBatch(List<AnalysisRequest> requests, Runnable onDispatch) {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(requests);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(new UncheckedIOException("Falha ao serializar o lote de análises", e));
+        }
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/analyze/batch"))
+                .timeout(deadline)
+                .header("Accept", "application/json")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+
+        CompletableFuture<AnalysisResponses> call =
+                limiter.submit(() -> send(request, "analyze-batch", requests.size() + " ordens", AnalysisResponses.class, onDispatch));
+        CompletableFuture<List<FraudAnalysisResponseDTO>> result = call.thenApply(responses -> responses);
+        result.whenComplete((responses, failure) -> {
+            if (result.isCancelled()) {
+                call.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    public AsyncConcurrencyLimiter getLimiter() {
+        return limiter;
+    }
+
+    /**
+     * Par ordem/cliente de uma análise em lote.
+     */
+    public record AnalysisRequest(UUID orderId, UUID customerId) {
+    }
+
+    private static class AnalysisResponses extends ArrayList<FraudAnalysisResponseDTO> {
+    }
+
+    private <T> CompletableFuture<T> send(HttpRequest request, String endpoint, String subject, Class<T> type,
+                                          Runnable onDispatch) {
+        onDispatch.run();
+        long start = System.nanoTime();
+        CompletableFuture<HttpResponse<byte[]>> exchange =
+                httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+
+        CompletableFuture<T> result = exchange
+                .thenApply(response -> parse(response, type))
+                .orTimeout(deadline.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((response, failure) -> {
+                    String outcome = outcome(failure);
+                    if ("timeout".equals(outcome)) {
+                        log.warn("Prazo de {} ms esgotado na análise de fraudes de {}", deadline.toMillis(), subject);
+                    }
+                    if (failure != null) {
+                        exchange.cancel(true);
+                    }
+                    Timer.builder("fraud.analysis.client.latency")
+                            .description("Duração das chamadas à API de análise de fraudes")
+                            .tag("endpoint", endpoint)
+                            .tag("outcome", outcome)
+                            .register(meterRegistry)
+                            .record(Duration.ofNanos(System.nanoTime() - start));
+                });
+
+        result.whenComplete((response, failure) -> {
+            if (result.isCancelled()) {
+                exchange.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private <T> T parse(HttpResponse<byte[]> response, Class<T> type) {
+        if (response.statusCode() < 200 || response.statusCode() >= 300) {
+            throw new RestClientResponseException("Resposta " + response.statusCode() + " da API de fraudes",
+                    HttpStatusCode.valueOf(response.statusCode()), "", null, response.body(), StandardCharsets.UTF_8);
+        }
+
+        try {
+            return objectMapper.readValue(response.body(), type);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Resposta inválida da API de fraudes", e);
+        }
+    }
+
+    private static String outcome(Throwable failure) {
+        if (failure == null) {
+            return "success";
+        }
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+        if (cause instanceof CancellationException) {
+            return "cancelled";
+        }
+        return cause instanceof TimeoutException || cause instanceof HttpTimeoutException ? "timeout" : "error";
+    }
+}
@@ -0,0 +1,160 @@
+package com.acme.policyapi.infrastructure.external;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Proteções das chamadas à API de análise de fraudes: disjuntor e limite de concorrência.
+ *
+ * <p>Com o circuito aberto a chamada não é feita e o fallback é devolvido de imediato, em
+ * vez de cada solicitação esperar o timeout completo durante uma indisponibilidade. As
+ * chamadas bloqueantes passam ainda por um {@link Bulkhead}; no cliente não bloqueante
+ * esse papel é do {@link AsyncConcurrencyLimiter}, cujas recusas não contam como falha
+ * da API.</p>
+ *
+ * <p>Desligado ({@code fraud-analysis.resilience.enabled=false}), apenas converte falhas
+ * no fallback, como antes.</p>
+ *
+ * @author Sistema ACME
+ */
+@Component
+public class FraudAnalysisResilience {
+
+    static final String METRIC_PREFIX = "fraud.analysis";
+
+    private final boolean enabled;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+
+    public FraudAnalysisResilience(MeterRegistry meterRegistry,
+                                   @Value("${fraud-analysis.resilience.enabled:false}") boolean enabled,
+                                   @Value("${fraud-analysis.resilience.circuit.window-size:50}") int windowSize,
+                                   @Value("${fraud-analysis.resilience.circuit.minimum-calls:20}") int minimumCalls,
+                                   @Value("${fraud-analysis.resilience.circuit.failure-rate-threshold:50}") int failureRateThreshold,
+                                   @Value("${fraud-analysis.resilience.circuit.slow-call-threshold:2s}") Duration slowCallThreshold,
+                                   @Value("${fraud-analysis.resilience.circuit.slow-call-rate-threshold:80}") int slowCallRateThreshold,
+                                   @Value("${fraud-analysis.resilience.circuit.open-duration:30s}") Duration openDuration,
+                                   @Value("${fraud-analysis.resilience.circuit.half-open-calls:5}") int halfOpenCalls,
+                                   @Value("${fraud-analysis.resilience.bulkhead.max-concurrent:20}") int maxConcurrent,
+                                   @Value("${fraud-analysis.resilience.bulkhead.max-wait:100ms}") Duration maxWait) {
+        this.enabled = enabled;
+        this.circuitBreaker = new CircuitBreaker(METRIC_PREFIX, new CircuitBreaker.Config(windowSize, minimumCalls,
+                failureRateThreshold, slowCallThreshold, slowCallRateThreshold, openDuration, halfOpenCalls), meterRegistry);
+        this.bulkhead = new Bulkhead(METRIC_PREFIX, maxConcurrent, maxWait, meterRegistry);
+    }
+
+    /**
+     * Executa uma chamada bloqueante.
+     *
+     * @param call chamada à API; falhas são lançadas como exceção
+     * @param fallback resposta para a falha ou recusa da chamada
+     */
+    public <T> T call(Supplier<T> call, Function<Throwable, T> fallback) {
+        if (!enabled) {
+            try {
+                return call.get();
+            } catch (RuntimeException e) {
+                return fallback.apply(e);
+            }
+        }
+
+        if (!circuitBreaker.tryAcquirePermission()) {
+            return fallback.apply(circuitOpen());
+        }
+        if (!bulkhead.tryAcquire()) {
+            circuitBreaker.releasePermission();
+            return fallback.apply(new RejectedExecutionException("Limite de chamadas simultâneas à API de fraudes atingido"));
+        }
+
+        long start = System.nanoTime();
+        try {
+            T result = call.get();
+            circuitBreaker.onSuccess(System.nanoTime() - start);
+            return result;
+        } catch (RuntimeException e) {
+            circuitBreaker.onError(System.nanoTime() - start);
+            return fallback.apply(e);
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    /**
+     * Executa uma chamada não bloqueante enviada de imediato.
+     *
+     * @param call dispara a chamada à API
+     * @param fallback resposta para a falha ou recusa da chamada
+     * @return nunca falha: conclui com a resposta ou com o fallback
+     */
+    public <T> CompletableFuture<T> callAsync(Supplier<CompletableFuture<T>> call, Function<Throwable, T> fallback) {
+        return callAsync(clock -> {
+            clock.markDispatched();
+            return call.get();
+        }, fallback);
+    }
+
+    /**
+     * Executa uma chamada não bloqueante que pode esperar antes de ser enviada.
+     *
+     * <p>A duração avaliada pelo disjuntor conta a partir do envio registrado no
+     * {@link DispatchClock}, sem o tempo em filas, janelas de lote ou no atraso da segunda
+     * tentativa; uma chamada que falhou antes do envio tem duração zero.</p>
+     *
+     * @param call dispara a chamada à API e registra o envio no relógio recebido
+     * @param fallback resposta para a falha ou recusa da chamada
+     * @return nunca falha: conclui com a resposta ou com o fallback
+     */
+    public <T> CompletableFuture<T> callAsync(Function<DispatchClock, CompletableFuture<T>> call,
+                                              Function<Throwable, T> fallback) {
+        if (enabled && !circuitBreaker.tryAcquirePermission()) {
+            return CompletableFuture.completedFuture(fallback.apply(circuitOpen()));
+        }
+
+        DispatchClock clock = new DispatchClock();
+        CompletableFuture<T> future;
+        try {
+            future = call.apply(clock);
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        return future.handle((result, failure) -> {
+            long duration = clock.elapsedNanos();
+            if (failure == null) {
+                if (enabled) {
+                    circuitBreaker.onSuccess(duration);
+                }
+                return result;
+            }
+
+            Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                    ? failure.getCause() : failure;
+            if (enabled && cause instanceof RejectedExecutionException) {
+                circuitBreaker.releasePermission();
+            } else if (enabled) {
+                circuitBreaker.onError(duration);
+            }
+            return fallback.apply(cause);
+        });
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public Bulkhead getBulkhead() {
+        return bulkhead;
+    }
+
+    private static RejectedExecutionException circuitOpen() {
+        return new RejectedExecutionException("Circuito da API de fraudes aberto");
+    }
+}
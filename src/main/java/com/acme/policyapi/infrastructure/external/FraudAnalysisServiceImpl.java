@@ -8,6 +8,7 @@ import com.acme.policyapi.domain.entity.PolicyRequest;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
@@ -16,10 +17,22 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Implementação do serviço de análise de fraudes que integra com API externa (mock).
  * 
+ * <p>Com {@code fraud-analysis.client.mode=async} as chamadas à API usam o
+ * {@link FraudAnalysisHttpClient}, não bloqueante; no modo padrão ({@code blocking})
+ * usam o {@link RestTemplate}. Em ambos os modos as chamadas passam pelo
+ * {@link FraudAnalysisResilience}, que recusa chamadas com o circuito aberto e devolve
+ * a classificação de fallback sem esperar o timeout.</p>
+ * 
+ * <p>No modo {@code async}, com {@code fraud-analysis.batch.enabled}, chamadas próximas no
+ * tempo são agrupadas em uma só pelo {@link FraudAnalysisBatcher}, e chamadas lentas podem
+ * ganhar uma segunda tentativa pelo {@link FraudAnalysisHedger}.</p>
+ * 
  * @author Sistema ACME
  */
 @Service
@@ -29,6 +42,10 @@ public class FraudAnalysisServiceImpl implements FraudAnalysisService {
 
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final ObjectProvider<FraudAnalysisHttpClient> asyncClient;
+    private final ObjectProvider<FraudAnalysisBatcher> batcher;
+    private final FraudAnalysisResilience resilience;
+    private final FraudAnalysisHedger hedger;
     private final Random random = new Random();
 
     @Value("${fraud-analysis.api.url:http://localhost:9999/fraud-analysis}")
@@ -50,22 +67,54 @@ public class FraudAnalysisServiceImpl implements FraudAnalysisService {
             return createMockResponse(orderId, customerId);
         }
         
-        try {
-            String url = String.format("%s/analyze?orderId=%s&customerId=%s", 
-                                     fraudAnalysisApiUrl, orderId, customerId);
-            
-            FraudAnalysisResponseDTO response = restTemplate.getForObject(url, FraudAnalysisResponseDTO.class);
-            
-            log.info("Análise de fraudes concluída: {} - Classificação: {}", 
-                     orderId, response.getClassification());
-            
-            return response;
-            
-        } catch (Exception e) {
+        if (asyncClient.getIfAvailable() != null) {
+            return analyzeFraudNonBlocking(orderId, customerId).join();
+        }
+        
+        return resilience.call(() -> fetch(orderId, customerId), e -> fallback(orderId, customerId, e));
+    }
+
+    @Override
+    public CompletableFuture<FraudAnalysisResponseDTO> analyzeFraudAsync(PolicyRequest policyRequest) {
+        if (mockEnabled || asyncClient.getIfAvailable() == null) {
+            return CompletableFuture.completedFuture(analyzeFraud(policyRequest));
+        }
+        
+        log.info("Iniciando análise de fraudes para ordem {} e cliente {}", 
+                 policyRequest.getId(), policyRequest.getCustomerId());
+        return analyzeFraudNonBlocking(policyRequest.getId(), policyRequest.getCustomerId());
+    }
+
+    private FraudAnalysisResponseDTO fetch(UUID orderId, UUID customerId) {
+        String url = String.format("%s/analyze?orderId=%s&customerId=%s", 
+                                 fraudAnalysisApiUrl, orderId, customerId);
+        
+        FraudAnalysisResponseDTO response = restTemplate.getForObject(url, FraudAnalysisResponseDTO.class);
+        
+        log.info("Análise de fraudes concluída: {} - Classificação: {}", 
+                 orderId, response.getClassification());
+        
+        return response;
+    }
+
+    private CompletableFuture<FraudAnalysisResponseDTO> analyzeFraudNonBlocking(UUID orderId, UUID customerId) {
+        FraudAnalysisBatcher batching = batcher.getIfAvailable();
+        return resilience.callAsync(clock -> hedger.execute(clock, attempt -> batching != null
+                        ? batching.analyze(orderId, customerId, attempt)
+                        : asyncClient.getObject().analyze(orderId, customerId, attempt::markDispatched))
+                .thenApply(response -> {
+                    log.info("Análise de fraudes concluída: {} - Classificação: {}", 
+                             orderId, response.getClassification());
+                    return response;
+                }), e -> fallback(orderId, customerId, e));
+    }
+
+    private FraudAnalysisResponseDTO fallback(UUID orderId, UUID customerId, Throwable e) {
+        if (!(e instanceof RejectedExecutionException)) {
             log.error("Erro ao consultar API de fraudes: {}", e.getMessage(), e);
-            // Fallback para classificação padrão em caso de erro
-            return createFallbackResponse(orderId, customerId, e.getMessage());
         }
+        // Fallback para classificação padrão em caso de erro ou de chamada recusada
+        return createFallbackResponse(orderId, customerId, e.getMessage());
     }
 
     /**
@@ -110,6 +159,7 @@ public class FraudAnalysisServiceImpl implements FraudAnalysisService {
         response.setAnalyzedAt(LocalDateTime.now());
         response.setClassification(CustomerRiskClassification.NO_INFORMATION); // Classificação mais restritiva por segurança
         response.setOccurrences(List.of());
+        response.setFallback(true);
         
         return response;
     }
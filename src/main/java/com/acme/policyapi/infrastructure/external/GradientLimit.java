@@ -0,0 +1,104 @@
+package com.acme.policyapi.infrastructure.external;
+
+/**
+ * Limite de concorrência ajustado pelo tempo de resposta observado (estilo gradiente).
+ *
+ * <p>Mantém duas estimativas de RTT: uma de longo prazo (média móvel exponencial de
+ * {@code longWindow} amostras), que representa o serviço sem fila, e a da amostra
+ * corrente. A razão entre elas é o gradiente: enquanto a amostra não passa de
+ * {@code tolerance} vezes o RTT de longo prazo o gradiente é 1 e o limite cresce em
+ * {@code √limite} por amostra; quando a fila do provedor aumenta o RTT, o gradiente cai
+ * (até 0,5) e o limite encolhe na mesma proporção.</p>
+ *
+ * <ul>
+ *   <li>O novo valor é suavizado por {@code smoothing} e mantido entre o mínimo e o máximo.</li>
+ *   <li>Amostras com estouro de prazo ou sobrecarga reduzem o limite em 10%
+ *       (diminuição multiplicativa).</li>
+ *   <li>Sem demanda (menos da metade do limite em uso) o limite não cresce.</li>
+ * </ul>
+ *
+ * @author Sistema ACME
+ */
+public class GradientLimit {
+
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double DROP_BACKOFF = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double tolerance;
+    private final double longAlpha;
+
+    private double estimatedLimit;
+    private double longRttNanos;
+    private double lastRttNanos;
+
+    public GradientLimit(int initialLimit, int minLimit, int maxLimit, double smoothing, double tolerance, int longWindow) {
+        if (minLimit < 1 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limites inválidos: inicial " + initialLimit
+                    + ", mínimo " + minLimit + ", máximo " + maxLimit);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.tolerance = tolerance;
+        this.longAlpha = 2.0 / (longWindow + 1);
+        this.estimatedLimit = initialLimit;
+    }
+
+    /**
+     * Registra o resultado de uma chamada e recalcula o limite.
+     *
+     * @param rttNanos duração da chamada
+     * @param inFlight chamadas em andamento quando ela foi disparada
+     * @param dropped se a chamada estourou o prazo ou foi recusada por sobrecarga
+     * @return novo limite
+     */
+    public synchronized int update(long rttNanos, int inFlight, boolean dropped) {
+        lastRttNanos = rttNanos;
+
+        if (dropped) {
+            estimatedLimit = clamp(estimatedLimit * DROP_BACKOFF);
+            return getLimit();
+        }
+
+        if (longRttNanos == 0) {
+            longRttNanos = rttNanos;
+        } else {
+            longRttNanos += (rttNanos - longRttNanos) * longAlpha;
+        }
+        // Após um período lento a média de longo prazo demora a cair; aproxima-a da amostra
+        if (longRttNanos > 2 * rttNanos) {
+            longRttNanos *= 0.95;
+        }
+
+        if (inFlight < estimatedLimit / 2) {
+            return getLimit();
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longRttNanos / Math.max(1, rttNanos)));
+        double target = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        estimatedLimit = clamp(estimatedLimit * (1 - smoothing) + target * smoothing);
+        return getLimit();
+    }
+
+    public synchronized int getLimit() {
+        return (int) estimatedLimit;
+    }
+
+    /**
+     * @return RTT de longo prazo estimado, em nanossegundos (0 antes da primeira amostra)
+     */
+    public synchronized double getLongRttNanos() {
+        return longRttNanos;
+    }
+
+    public synchronized double getLastRttNanos() {
+        return lastRttNanos;
+    }
+
+    private double clamp(double limit) {
+        return Math.max(minLimit, Math.min(maxLimit, limit));
+    }
+}
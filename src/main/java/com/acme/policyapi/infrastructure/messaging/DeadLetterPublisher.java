@@ -0,0 +1,42 @@
+package com.acme.policyapi.infrastructure.messaging;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Envia registros que não puderam ser aplicados para {@code <tópico>-dlt} nos modos de
+ * consumo {@code batch} e {@code parallel}, que não passam pelos tópicos de retentativa do
+ * {@link PolicyEventConsumer}.
+ *
+ * <p>O registro vai para o mesmo DLT do modo {@code record}, com a chave original e os
+ * cabeçalhos {@code kafka_dlt-*} (tópico, partição e offset originais, exceção e stack
+ * trace), e pode ser reenviado por {@link DeadLetterReplayer}. O envio aguarda a confirmação
+ * do broker e lança exceção se falhar, para que o registro não seja confirmado.</p>
+ *
+ * @author Sistema ACME
+ */
+@Component
+@Slf4j
+public class DeadLetterPublisher {
+
+    private final DeadLetterPublishingRecoverer recoverer;
+
+    public DeadLetterPublisher(KafkaTemplate<String, String> kafkaTemplate) {
+        this.recoverer = new DeadLetterPublishingRecoverer(kafkaTemplate,
+                (record, e) -> new TopicPartition(record.topic() + DeadLetterReplayer.DLT_SUFFIX, -1));
+    }
+
+    /**
+     * @param record registro que falhou
+     * @param cause motivo da falha
+     */
+    public void publish(ConsumerRecord<?, ?> record, Exception cause) {
+        recoverer.accept(record, cause);
+        log.warn("Registro enviado para {}{} (partição {}, offset {}, key={}): {}", record.topic(),
+                 DeadLetterReplayer.DLT_SUFFIX, record.partition(), record.offset(), record.key(), cause.getMessage());
+    }
+}
@@ -0,0 +1,291 @@
+package com.acme.policyapi.infrastructure.messaging;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reenvia registros dos tópicos de dead letter ({@code <tópico>-dlt}) ao tópico original.
+ * 
+ * <p>A leitura usa um consumer group próprio com todas as partições do DLT atribuídas
+ * manualmente, sem rebalanceamento. Cada chamada continua de onde a anterior parou: os
+ * envios são disparados sem espera individual e, depois de confirmados, o offset de cada
+ * partição é gravado até o primeiro registro que falhou. Os registros acima dele que já
+ * foram reenviados ficam nos metadados do mesmo commit e são ignorados na próxima
+ * chamada, que relê apenas os que falharam.</p>
+ * 
+ * <p>Os cabeçalhos de falha ({@code kafka_dlt-*}) e de retentativa ({@code retry_topic-*})
+ * são removidos, de modo que o registro reenviado recomeça o ciclo de retentativas.</p>
+ * 
+ * @author Sistema ACME
+ */
+@Component
+@Slf4j
+public class DeadLetterReplayer {
+
+    public static final String DLT_SUFFIX = "-dlt";
+
+    private static final String DLT_HEADER_PREFIX = "kafka_dlt-";
+    private static final String RETRY_HEADER_PREFIX = "retry_topic-";
+    /** Abaixo do {@code offset.metadata.max.bytes} padrão do broker (4096). */
+    static final int MAX_METADATA_LENGTH = 4000;
+    private static final NavigableSet<Long> EMPTY_OFFSETS = Collections.emptyNavigableSet();
+
+    private final ConsumerFactory<String, String> consumerFactory;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final Set<String> replayableTopics;
+
+    @Value("${kafka.consumer.dead-letter.replay.group-id:policy-request-service-dlt-replay}")
+    private String groupId = "policy-request-service-dlt-replay";
+
+    @Value("${kafka.consumer.dead-letter.replay.poll-timeout-ms:1000}")
+    private long pollTimeoutMs = 1000;
+
+    @Value("${kafka.consumer.dead-letter.replay.send-timeout-ms:30000}")
+    private long sendTimeoutMs = 30000;
+
+    public DeadLetterReplayer(ConsumerFactory<String, String> consumerFactory,
+                              KafkaTemplate<String, String> kafkaTemplate,
+                              @Value("${kafka.topics.payments:payments.events}") String paymentsTopic,
+                              @Value("${kafka.topics.underwriting:underwriting.events}") String underwritingTopic) {
+        this.consumerFactory = consumerFactory;
+        this.kafkaTemplate = kafkaTemplate;
+        this.replayableTopics = Set.of(paymentsTopic, underwritingTopic);
+    }
+
+    /**
+     * @return tópicos cujos DLTs podem ser reenviados
+     */
+    public Set<String> getReplayableTopics() {
+        return replayableTopics;
+    }
+
+    /**
+     * Reenvia até {@code maxRecords} registros do DLT de um tópico.
+     * 
+     * @param topic tópico original (ex.: {@code payments.events})
+     * @param maxRecords quantidade máxima de registros reenviados
+     * @return quantidades lidas, reenviadas e com falha
+     * @throws IllegalArgumentException se o tópico não tiver DLT
+     */
+    public ReplayResult replay(String topic, int maxRecords) {
+        if (!replayableTopics.contains(topic)) {
+            throw new IllegalArgumentException("Tópico sem dead letter: " + topic);
+        }
+        
+        String dltTopic = topic + DLT_SUFFIX;
+        Properties overrides = new Properties();
+        overrides.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(Math.min(maxRecords, 500)));
+        overrides.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        overrides.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        
+        try (Consumer<String, String> consumer = consumerFactory.createConsumer(groupId, null, "-replay", overrides)) {
+            List<PartitionInfo> partitions = consumer.partitionsFor(dltTopic);
+            if (partitions == null || partitions.isEmpty()) {
+                return ReplayResult.builder().topic(topic).build();
+            }
+            List<TopicPartition> assigned = partitions.stream().map(p -> new TopicPartition(dltTopic, p.partition())).toList();
+            consumer.assign(assigned);
+            Map<TopicPartition, NavigableSet<Long>> alreadyReplayed = alreadyReplayed(consumer, assigned);
+            
+            List<ConsumerRecord<String, String>> records = new ArrayList<>();
+            Map<TopicPartition, Long> lastSeen = new HashMap<>();
+            int skipped = 0;
+            poll:
+            while (records.size() < maxRecords) {
+                ConsumerRecords<String, String> polled = consumer.poll(Duration.ofMillis(pollTimeoutMs));
+                if (polled.isEmpty()) {
+                    break;
+                }
+                for (ConsumerRecord<String, String> record : polled) {
+                    TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+                    if (alreadyReplayed.getOrDefault(partition, EMPTY_OFFSETS).contains(record.offset())) {
+                        skipped++;
+                    } else if (records.size() == maxRecords) {
+                        break poll;
+                    } else {
+                        records.add(record);
+                    }
+                    lastSeen.put(partition, record.offset());
+                }
+            }
+            
+            List<CompletableFuture<SendResult<String, String>>> futures = new ArrayList<>(records.size());
+            for (ConsumerRecord<String, String> record : records) {
+                futures.add(kafkaTemplate.send(toReplay(topic, record)));
+            }
+            
+            Map<TopicPartition, NavigableSet<Long>> sent = new HashMap<>();
+            Map<TopicPartition, Long> firstFailed = new HashMap<>();
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+            int replayed = 0;
+            
+            for (int i = 0; i < records.size(); i++) {
+                ConsumerRecord<String, String> record = records.get(i);
+                TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+                try {
+                    futures.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                    replayed++;
+                    sent.computeIfAbsent(partition, p -> new TreeSet<>()).add(record.offset());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    // Os registros ainda sem confirmação são lidos de novo na próxima chamada
+                    for (int j = i; j < records.size(); j++) {
+                        ConsumerRecord<String, String> pending = records.get(j);
+                        firstFailed.merge(new TopicPartition(pending.topic(), pending.partition()), pending.offset(), Math::min);
+                    }
+                    break;
+                } catch (Exception e) {
+                    log.warn("Falha ao reenviar registro {}-{}@{}: {}", 
+                             record.topic(), record.partition(), record.offset(), e.getMessage());
+                    firstFailed.merge(partition, record.offset(), Math::min);
+                }
+            }
+            
+            Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+            lastSeen.forEach((partition, last) -> {
+                long next = firstFailed.getOrDefault(partition, last + 1);
+                NavigableSet<Long> done = new TreeSet<>(alreadyReplayed.getOrDefault(partition, EMPTY_OFFSETS));
+                done.addAll(sent.getOrDefault(partition, EMPTY_OFFSETS));
+                offsets.put(partition, new OffsetAndMetadata(next, encodeOffsets(partition, done.tailSet(next, true))));
+            });
+            
+            if (!offsets.isEmpty()) {
+                consumer.commitSync(offsets);
+            }
+            
+            if (skipped > 0) {
+                log.info("{} registros do DLT {} já reenviados em chamada anterior foram ignorados", skipped, dltTopic);
+            }
+            log.info("Reenvio do DLT {} concluído: {} lidos, {} reenviados", dltTopic, records.size(), replayed);
+            
+            return ReplayResult.builder()
+                    .topic(topic)
+                    .read(records.size())
+                    .replayed(replayed)
+                    .failed(records.size() - replayed)
+                    .build();
+        }
+    }
+
+    /**
+     * Offsets já reenviados acima do offset confirmado de cada partição, gravados nos
+     * metadados do commit por uma chamada anterior.
+     */
+    private static Map<TopicPartition, NavigableSet<Long>> alreadyReplayed(Consumer<String, String> consumer,
+                                                                           List<TopicPartition> partitions) {
+        Map<TopicPartition, NavigableSet<Long>> replayed = new HashMap<>();
+        Map<TopicPartition, OffsetAndMetadata> committed = consumer.committed(new HashSet<>(partitions));
+        if (committed != null) {
+            committed.forEach((partition, offset) -> {
+                if (offset != null && offset.metadata() != null && !offset.metadata().isEmpty()) {
+                    replayed.put(partition, decodeOffsets(offset.metadata()));
+                }
+            });
+        }
+        return replayed;
+    }
+
+    /**
+     * Codifica os offsets como intervalos ({@code 12-14,17}). Se o texto exceder o limite de
+     * metadados do broker, os intervalos finais são descartados: esses registros serão
+     * reenviados de novo.
+     */
+    static String encodeOffsets(TopicPartition partition, NavigableSet<Long> offsets) {
+        List<String> ranges = new ArrayList<>();
+        Long rangeStart = null;
+        long previous = 0;
+        for (long offset : offsets) {
+            if (rangeStart != null && offset == previous + 1) {
+                previous = offset;
+                continue;
+            }
+            if (rangeStart != null) {
+                ranges.add(rangeStart == previous ? String.valueOf(previous) : rangeStart + "-" + previous);
+            }
+            rangeStart = offset;
+            previous = offset;
+        }
+        if (rangeStart != null) {
+            ranges.add(rangeStart == previous ? String.valueOf(previous) : rangeStart + "-" + previous);
+        }
+        
+        StringBuilder text = new StringBuilder();
+        for (String range : ranges) {
+            if (text.length() + range.length() + 1 > MAX_METADATA_LENGTH) {
+                log.warn("Offsets reenviados de {} excedem o limite de metadados; a partir de {} serão reenviados de novo",
+                         partition, range);
+                break;
+            }
+            if (!text.isEmpty()) {
+                text.append(',');
+            }
+            text.append(range);
+        }
+        return text.toString();
+    }
+
+    static NavigableSet<Long> decodeOffsets(String metadata) {
+        NavigableSet<Long> offsets = new TreeSet<>();
+        for (String range : metadata.split(",")) {
+            int dash = range.indexOf('-');
+            long start = Long.parseLong(range.substring(0, dash < 0 ? range.length() : dash));
+            long end = dash < 0 ? start : Long.parseLong(range.substring(dash + 1));
+            for (long offset = start; offset <= end; offset++) {
+                offsets.add(offset);
+            }
+        }
+        return offsets;
+    }
+
+    private ProducerRecord<String, String> toReplay(String topic, ConsumerRecord<String, String> record) {
+        ProducerRecord<String, String> producerRecord = new ProducerRecord<>(topic, record.key(), record.value());
+        
+        for (Header header : record.headers()) {
+            if (!header.key().startsWith(DLT_HEADER_PREFIX) && !header.key().startsWith(RETRY_HEADER_PREFIX)) {
+                producerRecord.headers().add(header);
+            }
+        }
+        return producerRecord;
+    }
+
+    /**
+     * Resultado de um reenvio.
+     */
+    @Getter
+    @Builder
+    public static class ReplayResult {
+        private final String topic;
+        private final int read;
+        private final int replayed;
+        private final int failed;
+    }
+}
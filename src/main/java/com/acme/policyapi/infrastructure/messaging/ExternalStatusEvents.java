@@ -0,0 +1,77 @@
+package com.acme.policyapi.infrastructure.messaging;
+
+import com.acme.policyapi.application.dto.PolicyStatusUpdateDTO;
+import com.acme.policyapi.application.service.PolicyRequestService;
+import com.acme.policyapi.application.usecase.ApprovePolicyRequestUseCase;
+import com.acme.policyapi.domain.entity.ConfirmationType;
+import com.acme.policyapi.domain.entity.PolicyRequestStatus;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Conversão dos eventos de pagamento e subscrição em alterações de status, compartilhada
+ * pelos modos de consumo em lote e paralelo.
+ * 
+ * @author Sistema ACME
+ */
+@Slf4j
+final class ExternalStatusEvents {
+
+    private ExternalStatusEvents() {
+    }
+
+    /**
+     * @return a alteração correspondente, ou vazio quando o evento não altera a solicitação
+     */
+    static Optional<PolicyStatusUpdateDTO> fromPayment(PolicyEventConsumer.PaymentEvent event) {
+        return switch (String.valueOf(event.getEventType())) {
+            case "PAYMENT_CONFIRMED" -> Optional.of(confirmation(event.getPolicyRequestId(), ConfirmationType.PAYMENT));
+            case "PAYMENT_REJECTED" -> Optional.of(new PolicyStatusUpdateDTO(event.getPolicyRequestId(),
+                    PolicyRequestStatus.REJECTED, "Pagamento rejeitado: " + event.getReason()));
+            default -> {
+                log.warn("Tipo de evento de pagamento desconhecido: {}", event.getEventType());
+                yield Optional.empty();
+            }
+        };
+    }
+
+    /**
+     * @return a alteração correspondente, ou vazio quando o evento não altera a solicitação
+     */
+    static Optional<PolicyStatusUpdateDTO> fromUnderwriting(PolicyEventConsumer.UnderwritingEvent event) {
+        return switch (String.valueOf(event.getEventType())) {
+            case "UNDERWRITING_APPROVED" -> Optional.of(confirmation(event.getPolicyRequestId(), ConfirmationType.UNDERWRITING));
+            case "UNDERWRITING_REJECTED" -> Optional.of(new PolicyStatusUpdateDTO(event.getPolicyRequestId(),
+                    PolicyRequestStatus.REJECTED, "Subscrição rejeitada: " + event.getReason()));
+            default -> {
+                log.warn("Tipo de evento de subscrição desconhecido: {}", event.getEventType());
+                yield Optional.empty();
+            }
+        };
+    }
+
+    /**
+     * Confirmação que aprova a solicitação somente quando completar o par pagamento e subscrição.
+     */
+    private static PolicyStatusUpdateDTO confirmation(UUID policyRequestId, ConfirmationType type) {
+        return new PolicyStatusUpdateDTO(policyRequestId, PolicyRequestStatus.APPROVED,
+                ApprovePolicyRequestUseCase.APPROVAL_REASON, type);
+    }
+
+    /**
+     * Aplica uma única alteração pelos casos de uso individuais, em sua própria transação.
+     * 
+     * @param inTransaction executado na mesma transação, como o registro do evento processado
+     */
+    static void apply(PolicyRequestService policyRequestService, PolicyStatusUpdateDTO update, Runnable inTransaction) {
+        if (update.getConfirmation() != null) {
+            policyRequestService.registerConfirmation(update.getPolicyRequestId(), update.getConfirmation(), inTransaction);
+        } else if (update.getStatus() == PolicyRequestStatus.APPROVED) {
+            policyRequestService.approveRequest(update.getPolicyRequestId(), inTransaction);
+        } else {
+            policyRequestService.rejectRequest(update.getPolicyRequestId(), update.getReason(), inTransaction);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.acme.policyapi.infrastructure.messaging;
+
+import com.acme.policyapi.infrastructure.persistence.jpa.OutboxEventJpaEntity;
+import com.acme.policyapi.infrastructure.persistence.jpa.OutboxEventJpaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Relay que drena a tabela de outbox e envia os eventos ao Kafka.
+ * 
+ * <p>Cada ciclo reserva um lote com {@code FOR UPDATE SKIP LOCKED}, dispara todos os
+ * envios sem esperar um a um (o produtor agrupa as mensagens) e só então aguarda as
+ * confirmações. Eventos confirmados são removidos na mesma transação; os que falharem
+ * permanecem na tabela e são reenviados no próximo ciclo. Várias instâncias podem
+ * executar o relay ao mesmo tempo, cada uma com uma fatia disjunta da outbox.</p>
+ *
+ * <p>A ordem por chave é preservada entre instâncias: cada lote traz no máximo o evento
+ * mais antigo de cada chave ({@link OutboxEventJpaRepository#claimBatch(int)}), e o
+ * seguinte só pode ser reservado depois que o anterior for confirmado e removido. Após
+ * uma falha, os eventos seguintes da chave aguardam o reenvio do que falhou.</p>
+ * 
+ * @author Sistema ACME
+ */
+@Component
+@ConditionalOnProperty(name = "kafka.outbox.enabled", havingValue = "true")
+@Slf4j
+public class OutboxEventRelay {
+
+    private final OutboxEventJpaRepository outboxRepository;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final Timer batchTimer;
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    @Value("${kafka.outbox.relay.batch-size:500}")
+    private int batchSize = 500;
+
+    @Value("${kafka.outbox.relay.send-timeout-ms:10000}")
+    private long sendTimeoutMs = 10000;
+
+    public OutboxEventRelay(OutboxEventJpaRepository outboxRepository,
+                            KafkaTemplate<String, String> kafkaTemplate,
+                            TransactionTemplate transactionTemplate,
+                            MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.publishedCounter = Counter.builder("policy.outbox.events.published")
+                .description("Eventos da outbox confirmados pelo Kafka")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("policy.outbox.events.failed")
+                .description("Envios de eventos da outbox que falharam e serão repetidos")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("policy.outbox.relay.batch")
+                .description("Duração de cada lote enviado pelo relay")
+                .register(meterRegistry);
+        Gauge.builder("policy.outbox.lag", lagMillis, AtomicLong::get)
+                .description("Idade do evento pendente mais antigo da outbox")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Drena a outbox enquanto os lotes confirmarem eventos e atualiza a métrica de atraso.
+     * Um lote parcial não indica que a outbox esvaziou: os eventos seguintes de uma chave
+     * só ficam disponíveis depois que o anterior é removido.
+     */
+    @Scheduled(fixedDelayString = "${kafka.outbox.relay.interval-ms:500}")
+    public void relay() {
+        int published;
+        do {
+            published = batchTimer.record(() -> transactionTemplate.execute(status -> relayBatch()));
+        } while (published > 0);
+
+        updateLag();
+    }
+
+    /**
+     * Reserva e envia um lote de eventos. Deve ser executado dentro de uma transação.
+     * 
+     * @return quantidade de eventos confirmados e removidos da outbox
+     */
+    int relayBatch() {
+        List<OutboxEventJpaEntity> batch = outboxRepository.claimBatch(batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<CompletableFuture<SendResult<String, String>>> futures = new ArrayList<>(batch.size());
+        for (OutboxEventJpaEntity entry : batch) {
+            futures.add(send(entry));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        List<Long> publishedIds = new ArrayList<>(batch.size());
+
+        for (int i = 0; i < batch.size(); i++) {
+            OutboxEventJpaEntity entry = batch.get(i);
+            try {
+                futures.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                publishedIds.add(entry.getId());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.warn("Falha ao enviar evento {} da outbox ({} / {}): {}",
+                         entry.getId(), entry.getEventType(), entry.getAggregateId(), e.getMessage());
+                failedCounter.increment();
+            }
+        }
+
+        if (!publishedIds.isEmpty()) {
+            outboxRepository.deleteAllByIdInBatch(publishedIds);
+            publishedCounter.increment(publishedIds.size());
+        }
+
+        log.debug("Relay da outbox: {} de {} eventos enviados", publishedIds.size(), batch.size());
+        return publishedIds.size();
+    }
+
+    private CompletableFuture<SendResult<String, String>> send(OutboxEventJpaEntity entry) {
+        try {
+            return kafkaTemplate.send(entry.getTopic(), entry.getEventKey(), entry.getPayload());
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void updateLag() {
+        LocalDateTime oldest = outboxRepository.findOldestCreatedAt();
+        lagMillis.set(oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis()));
+    }
+
+    long getLagMillis() {
+        return lagMillis.get();
+    }
+}
@@ -0,0 +1,141 @@
+package com.acme.policyapi.infrastructure.messaging;
+
+import com.acme.policyapi.infrastructure.cache.PolicyRequestResponseCache;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Consome {@code policy-requests.events} para remover do cache local as solicitações
+ * alteradas por qualquer instância.
+ * 
+ * <p>Cada instância usa um consumer group próprio (prefixo + UUID gerado na subida), de modo
+ * que todas recebem todos os eventos. O consumo começa do fim do tópico e nenhum offset é
+ * confirmado: o cache está vazio na subida e o grupo é descartado quando a instância para.</p>
+ * 
+ * <p>Defasagem máxima: uma entrada nunca é servida após o TTL do cache. Com o consumidor em
+ * dia, uma alteração feita em outra instância deixa de ser servida após o atraso de
+ * invalidação (tempo entre o evento e seu consumo aqui). Se esse atraso passar de
+ * {@code policy-request.cache.invalidation.max-lag}, ou enquanto não houver partições
+ * atribuídas, o cache é suspenso e as consultas vão ao banco até o consumidor alcançar
+ * o tópico.</p>
+ * 
+ * @author Sistema ACME
+ */
+@Component
+@ConditionalOnExpression("${policy-request.cache.enabled:true} and ${policy-request.cache.invalidation.enabled:true}")
+@Slf4j
+public class PolicyCacheInvalidationConsumer implements ConsumerSeekAware {
+
+    private final PolicyRequestResponseCache policyRequestCache;
+    private final ObjectMapper objectMapper;
+    private final Duration maxLag;
+    private final Clock clock;
+    private final Timer lagTimer;
+    private final Counter failedCounter;
+
+    public PolicyCacheInvalidationConsumer(PolicyRequestResponseCache policyRequestCache,
+                                           ObjectMapper objectMapper,
+                                           MeterRegistry meterRegistry,
+                                           @Value("${policy-request.cache.invalidation.max-lag:5s}") Duration maxLag) {
+        this(policyRequestCache, objectMapper, meterRegistry, maxLag, Clock.systemDefaultZone());
+    }
+
+    PolicyCacheInvalidationConsumer(PolicyRequestResponseCache policyRequestCache,
+                                    ObjectMapper objectMapper,
+                                    MeterRegistry meterRegistry,
+                                    Duration maxLag,
+                                    Clock clock) {
+        this.policyRequestCache = policyRequestCache;
+        this.objectMapper = objectMapper;
+        this.maxLag = maxLag;
+        this.clock = clock;
+        this.lagTimer = Timer.builder("policy.cache.invalidation.lag")
+                .description("Tempo entre o evento de alteração e a invalidação do cache local")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("policy.cache.invalidation.failed")
+                .description("Eventos que não puderam ser lidos; o TTL limita a defasagem dessas entradas")
+                .register(meterRegistry);
+        Gauge.builder("policy.cache.invalidation.suspended", policyRequestCache, cache -> cache.isSuspended() ? 1 : 0)
+                .description("1 enquanto o cache estiver suspenso por atraso ou falta de partições")
+                .register(meterRegistry);
+        
+        // Sem partições atribuídas não há como garantir a invalidação
+        policyRequestCache.suspend();
+    }
+
+    @KafkaListener(topics = "${kafka.topics.policy-requests.events:policy-requests.events}",
+                   groupId = "${policy-request.cache.invalidation.group-id-prefix:policy-request-service-cache}-#{T(java.util.UUID).randomUUID()}",
+                   properties = {"auto.offset.reset=latest"})
+    public void handlePolicyEvent(ConsumerRecord<String, String> record) {
+        PolicyEvent event;
+        try {
+            event = objectMapper.readValue(record.value(), PolicyEvent.class);
+        } catch (JsonProcessingException e) {
+            failedCounter.increment();
+            log.warn("Evento de solicitação ilegível na partição {} offset {}: {}", 
+                     record.partition(), record.offset(), e.getOriginalMessage());
+            return;
+        }
+        
+        if (event.getPolicyRequestId() != null) {
+            policyRequestCache.evict(event.getPolicyRequestId());
+        }
+        
+        Duration lag = lagOf(event, record);
+        lagTimer.record(lag);
+        
+        if (lag.compareTo(maxLag) > 0) {
+            policyRequestCache.suspend();
+        } else {
+            policyRequestCache.resume();
+        }
+    }
+
+    /**
+     * Ao receber partições o consumo recomeça do fim do tópico; eventos anteriores podem
+     * ter sido perdidos, então o cache é esvaziado antes de voltar a ser servido.
+     */
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        if (assignments.isEmpty()) {
+            return;
+        }
+        log.info("Invalidação de cache com {} partições atribuídas", assignments.size());
+        policyRequestCache.evictAll();
+        policyRequestCache.resume();
+    }
+
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        if (!partitions.isEmpty()) {
+            policyRequestCache.suspend();
+        }
+    }
+
+    private Duration lagOf(PolicyEvent event, ConsumerRecord<String, String> record) {
+        long now = clock.millis();
+        long eventMillis = event.getTimestamp() != null
+                ? event.getTimestamp().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : record.timestamp();
+        return Duration.ofMillis(Math.max(0, now - eventMillis));
+    }
+}
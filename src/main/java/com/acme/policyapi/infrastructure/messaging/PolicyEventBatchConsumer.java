@@ -0,0 +1,173 @@
+package com.acme.policyapi.infrastructure.messaging;
+
+import com.acme.policyapi.application.dto.PolicyStatusUpdateDTO;
+import com.acme.policyapi.application.service.PolicyRequestService;
+import com.acme.policyapi.infrastructure.config.KafkaConsumerConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Consumidor em lote dos eventos de pagamento e de subscrição, ativado por
+ * {@code kafka.consumer.mode=batch} no lugar do {@link PolicyEventConsumer}.
+ * 
+ * <p>Cada chamada recebe os registros de um poll: todos são lidos, as alterações de status
+ * resultantes são aplicadas em uma única transação e os offsets são confirmados uma vez
+ * por lote. Se a transação do lote falhar, as alterações são reaplicadas uma a uma, para
+ * que um registro problemático não impeça os demais. Registros ilegíveis e alterações que
+ * falharem também individualmente seguem para {@code <tópico>-dlt} pelo
+ * {@link DeadLetterPublisher}, como no modo {@code record}. Registros já aplicados em uma
+ * entrega anterior são descartados por {@link ProcessedEventStore} antes da leitura; os
+ * aplicados são registrados nele na mesma transação das alterações.</p>
+ * 
+ * @author Sistema ACME
+ */
+@Service
+@ConditionalOnProperty(name = "kafka.consumer.mode", havingValue = "batch")
+@RequiredArgsConstructor
+@Slf4j
+public class PolicyEventBatchConsumer implements ConsumerSeekAware {
+
+    private final PolicyRequestService policyRequestService;
+    private final ObjectMapper objectMapper;
+    private final ProcessedEventStore processedEventStore;
+    private final DeadLetterPublisher deadLetterPublisher;
+
+    /**
+     * Processa um lote de eventos de pagamento.
+     * 
+     * @param records registros do poll
+     * @param acknowledgment confirmação do lote
+     */
+    @KafkaListener(topics = "${kafka.topics.payments:payments.events}", 
+                   groupId = "${kafka.consumer.group-id:policy-request-service}",
+                   containerFactory = KafkaConsumerConfig.BATCH_LISTENER_CONTAINER_FACTORY)
+    public void handlePaymentEvents(List<ConsumerRecord<String, String>> records, Acknowledgment acknowledgment) {
+        log.info("Recebendo lote de {} eventos de pagamento", records.size());
+        
+        Set<String> processed = processedEventStore.findProcessed(records);
+        List<PolicyStatusUpdateDTO> updates = new ArrayList<>();
+        List<ConsumerRecord<String, String>> applied = new ArrayList<>();
+        for (ConsumerRecord<String, String> record : records) {
+            if (processed.contains(ProcessedEventStore.keyOf(record))) {
+                continue;
+            }
+            try {
+                PolicyEventConsumer.PaymentEvent event = 
+                        objectMapper.readValue(record.value(), PolicyEventConsumer.PaymentEvent.class);
+                ExternalStatusEvents.fromPayment(event).ifPresent(update -> {
+                    updates.add(update);
+                    applied.add(record);
+                });
+            } catch (Exception e) {
+                logInvalidRecord("pagamento", record, e);
+                deadLetterPublisher.publish(record, e);
+            }
+        }
+        
+        logDuplicates("pagamento", processed);
+        apply(updates, applied);
+        acknowledgment.acknowledge();
+    }
+
+    /**
+     * Processa um lote de eventos de subscrição.
+     * 
+     * @param records registros do poll
+     * @param acknowledgment confirmação do lote
+     */
+    @KafkaListener(topics = "${kafka.topics.underwriting:underwriting.events}", 
+                   groupId = "${kafka.consumer.group-id:policy-request-service}",
+                   containerFactory = KafkaConsumerConfig.BATCH_LISTENER_CONTAINER_FACTORY)
+    public void handleUnderwritingEvents(List<ConsumerRecord<String, String>> records, Acknowledgment acknowledgment) {
+        log.info("Recebendo lote de {} eventos de subscrição", records.size());
+        
+        Set<String> processed = processedEventStore.findProcessed(records);
+        List<PolicyStatusUpdateDTO> updates = new ArrayList<>();
+        List<ConsumerRecord<String, String>> applied = new ArrayList<>();
+        for (ConsumerRecord<String, String> record : records) {
+            if (processed.contains(ProcessedEventStore.keyOf(record))) {
+                continue;
+            }
+            try {
+                PolicyEventConsumer.UnderwritingEvent event = 
+                        objectMapper.readValue(record.value(), PolicyEventConsumer.UnderwritingEvent.class);
+                ExternalStatusEvents.fromUnderwriting(event).ifPresent(update -> {
+                    updates.add(update);
+                    applied.add(record);
+                });
+            } catch (Exception e) {
+                logInvalidRecord("subscrição", record, e);
+                deadLetterPublisher.publish(record, e);
+            }
+        }
+        
+        logDuplicates("subscrição", processed);
+        apply(updates, applied);
+        acknowledgment.acknowledge();
+    }
+
+    /**
+     * @param updates alterações a aplicar
+     * @param records registro de origem de cada alteração, na mesma posição
+     */
+    private void apply(List<PolicyStatusUpdateDTO> updates, List<ConsumerRecord<String, String>> records) {
+        if (updates.isEmpty()) {
+            return;
+        }
+        
+        try {
+            policyRequestService.applyStatusUpdates(updates, () -> processedEventStore.markProcessed(records));
+        } catch (Exception e) {
+            log.error("Erro ao aplicar lote de {} alterações, reaplicando individualmente: {}", 
+                      updates.size(), e.getMessage(), e);
+            for (int i = 0; i < updates.size(); i++) {
+                applyIndividually(updates.get(i), records.get(i));
+            }
+        }
+    }
+
+    private void applyIndividually(PolicyStatusUpdateDTO update, ConsumerRecord<String, String> record) {
+        try {
+            ExternalStatusEvents.apply(policyRequestService, update, () -> processedEventStore.markProcessed(record));
+        } catch (Exception e) {
+            log.error("Erro ao aplicar alteração para solicitação {}: {}", update.getPolicyRequestId(), e.getMessage(), e);
+            deadLetterPublisher.publish(record, e);
+            processedEventStore.markProcessed(record);
+        }
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        processedEventStore.resetPartitions(assignments.keySet());
+    }
+
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        processedEventStore.resetPartitions(partitions);
+    }
+
+    private void logDuplicates(String source, Set<String> processed) {
+        if (!processed.isEmpty()) {
+            log.info("{} eventos de {} reentregues ignorados", processed.size(), source);
+        }
+    }
+
+    private void logInvalidRecord(String source, ConsumerRecord<String, String> record, Exception e) {
+        log.error("Evento de {} inválido (partição {}, offset {}, key={}): {}", 
+                  source, record.partition(), record.offset(), record.key(), e.getMessage());
+    }
+}
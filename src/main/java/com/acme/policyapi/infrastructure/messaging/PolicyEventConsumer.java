@@ -1,127 +1,253 @@
 package com.acme.policyapi.infrastructure.messaging;
 
 import com.acme.policyapi.application.service.PolicyRequestService;
+import com.acme.policyapi.domain.entity.ConfirmationType;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.kafka.retrytopic.DltStrategy;
+import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.kafka.support.KafkaHeaders;
-import org.springframework.messaging.handler.annotation.Header;
-import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Service;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
 import java.util.UUID;
 
 /**
  * Consumidor de eventos relacionados a pagamentos e autorizações de subscrição.
  * 
+ * <p>Processa um registro por vez ({@code kafka.consumer.mode=record}, padrão). Os modos
+ * {@code batch} e {@code parallel} usam {@link PolicyEventBatchConsumer} e
+ * {@link PolicyEventParallelConsumer}.</p>
+ * 
+ * <p>Falhas não bloqueiam a partição: o registro é confirmado e reenviado para tópicos de
+ * retentativa ({@code <tópico>-retry-N}) com atrasos exponenciais, consumidos por containers
+ * próprios. Esgotadas as tentativas, ou para payloads ilegíveis e transições inválidas, o
+ * registro segue para {@code <tópico>-dlt} com os cabeçalhos {@code kafka_dlt-*} (tópico,
+ * partição e offset originais, exceção e stack trace). Registros do DLT podem ser
+ * reenviados ao tópico original por {@link DeadLetterReplayer}.</p>
+ * 
+ * <p>Reentregas de registros já aplicados são descartadas por {@link ProcessedEventStore}
+ * antes de qualquer leitura da solicitação. O registro de um evento aplicado é gravado na
+ * mesma transação da alteração que ele produziu.</p>
+ * 
  * @author Sistema ACME
  */
 @Service
+@ConditionalOnProperty(name = "kafka.consumer.mode", havingValue = "record", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
-public class PolicyEventConsumer {
+public class PolicyEventConsumer implements ConsumerSeekAware {
 
     private final PolicyRequestService policyRequestService;
     private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final ProcessedEventStore processedEventStore;
 
     /**
      * Processa eventos de confirmação de pagamento.
      * 
-     * @param message mensagem do evento
-     * @param key chave da mensagem
+     * @param record registro recebido
      * @param acknowledgment confirmação de processamento
+     * @throws JsonProcessingException se o payload for ilegível (enviado direto ao DLT)
      */
+    @RetryableTopic(attempts = "${kafka.consumer.retry.attempts:4}",
+                    backoff = @Backoff(delayExpression = "${kafka.consumer.retry.initial-delay-ms:1000}",
+                                       multiplierExpression = "${kafka.consumer.retry.multiplier:5}",
+                                       maxDelayExpression = "${kafka.consumer.retry.max-delay-ms:60000}"),
+                    exclude = {JsonProcessingException.class, IllegalStateException.class},
+                    traversingCauses = "true",
+                    autoCreateTopics = "${kafka.consumer.retry.auto-create-topics:false}",
+                    dltTopicSuffix = DeadLetterReplayer.DLT_SUFFIX,
+                    topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE,
+                    dltStrategy = DltStrategy.FAIL_ON_ERROR)
     @KafkaListener(topics = "${kafka.topics.payments:payments.events}", 
                    groupId = "${kafka.consumer.group-id:policy-request-service}")
-    public void handlePaymentEvent(@Payload String message, 
-                                  @Header(KafkaHeaders.RECEIVED_KEY) String key,
-                                  Acknowledgment acknowledgment) {
+    public void handlePaymentEvent(ConsumerRecord<String, String> record,
+                                  Acknowledgment acknowledgment) throws JsonProcessingException {
+        
+        log.info("Recebendo evento de pagamento: key={}", record.key());
         
-        log.info("Recebendo evento de pagamento: key={}", key);
+        if (processedEventStore.isProcessed(record)) {
+            log.info("Evento de pagamento reentregue ignorado: {}", ProcessedEventStore.keyOf(record));
+            acknowledgment.acknowledge();
+            return;
+        }
         
         try {
-            PaymentEvent paymentEvent = objectMapper.readValue(message, PaymentEvent.class);
+            PaymentEvent paymentEvent = objectMapper.readValue(record.value(), PaymentEvent.class);
             
             log.info("Processando evento de pagamento: {} para solicitação {}", 
                      paymentEvent.getEventType(), paymentEvent.getPolicyRequestId());
             
             switch (paymentEvent.getEventType()) {
-                case "PAYMENT_CONFIRMED" -> handlePaymentConfirmed(paymentEvent);
-                case "PAYMENT_REJECTED" -> handlePaymentRejected(paymentEvent);
-                default -> log.warn("Tipo de evento de pagamento desconhecido: {}", paymentEvent.getEventType());
+                case "PAYMENT_CONFIRMED" -> handlePaymentConfirmed(paymentEvent, record);
+                case "PAYMENT_REJECTED" -> handlePaymentRejected(paymentEvent, record);
+                default -> {
+                    log.warn("Tipo de evento de pagamento desconhecido: {}", paymentEvent.getEventType());
+                    processedEventStore.markProcessed(record);
+                }
             }
             
             acknowledgment.acknowledge();
             
         } catch (JsonProcessingException e) {
-            log.error("Erro ao deserializar evento de pagamento: {}", e.getMessage(), e);
-        } catch (Exception e) {
-            log.error("Erro ao processar evento de pagamento: {}", e.getMessage(), e);
-            // Em um cenário real, implementaríamos retry ou DLQ (Dead Letter Queue)
+            log.error("Erro ao deserializar evento de pagamento: {}", e.getOriginalMessage());
+            throw e;
+        } catch (RuntimeException e) {
+            log.warn("Erro ao processar evento de pagamento, encaminhando para retentativa: {}", e.getMessage());
+            throw e;
         }
     }
 
     /**
      * Processa eventos de autorização de subscrição.
      * 
-     * @param message mensagem do evento
-     * @param key chave da mensagem
+     * @param record registro recebido
      * @param acknowledgment confirmação de processamento
+     * @throws JsonProcessingException se o payload for ilegível (enviado direto ao DLT)
      */
+    @RetryableTopic(attempts = "${kafka.consumer.retry.attempts:4}",
+                    backoff = @Backoff(delayExpression = "${kafka.consumer.retry.initial-delay-ms:1000}",
+                                       multiplierExpression = "${kafka.consumer.retry.multiplier:5}",
+                                       maxDelayExpression = "${kafka.consumer.retry.max-delay-ms:60000}"),
+                    exclude = {JsonProcessingException.class, IllegalStateException.class},
+                    traversingCauses = "true",
+                    autoCreateTopics = "${kafka.consumer.retry.auto-create-topics:false}",
+                    dltTopicSuffix = DeadLetterReplayer.DLT_SUFFIX,
+                    topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE,
+                    dltStrategy = DltStrategy.FAIL_ON_ERROR)
     @KafkaListener(topics = "${kafka.topics.underwriting:underwriting.events}", 
                    groupId = "${kafka.consumer.group-id:policy-request-service}")
-    public void handleUnderwritingEvent(@Payload String message,
-                                       @Header(KafkaHeaders.RECEIVED_KEY) String key,
-                                       Acknowledgment acknowledgment) {
+    public void handleUnderwritingEvent(ConsumerRecord<String, String> record,
+                                       Acknowledgment acknowledgment) throws JsonProcessingException {
         
-        log.info("Recebendo evento de subscrição: key={}", key);
+        log.info("Recebendo evento de subscrição: key={}", record.key());
+        
+        if (processedEventStore.isProcessed(record)) {
+            log.info("Evento de subscrição reentregue ignorado: {}", ProcessedEventStore.keyOf(record));
+            acknowledgment.acknowledge();
+            return;
+        }
         
         try {
-            UnderwritingEvent underwritingEvent = objectMapper.readValue(message, UnderwritingEvent.class);
+            UnderwritingEvent underwritingEvent = objectMapper.readValue(record.value(), UnderwritingEvent.class);
             
             log.info("Processando evento de subscrição: {} para solicitação {}", 
                      underwritingEvent.getEventType(), underwritingEvent.getPolicyRequestId());
             
             switch (underwritingEvent.getEventType()) {
-                case "UNDERWRITING_APPROVED" -> handleUnderwritingApproved(underwritingEvent);
-                case "UNDERWRITING_REJECTED" -> handleUnderwritingRejected(underwritingEvent);
-                default -> log.warn("Tipo de evento de subscrição desconhecido: {}", underwritingEvent.getEventType());
+                case "UNDERWRITING_APPROVED" -> handleUnderwritingApproved(underwritingEvent, record);
+                case "UNDERWRITING_REJECTED" -> handleUnderwritingRejected(underwritingEvent, record);
+                default -> {
+                    log.warn("Tipo de evento de subscrição desconhecido: {}", underwritingEvent.getEventType());
+                    processedEventStore.markProcessed(record);
+                }
             }
             
             acknowledgment.acknowledge();
             
         } catch (JsonProcessingException e) {
-            log.error("Erro ao deserializar evento de subscrição: {}", e.getMessage(), e);
-        } catch (Exception e) {
-            log.error("Erro ao processar evento de subscrição: {}", e.getMessage(), e);
+            log.error("Erro ao deserializar evento de subscrição: {}", e.getOriginalMessage());
+            throw e;
+        } catch (RuntimeException e) {
+            log.warn("Erro ao processar evento de subscrição, encaminhando para retentativa: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        processedEventStore.resetPartitions(assignments.keySet());
+    }
+
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        processedEventStore.resetPartitions(partitions);
+    }
+
+    /**
+     * Recebe os registros que esgotaram as retentativas, dos dois tópicos. O registro é
+     * apenas registrado em log e contabilizado; permanece no DLT para reenvio.
+     * 
+     * @param record registro do DLT, com os cabeçalhos de falha
+     * @param acknowledgment confirmação de processamento
+     */
+    @DltHandler
+    public void handleDeadLetter(ConsumerRecord<String, String> record, Acknowledgment acknowledgment) {
+        String originalTopic = headerValue(record, KafkaHeaders.DLT_ORIGINAL_TOPIC);
+        
+        log.error("Evento enviado ao DLT {} (origem {}-{}@{}, key={}): {} - {}", 
+                  record.topic(), originalTopic,
+                  headerValue(record, KafkaHeaders.DLT_ORIGINAL_PARTITION),
+                  headerValue(record, KafkaHeaders.DLT_ORIGINAL_OFFSET),
+                  record.key(),
+                  headerValue(record, KafkaHeaders.DLT_EXCEPTION_FQCN),
+                  headerValue(record, KafkaHeaders.DLT_EXCEPTION_MESSAGE));
+        
+        meterRegistry.counter("policy.consumer.dead-letters", 
+                              "topic", originalTopic != null ? originalTopic : record.topic()).increment();
+        acknowledgment.acknowledge();
+    }
+
+    /**
+     * Lê um cabeçalho textual. Partição e offset originais são gravados como inteiros binários.
+     */
+    static String headerValue(ConsumerRecord<?, ?> record, String name) {
+        Header header = record.headers().lastHeader(name);
+        if (header == null || header.value() == null) {
+            return null;
+        }
+        
+        byte[] value = header.value();
+        if (KafkaHeaders.DLT_ORIGINAL_PARTITION.equals(name) && value.length == Integer.BYTES) {
+            return String.valueOf(ByteBuffer.wrap(value).getInt());
+        }
+        if (KafkaHeaders.DLT_ORIGINAL_OFFSET.equals(name) && value.length == Long.BYTES) {
+            return String.valueOf(ByteBuffer.wrap(value).getLong());
         }
+        return new String(value, StandardCharsets.UTF_8);
     }
 
-    private void handlePaymentConfirmed(PaymentEvent event) {
+    private void handlePaymentConfirmed(PaymentEvent event, ConsumerRecord<String, String> record) {
         log.info("Pagamento confirmado para solicitação: {}", event.getPolicyRequestId());
-        // Lógica para lidar com confirmação de pagamento
-        // Neste caso, verificamos se também temos autorização de subscrição
+        policyRequestService.registerConfirmation(event.getPolicyRequestId(), ConfirmationType.PAYMENT,
+                                                 () -> processedEventStore.markProcessed(record));
     }
 
-    private void handlePaymentRejected(PaymentEvent event) {
+    private void handlePaymentRejected(PaymentEvent event, ConsumerRecord<String, String> record) {
         log.info("Pagamento rejeitado para solicitação: {}", event.getPolicyRequestId());
         policyRequestService.rejectRequest(event.getPolicyRequestId(), 
-                                          "Pagamento rejeitado: " + event.getReason());
+                                          "Pagamento rejeitado: " + event.getReason(),
+                                          () -> processedEventStore.markProcessed(record));
     }
 
-    private void handleUnderwritingApproved(UnderwritingEvent event) {
+    private void handleUnderwritingApproved(UnderwritingEvent event, ConsumerRecord<String, String> record) {
         log.info("Subscrição aprovada para solicitação: {}", event.getPolicyRequestId());
-        // Se chegou até aqui, assumimos que o pagamento também foi confirmado
-        policyRequestService.approveRequest(event.getPolicyRequestId());
+        policyRequestService.registerConfirmation(event.getPolicyRequestId(), ConfirmationType.UNDERWRITING,
+                                                 () -> processedEventStore.markProcessed(record));
     }
 
-    private void handleUnderwritingRejected(UnderwritingEvent event) {
+    private void handleUnderwritingRejected(UnderwritingEvent event, ConsumerRecord<String, String> record) {
         log.info("Subscrição rejeitada para solicitação: {}", event.getPolicyRequestId());
         policyRequestService.rejectRequest(event.getPolicyRequestId(),
-                                          "Subscrição rejeitada: " + event.getReason());
+                                          "Subscrição rejeitada: " + event.getReason(),
+                                          () -> processedEventStore.markProcessed(record));
     }
 
     /**
@@ -0,0 +1,172 @@
+package com.acme.policyapi.infrastructure.messaging;
+
+import com.acme.policyapi.application.dto.PolicyStatusUpdateDTO;
+import com.acme.policyapi.application.service.PolicyRequestService;
+import com.acme.policyapi.infrastructure.config.KafkaConsumerConfig;
+import com.acme.policyapi.infrastructure.config.KeyOrderedExecutor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Consumidor paralelo dos eventos de pagamento e de subscrição, ativado por
+ * {@code kafka.consumer.mode=parallel} no lugar do {@link PolicyEventConsumer}.
+ * 
+ * <p>O registro é lido na thread do consumer e a alteração resultante é entregue a um
+ * {@link KeyOrderedExecutor} com chave {@code policyRequestId}: eventos da mesma solicitação
+ * são aplicados na ordem da partição e solicitações diferentes, ainda que na mesma partição,
+ * em paralelo. Cada registro é confirmado ao terminar e o container só confirma offsets até o
+ * menor registro contíguo concluído; registros em andamento em uma parada são reentregues e,
+ * se já tiverem sido aplicados, descartados por {@link ProcessedEventStore} na thread da
+ * solicitação.</p>
+ * 
+ * <p>Registros ilegíveis e alterações que falharem seguem para {@code <tópico>-dlt} pelo
+ * {@link DeadLetterPublisher} antes da confirmação, como no modo {@code record}.</p>
+ * 
+ * @author Sistema ACME
+ */
+@Service
+@ConditionalOnProperty(name = "kafka.consumer.mode", havingValue = "parallel")
+@Slf4j
+public class PolicyEventParallelConsumer implements ConsumerSeekAware {
+
+    private final PolicyRequestService policyRequestService;
+    private final ObjectMapper objectMapper;
+    private final ProcessedEventStore processedEventStore;
+    private final DeadLetterPublisher deadLetterPublisher;
+    private final KeyOrderedExecutor executor;
+
+    public PolicyEventParallelConsumer(PolicyRequestService policyRequestService,
+                                       ObjectMapper objectMapper,
+                                       ProcessedEventStore processedEventStore,
+                                       DeadLetterPublisher deadLetterPublisher,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${kafka.consumer.parallel.max-concurrency:16}") int maxConcurrency) {
+        this(policyRequestService, objectMapper, processedEventStore, deadLetterPublisher,
+             new KeyOrderedExecutor("policy-events", maxConcurrency, meterRegistry));
+    }
+
+    PolicyEventParallelConsumer(PolicyRequestService policyRequestService,
+                                ObjectMapper objectMapper,
+                                ProcessedEventStore processedEventStore,
+                                DeadLetterPublisher deadLetterPublisher,
+                                KeyOrderedExecutor executor) {
+        this.policyRequestService = policyRequestService;
+        this.objectMapper = objectMapper;
+        this.processedEventStore = processedEventStore;
+        this.deadLetterPublisher = deadLetterPublisher;
+        this.executor = executor;
+    }
+
+    /**
+     * Distribui um evento de pagamento.
+     * 
+     * @param record registro recebido
+     * @param acknowledgment confirmação, feita quando o evento terminar de ser aplicado
+     */
+    @KafkaListener(topics = "${kafka.topics.payments:payments.events}", 
+                   groupId = "${kafka.consumer.group-id:policy-request-service}",
+                   containerFactory = KafkaConsumerConfig.ASYNC_ACK_LISTENER_CONTAINER_FACTORY)
+    public void handlePaymentEvent(ConsumerRecord<String, String> record, Acknowledgment acknowledgment) {
+        Optional<PolicyStatusUpdateDTO> update;
+        try {
+            update = ExternalStatusEvents.fromPayment(
+                    objectMapper.readValue(record.value(), PolicyEventConsumer.PaymentEvent.class));
+        } catch (Exception e) {
+            logInvalidRecord("pagamento", record, e);
+            deadLetterPublisher.publish(record, e);
+            update = Optional.empty();
+        }
+        
+        dispatch(record, update, acknowledgment);
+    }
+
+    /**
+     * Distribui um evento de subscrição.
+     * 
+     * @param record registro recebido
+     * @param acknowledgment confirmação, feita quando o evento terminar de ser aplicado
+     */
+    @KafkaListener(topics = "${kafka.topics.underwriting:underwriting.events}", 
+                   groupId = "${kafka.consumer.group-id:policy-request-service}",
+                   containerFactory = KafkaConsumerConfig.ASYNC_ACK_LISTENER_CONTAINER_FACTORY)
+    public void handleUnderwritingEvent(ConsumerRecord<String, String> record, Acknowledgment acknowledgment) {
+        Optional<PolicyStatusUpdateDTO> update;
+        try {
+            update = ExternalStatusEvents.fromUnderwriting(
+                    objectMapper.readValue(record.value(), PolicyEventConsumer.UnderwritingEvent.class));
+        } catch (Exception e) {
+            logInvalidRecord("subscrição", record, e);
+            deadLetterPublisher.publish(record, e);
+            update = Optional.empty();
+        }
+        
+        dispatch(record, update, acknowledgment);
+    }
+
+    private void dispatch(ConsumerRecord<String, String> record, Optional<PolicyStatusUpdateDTO> update,
+                          Acknowledgment acknowledgment) {
+        if (update.isEmpty() || update.get().getPolicyRequestId() == null) {
+            acknowledgment.acknowledge();
+            return;
+        }
+        
+        PolicyStatusUpdateDTO statusUpdate = update.get();
+        executor.execute(statusUpdate.getPolicyRequestId(), () -> {
+            try {
+                if (processedEventStore.isProcessed(record)) {
+                    log.info("Evento reentregue ignorado: {}", ProcessedEventStore.keyOf(record));
+                    return;
+                }
+                ExternalStatusEvents.apply(policyRequestService, statusUpdate,
+                        () -> processedEventStore.markProcessed(record));
+            } catch (Exception e) {
+                log.error("Erro ao aplicar alteração para solicitação {}: {}", 
+                          statusUpdate.getPolicyRequestId(), e.getMessage(), e);
+                deadLetter(record, e);
+            } finally {
+                acknowledgment.acknowledge();
+            }
+        });
+    }
+
+    /**
+     * Na thread da solicitação não há como devolver o registro ao container: se nem o DLT
+     * aceitar o envio, a falha é registrada e o registro confirmado, para não travar a partição.
+     */
+    private void deadLetter(ConsumerRecord<String, String> record, Exception cause) {
+        try {
+            deadLetterPublisher.publish(record, cause);
+        } catch (Exception e) {
+            log.error("Erro ao enviar registro para o DLT (partição {}, offset {}, key={}): {}",
+                      record.partition(), record.offset(), record.key(), e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        processedEventStore.resetPartitions(assignments.keySet());
+    }
+
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        processedEventStore.resetPartitions(partitions);
+    }
+
+    private void logInvalidRecord(String source, ConsumerRecord<String, String> record, Exception e) {
+        log.error("Evento de {} inválido (partição {}, offset {}, key={}): {}", 
+                  source, record.partition(), record.offset(), record.key(), e.getMessage());
+    }
+}
@@ -1,6 +1,9 @@
 package com.acme.policyapi.infrastructure.messaging;
 
 import com.acme.policyapi.domain.entity.PolicyRequest;
+import com.acme.policyapi.domain.entity.PolicyRequestStatus;
+import com.acme.policyapi.infrastructure.persistence.jpa.OutboxEventJpaEntity;
+import com.acme.policyapi.infrastructure.persistence.jpa.OutboxEventJpaRepository;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -8,10 +11,23 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Serviço responsável por publicar eventos de solicitações de apólice no Kafka.
  * 
+ * <p>Com {@code kafka.outbox.enabled=true} os eventos não são enviados diretamente:
+ * são gravados na tabela de outbox dentro da transação corrente e enviados depois
+ * pelo {@link OutboxEventRelay}. Assim um rollback descarta também os eventos e a
+ * latência do broker deixa de prolongar as transações do banco.</p>
+ * 
+ * <p>Sem outbox, um evento publicado dentro de uma transação só é enviado após o commit,
+ * para que um rollback não deixe no tópico eventos de alterações desfeitas.</p>
+ * 
  * @author Sistema ACME
  */
 @Service
@@ -21,10 +37,14 @@ public class PolicyEventPublisher {
 
     private final KafkaTemplate<String, String> kafkaTemplate;
     private final ObjectMapper objectMapper;
+    private final OutboxEventJpaRepository outboxRepository;
 
     @Value("${kafka.topics.policy-requests.events:policy-requests.events}")
     private String policyEventsTopicName;
 
+    @Value("${kafka.outbox.enabled:false}")
+    private boolean outboxEnabled;
+
     /**
      * Publica evento de criação de solicitação.
      * 
@@ -42,6 +62,45 @@ public class PolicyEventPublisher {
         publishEvent(event, "Solicitação criada");
     }
 
+    /**
+     * Publica eventos de criação para um lote de solicitações.
+     * 
+     * <p>Os envios são disparados em sequência sem aguardar confirmação individual,
+     * permitindo que o produtor Kafka agrupe as mensagens em poucos requests.</p>
+     * 
+     * @param policyRequests as solicitações criadas
+     */
+    public void publishPolicyRequestsCreated(List<PolicyRequest> policyRequests) {
+        int published = 0;
+        List<OutboxEventJpaEntity> outboxEntries = new ArrayList<>();
+        
+        for (PolicyRequest policyRequest : policyRequests) {
+            PolicyEvent event = new PolicyEvent(
+                policyRequest.getId(),
+                policyRequest.getCustomerId(),
+                policyRequest.getProductId(),
+                policyRequest.getStatus(),
+                "POLICY_REQUEST_CREATED"
+            );
+            
+            if (outboxEnabled) {
+                String eventJson = serialize(event);
+                if (eventJson != null) {
+                    outboxEntries.add(toOutboxEntry(event, eventJson));
+                    published++;
+                }
+            } else if (send(event)) {
+                published++;
+            }
+        }
+        
+        if (!outboxEntries.isEmpty()) {
+            outboxRepository.saveAll(outboxEntries);
+        }
+        
+        log.info("Solicitações criadas em lote - Events published: {} of {}", published, policyRequests.size());
+    }
+
     /**
      * Publica evento de validação de solicitação.
      * 
@@ -76,6 +135,52 @@ public class PolicyEventPublisher {
         publishEvent(event, "Solicitação pendente");
     }
 
+    /**
+     * Publica, em um único envio, os eventos de validação e de pendência de uma solicitação
+     * que passou por VALIDATED e PENDING na mesma transação.
+     * 
+     * <p>Os eventos são idênticos aos de {@link #publishPolicyRequestValidated} e
+     * {@link #publishPolicyRequestPending}, na mesma ordem e com a mesma chave: na outbox
+     * são gravados com um único {@code saveAll}; sem outbox, os dois envios são disparados
+     * em sequência sem aguardar confirmação e seguem no mesmo request ao broker.</p>
+     * 
+     * @param policyRequest a solicitação, já no status PENDING
+     */
+    public void publishPolicyRequestValidatedAndPending(PolicyRequest policyRequest) {
+        List<PolicyEvent> events = List.of(
+            new PolicyEvent(
+                policyRequest.getId(),
+                policyRequest.getCustomerId(),
+                policyRequest.getProductId(),
+                PolicyRequestStatus.VALIDATED,
+                "POLICY_REQUEST_VALIDATED"
+            ),
+            new PolicyEvent(
+                policyRequest.getId(),
+                policyRequest.getCustomerId(),
+                policyRequest.getProductId(),
+                policyRequest.getStatus(),
+                "POLICY_REQUEST_PENDING"
+            )
+        );
+        
+        if (outboxEnabled) {
+            List<OutboxEventJpaEntity> outboxEntries = new ArrayList<>();
+            for (PolicyEvent event : events) {
+                String eventJson = serialize(event);
+                if (eventJson != null) {
+                    outboxEntries.add(toOutboxEntry(event, eventJson));
+                }
+            }
+            outboxRepository.saveAll(outboxEntries);
+        } else {
+            events.forEach(this::send);
+        }
+        
+        log.info("Solicitação validada e pendente - Events published: POLICY_REQUEST_VALIDATED, "
+                 + "POLICY_REQUEST_PENDING for policy request {}", policyRequest.getId());
+    }
+
     /**
      * Publica evento de aprovação de solicitação.
      * 
@@ -142,20 +247,73 @@ public class PolicyEventPublisher {
      * @param description descrição do evento para log
      */
     private void publishEvent(PolicyEvent event, String description) {
-        try {
-            String eventJson = objectMapper.writeValueAsString(event);
-            String key = event.getPolicyRequestId().toString();
-            
-            kafkaTemplate.send(policyEventsTopicName, key, eventJson);
-            
+        if (send(event)) {
             log.info("{} - Event published: {} for policy request {}", 
                      description, event.getEventType(), event.getPolicyRequestId());
-            
-        } catch (JsonProcessingException e) {
-            log.error("Erro ao serializar evento: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Serializa e envia um evento ao tópico Kafka, ou o grava na outbox quando habilitada.
+     * 
+     * <p>Falhas ao gravar na outbox não são suprimidas: elas devem desfazer a transação
+     * da alteração de estado que originou o evento. Sem outbox e com uma transação ativa,
+     * o envio é registrado para depois do commit.</p>
+     * 
+     * @param event o evento a ser enviado
+     * @return true se o envio foi disparado, agendado para o commit ou gravado na outbox
+     */
+    private boolean send(PolicyEvent event) {
+        String eventJson = serialize(event);
+        if (eventJson == null) {
+            return false;
+        }
+        
+        if (outboxEnabled) {
+            outboxRepository.save(toOutboxEntry(event, eventJson));
+            return true;
+        }
+        
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    sendToKafka(event, eventJson);
+                }
+            });
+            return true;
+        }
+        
+        return sendToKafka(event, eventJson);
+    }
+
+    private boolean sendToKafka(PolicyEvent event, String eventJson) {
+        try {
+            kafkaTemplate.send(policyEventsTopicName, event.getPolicyRequestId().toString(), eventJson);
+            return true;
         } catch (Exception e) {
             log.error("Erro ao publicar evento: {}", e.getMessage(), e);
         }
+        return false;
+    }
+
+    private String serialize(PolicyEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            log.error("Erro ao serializar evento: {}", e.getMessage(), e);
+            return null;
+        }
+    }
+
+    private OutboxEventJpaEntity toOutboxEntry(PolicyEvent event, String eventJson) {
+        return OutboxEventJpaEntity.builder()
+                .aggregateId(event.getPolicyRequestId())
+                .eventType(event.getEventType())
+                .topic(policyEventsTopicName)
+                .eventKey(event.getPolicyRequestId().toString())
+                .payload(eventJson)
+                .build();
     }
 
     /**
@@ -0,0 +1,225 @@
+package com.acme.policyapi.infrastructure.messaging;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registro dos eventos de pagamento e subscrição já aplicados, identificados por
+ * tópico, partição e offset, para descartar reentregas antes de qualquer acesso às
+ * solicitações.
+ * 
+ * <p>Só pode ser reentregue um registro que um consumidor anterior da partição já tenha
+ * processado, ou seja, com offset até o maior offset gravado em {@code processed_events}
+ * para a partição. Esse limite é lido uma vez por partição após cada atribuição; registros
+ * acima dele são novos sem consulta ao banco. Os abaixo são procurados primeiro em um LRU
+ * local dos registros aplicados recentemente e depois na tabela, com uma consulta por
+ * partição para todo o lote.</p>
+ * 
+ * <p>Métricas: {@code policy.consumer.duplicates} (tag {@code source=memory|database}) e
+ * {@code policy.consumer.idempotency.lookups} (consultas à tabela).</p>
+ * 
+ * @author Sistema ACME
+ */
+@Component
+@Slf4j
+public class ProcessedEventStore {
+
+    static final String INSERT_SQL = 
+            "INSERT INTO processed_events (topic, partition_id, record_offset, processed_at) VALUES (?, ?, ?, ?) "
+            + "ON CONFLICT DO NOTHING";
+    static final String MAX_OFFSET_SQL = 
+            "SELECT COALESCE(MAX(record_offset), -1) FROM processed_events WHERE topic = ? AND partition_id = ?";
+    static final String FIND_OFFSETS_SQL = 
+            "SELECT record_offset FROM processed_events "
+            + "WHERE topic = ? AND partition_id = ? AND record_offset BETWEEN ? AND ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final Duration retention;
+    private final Cache<String, Boolean> recent;
+    private final Map<TopicPartition, Long> highWatermarks = new ConcurrentHashMap<>();
+    private final Counter memoryDuplicates;
+    private final Counter databaseDuplicates;
+    private final Counter lookups;
+
+    public ProcessedEventStore(JdbcTemplate jdbcTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${kafka.consumer.idempotency.enabled:true}") boolean enabled,
+                               @Value("${kafka.consumer.idempotency.cache-size:100000}") long cacheSize,
+                               @Value("${kafka.consumer.idempotency.retention:7d}") Duration retention) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.retention = retention;
+        this.recent = Caffeine.newBuilder().maximumSize(cacheSize).build();
+        this.memoryDuplicates = Counter.builder("policy.consumer.duplicates")
+                .description("Reentregas descartadas")
+                .tag("source", "memory")
+                .register(meterRegistry);
+        this.databaseDuplicates = Counter.builder("policy.consumer.duplicates")
+                .description("Reentregas descartadas")
+                .tag("source", "database")
+                .register(meterRegistry);
+        this.lookups = Counter.builder("policy.consumer.idempotency.lookups")
+                .description("Consultas à tabela de eventos processados")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return identificador do registro no formato {@code tópico-partição@offset}
+     */
+    public static String keyOf(ConsumerRecord<?, ?> record) {
+        return record.topic() + "-" + record.partition() + "@" + record.offset();
+    }
+
+    /**
+     * Verifica se um registro já foi aplicado.
+     * 
+     * @param record registro recebido
+     * @return true se for uma reentrega
+     */
+    public boolean isProcessed(ConsumerRecord<?, ?> record) {
+        return !findProcessed(List.of(record)).isEmpty();
+    }
+
+    /**
+     * Identifica, em um lote, os registros já aplicados.
+     * 
+     * @param records registros recebidos
+     * @return identificadores ({@link #keyOf}) dos registros reentregues
+     */
+    public Set<String> findProcessed(Collection<? extends ConsumerRecord<?, ?>> records) {
+        Set<String> processed = new HashSet<>();
+        if (!enabled) {
+            return processed;
+        }
+        
+        Map<TopicPartition, Set<Long>> suspects = new HashMap<>();
+        for (ConsumerRecord<?, ?> record : records) {
+            String key = keyOf(record);
+            if (recent.getIfPresent(key) != null) {
+                processed.add(key);
+                memoryDuplicates.increment();
+                continue;
+            }
+            
+            TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+            if (record.offset() <= highWatermark(partition)) {
+                suspects.computeIfAbsent(partition, p -> new HashSet<>()).add(record.offset());
+            }
+        }
+        
+        suspects.forEach((partition, offsets) -> {
+            lookups.increment();
+            List<Long> found = jdbcTemplate.queryForList(FIND_OFFSETS_SQL, Long.class, partition.topic(),
+                    partition.partition(), offsets.stream().min(Long::compare).orElseThrow(),
+                    offsets.stream().max(Long::compare).orElseThrow());
+            for (Long offset : found) {
+                if (offsets.contains(offset)) {
+                    String key = partition.topic() + "-" + partition.partition() + "@" + offset;
+                    recent.put(key, Boolean.TRUE);
+                    processed.add(key);
+                    databaseDuplicates.increment();
+                }
+            }
+        });
+        
+        return processed;
+    }
+
+    /**
+     * Registra registros aplicados com sucesso, em uma única gravação em lote.
+     * 
+     * <p>Deve ser chamado dentro da transação que aplica as alterações dos registros
+     * (veja {@code PolicyRequestService#applyStatusUpdates(List, Runnable)}): as linhas são
+     * gravadas ou desfeitas junto com elas, e o LRU local só é atualizado após o commit.
+     * Sem transação, a gravação é imediata.</p>
+     * 
+     * @param records registros aplicados
+     */
+    public void markProcessed(Collection<? extends ConsumerRecord<?, ?>> records) {
+        if (!enabled || records.isEmpty()) {
+            return;
+        }
+        
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(records.size());
+        for (ConsumerRecord<?, ?> record : records) {
+            rows.add(new Object[] {record.topic(), record.partition(), record.offset(), now});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        
+        List<String> keys = records.stream().map(ProcessedEventStore::keyOf).toList();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            keys.forEach(key -> recent.put(key, Boolean.TRUE));
+            return;
+        }
+        
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                keys.forEach(key -> recent.put(key, Boolean.TRUE));
+            }
+        });
+    }
+
+    public void markProcessed(ConsumerRecord<?, ?> record) {
+        markProcessed(List.of(record));
+    }
+
+    /**
+     * Descarta o limite conhecido das partições, que será relido no próximo registro.
+     * Deve ser chamado quando partições são atribuídas ou revogadas.
+     * 
+     * @param partitions partições atribuídas ou revogadas
+     */
+    public void resetPartitions(Collection<TopicPartition> partitions) {
+        partitions.forEach(highWatermarks::remove);
+    }
+
+    /**
+     * Remove periodicamente os registros mais antigos que a retenção configurada.
+     */
+    @Scheduled(fixedDelayString = "${kafka.consumer.idempotency.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        if (!enabled) {
+            return;
+        }
+        
+        int deleted = jdbcTemplate.update("DELETE FROM processed_events WHERE processed_at < ?",
+                Timestamp.valueOf(LocalDateTime.now().minus(retention)));
+        if (deleted > 0) {
+            log.info("{} eventos processados expirados removidos", deleted);
+        }
+    }
+
+    private long highWatermark(TopicPartition partition) {
+        return highWatermarks.computeIfAbsent(partition, p -> {
+            lookups.increment();
+            Long max = jdbcTemplate.queryForObject(MAX_OFFSET_SQL, Long.class, p.topic(), p.partition());
+            return max != null ? max : -1L;
+        });
+    }
+}
@@ -0,0 +1,164 @@
+package com.acme.policyapi.infrastructure.persistence;
+
+import com.acme.policyapi.domain.entity.ConfirmationType;
+import com.acme.policyapi.domain.repository.PolicyConfirmationRepository;
+import com.acme.policyapi.infrastructure.persistence.jpa.PolicyConfirmationJpaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Correlação de confirmações gravada em {@code policy_request_confirmations}.
+ * 
+ * <p>Todas as confirmações de uma chamada são gravadas em um único upsert que devolve,
+ * pelo {@code RETURNING}, o estado resultante de cada linha. O bloqueio de linha do
+ * {@code ON CONFLICT} serializa confirmações concorrentes da mesma solicitação e a condição
+ * {@code NOT completed} impede que uma linha já completada seja devolvida de novo, de modo
+ * que exatamente uma chamada observa a transição para completa. Linhas expiradas são
+ * reiniciadas pela própria gravação e removidas periodicamente.</p>
+ *
+ * <p>As linhas de um upsert são gravadas em ordem crescente de ID. Duas chamadas com
+ * solicitações em comum bloqueiam as linhas na mesma ordem e uma apenas espera a outra, em
+ * vez de cada uma reter uma linha de que a outra precisa (deadlock).</p>
+ * 
+ * @author Sistema ACME
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PolicyConfirmationRepositoryImpl implements PolicyConfirmationRepository {
+
+    static final String UPSERT_SQL = """
+            INSERT INTO policy_request_confirmations AS c
+                (policy_request_id, received_mask, completed, expires_at, updated_at)
+            SELECT t.id, t.mask, t.mask = ?, ?, ?
+            FROM unnest(?::uuid[], ?::smallint[]) AS t(id, mask)
+            ON CONFLICT (policy_request_id) DO UPDATE SET
+                received_mask = CASE WHEN c.expires_at < EXCLUDED.updated_at THEN EXCLUDED.received_mask
+                                     ELSE c.received_mask | EXCLUDED.received_mask END,
+                completed = CASE WHEN c.expires_at < EXCLUDED.updated_at THEN EXCLUDED.received_mask
+                                 ELSE c.received_mask | EXCLUDED.received_mask END = ?,
+                expires_at = EXCLUDED.expires_at,
+                updated_at = EXCLUDED.updated_at
+            WHERE NOT c.completed
+            RETURNING policy_request_id, completed
+            """;
+
+    static final String MARK_PENDING_SQL = """
+            INSERT INTO policy_request_confirmations AS c
+                (policy_request_id, received_mask, completed, expires_at, updated_at)
+            VALUES (?, 0, false, ?, ?)
+            ON CONFLICT (policy_request_id) DO UPDATE SET
+                received_mask = CASE WHEN c.expires_at < EXCLUDED.updated_at THEN 0 ELSE c.received_mask END,
+                completed = c.expires_at >= EXCLUDED.updated_at AND c.received_mask = ?,
+                expires_at = EXCLUDED.expires_at,
+                updated_at = EXCLUDED.updated_at
+            WHERE NOT c.completed
+            RETURNING completed
+            """;
+
+    static final String REOPEN_SQL = """
+            UPDATE policy_request_confirmations SET completed = false, updated_at = ?
+            WHERE policy_request_id = ANY(?::uuid[])
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PolicyConfirmationJpaRepository jpaRepository;
+
+    private Clock clock = Clock.systemDefaultZone();
+
+    @Value("${policy-request.confirmations.ttl:7d}")
+    private Duration ttl = Duration.ofDays(7);
+
+    @Override
+    public Set<UUID> register(Map<UUID, Set<ConfirmationType>> confirmations) {
+        Set<UUID> completed = new HashSet<>();
+        if (confirmations.isEmpty()) {
+            return completed;
+        }
+
+        UUID[] ids = new UUID[confirmations.size()];
+        Short[] masks = new Short[confirmations.size()];
+        int i = 0;
+        for (Map.Entry<UUID, Set<ConfirmationType>> entry : new TreeMap<>(confirmations).entrySet()) {
+            ids[i] = entry.getKey();
+            masks[i] = (short) entry.getValue().stream().mapToInt(ConfirmationType::getMask).reduce(0, (a, b) -> a | b);
+            i++;
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        jdbcTemplate.query(UPSERT_SQL, ps -> {
+            ps.setShort(1, (short) ConfirmationType.ALL_MASK);
+            ps.setTimestamp(2, Timestamp.valueOf(now.plus(ttl)));
+            ps.setTimestamp(3, Timestamp.valueOf(now));
+            ps.setArray(4, ps.getConnection().createArrayOf("uuid", ids));
+            ps.setArray(5, ps.getConnection().createArrayOf("int2", masks));
+            ps.setShort(6, (short) ConfirmationType.ALL_MASK);
+        }, rs -> {
+            if (rs.getBoolean("completed")) {
+                completed.add(rs.getObject("policy_request_id", UUID.class));
+            }
+        });
+
+        return completed;
+    }
+
+    @Override
+    public boolean markPending(UUID policyRequestId) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<Boolean> completed = jdbcTemplate.query(MARK_PENDING_SQL, ps -> {
+            ps.setObject(1, policyRequestId);
+            ps.setTimestamp(2, Timestamp.valueOf(now.plus(ttl)));
+            ps.setTimestamp(3, Timestamp.valueOf(now));
+            ps.setShort(4, (short) ConfirmationType.ALL_MASK);
+        }, (rs, rowNum) -> rs.getBoolean("completed"));
+
+        return completed.contains(Boolean.TRUE);
+    }
+
+    @Override
+    public void reopen(Collection<UUID> policyRequestIds) {
+        if (policyRequestIds.isEmpty()) {
+            return;
+        }
+
+        UUID[] ids = policyRequestIds.stream().sorted().toArray(UUID[]::new);
+        jdbcTemplate.update(REOPEN_SQL, ps -> {
+            ps.setTimestamp(1, Timestamp.valueOf(LocalDateTime.now(clock)));
+            ps.setArray(2, ps.getConnection().createArrayOf("uuid", ids));
+        });
+    }
+
+    @Override
+    public int deleteExpired() {
+        return jpaRepository.deleteExpired(LocalDateTime.now(clock));
+    }
+
+    /**
+     * Remove periodicamente as correlações que expiraram sem completar.
+     */
+    @Scheduled(fixedDelayString = "${policy-request.confirmations.purge-interval-ms:600000}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = deleteExpired();
+        if (deleted > 0) {
+            log.info("{} correlações de confirmação expiradas removidas", deleted);
+        }
+    }
+}
@@ -2,22 +2,55 @@ package com.acme.policyapi.infrastructure.persistence;
 
 import com.acme.policyapi.domain.entity.*;
 import com.acme.policyapi.domain.repository.PolicyRequestRepository;
+import com.acme.policyapi.domain.repository.PolicyRequestSearchCriteria;
+import com.acme.policyapi.domain.repository.StatusTransition;
 import com.acme.policyapi.infrastructure.persistence.jpa.PolicyRequestJpaEntity;
 import com.acme.policyapi.infrastructure.persistence.jpa.PolicyRequestJpaRepository;
 import com.acme.policyapi.infrastructure.persistence.jpa.StatusHistoryJpaEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Component;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class PolicyRequestRepositoryImpl implements PolicyRequestRepository {
 
+    static final String UPDATE_STATUS_SQL = 
+            "UPDATE policy_requests SET status = ?, finished_at = ?, version = version + 1 "
+            + "WHERE id = ? AND status = ? AND version = ?";
+    static final String INSERT_HISTORY_SQL = 
+            "INSERT INTO status_history (id, policy_request_id, status, timestamp, reason) VALUES (?, ?, ?, ?, ?)";
+
     private final PolicyRequestJpaRepository jpaRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize = 50;
+
+    @Value("${policy-request.export.fetch-size:500}")
+    private int exportFetchSize = 500;
 
     @Override
     public List<PolicyRequest> findByCustomerId(UUID customerId) {
@@ -41,6 +74,208 @@ public class PolicyRequestRepositoryImpl implements PolicyRequestRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<PolicyRequest> search(PolicyRequestSearchCriteria criteria) {
+        StringBuilder jpql = new StringBuilder("SELECT pr FROM PolicyRequestJpaEntity pr WHERE 1 = 1");
+        Map<String, Object> parameters = new HashMap<>();
+        
+        if (criteria.getCustomerId() != null) {
+            jpql.append(" AND pr.customerId = :customerId");
+            parameters.put("customerId", criteria.getCustomerId());
+        }
+        if (criteria.getStatus() != null) {
+            jpql.append(" AND pr.status = :status");
+            parameters.put("status", criteria.getStatus().name());
+        }
+        if (criteria.getCategory() != null) {
+            jpql.append(" AND pr.category = :category");
+            parameters.put("category", criteria.getCategory().name());
+        }
+        if (criteria.getSalesChannel() != null) {
+            jpql.append(" AND pr.salesChannel = :salesChannel");
+            parameters.put("salesChannel", criteria.getSalesChannel().name());
+        }
+        if (criteria.getCreatedFrom() != null) {
+            jpql.append(" AND pr.createdAt >= :createdFrom");
+            parameters.put("createdFrom", criteria.getCreatedFrom());
+        }
+        if (criteria.getCreatedTo() != null) {
+            jpql.append(" AND pr.createdAt < :createdTo");
+            parameters.put("createdTo", criteria.getCreatedTo());
+        }
+        if (criteria.hasCursor()) {
+            jpql.append(" AND (pr.createdAt < :afterCreatedAt OR (pr.createdAt = :afterCreatedAt AND pr.id < :afterId))");
+            parameters.put("afterCreatedAt", criteria.getAfterCreatedAt());
+            parameters.put("afterId", criteria.getAfterId());
+        }
+        jpql.append(" ORDER BY pr.createdAt DESC, pr.id DESC");
+        
+        TypedQuery<PolicyRequestJpaEntity> query = entityManager.createQuery(jpql.toString(), PolicyRequestJpaEntity.class);
+        parameters.forEach(query::setParameter);
+        query.setMaxResults(criteria.getLimit());
+        
+        List<PolicyRequest> results = query.getResultList().stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+        
+        if (criteria.isIncludeHistory() && !results.isEmpty()) {
+            attachHistory(results);
+        }
+        
+        return results;
+    }
+
+    /**
+     * Carrega o histórico de todas as solicitações da página em uma única consulta.
+     */
+    private void attachHistory(List<PolicyRequest> policyRequests) {
+        Map<UUID, List<StatusHistory>> historyById = jpaRepository
+                .findHistoryByPolicyRequestIds(policyRequests.stream().map(PolicyRequest::getId).toList())
+                .stream()
+                .map(this::toDomainHistory)
+                .collect(Collectors.groupingBy(StatusHistory::getPolicyRequestId));
+        
+        policyRequests.forEach(policyRequest ->
+                policyRequest.setHistory(new ArrayList<>(historyById.getOrDefault(policyRequest.getId(), List.of()))));
+    }
+
+    /**
+     * Lê as solicitações por JDBC com um cursor somente-avanço, sem passar pelo contexto
+     * de persistência. O driver busca {@code exportFetchSize} linhas por vez (no PostgreSQL
+     * isso exige uma transação aberta) e coberturas e assistências são carregadas por bloco
+     * de linhas, de modo que a memória usada não depende do tamanho do resultado.
+     */
+    @Override
+    public long streamAll(PolicyRequestSearchCriteria criteria, Consumer<PolicyRequest> consumer) {
+        StringBuilder sql = new StringBuilder("SELECT id, customer_id, product_id, category, sales_channel, "
+                + "payment_method, status, created_at, finished_at, total_monthly_premium_amount, insured_amount "
+                + "FROM policy_requests WHERE 1 = 1");
+        List<Object> parameters = new ArrayList<>();
+        
+        if (criteria.getCustomerId() != null) {
+            sql.append(" AND customer_id = ?");
+            parameters.add(criteria.getCustomerId());
+        }
+        if (criteria.getStatus() != null) {
+            sql.append(" AND status = ?");
+            parameters.add(criteria.getStatus().name());
+        }
+        if (criteria.getCategory() != null) {
+            sql.append(" AND category = ?");
+            parameters.add(criteria.getCategory().name());
+        }
+        if (criteria.getSalesChannel() != null) {
+            sql.append(" AND sales_channel = ?");
+            parameters.add(criteria.getSalesChannel().name());
+        }
+        if (criteria.getCreatedFrom() != null) {
+            sql.append(" AND created_at >= ?");
+            parameters.add(criteria.getCreatedFrom());
+        }
+        if (criteria.getCreatedTo() != null) {
+            sql.append(" AND created_at < ?");
+            parameters.add(criteria.getCreatedTo());
+        }
+        sql.append(" ORDER BY created_at, id");
+        
+        int fetchSize = Math.max(1, exportFetchSize);
+        StreamingRowHandler handler = new StreamingRowHandler(fetchSize, consumer);
+        
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            for (int i = 0; i < parameters.size(); i++) {
+                statement.setObject(i + 1, parameters.get(i));
+            }
+            return statement;
+        }, handler);
+        handler.flush();
+        
+        return handler.getCount();
+    }
+
+    /**
+     * Acumula as linhas lidas em blocos do tamanho do fetch, completa as coleções
+     * do bloco com uma consulta por tabela e repassa as solicitações ao consumidor.
+     */
+    private class StreamingRowHandler implements RowCallbackHandler {
+
+        private final int chunkSize;
+        private final Consumer<PolicyRequest> consumer;
+        private final Map<UUID, PolicyRequest> chunk = new LinkedHashMap<>();
+        private long count;
+
+        StreamingRowHandler(int chunkSize, Consumer<PolicyRequest> consumer) {
+            this.chunkSize = chunkSize;
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            PolicyRequest policyRequest = mapRow(rs);
+            chunk.put(policyRequest.getId(), policyRequest);
+            if (chunk.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            loadCollections(chunk);
+            chunk.values().forEach(consumer);
+            count += chunk.size();
+            chunk.clear();
+        }
+
+        long getCount() {
+            return count;
+        }
+    }
+
+    private void loadCollections(Map<UUID, PolicyRequest> policyRequestsById) {
+        Object[] ids = policyRequestsById.keySet().toArray();
+        String placeholders = String.join(", ", Collections.nCopies(ids.length, "?"));
+        
+        jdbcTemplate.query("SELECT policy_request_id, coverage_name, coverage_amount FROM policy_coverages "
+                        + "WHERE policy_request_id IN (" + placeholders + ")",
+                (RowCallbackHandler) rs -> policyRequestsById.get(rs.getObject("policy_request_id", UUID.class))
+                        .getCoverages().put(rs.getString("coverage_name"), money(rs, "coverage_amount")),
+                ids);
+        
+        jdbcTemplate.query("SELECT policy_request_id, assistance_name FROM policy_assistances "
+                        + "WHERE policy_request_id IN (" + placeholders + ")",
+                (RowCallbackHandler) rs -> policyRequestsById.get(rs.getObject("policy_request_id", UUID.class))
+                        .getAssistances().add(rs.getString("assistance_name")),
+                ids);
+    }
+
+    private PolicyRequest mapRow(ResultSet rs) throws SQLException {
+        PolicyRequest domain = new PolicyRequest();
+        domain.setId(rs.getObject("id", UUID.class));
+        domain.setCustomerId(rs.getObject("customer_id", UUID.class));
+        domain.setProductId(rs.getString("product_id"));
+        domain.setCategory(InsuranceCategory.valueOf(rs.getString("category")));
+        domain.setSalesChannel(SalesChannel.valueOf(rs.getString("sales_channel")));
+        domain.setPaymentMethod(PaymentMethod.valueOf(rs.getString("payment_method")));
+        domain.setStatus(PolicyRequestStatus.valueOf(rs.getString("status")));
+        domain.setCreatedAt(rs.getObject("created_at", LocalDateTime.class));
+        domain.setFinishedAt(rs.getObject("finished_at", LocalDateTime.class));
+        domain.setTotalMonthlyPremiumAmount(money(rs, "total_monthly_premium_amount"));
+        domain.setInsuredAmount(money(rs, "insured_amount"));
+        return domain;
+    }
+
+    /**
+     * Lê uma coluna {@code DECIMAL(19,2)} pelo texto, convertido direto em centavos.
+     */
+    private static Money money(ResultSet rs, String column) throws SQLException {
+        String value = rs.getString(column);
+        return value != null ? Money.parse(value) : null;
+    }
+
     @Override
     public PolicyRequest save(PolicyRequest policyRequest) {
         PolicyRequestJpaEntity jpaEntity = toJpaEntity(policyRequest);
@@ -48,12 +283,136 @@ public class PolicyRequestRepositoryImpl implements PolicyRequestRepository {
         return toDomainWithHistory(saved);
     }
 
+    /**
+     * Executa um UPDATE condicional ao status e à versão lidos e um INSERT por registro
+     * de histórico (em lote JDBC quando houver mais de um), sem carregar nem mesclar
+     * coberturas, assistências e histórico existente. Qualquer gravação concorrente
+     * incrementa a versão e faz o UPDATE não afetar nenhuma linha.
+     * 
+     * <p>Como o UPDATE não passa pelo contexto de persistência, ele é descarregado antes e a
+     * entidade da solicitação, se estiver gerenciada, é desanexada depois: uma leitura
+     * seguinte na mesma transação vê o novo status e a nova versão em vez da entidade
+     * carregada antes da gravação. As demais entidades do contexto não são afetadas.</p>
+     */
+    @Override
+    public void updateStatus(PolicyRequest policyRequest, PolicyRequestStatus expectedStatus, List<StatusHistory> entries) {
+        entityManager.flush();
+        
+        int updated = jdbcTemplate.update(UPDATE_STATUS_SQL,
+                policyRequest.getStatus().name(),
+                policyRequest.getFinishedAt(),
+                policyRequest.getId(),
+                expectedStatus.name(),
+                policyRequest.getVersion());
+        
+        if (updated == 0) {
+            throw new OptimisticLockingFailureException(String.format(
+                    "Solicitação %s alterada concorrentemente (status %s, versão %s esperados)",
+                    policyRequest.getId(), expectedStatus, policyRequest.getVersion()));
+        }
+        policyRequest.setVersion(policyRequest.getVersion() + 1);
+        
+        List<Object[]> rows = new ArrayList<>(entries.size());
+        for (StatusHistory entry : entries) {
+            rows.add(new Object[] {UUID.randomUUID(), policyRequest.getId(), entry.getStatus().name(),
+                    entry.getTimestamp(), entry.getReason()});
+        }
+        jdbcTemplate.batchUpdate(INSERT_HISTORY_SQL, rows);
+        detach(policyRequest.getId());
+    }
+
+    /**
+     * Mesmo protocolo de {@link #updateStatus}, com um lote JDBC para os UPDATEs e outro
+     * para o histórico. A verificação de conflito vem das contagens do lote de UPDATEs,
+     * antes de o histórico ser inserido.
+     */
+    @Override
+    public void updateStatuses(List<StatusTransition> transitions) {
+        if (transitions.isEmpty()) {
+            return;
+        }
+        entityManager.flush();
+        
+        List<Object[]> updates = new ArrayList<>(transitions.size());
+        for (StatusTransition transition : transitions) {
+            PolicyRequest policyRequest = transition.policyRequest();
+            updates.add(new Object[] {policyRequest.getStatus().name(), policyRequest.getFinishedAt(),
+                    policyRequest.getId(), transition.expectedStatus().name(), policyRequest.getVersion()});
+        }
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE_STATUS_SQL, updates);
+        
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < transitions.size(); i++) {
+            StatusTransition transition = transitions.get(i);
+            PolicyRequest policyRequest = transition.policyRequest();
+            if (counts[i] == 0) {
+                throw new OptimisticLockingFailureException(String.format(
+                        "Solicitação %s alterada concorrentemente (status %s, versão %s esperados)",
+                        policyRequest.getId(), transition.expectedStatus(), policyRequest.getVersion()));
+            }
+            for (StatusHistory entry : transition.entries()) {
+                rows.add(new Object[] {UUID.randomUUID(), policyRequest.getId(), entry.getStatus().name(),
+                        entry.getTimestamp(), entry.getReason()});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_HISTORY_SQL, rows);
+        
+        for (StatusTransition transition : transitions) {
+            PolicyRequest policyRequest = transition.policyRequest();
+            policyRequest.setVersion(policyRequest.getVersion() + 1);
+            detach(policyRequest.getId());
+        }
+    }
+
+    /**
+     * Desanexa a entidade da solicitação sem consultá-la: {@code getReference} devolve a
+     * instância gerenciada ou um proxy não inicializado, e ambos saem do contexto. O
+     * histórico acompanha a entidade ({@code CascadeType.ALL}).
+     */
+    private void detach(UUID policyRequestId) {
+        entityManager.detach(entityManager.getReference(PolicyRequestJpaEntity.class, policyRequestId));
+    }
+
+    /**
+     * Persiste as solicitações em blocos do tamanho do lote JDBC do Hibernate,
+     * descarregando e limpando o contexto de persistência a cada bloco para
+     * manter o uso de memória constante em lotes grandes.
+     */
+    @Override
+    public List<PolicyRequest> saveAll(List<PolicyRequest> policyRequests) {
+        List<PolicyRequest> savedRequests = new ArrayList<>(policyRequests.size());
+        int chunkSize = Math.max(1, batchSize);
+        
+        for (int start = 0; start < policyRequests.size(); start += chunkSize) {
+            List<PolicyRequestJpaEntity> chunk = policyRequests
+                    .subList(start, Math.min(start + chunkSize, policyRequests.size()))
+                    .stream()
+                    .map(this::toJpaEntity)
+                    .collect(Collectors.toList());
+            
+            jpaRepository.saveAll(chunk).forEach(saved -> savedRequests.add(toDomainWithHistory(saved)));
+            
+            entityManager.flush();
+            entityManager.clear();
+        }
+        
+        return savedRequests;
+    }
+
     @Override
     public Optional<PolicyRequest> findById(UUID id) {
         return jpaRepository.findById(id)
                 .map(this::toDomain);
     }
 
+    @Override
+    public List<PolicyRequest> findAllById(Collection<UUID> ids) {
+        return jpaRepository.findAllById(ids)
+                .stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public void deleteById(UUID id) {
         jpaRepository.deleteById(id);
@@ -79,6 +438,7 @@ public class PolicyRequestRepositoryImpl implements PolicyRequestRepository {
         domain.setPaymentMethod(PaymentMethod.valueOf(jpaEntity.getPaymentMethod()));
         domain.setStatus(PolicyRequestStatus.valueOf(jpaEntity.getStatus()));
         domain.setCreatedAt(jpaEntity.getCreatedAt());
+        domain.setVersion(jpaEntity.getVersion());
         domain.setFinishedAt(jpaEntity.getFinishedAt());
         domain.setTotalMonthlyPremiumAmount(jpaEntity.getTotalMonthlyPremiumAmount());
         domain.setInsuredAmount(jpaEntity.getInsuredAmount());
@@ -117,6 +477,7 @@ public class PolicyRequestRepositoryImpl implements PolicyRequestRepository {
                 .paymentMethod(domain.getPaymentMethod().name())
                 .status(domain.getStatus().name())
                 .createdAt(domain.getCreatedAt())
+                .version(domain.getVersion())
                 .finishedAt(domain.getFinishedAt())
                 .totalMonthlyPremiumAmount(domain.getTotalMonthlyPremiumAmount())
                 .insuredAmount(domain.getInsuredAmount())
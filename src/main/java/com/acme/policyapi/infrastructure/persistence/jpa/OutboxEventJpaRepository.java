@@ -0,0 +1,33 @@
+package com.acme.policyapi.infrastructure.persistence.jpa;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventJpaRepository extends JpaRepository<OutboxEventJpaEntity, Long> {
+
+    /**
+     * Reserva os eventos pendentes mais antigos para envio. As linhas ficam bloqueadas
+     * até o fim da transação e são ignoradas por outras instâncias do relay
+     * ({@code SKIP LOCKED}), de modo que cada instância processa uma fatia disjunta.
+     *
+     * <p>Só é reservado o evento mais antigo de cada chave: enquanto houver um evento
+     * anterior da mesma chave na tabela (reservado por outra instância ou aguardando
+     * reenvio), os seguintes ficam de fora. Assim duas instâncias nunca enviam eventos da
+     * mesma chave ao mesmo tempo.</p>
+     */
+    @Query(value = "SELECT * FROM outbox_events e "
+                 + "WHERE NOT EXISTS (SELECT 1 FROM outbox_events o WHERE o.event_key = e.event_key "
+                 + "AND (o.created_at < e.created_at OR (o.created_at = e.created_at AND o.id < e.id))) "
+                 + "ORDER BY e.created_at, e.id LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<OutboxEventJpaEntity> claimBatch(@Param("limit") int limit);
+
+    @Query("SELECT MIN(e.createdAt) FROM OutboxEventJpaEntity e")
+    LocalDateTime findOldestCreatedAt();
+}
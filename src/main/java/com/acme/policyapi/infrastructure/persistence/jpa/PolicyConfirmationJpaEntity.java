@@ -0,0 +1,37 @@
+package com.acme.policyapi.infrastructure.persistence.jpa;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Mapeamento da tabela de correlação de confirmações. As gravações são feitas por
+ * upsert em {@code PolicyConfirmationRepositoryImpl}; a entidade é usada na limpeza.
+ */
+@Entity
+@Table(name = "policy_request_confirmations")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PolicyConfirmationJpaEntity {
+
+    @Id
+    @Column(name = "policy_request_id")
+    private UUID policyRequestId;
+
+    @Column(name = "received_mask", nullable = false)
+    private short receivedMask;
+
+    @Column(nullable = false)
+    private boolean completed;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,18 @@
+package com.acme.policyapi.infrastructure.persistence.jpa;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Repository
+public interface PolicyConfirmationJpaRepository extends JpaRepository<PolicyConfirmationJpaEntity, UUID> {
+
+    @Modifying
+    @Query("DELETE FROM PolicyConfirmationJpaEntity c WHERE c.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
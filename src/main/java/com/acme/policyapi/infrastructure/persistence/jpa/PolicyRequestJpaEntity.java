@@ -1,10 +1,11 @@
 package com.acme.policyapi.infrastructure.persistence.jpa;
 
+import com.acme.policyapi.domain.entity.Money;
+import com.acme.policyapi.domain.entity.PositiveMoney;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.*;
 
@@ -53,20 +54,20 @@ public class PolicyRequestJpaEntity {
 
     @Column(name = "total_monthly_premium_amount", nullable = false, precision = 19, scale = 2)
     @NotNull
-    @DecimalMin(value = "0.01")
-    private BigDecimal totalMonthlyPremiumAmount;
+    @PositiveMoney
+    private Money totalMonthlyPremiumAmount;
 
     @Column(name = "insured_amount", nullable = false, precision = 19, scale = 2)
     @NotNull
-    @DecimalMin(value = "0.01")
-    private BigDecimal insuredAmount;
+    @PositiveMoney
+    private Money insuredAmount;
 
     @ElementCollection
     @CollectionTable(name = "policy_coverages", joinColumns = @JoinColumn(name = "policy_request_id"))
     @MapKeyColumn(name = "coverage_name")
     @Column(name = "coverage_amount", precision = 19, scale = 2)
     @Builder.Default
-    private Map<String, BigDecimal> coverages = new HashMap<>();
+    private Map<String, Money> coverages = new HashMap<>();
 
     @ElementCollection
     @CollectionTable(name = "policy_assistances", joinColumns = @JoinColumn(name = "policy_request_id"))
@@ -79,6 +80,9 @@ public class PolicyRequestJpaEntity {
     @Builder.Default
     private List<StatusHistoryJpaEntity> history = new ArrayList<>();
 
+    @Version
+    private Long version;
+
     @PrePersist
     public void prePersist() {
         if (createdAt == null) {
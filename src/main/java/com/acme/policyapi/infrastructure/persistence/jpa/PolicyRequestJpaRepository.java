@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,4 +20,7 @@ public interface PolicyRequestJpaRepository extends JpaRepository<PolicyRequestJ
 
     @Query("SELECT pr FROM PolicyRequestJpaEntity pr LEFT JOIN FETCH pr.history WHERE pr.customerId = :customerId")
     List<PolicyRequestJpaEntity> findByCustomerIdWithHistory(@Param("customerId") UUID customerId);
+
+    @Query("SELECT h FROM StatusHistoryJpaEntity h WHERE h.policyRequestId IN :ids ORDER BY h.timestamp ASC")
+    List<StatusHistoryJpaEntity> findHistoryByPolicyRequestIds(@Param("ids") Collection<UUID> ids);
 }
\ No newline at end of file
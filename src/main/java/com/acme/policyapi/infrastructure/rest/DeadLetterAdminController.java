@@ -0,0 +1,52 @@
+package com.acme.policyapi.infrastructure.rest;
+
+import com.acme.policyapi.infrastructure.messaging.DeadLetterReplayer;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controller administrativo para reenvio dos registros em dead letter.
+ * 
+ * @author Sistema ACME
+ */
+@RestController
+@RequestMapping("/api/v1/admin/dead-letters")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Dead Letters", description = "Reenvio de eventos de pagamento e subscrição que esgotaram as retentativas")
+public class DeadLetterAdminController {
+
+    private final DeadLetterReplayer deadLetterReplayer;
+
+    @Value("${kafka.consumer.dead-letter.replay.max-records:1000}")
+    private int maxRecords = 1000;
+
+    @Operation(summary = "Reenviar registros do DLT", 
+               description = "Reenvia ao tópico original os próximos registros do DLT ainda não reenviados")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Reenvio executado"),
+        @ApiResponse(responseCode = "400", description = "Tópico sem dead letter ou limite inválido")
+    })
+    @PostMapping("/replay")
+    public ResponseEntity<DeadLetterReplayer.ReplayResult> replay(
+            @Parameter(description = "Tópico original", example = "payments.events") @RequestParam String topic,
+            @Parameter(description = "Quantidade máxima de registros") @RequestParam(defaultValue = "100") int limit) {
+        
+        if (limit < 1 || !deadLetterReplayer.getReplayableTopics().contains(topic)) {
+            log.warn("Reenvio de DLT inválido: topic={}, limit={}", topic, limit);
+            return ResponseEntity.badRequest().build();
+        }
+        
+        log.info("Reenviando até {} registros do DLT de {}", Math.min(limit, maxRecords), topic);
+        
+        return ResponseEntity.ok(deadLetterReplayer.replay(topic, Math.min(limit, maxRecords)));
+    }
+}
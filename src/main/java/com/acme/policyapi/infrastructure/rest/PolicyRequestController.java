@@ -1,9 +1,16 @@
 package com.acme.policyapi.infrastructure.rest;
 
+import com.acme.policyapi.application.dto.PolicyRequestBatchResultDTO;
 import com.acme.policyapi.application.dto.PolicyRequestCreateDTO;
+import com.acme.policyapi.application.dto.PolicyRequestPageDTO;
 import com.acme.policyapi.application.dto.PolicyRequestResponseDTO;
+import com.acme.policyapi.application.dto.PolicyRequestSearchDTO;
 import com.acme.policyapi.application.service.PolicyRequestService;
+import com.acme.policyapi.domain.entity.InsuranceCategory;
 import com.acme.policyapi.domain.entity.PolicyRequestStatus;
+import com.acme.policyapi.domain.entity.SalesChannel;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -13,13 +20,23 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -36,7 +53,13 @@ import java.util.UUID;
 @Tag(name = "Policy Requests", description = "API para gerenciamento de solicitações de apólices de seguro")
 public class PolicyRequestController {
 
+    private static final String APPLICATION_NDJSON = "application/x-ndjson";
+
     private final PolicyRequestService policyRequestService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${policy-request.batch.max-size:5000}")
+    private int batchMaxSize = 5000;
 
     @Operation(summary = "Criar nova solicitação de apólice", 
                description = "Cria uma nova solicitação de apólice de seguro e retorna o ID da solicitação com data/hora")
@@ -64,6 +87,38 @@ public class PolicyRequestController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdResponse);
     }
 
+    @Operation(summary = "Criar solicitações de apólice em lote", 
+               description = "Cria várias solicitações a partir de um array JSON e retorna o ID ou os erros de cada item")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Todas as solicitações foram criadas"),
+        @ApiResponse(responseCode = "207", description = "Parte das solicitações foi rejeitada na validação"),
+        @ApiResponse(responseCode = "413", description = "Lote excede o tamanho máximo permitido")
+    })
+    @PostMapping(value = "/batch", consumes = "application/json")
+    public ResponseEntity<PolicyRequestBatchResultDTO> createPolicyRequests(
+            @RequestBody List<PolicyRequestCreateDTO> createDTOs) {
+        
+        log.info("Recebendo lote de {} solicitações de apólice", createDTOs.size());
+        
+        return createBatch(createDTOs);
+    }
+
+    @Operation(summary = "Criar solicitações de apólice em lote (NDJSON)", 
+               description = "Cria várias solicitações a partir de um corpo NDJSON (uma solicitação por linha)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Todas as solicitações foram criadas"),
+        @ApiResponse(responseCode = "207", description = "Parte das solicitações foi rejeitada na leitura ou validação"),
+        @ApiResponse(responseCode = "413", description = "Lote excede o tamanho máximo permitido")
+    })
+    @PostMapping(value = "/batch", consumes = APPLICATION_NDJSON)
+    public ResponseEntity<PolicyRequestBatchResultDTO> createPolicyRequestsNdjson(InputStream body) throws IOException {
+        List<PolicyRequestCreateDTO> createDTOs = readNdjson(body);
+        
+        log.info("Recebendo lote NDJSON de {} solicitações de apólice", createDTOs.size());
+        
+        return createBatch(createDTOs);
+    }
+
     @Operation(summary = "Consultar solicitação por ID", 
                description = "Retorna os detalhes completos de uma solicitação incluindo histórico")
     @ApiResponses(value = {
@@ -98,6 +153,71 @@ public class PolicyRequestController {
         return ResponseEntity.ok(responses);
     }
 
+    @Operation(summary = "Buscar solicitações com filtros", 
+               description = "Retorna uma página de solicitações ordenadas da mais recente para a mais antiga. "
+                           + "Use o nextCursor retornado para obter a página seguinte")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Página de solicitações retornada"),
+        @ApiResponse(responseCode = "400", description = "Filtros ou cursor inválidos")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<PolicyRequestPageDTO> search(
+            @Parameter(description = "ID do cliente") @RequestParam(required = false) UUID customerId,
+            @Parameter(description = "Status da solicitação") @RequestParam(required = false) PolicyRequestStatus status,
+            @Parameter(description = "Categoria do seguro") @RequestParam(required = false) InsuranceCategory category,
+            @Parameter(description = "Canal de vendas") @RequestParam(required = false) SalesChannel salesChannel,
+            @Parameter(description = "Criadas a partir de (inclusivo)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @Parameter(description = "Criadas antes de (exclusivo)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @Parameter(description = "Cursor retornado pela página anterior") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamanho da página") @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Incluir histórico de status") @RequestParam(defaultValue = "false") boolean includeHistory) {
+        
+        PolicyRequestSearchDTO searchDTO = new PolicyRequestSearchDTO();
+        searchDTO.setCustomerId(customerId);
+        searchDTO.setStatus(status);
+        searchDTO.setCategory(category);
+        searchDTO.setSalesChannel(salesChannel);
+        searchDTO.setCreatedFrom(createdFrom);
+        searchDTO.setCreatedTo(createdTo);
+        searchDTO.setCursor(cursor);
+        searchDTO.setLimit(limit);
+        searchDTO.setIncludeHistory(includeHistory);
+        
+        log.debug("Buscando solicitações: cliente={}, status={}, categoria={}, canal={}", 
+                  customerId, status, category, salesChannel);
+        
+        return ResponseEntity.ok(policyRequestService.search(searchDTO));
+    }
+
+    @Operation(summary = "Exportar solicitações em NDJSON", 
+               description = "Transmite todas as solicitações que atendem aos filtros, uma por linha, "
+                           + "em ordem de criação. Indicado para conciliações com grandes volumes")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Exportação iniciada")
+    })
+    @GetMapping(value = "/export", produces = APPLICATION_NDJSON)
+    public ResponseEntity<StreamingResponseBody> export(
+            @Parameter(description = "Status da solicitação") @RequestParam(required = false) PolicyRequestStatus status,
+            @Parameter(description = "Criadas a partir de (inclusivo)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @Parameter(description = "Criadas antes de (exclusivo)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo) {
+        
+        PolicyRequestSearchDTO filters = new PolicyRequestSearchDTO();
+        filters.setStatus(status);
+        filters.setCreatedFrom(createdFrom);
+        filters.setCreatedTo(createdTo);
+        
+        log.info("Exportando solicitações: status={}, de={}, até={}", status, createdFrom, createdTo);
+        
+        StreamingResponseBody body = output -> policyRequestService.exportPolicyRequests(filters, output);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON))
+                .body(body);
+    }
+
     @Operation(summary = "Cancelar solicitação", 
                description = "Cancela uma solicitação de apólice (exceto se já foi aprovada)")
     @ApiResponses(value = {
@@ -119,6 +239,43 @@ public class PolicyRequestController {
         return ResponseEntity.ok().build();
     }
 
+    private ResponseEntity<PolicyRequestBatchResultDTO> createBatch(List<PolicyRequestCreateDTO> createDTOs) {
+        if (createDTOs.size() > batchMaxSize) {
+            log.warn("Lote com {} solicitações excede o limite de {}", createDTOs.size(), batchMaxSize);
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+        
+        PolicyRequestBatchResultDTO result = policyRequestService.createPolicyRequests(createDTOs);
+        HttpStatus status = result.getFailed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        
+        return ResponseEntity.status(status).body(result);
+    }
+
+    /**
+     * Lê um corpo NDJSON linha a linha. Linhas que não puderem ser convertidas
+     * são mantidas como {@code null} para que o erro seja reportado na posição correta.
+     */
+    private List<PolicyRequestCreateDTO> readNdjson(InputStream body) throws IOException {
+        List<PolicyRequestCreateDTO> createDTOs = new ArrayList<>();
+        
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null && createDTOs.size() <= batchMaxSize) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    createDTOs.add(objectMapper.readValue(line, PolicyRequestCreateDTO.class));
+                } catch (JsonProcessingException e) {
+                    log.warn("Linha {} do lote NDJSON inválida: {}", createDTOs.size(), e.getOriginalMessage());
+                    createDTOs.add(null);
+                }
+            }
+        }
+        
+        return createDTOs;
+    }
+
     @Data
     @Builder
     public static class PolicyRequestCreatedResponse {
@@ -0,0 +1,20 @@
+-- Tabela de outbox transacional para publicação de eventos no Kafka
+
+CREATE SEQUENCE outbox_events_seq INCREMENT BY 50;
+
+CREATE TABLE outbox_events (
+    id BIGINT PRIMARY KEY DEFAULT nextval('outbox_events_seq'),
+    aggregate_id UUID NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    topic VARCHAR(255) NOT NULL,
+    event_key VARCHAR(255) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Índice usado pelo relay para buscar os eventos mais antigos primeiro
+CREATE INDEX idx_outbox_events_created_at ON outbox_events(created_at, id);
+
+COMMENT ON TABLE outbox_events IS 'Eventos gravados na mesma transação da alteração de estado, aguardando envio ao Kafka';
+COMMENT ON COLUMN outbox_events.aggregate_id IS 'ID da solicitação de apólice que originou o evento';
+COMMENT ON COLUMN outbox_events.payload IS 'Evento serializado em JSON, enviado sem alterações ao tópico';
@@ -0,0 +1,19 @@
+-- Índices compostos para a busca paginada por chave (created_at, id)
+
+-- Busca sem filtro seletivo e cursor da paginação
+CREATE INDEX idx_policy_requests_created_at_id ON policy_requests(created_at DESC, id DESC);
+
+-- Listagem por cliente (contas de corretores com milhares de solicitações)
+CREATE INDEX idx_policy_requests_customer_created_at_id ON policy_requests(customer_id, created_at DESC, id DESC);
+
+-- Filtro por status, o mais comum nas consultas operacionais
+CREATE INDEX idx_policy_requests_status_created_at_id ON policy_requests(status, created_at DESC, id DESC);
+
+-- Filtros por categoria e canal de vendas
+CREATE INDEX idx_policy_requests_category_channel_created_at_id
+    ON policy_requests(category, sales_channel, created_at DESC, id DESC);
+
+-- Os índices simples abaixo passam a ser cobertos pelos compostos acima
+DROP INDEX IF EXISTS idx_policy_requests_created_at;
+DROP INDEX IF EXISTS idx_policy_requests_customer_id;
+DROP INDEX IF EXISTS idx_policy_requests_status;
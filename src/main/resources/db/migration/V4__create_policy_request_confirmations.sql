@@ -0,0 +1,16 @@
+-- Correlação das confirmações de pagamento e subscrição de solicitações pendentes
+
+CREATE TABLE policy_request_confirmations (
+    policy_request_id UUID PRIMARY KEY,
+    received_mask SMALLINT NOT NULL,
+    completed BOOLEAN NOT NULL DEFAULT FALSE,
+    expires_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Índice usado pela limpeza periódica das correlações expiradas
+CREATE INDEX idx_policy_request_confirmations_expires_at ON policy_request_confirmations(expires_at);
+
+COMMENT ON TABLE policy_request_confirmations IS 'Confirmações externas recebidas por solicitação; sem chave estrangeira para aceitar eventos que cheguem antes da solicitação ser gravada';
+COMMENT ON COLUMN policy_request_confirmations.received_mask IS 'Bits das confirmações recebidas: 1 = pagamento, 2 = subscrição';
+COMMENT ON COLUMN policy_request_confirmations.completed IS 'Verdadeiro depois que todas as confirmações chegaram e a aprovação foi disparada';
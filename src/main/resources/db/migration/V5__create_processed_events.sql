@@ -0,0 +1,14 @@
+-- Registros Kafka já aplicados, usados para descartar reentregas
+
+CREATE TABLE processed_events (
+    topic VARCHAR(255) NOT NULL,
+    partition_id INTEGER NOT NULL,
+    record_offset BIGINT NOT NULL,
+    processed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (topic, partition_id, record_offset)
+);
+
+-- Índice usado pela limpeza periódica
+CREATE INDEX idx_processed_events_processed_at ON processed_events(processed_at);
+
+COMMENT ON TABLE processed_events IS 'Coordenadas (tópico, partição, offset) dos eventos de pagamento e subscrição já aplicados';
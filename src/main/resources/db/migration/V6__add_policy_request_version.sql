@@ -0,0 +1,2 @@
+-- Versão para controle otimista de concorrência nas alterações de status
+ALTER TABLE policy_requests ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,2 @@
+-- Índice usado pelo relay para verificar se há evento anterior pendente da mesma chave
+CREATE INDEX idx_outbox_events_event_key ON outbox_events(event_key, created_at, id);
@@ -1,6 +1,7 @@
 package com.acme.policyapi.application.dto;
 
 import com.acme.policyapi.domain.entity.InsuranceCategory;
+import com.acme.policyapi.domain.entity.Money;
 import com.acme.policyapi.domain.entity.PaymentMethod;
 import com.acme.policyapi.domain.entity.SalesChannel;
 import jakarta.validation.ConstraintViolation;
@@ -12,7 +13,6 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
-import java.math.BigDecimal;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -37,11 +37,11 @@ class PolicyRequestCreateDTOTest {
         validDTO.setCategory(InsuranceCategory.AUTO);
         validDTO.setSalesChannel(SalesChannel.WEBSITE);
         validDTO.setPaymentMethod(PaymentMethod.CREDIT_CARD);
-        validDTO.setTotalMonthlyPremiumAmount(new BigDecimal("150.00"));
-        validDTO.setInsuredAmount(new BigDecimal("50000.00"));
+        validDTO.setTotalMonthlyPremiumAmount(Money.parse("150.00"));
+        validDTO.setInsuredAmount(Money.parse("50000.00"));
         
-        Map<String, BigDecimal> coverages = new HashMap<>();
-        coverages.put("COBERTURA_BASICA", new BigDecimal("30000.00"));
+        Map<String, Money> coverages = new HashMap<>();
+        coverages.put("COBERTURA_BASICA", Money.parse("30000.00"));
         validDTO.setCoverages(coverages);
         
         List<String> assistances = Arrays.asList("ASSISTENCIA_24H", "GUINCHO");
@@ -62,9 +62,9 @@ class PolicyRequestCreateDTOTest {
         InsuranceCategory category = InsuranceCategory.VIDA;
         SalesChannel salesChannel = SalesChannel.PRESENCIAL;
         PaymentMethod paymentMethod = PaymentMethod.BOLETO;
-        BigDecimal premium = new BigDecimal("200.50");
-        BigDecimal insuredAmount = new BigDecimal("100000.00");
-        Map<String, BigDecimal> coverages = Map.of("TEST_COVERAGE", new BigDecimal("50000.00"));
+        Money premium = Money.parse("200.50");
+        Money insuredAmount = Money.parse("100000.00");
+        Map<String, Money> coverages = Map.of("TEST_COVERAGE", Money.parse("50000.00"));
         List<String> assistances = List.of("TEST_ASSISTANCE");
 
         dto.setCustomerId(customerId);
@@ -162,7 +162,7 @@ class PolicyRequestCreateDTOTest {
     @ParameterizedTest
     @ValueSource(strings = {"0.00", "-10.50", "-0.01"})
     void testTotalMonthlyPremiumAmountMinValue(String value) {
-        validDTO.setTotalMonthlyPremiumAmount(new BigDecimal(value));
+        validDTO.setTotalMonthlyPremiumAmount(Money.parse(value));
         Set<ConstraintViolation<PolicyRequestCreateDTO>> violations = validator.validate(validDTO);
         
         assertEquals(1, violations.size());
@@ -172,7 +172,7 @@ class PolicyRequestCreateDTOTest {
 
     @Test
     void testTotalMonthlyPremiumAmountValidValue() {
-        validDTO.setTotalMonthlyPremiumAmount(new BigDecimal("0.01"));
+        validDTO.setTotalMonthlyPremiumAmount(Money.parse("0.01"));
         Set<ConstraintViolation<PolicyRequestCreateDTO>> violations = validator.validate(validDTO);
         
         assertTrue(violations.isEmpty());
@@ -191,7 +191,7 @@ class PolicyRequestCreateDTOTest {
     @ParameterizedTest
     @ValueSource(strings = {"0.00", "-1000.00", "-0.01"})
     void testInsuredAmountMinValue(String value) {
-        validDTO.setInsuredAmount(new BigDecimal(value));
+        validDTO.setInsuredAmount(Money.parse(value));
         Set<ConstraintViolation<PolicyRequestCreateDTO>> violations = validator.validate(validDTO);
         
         assertEquals(1, violations.size());
@@ -201,7 +201,7 @@ class PolicyRequestCreateDTOTest {
 
     @Test
     void testInsuredAmountValidValue() {
-        validDTO.setInsuredAmount(new BigDecimal("0.01"));
+        validDTO.setInsuredAmount(Money.parse("0.01"));
         Set<ConstraintViolation<PolicyRequestCreateDTO>> violations = validator.validate(validDTO);
         
         assertTrue(violations.isEmpty());
@@ -290,9 +290,9 @@ class PolicyRequestCreateDTOTest {
         dto.setCategory(InsuranceCategory.AUTO);
         dto.setSalesChannel(SalesChannel.WEBSITE);
         dto.setPaymentMethod(PaymentMethod.CREDIT_CARD);
-        dto.setTotalMonthlyPremiumAmount(new BigDecimal("150.00"));
-        dto.setInsuredAmount(new BigDecimal("50000.00"));
-        dto.setCoverages(Map.of("BASIC", new BigDecimal("25000.00")));
+        dto.setTotalMonthlyPremiumAmount(Money.parse("150.00"));
+        dto.setInsuredAmount(Money.parse("50000.00"));
+        dto.setCoverages(Map.of("BASIC", Money.parse("25000.00")));
         dto.setAssistances(List.of("24H_ASSISTANCE"));
         return dto;
     }
@@ -3,7 +3,6 @@ package com.acme.policyapi.application.dto;
 import com.acme.policyapi.domain.entity.*;
 import org.junit.jupiter.api.Test;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.*;
 
@@ -27,9 +26,9 @@ class PolicyRequestResponseDTOTest {
         PolicyRequestStatus status = PolicyRequestStatus.PENDING;
         LocalDateTime createdAt = LocalDateTime.now();
         LocalDateTime finishedAt = LocalDateTime.now().plusDays(1);
-        BigDecimal totalMonthlyPremiumAmount = new BigDecimal("150.00");
-        BigDecimal insuredAmount = new BigDecimal("50000.00");
-        Map<String, BigDecimal> coverages = Map.of("BASIC", new BigDecimal("25000.00"));
+        Money totalMonthlyPremiumAmount = Money.parse("150.00");
+        Money insuredAmount = Money.parse("50000.00");
+        Map<String, Money> coverages = Map.of("BASIC", Money.parse("25000.00"));
         List<String> assistances = List.of("24H_ASSISTANCE");
         List<StatusHistoryDTO> history = createStatusHistory();
 
@@ -118,7 +117,7 @@ class PolicyRequestResponseDTOTest {
     void testEmptyCollections() {
         PolicyRequestResponseDTO dto = new PolicyRequestResponseDTO();
         
-        Map<String, BigDecimal> emptyCoverages = new HashMap<>();
+        Map<String, Money> emptyCoverages = new HashMap<>();
         List<String> emptyAssistances = new ArrayList<>();
         List<StatusHistoryDTO> emptyHistory = new ArrayList<>();
 
@@ -175,17 +174,17 @@ class PolicyRequestResponseDTOTest {
     void testComplexCoveragesMap() {
         PolicyRequestResponseDTO dto = new PolicyRequestResponseDTO();
         
-        Map<String, BigDecimal> coverages = new HashMap<>();
-        coverages.put("COBERTURA_BASICA", new BigDecimal("50000.00"));
-        coverages.put("COBERTURA_AMPLIADA", new BigDecimal("75000.00"));
-        coverages.put("COBERTURA_TOTAL", new BigDecimal("100000.00"));
+        Map<String, Money> coverages = new HashMap<>();
+        coverages.put("COBERTURA_BASICA", Money.parse("50000.00"));
+        coverages.put("COBERTURA_AMPLIADA", Money.parse("75000.00"));
+        coverages.put("COBERTURA_TOTAL", Money.parse("100000.00"));
         
         dto.setCoverages(coverages);
         
         assertEquals(3, dto.getCoverages().size());
-        assertEquals(new BigDecimal("50000.00"), dto.getCoverages().get("COBERTURA_BASICA"));
-        assertEquals(new BigDecimal("75000.00"), dto.getCoverages().get("COBERTURA_AMPLIADA"));
-        assertEquals(new BigDecimal("100000.00"), dto.getCoverages().get("COBERTURA_TOTAL"));
+        assertEquals(Money.parse("50000.00"), dto.getCoverages().get("COBERTURA_BASICA"));
+        assertEquals(Money.parse("75000.00"), dto.getCoverages().get("COBERTURA_AMPLIADA"));
+        assertEquals(Money.parse("100000.00"), dto.getCoverages().get("COBERTURA_TOTAL"));
     }
 
     @Test
@@ -239,9 +238,9 @@ class PolicyRequestResponseDTOTest {
         dto.setStatus(PolicyRequestStatus.APPROVED);
         dto.setCreatedAt(LocalDateTime.of(2023, 1, 1, 10, 0, 0));
         dto.setFinishedAt(LocalDateTime.of(2023, 1, 2, 10, 0, 0));
-        dto.setTotalMonthlyPremiumAmount(new BigDecimal("150.00"));
-        dto.setInsuredAmount(new BigDecimal("50000.00"));
-        dto.setCoverages(Map.of("BASIC", new BigDecimal("25000.00")));
+        dto.setTotalMonthlyPremiumAmount(Money.parse("150.00"));
+        dto.setInsuredAmount(Money.parse("50000.00"));
+        dto.setCoverages(Map.of("BASIC", Money.parse("25000.00")));
         dto.setAssistances(List.of("24H_ASSISTANCE"));
         dto.setHistory(createStatusHistory());
         return dto;
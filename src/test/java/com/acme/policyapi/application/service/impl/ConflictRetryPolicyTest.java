@@ -0,0 +1,90 @@
+package com.acme.policyapi.application.service.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConflictRetryPolicyTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConflictRetryPolicy retryPolicy;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        retryPolicy = new ConflictRetryPolicy(meterRegistry, 3, Duration.ofMillis(1));
+    }
+
+    @Test
+    void testSuccessfulFirstAttemptRecordsNothing() {
+        // Act
+        String result = retryPolicy.execute("approve", () -> "ok");
+
+        // Assert
+        assertEquals("ok", result);
+        assertNull(meterRegistry.find("policy.request.conflicts").counter());
+        assertNull(meterRegistry.find("policy.request.conflict.retry").timer());
+    }
+
+    @Test
+    void testConflictIsRetriedUntilSuccess() {
+        // Arrange
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act
+        int result = retryPolicy.execute("approve", () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new OptimisticLockingFailureException("versão alterada");
+            }
+            return attempts.get();
+        });
+
+        // Assert
+        assertEquals(3, result);
+        assertEquals(2.0, meterRegistry.get("policy.request.conflicts").tag("operation", "approve").counter().count());
+        assertEquals(1, meterRegistry.get("policy.request.conflict.retry")
+                .tags("operation", "approve", "outcome", "success").timer().count());
+    }
+
+    @Test
+    void testConflictIsPropagatedAfterMaxAttempts() {
+        // Arrange
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act & Assert
+        assertThrows(OptimisticLockingFailureException.class, () -> retryPolicy.run("cancel", () -> {
+            attempts.incrementAndGet();
+            throw new OptimisticLockingFailureException("versão alterada");
+        }));
+        assertEquals(3, attempts.get());
+        assertEquals(1, meterRegistry.get("policy.request.conflict.retry")
+                .tags("operation", "cancel", "outcome", "exhausted").timer().count());
+    }
+
+    @Test
+    void testOtherFailuresAreNotRetried() {
+        // Arrange
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act & Assert
+        assertThrows(DataIntegrityViolationException.class, () -> retryPolicy.run("reject", () -> {
+            attempts.incrementAndGet();
+            throw new DataIntegrityViolationException("constraint");
+        }));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void testInvalidMaxAttempts() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> new ConflictRetryPolicy(meterRegistry, 0, Duration.ZERO));
+    }
+}
@@ -8,7 +8,6 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mapstruct.factory.Mappers;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -36,11 +35,11 @@ class PolicyRequestMapperTest {
         createDTO.setCustomerId(UUID.randomUUID());
         createDTO.setProductId("PROD123");
         createDTO.setCategory(InsuranceCategory.AUTO);
-        createDTO.setTotalMonthlyPremiumAmount(new BigDecimal("150.00"));
-        createDTO.setInsuredAmount(new BigDecimal("50000.00"));
+        createDTO.setTotalMonthlyPremiumAmount(Money.parse("150.00"));
+        createDTO.setInsuredAmount(Money.parse("50000.00"));
         createDTO.setPaymentMethod(PaymentMethod.CREDIT_CARD);
         createDTO.setSalesChannel(SalesChannel.MOBILE);
-        createDTO.setCoverages(Map.of("BASIC", new BigDecimal("25000.00")));
+        createDTO.setCoverages(Map.of("BASIC", Money.parse("25000.00")));
         createDTO.setAssistances(List.of("24H_ASSISTANCE"));
 
         // Act
@@ -80,9 +79,9 @@ class PolicyRequestMapperTest {
         createDTO.setCustomerId(UUID.randomUUID());
         createDTO.setProductId("PROD456");
         createDTO.setCategory(InsuranceCategory.VIDA);
-        createDTO.setTotalMonthlyPremiumAmount(new BigDecimal("200.00"));
-        createDTO.setInsuredAmount(new BigDecimal("100000.00"));
-        createDTO.setCoverages(Map.of("BASIC", new BigDecimal("50000.00")));
+        createDTO.setTotalMonthlyPremiumAmount(Money.parse("200.00"));
+        createDTO.setInsuredAmount(Money.parse("100000.00"));
+        createDTO.setCoverages(Map.of("BASIC", Money.parse("50000.00")));
         createDTO.setAssistances(List.of("ASSISTANCE"));
 
         // Act
@@ -109,11 +108,11 @@ class PolicyRequestMapperTest {
         entity.setCustomerId(UUID.randomUUID());
         entity.setProductId("PROD789");
         entity.setCategory(InsuranceCategory.RESIDENCIAL);
-        entity.setTotalMonthlyPremiumAmount(new BigDecimal("300.00"));
-        entity.setInsuredAmount(new BigDecimal("250000.00"));
+        entity.setTotalMonthlyPremiumAmount(Money.parse("300.00"));
+        entity.setInsuredAmount(Money.parse("250000.00"));
         entity.setPaymentMethod(PaymentMethod.BOLETO);
         entity.setSalesChannel(SalesChannel.WEBSITE);
-        entity.setCoverages(Map.of("BASIC", new BigDecimal("125000.00")));
+        entity.setCoverages(Map.of("BASIC", Money.parse("125000.00")));
         entity.setAssistances(List.of("HOME_ASSISTANCE"));
         entity.setStatus(PolicyRequestStatus.APPROVED);
         entity.setCreatedAt(LocalDateTime.now());
@@ -153,8 +152,8 @@ class PolicyRequestMapperTest {
         entity.setCustomerId(UUID.randomUUID());
         entity.setProductId("PROD999");
         entity.setCategory(InsuranceCategory.EMPRESARIAL);
-        entity.setTotalMonthlyPremiumAmount(new BigDecimal("500.00"));
-        entity.setInsuredAmount(new BigDecimal("500000.00"));
+        entity.setTotalMonthlyPremiumAmount(Money.parse("500.00"));
+        entity.setInsuredAmount(Money.parse("500000.00"));
         entity.setStatus(PolicyRequestStatus.VALIDATED);
 
         // Cria histórico
@@ -206,8 +205,8 @@ class PolicyRequestMapperTest {
         entity1.setCustomerId(UUID.randomUUID());
         entity1.setProductId("PROD111");
         entity1.setCategory(InsuranceCategory.AUTO);
-        entity1.setTotalMonthlyPremiumAmount(new BigDecimal("120.00"));
-        entity1.setInsuredAmount(new BigDecimal("30000.00"));
+        entity1.setTotalMonthlyPremiumAmount(Money.parse("120.00"));
+        entity1.setInsuredAmount(Money.parse("30000.00"));
         entity1.setStatus(PolicyRequestStatus.PENDING);
 
         PolicyRequest entity2 = new PolicyRequest();
@@ -215,8 +214,8 @@ class PolicyRequestMapperTest {
         entity2.setCustomerId(UUID.randomUUID());
         entity2.setProductId("PROD222");
         entity2.setCategory(InsuranceCategory.VIDA);
-        entity2.setTotalMonthlyPremiumAmount(new BigDecimal("250.00"));
-        entity2.setInsuredAmount(new BigDecimal("150000.00"));
+        entity2.setTotalMonthlyPremiumAmount(Money.parse("250.00"));
+        entity2.setInsuredAmount(Money.parse("150000.00"));
         entity2.setStatus(PolicyRequestStatus.APPROVED);
 
         entities.add(entity1);
@@ -338,9 +337,9 @@ class PolicyRequestMapperTest {
             createDTO.setCustomerId(UUID.randomUUID());
             createDTO.setProductId("PROD_" + category.name());
             createDTO.setCategory(category);
-            createDTO.setTotalMonthlyPremiumAmount(new BigDecimal("100.00"));
-            createDTO.setInsuredAmount(new BigDecimal("100000.00"));
-            createDTO.setCoverages(Map.of("BASIC", new BigDecimal("50000.00")));
+            createDTO.setTotalMonthlyPremiumAmount(Money.parse("100.00"));
+            createDTO.setInsuredAmount(Money.parse("100000.00"));
+            createDTO.setCoverages(Map.of("BASIC", Money.parse("50000.00")));
             createDTO.setAssistances(List.of("ASSISTANCE"));
 
             PolicyRequest entity = mapper.toEntity(createDTO);
@@ -364,9 +363,9 @@ class PolicyRequestMapperTest {
             createDTO.setProductId("PROD_" + method.name());
             createDTO.setCategory(InsuranceCategory.AUTO);
             createDTO.setPaymentMethod(method);
-            createDTO.setTotalMonthlyPremiumAmount(new BigDecimal("150.00"));
-            createDTO.setInsuredAmount(new BigDecimal("50000.00"));
-            createDTO.setCoverages(Map.of("BASIC", new BigDecimal("25000.00")));
+            createDTO.setTotalMonthlyPremiumAmount(Money.parse("150.00"));
+            createDTO.setInsuredAmount(Money.parse("50000.00"));
+            createDTO.setCoverages(Map.of("BASIC", Money.parse("25000.00")));
             createDTO.setAssistances(List.of("24H_ASSISTANCE"));
 
             PolicyRequest entity = mapper.toEntity(createDTO);
@@ -390,9 +389,9 @@ class PolicyRequestMapperTest {
             createDTO.setProductId("PROD_" + channel.name());
             createDTO.setCategory(InsuranceCategory.RESIDENCIAL);
             createDTO.setSalesChannel(channel);
-            createDTO.setTotalMonthlyPremiumAmount(new BigDecimal("200.00"));
-            createDTO.setInsuredAmount(new BigDecimal("200000.00"));
-            createDTO.setCoverages(Map.of("BASIC", new BigDecimal("100000.00")));
+            createDTO.setTotalMonthlyPremiumAmount(Money.parse("200.00"));
+            createDTO.setInsuredAmount(Money.parse("200000.00"));
+            createDTO.setCoverages(Map.of("BASIC", Money.parse("100000.00")));
             createDTO.setAssistances(List.of("HOME_ASSISTANCE"));
 
             PolicyRequest entity = mapper.toEntity(createDTO);
@@ -420,27 +419,24 @@ class PolicyRequestMapperTest {
     }
 
     @Test
-    void testMappingBigDecimalPrecision() {
+    void testMappingMoneyKeepsCents() {
         // Arrange
         PolicyRequestCreateDTO createDTO = new PolicyRequestCreateDTO();
         createDTO.setCustomerId(UUID.randomUUID());
         createDTO.setProductId("PROD_PRECISION");
         createDTO.setCategory(InsuranceCategory.EMPRESARIAL);
-        createDTO.setTotalMonthlyPremiumAmount(new BigDecimal("123.45"));
-        createDTO.setInsuredAmount(new BigDecimal("123456.789"));
-        createDTO.setCoverages(Map.of("BASIC", new BigDecimal("61728.394")));
+        createDTO.setTotalMonthlyPremiumAmount(Money.parse("123.45"));
+        createDTO.setInsuredAmount(Money.parse("123456.78"));
+        createDTO.setCoverages(Map.of("BASIC", Money.parse("61728.39")));
         createDTO.setAssistances(List.of("BUSINESS_ASSISTANCE"));
 
         // Act
         PolicyRequest entity = mapper.toEntity(createDTO);
 
         // Assert
-        assertNotNull(entity.getTotalMonthlyPremiumAmount());
-        assertNotNull(entity.getInsuredAmount());
-        assertEquals(0, createDTO.getTotalMonthlyPremiumAmount().compareTo(entity.getTotalMonthlyPremiumAmount()));
-        assertEquals(0, createDTO.getInsuredAmount().compareTo(entity.getInsuredAmount()));
-        assertEquals(createDTO.getTotalMonthlyPremiumAmount().scale(), entity.getTotalMonthlyPremiumAmount().scale());
-        assertEquals(createDTO.getInsuredAmount().scale(), entity.getInsuredAmount().scale());
+        assertEquals(12_345L, entity.getTotalMonthlyPremiumAmount().getCents());
+        assertEquals(12_345_678L, entity.getInsuredAmount().getCents());
+        assertEquals(6_172_839L, entity.getCoverages().get("BASIC").getCents());
     }
 
     @Test
@@ -451,9 +447,9 @@ class PolicyRequestMapperTest {
         createDTO.setCustomerId(customerId);
         createDTO.setProductId("PROD_UUID");
         createDTO.setCategory(InsuranceCategory.AUTO);
-        createDTO.setTotalMonthlyPremiumAmount(new BigDecimal("140.00"));
-        createDTO.setInsuredAmount(new BigDecimal("40000.00"));
-        createDTO.setCoverages(Map.of("BASIC", new BigDecimal("20000.00")));
+        createDTO.setTotalMonthlyPremiumAmount(Money.parse("140.00"));
+        createDTO.setInsuredAmount(Money.parse("40000.00"));
+        createDTO.setCoverages(Map.of("BASIC", Money.parse("20000.00")));
         createDTO.setAssistances(List.of("AUTO_ASSISTANCE"));
 
         // Act
@@ -476,9 +472,9 @@ class PolicyRequestMapperTest {
     @Test
     void testMappingCollectionFields() {
         // Arrange
-        Map<String, BigDecimal> coverages = Map.of(
-            "BASIC", new BigDecimal("30000.00"),
-            "PREMIUM", new BigDecimal("30000.00")
+        Map<String, Money> coverages = Map.of(
+            "BASIC", Money.parse("30000.00"),
+            "PREMIUM", Money.parse("30000.00")
         );
         List<String> assistances = List.of("24H_ASSISTANCE", "EMERGENCY_SERVICE");
 
@@ -486,8 +482,8 @@ class PolicyRequestMapperTest {
         createDTO.setCustomerId(UUID.randomUUID());
         createDTO.setProductId("PROD_COLLECTIONS");
         createDTO.setCategory(InsuranceCategory.AUTO);
-        createDTO.setTotalMonthlyPremiumAmount(new BigDecimal("180.00"));
-        createDTO.setInsuredAmount(new BigDecimal("60000.00"));
+        createDTO.setTotalMonthlyPremiumAmount(Money.parse("180.00"));
+        createDTO.setInsuredAmount(Money.parse("60000.00"));
         createDTO.setCoverages(coverages);
         createDTO.setAssistances(assistances);
 
@@ -532,11 +528,11 @@ class PolicyRequestMapperTest {
         createDTO.setCustomerId(UUID.randomUUID());
         createDTO.setProductId("PROD_ROUNDTRIP");
         createDTO.setCategory(InsuranceCategory.VIDA);
-        createDTO.setTotalMonthlyPremiumAmount(new BigDecimal("220.00"));
-        createDTO.setInsuredAmount(new BigDecimal("200000.00"));
+        createDTO.setTotalMonthlyPremiumAmount(Money.parse("220.00"));
+        createDTO.setInsuredAmount(Money.parse("200000.00"));
         createDTO.setPaymentMethod(PaymentMethod.PIX);
         createDTO.setSalesChannel(SalesChannel.WHATSAPP);
-        createDTO.setCoverages(Map.of("LIFE", new BigDecimal("200000.00")));
+        createDTO.setCoverages(Map.of("LIFE", Money.parse("200000.00")));
         createDTO.setAssistances(List.of("LIFE_ASSISTANCE"));
 
         // Act - DTO to Entity
@@ -573,11 +569,11 @@ class PolicyRequestMapperTest {
         entity.setCustomerId(UUID.randomUUID());
         entity.setProductId("PROD_VALID");
         entity.setCategory(InsuranceCategory.AUTO);
-        entity.setTotalMonthlyPremiumAmount(new BigDecimal("135.00"));
-        entity.setInsuredAmount(new BigDecimal("45000.00"));
+        entity.setTotalMonthlyPremiumAmount(Money.parse("135.00"));
+        entity.setInsuredAmount(Money.parse("45000.00"));
         entity.setPaymentMethod(PaymentMethod.CREDIT_CARD);
         entity.setSalesChannel(SalesChannel.MOBILE);
-        entity.setCoverages(Map.of("BASIC", new BigDecimal("22500.00")));
+        entity.setCoverages(Map.of("BASIC", Money.parse("22500.00")));
         entity.setAssistances(List.of("AUTO_ASSISTANCE"));
         entity.setStatus(PolicyRequestStatus.RECEIVED);
         entity.setCreatedAt(LocalDateTime.now());
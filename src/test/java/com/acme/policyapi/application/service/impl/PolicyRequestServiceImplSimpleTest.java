@@ -1,16 +1,32 @@
 package com.acme.policyapi.application.service.impl;
 
+import com.acme.policyapi.application.dto.PolicyRequestBatchResultDTO;
 import com.acme.policyapi.application.dto.PolicyRequestCreateDTO;
+import com.acme.policyapi.application.dto.PolicyRequestPageDTO;
 import com.acme.policyapi.application.dto.PolicyRequestResponseDTO;
+import com.acme.policyapi.application.dto.PolicyRequestSearchDTO;
+import com.acme.policyapi.application.dto.PolicyStatusUpdateDTO;
 import com.acme.policyapi.application.usecase.*;
+import com.acme.policyapi.domain.entity.ConfirmationType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.util.List;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -23,6 +39,9 @@ class PolicyRequestServiceImplSimpleTest {
     @Mock
     private FindPolicyRequestUseCase findPolicyRequestUseCase;
 
+    @Mock
+    private ExportPolicyRequestsUseCase exportPolicyRequestsUseCase;
+
     @Mock
     private ProcessPolicyRequestUseCase processPolicyRequestUseCase;
 
@@ -38,6 +57,18 @@ class PolicyRequestServiceImplSimpleTest {
     @Mock
     private RejectPolicyRequestUseCase rejectPolicyRequestUseCase;
 
+    @Mock
+    private ApplyStatusUpdatesUseCase applyStatusUpdatesUseCase;
+
+    @Mock
+    private RegisterConfirmationUseCase registerConfirmationUseCase;
+
+    @Spy
+    private ConflictRetryPolicy conflictRetryPolicy = new ConflictRetryPolicy(new SimpleMeterRegistry(), 3, Duration.ZERO);
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
     @InjectMocks
     private PolicyRequestServiceImpl policyRequestService;
 
@@ -54,6 +85,18 @@ class PolicyRequestServiceImplSimpleTest {
         verify(createPolicyRequestUseCase, times(1)).execute(createDTO);
     }
 
+    @Test
+    void testCreatePolicyRequests() {
+        List<PolicyRequestCreateDTO> createDTOs = List.of(new PolicyRequestCreateDTO());
+        
+        when(createPolicyRequestUseCase.executeBatch(createDTOs))
+                .thenReturn(new PolicyRequestBatchResultDTO());
+
+        policyRequestService.createPolicyRequests(createDTOs);
+
+        verify(createPolicyRequestUseCase, times(1)).executeBatch(createDTOs);
+    }
+
     @Test
     void testFindById() {
         UUID id = UUID.randomUUID();
@@ -67,6 +110,30 @@ class PolicyRequestServiceImplSimpleTest {
         verify(findPolicyRequestUseCase, times(1)).findById(id);
     }
 
+    @Test
+    void testSearch() {
+        PolicyRequestSearchDTO searchDTO = new PolicyRequestSearchDTO();
+        
+        when(findPolicyRequestUseCase.search(searchDTO))
+                .thenReturn(new PolicyRequestPageDTO());
+
+        policyRequestService.search(searchDTO);
+
+        verify(findPolicyRequestUseCase, times(1)).search(searchDTO);
+    }
+
+    @Test
+    void testExportPolicyRequests() throws Exception {
+        PolicyRequestSearchDTO filters = new PolicyRequestSearchDTO();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        
+        when(exportPolicyRequestsUseCase.execute(filters, output)).thenReturn(3L);
+
+        policyRequestService.exportPolicyRequests(filters, output);
+
+        verify(exportPolicyRequestsUseCase, times(1)).execute(filters, output);
+    }
+
     @Test
     void testProcessRequest() {
         UUID id = UUID.randomUUID();
@@ -113,4 +180,80 @@ class PolicyRequestServiceImplSimpleTest {
 
         verify(rejectPolicyRequestUseCase, times(1)).execute(id, reason);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testRegisterConfirmation() {
+        UUID id = UUID.randomUUID();
+        
+        when(registerConfirmationUseCase.execute(id, ConfirmationType.PAYMENT)).thenReturn(true);
+
+        assertTrue(policyRequestService.registerConfirmation(id, ConfirmationType.PAYMENT));
+        verify(registerConfirmationUseCase, times(1)).execute(id, ConfirmationType.PAYMENT);
+    }
+
+    @Test
+    void testApplyStatusUpdates() {
+        List<PolicyStatusUpdateDTO> updates = List.of(new PolicyStatusUpdateDTO());
+        
+        when(applyStatusUpdatesUseCase.execute(updates)).thenReturn(1);
+
+        policyRequestService.applyStatusUpdates(updates);
+
+        verify(applyStatusUpdatesUseCase, times(1)).execute(updates);
+    }
+
+    @Test
+    void testApproveRequestRetriesAfterVersionConflict() {
+        UUID id = UUID.randomUUID();
+        
+        doThrow(new OptimisticLockingFailureException("versão alterada"))
+                .doNothing()
+                .when(approvePolicyRequestUseCase).execute(id);
+
+        policyRequestService.approveRequest(id);
+
+        verify(approvePolicyRequestUseCase, times(2)).execute(id);
+    }
+
+    @Test
+    void testCancelRequestPropagatesPersistentConflict() {
+        UUID id = UUID.randomUUID();
+        
+        doThrow(new OptimisticLockingFailureException("versão alterada"))
+                .when(cancelPolicyRequestUseCase).execute(id, "motivo");
+
+        assertThrows(OptimisticLockingFailureException.class, () -> policyRequestService.cancelRequest(id, "motivo"));
+        verify(cancelPolicyRequestUseCase, times(3)).execute(id, "motivo");
+    }
+
+    @Test
+    void testApplyStatusUpdatesRunsCallbackInTheTransactionOfEachAttempt() {
+        List<PolicyStatusUpdateDTO> updates = List.of(new PolicyStatusUpdateDTO());
+        Runnable markProcessed = mock(Runnable.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(applyStatusUpdatesUseCase.execute(updates))
+                .thenThrow(new OptimisticLockingFailureException("versão alterada"))
+                .thenReturn(1);
+
+        policyRequestService.applyStatusUpdates(updates, markProcessed);
+
+        // Uma transação por tentativa; o callback só roda na que aplicou o lote
+        verify(transactionTemplate, times(2)).execute(any());
+        InOrder inOrder = inOrder(applyStatusUpdatesUseCase, markProcessed);
+        inOrder.verify(applyStatusUpdatesUseCase, times(2)).execute(updates);
+        inOrder.verify(markProcessed).run();
+    }
+
+    @Test
+    void testRejectRequestCallbackFailureFailsTheTransaction() {
+        UUID id = UUID.randomUUID();
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        assertThrows(IllegalStateException.class, () -> policyRequestService.rejectRequest(id, "motivo", () -> {
+            throw new IllegalStateException("banco indisponível");
+        }));
+        verify(rejectPolicyRequestUseCase).execute(id, "motivo");
+    }
+}
@@ -5,14 +5,16 @@ import com.acme.policyapi.application.dto.PolicyRequestResponseDTO;
 import com.acme.policyapi.application.exception.PolicyRequestNotFoundException;
 import com.acme.policyapi.application.usecase.*;
 import com.acme.policyapi.domain.entity.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
 
@@ -49,6 +51,9 @@ class PolicyRequestServiceImplTest {
     @Mock
     private RejectPolicyRequestUseCase rejectPolicyRequestUseCase;
 
+    @Spy
+    private ConflictRetryPolicy conflictRetryPolicy = new ConflictRetryPolicy(new SimpleMeterRegistry(), 3, Duration.ZERO);
+
     @InjectMocks
     private PolicyRequestServiceImpl policyRequestService;
 
@@ -74,9 +79,9 @@ class PolicyRequestServiceImplTest {
         testPolicyRequest.setPaymentMethod(PaymentMethod.CREDIT_CARD);
         testPolicyRequest.setStatus(PolicyRequestStatus.RECEIVED);
         testPolicyRequest.setCreatedAt(LocalDateTime.now());
-        testPolicyRequest.setTotalMonthlyPremiumAmount(new BigDecimal("150.00"));
-        testPolicyRequest.setInsuredAmount(new BigDecimal("50000.00"));
-        testPolicyRequest.setCoverages(Map.of("BASIC", new BigDecimal("25000.00")));
+        testPolicyRequest.setTotalMonthlyPremiumAmount(Money.parse("150.00"));
+        testPolicyRequest.setInsuredAmount(Money.parse("50000.00"));
+        testPolicyRequest.setCoverages(Map.of("BASIC", Money.parse("25000.00")));
         testPolicyRequest.setAssistances(List.of("24H_ASSISTANCE"));
         testPolicyRequest.setHistory(new ArrayList<>());
 
@@ -87,9 +92,9 @@ class PolicyRequestServiceImplTest {
         testCreateDTO.setCategory(InsuranceCategory.AUTO);
         testCreateDTO.setSalesChannel(SalesChannel.WEBSITE);
         testCreateDTO.setPaymentMethod(PaymentMethod.CREDIT_CARD);
-        testCreateDTO.setTotalMonthlyPremiumAmount(new BigDecimal("150.00"));
-        testCreateDTO.setInsuredAmount(new BigDecimal("50000.00"));
-        testCreateDTO.setCoverages(Map.of("BASIC", new BigDecimal("25000.00")));
+        testCreateDTO.setTotalMonthlyPremiumAmount(Money.parse("150.00"));
+        testCreateDTO.setInsuredAmount(Money.parse("50000.00"));
+        testCreateDTO.setCoverages(Map.of("BASIC", Money.parse("25000.00")));
         testCreateDTO.setAssistances(List.of("24H_ASSISTANCE"));
 
         // Criar DTO de resposta
@@ -0,0 +1,222 @@
+package com.acme.policyapi.application.usecase;
+
+import com.acme.policyapi.application.dto.PolicyStatusUpdateDTO;
+import com.acme.policyapi.domain.entity.ConfirmationType;
+import com.acme.policyapi.domain.entity.PolicyRequest;
+import com.acme.policyapi.domain.entity.PolicyRequestStatus;
+import com.acme.policyapi.domain.entity.StatusHistory;
+import com.acme.policyapi.domain.repository.PolicyConfirmationRepository;
+import com.acme.policyapi.domain.repository.PolicyRequestRepository;
+import com.acme.policyapi.domain.repository.StatusTransition;
+import com.acme.policyapi.infrastructure.cache.PolicyRequestResponseCache;
+import com.acme.policyapi.infrastructure.messaging.PolicyEventPublisher;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApplyStatusUpdatesUseCaseTest {
+
+    @Mock
+    private PolicyRequestRepository policyRequestRepository;
+
+    @Mock
+    private PolicyEventPublisher eventPublisher;
+
+    @Mock
+    private PolicyRequestResponseCache policyRequestCache;
+
+    @Mock
+    private PolicyConfirmationRepository confirmationRepository;
+
+    @InjectMocks
+    private ApplyStatusUpdatesUseCase applyStatusUpdatesUseCase;
+
+    private PolicyRequest policyRequest(PolicyRequestStatus status) {
+        PolicyRequest policyRequest = new PolicyRequest();
+        policyRequest.setId(UUID.randomUUID());
+        policyRequest.setStatus(status);
+        return policyRequest;
+    }
+
+    private static List<PolicyRequest> requests(List<StatusTransition> transitions) {
+        return transitions.stream().map(StatusTransition::policyRequest).toList();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testExecuteLoadsOnceAndSavesChangedInOneBatch() {
+        // Arrange
+        PolicyRequest toApprove = policyRequest(PolicyRequestStatus.PENDING);
+        PolicyRequest toReject = policyRequest(PolicyRequestStatus.PENDING);
+        UUID missingId = UUID.randomUUID();
+        when(policyRequestRepository.findAllById(any())).thenReturn(List.of(toApprove, toReject));
+
+        // Act
+        int applied = applyStatusUpdatesUseCase.execute(List.of(
+                new PolicyStatusUpdateDTO(toApprove.getId(), PolicyRequestStatus.APPROVED, "ok"),
+                new PolicyStatusUpdateDTO(missingId, PolicyRequestStatus.APPROVED, "ok"),
+                new PolicyStatusUpdateDTO(toReject.getId(), PolicyRequestStatus.REJECTED, "Pagamento rejeitado")));
+
+        // Assert
+        assertEquals(2, applied);
+        ArgumentCaptor<Collection<UUID>> idsCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(policyRequestRepository, times(1)).findAllById(idsCaptor.capture());
+        assertEquals(List.of(toApprove.getId(), missingId, toReject.getId()), List.copyOf(idsCaptor.getValue()));
+        ArgumentCaptor<List<StatusTransition>> transitionsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(policyRequestRepository, times(1)).updateStatuses(transitionsCaptor.capture());
+        List<StatusTransition> transitions = transitionsCaptor.getValue();
+        assertEquals(List.of(toApprove, toReject), transitions.stream().map(StatusTransition::policyRequest).toList());
+        assertEquals(PolicyRequestStatus.PENDING, transitions.get(0).expectedStatus());
+        assertEquals(List.of(PolicyRequestStatus.REJECTED),
+                transitions.get(1).entries().stream().map(StatusHistory::getStatus).toList());
+        assertEquals("Pagamento rejeitado", transitions.get(1).entries().get(0).getReason());
+        verify(policyRequestRepository, never()).save(any());
+        verify(policyRequestRepository, never()).saveAll(anyList());
+        assertEquals(PolicyRequestStatus.APPROVED, toApprove.getStatus());
+        assertEquals(PolicyRequestStatus.REJECTED, toReject.getStatus());
+        verify(eventPublisher).publishPolicyRequestApproved(toApprove);
+        verify(eventPublisher).publishPolicyRequestRejected(toReject);
+        verify(policyRequestCache).evictAfterCommit(toApprove.getId());
+        verify(policyRequestCache).evictAfterCommit(toReject.getId());
+        verifyNoInteractions(confirmationRepository);
+    }
+
+    @Test
+    void testExecuteSkipsInvalidTransitionWithoutAffectingOthers() {
+        // Arrange
+        PolicyRequest alreadyApproved = policyRequest(PolicyRequestStatus.APPROVED);
+        PolicyRequest pending = policyRequest(PolicyRequestStatus.PENDING);
+        when(policyRequestRepository.findAllById(any())).thenReturn(List.of(alreadyApproved, pending));
+
+        // Act
+        int applied = applyStatusUpdatesUseCase.execute(List.of(
+                new PolicyStatusUpdateDTO(alreadyApproved.getId(), PolicyRequestStatus.REJECTED, "tarde demais"),
+                new PolicyStatusUpdateDTO(pending.getId(), PolicyRequestStatus.APPROVED, "ok")));
+
+        // Assert
+        assertEquals(1, applied);
+        assertEquals(PolicyRequestStatus.APPROVED, alreadyApproved.getStatus());
+        verify(policyRequestRepository).updateStatuses(argThat(transitions -> requests(transitions).equals(List.of(pending))));
+        verify(eventPublisher, never()).publishPolicyRequestRejected(any());
+        verify(policyRequestCache, never()).evictAfterCommit(alreadyApproved.getId());
+    }
+
+    @Test
+    void testExecuteDoesNotPublishWhenSaveFails() {
+        // Arrange
+        PolicyRequest pending = policyRequest(PolicyRequestStatus.PENDING);
+        when(policyRequestRepository.findAllById(any())).thenReturn(List.of(pending));
+        doThrow(new OptimisticLockingFailureException("alterada concorrentemente"))
+                .when(policyRequestRepository).updateStatuses(anyList());
+
+        // Act & Assert
+        assertThrows(OptimisticLockingFailureException.class, () -> applyStatusUpdatesUseCase.execute(List.of(
+                new PolicyStatusUpdateDTO(pending.getId(), PolicyRequestStatus.APPROVED, "ok"))));
+        verifyNoInteractions(eventPublisher, policyRequestCache);
+    }
+
+    @Test
+    void testExecuteWithNothingToApplyDoesNotSave() {
+        // Arrange
+        when(policyRequestRepository.findAllById(any())).thenReturn(List.of());
+
+        // Act
+        int applied = applyStatusUpdatesUseCase.execute(List.of(
+                new PolicyStatusUpdateDTO(UUID.randomUUID(), PolicyRequestStatus.APPROVED, "ok")));
+
+        // Assert
+        assertEquals(0, applied);
+        verify(policyRequestRepository, never()).updateStatuses(anyList());
+        verifyNoInteractions(eventPublisher, policyRequestCache);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testExecuteRegistersConfirmationsOnceAndApprovesOnlyCompleted() {
+        // Arrange
+        PolicyRequest completed = policyRequest(PolicyRequestStatus.PENDING);
+        UUID waiting = UUID.randomUUID();
+        when(confirmationRepository.register(any())).thenReturn(Set.of(completed.getId()));
+        when(policyRequestRepository.findAllById(any())).thenReturn(List.of(completed));
+
+        // Act
+        int applied = applyStatusUpdatesUseCase.execute(List.of(
+                confirmation(completed.getId(), ConfirmationType.PAYMENT),
+                confirmation(waiting, ConfirmationType.PAYMENT),
+                confirmation(completed.getId(), ConfirmationType.PAYMENT)));
+
+        // Assert
+        assertEquals(1, applied);
+        ArgumentCaptor<Map<UUID, Set<ConfirmationType>>> confirmationsCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(confirmationRepository, times(1)).register(confirmationsCaptor.capture());
+        assertEquals(Map.of(completed.getId(), Set.of(ConfirmationType.PAYMENT), waiting, Set.of(ConfirmationType.PAYMENT)),
+                     confirmationsCaptor.getValue());
+        ArgumentCaptor<Collection<UUID>> idsCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(policyRequestRepository).findAllById(idsCaptor.capture());
+        assertEquals(List.of(completed.getId()), List.copyOf(idsCaptor.getValue()));
+        assertEquals(PolicyRequestStatus.APPROVED, completed.getStatus());
+        verify(eventPublisher, times(1)).publishPolicyRequestApproved(completed);
+        verify(policyRequestRepository).updateStatuses(argThat(transitions -> requests(transitions).equals(List.of(completed))));
+    }
+
+    @Test
+    void testExecuteReopensConfirmationsWhenBothArriveWhileRequestIsStillValidated() {
+        // Arrange
+        PolicyRequest validated = policyRequest(PolicyRequestStatus.VALIDATED);
+        UUID missing = UUID.randomUUID();
+        when(confirmationRepository.register(any())).thenReturn(Set.of(validated.getId(), missing));
+        when(policyRequestRepository.findAllById(any())).thenReturn(List.of(validated));
+
+        // Act
+        int applied = applyStatusUpdatesUseCase.execute(List.of(
+                confirmation(validated.getId(), ConfirmationType.PAYMENT),
+                confirmation(validated.getId(), ConfirmationType.UNDERWRITING),
+                confirmation(missing, ConfirmationType.PAYMENT)));
+
+        // Assert - a correlação volta a ficar incompleta e a transição para PENDING aprova
+        assertEquals(0, applied);
+        assertEquals(PolicyRequestStatus.VALIDATED, validated.getStatus());
+        verify(confirmationRepository).reopen(List.of(validated.getId(), missing));
+        verify(policyRequestRepository, never()).updateStatuses(anyList());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testExecuteWithIncompleteConfirmationsDoesNotLoadRequests() {
+        // Arrange
+        when(confirmationRepository.register(any())).thenReturn(Set.of());
+        when(policyRequestRepository.findAllById(any())).thenReturn(List.of());
+
+        // Act
+        int applied = applyStatusUpdatesUseCase.execute(List.of(
+                confirmation(UUID.randomUUID(), ConfirmationType.UNDERWRITING)));
+
+        // Assert
+        assertEquals(0, applied);
+        verify(policyRequestRepository).findAllById(List.of());
+        verify(policyRequestRepository, never()).updateStatuses(anyList());
+        verifyNoInteractions(eventPublisher, policyRequestCache);
+    }
+
+    private PolicyStatusUpdateDTO confirmation(UUID policyRequestId, ConfirmationType type) {
+        return new PolicyStatusUpdateDTO(policyRequestId, PolicyRequestStatus.APPROVED,
+                ApprovePolicyRequestUseCase.APPROVAL_REASON, type);
+    }
+}
@@ -1,5 +1,6 @@
 package com.acme.policyapi.application.usecase;
 
+import com.acme.policyapi.domain.entity.Money;
 import com.acme.policyapi.domain.entity.PolicyRequest;
 import com.acme.policyapi.domain.entity.PolicyRequestStatus;
 import com.acme.policyapi.domain.entity.InsuranceCategory;
@@ -7,6 +8,7 @@ import com.acme.policyapi.domain.entity.SalesChannel;
 import com.acme.policyapi.domain.entity.PaymentMethod;
 import com.acme.policyapi.domain.entity.StatusHistory;
 import com.acme.policyapi.domain.repository.PolicyRequestRepository;
+import com.acme.policyapi.infrastructure.cache.PolicyRequestResponseCache;
 import com.acme.policyapi.infrastructure.messaging.PolicyEventPublisher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,12 +17,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +35,9 @@ class ApprovePolicyRequestUseCaseTest {
     @Mock
     private PolicyEventPublisher eventPublisher;
 
+    @Mock
+    private PolicyRequestResponseCache policyRequestCache;
+
     @InjectMocks
     private ApprovePolicyRequestUseCase approvePolicyRequestUseCase;
 
@@ -57,12 +63,12 @@ class ApprovePolicyRequestUseCaseTest {
         policyRequest.setPaymentMethod(PaymentMethod.CREDIT_CARD);
         policyRequest.setStatus(PolicyRequestStatus.PENDING);
         policyRequest.setCreatedAt(LocalDateTime.of(2025, 1, 1, 10, 0));
-        policyRequest.setTotalMonthlyPremiumAmount(new BigDecimal("150.00"));
-        policyRequest.setInsuredAmount(new BigDecimal("50000.00"));
+        policyRequest.setTotalMonthlyPremiumAmount(Money.parse("150.00"));
+        policyRequest.setInsuredAmount(Money.parse("50000.00"));
 
         // Setup collections
-        Map<String, BigDecimal> coverages = new HashMap<>();
-        coverages.put("COLLISION", new BigDecimal("25000.00"));
+        Map<String, Money> coverages = new HashMap<>();
+        coverages.put("COLLISION", Money.parse("25000.00"));
         policyRequest.setCoverages(coverages);
 
         List<String> assistances = Arrays.asList("24h Assistance");
@@ -85,16 +91,15 @@ class ApprovePolicyRequestUseCaseTest {
         // Arrange
         when(policyRequestRepository.findById(testPolicyId))
                 .thenReturn(Optional.of(policyRequest));
-        when(policyRequestRepository.save(any(PolicyRequest.class)))
-                .thenReturn(policyRequest);
 
         // Act
         approvePolicyRequestUseCase.execute(testPolicyId);
 
         // Assert
         verify(policyRequestRepository, times(1)).findById(testPolicyId);
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
         verify(eventPublisher, times(1)).publishPolicyRequestApproved(policyRequest);
+        verify(policyRequestCache, times(1)).evictAfterCommit(testPolicyId);
     }
 
     @Test
@@ -111,7 +116,7 @@ class ApprovePolicyRequestUseCaseTest {
 
         assertEquals("Solicitação não encontrada: " + testPolicyId, exception.getMessage());
         verify(policyRequestRepository, times(1)).findById(testPolicyId);
-        verify(policyRequestRepository, never()).save(any());
+        verify(policyRequestRepository, never()).updateStatus(any(), any(), anyList());
         verify(eventPublisher, never()).publishPolicyRequestApproved(any());
     }
 
@@ -126,7 +131,7 @@ class ApprovePolicyRequestUseCaseTest {
         approvePolicyRequestUseCase.execute(testPolicyId);
 
         // Assert
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
         verify(eventPublisher, times(1)).publishPolicyRequestApproved(policyRequest);
     }
 
@@ -145,7 +150,7 @@ class ApprovePolicyRequestUseCaseTest {
         
         assertTrue(exception.getMessage().contains("Transição inválida"));
         verify(policyRequestRepository, times(1)).findById(testPolicyId);
-        verify(policyRequestRepository, never()).save(any());
+        verify(policyRequestRepository, never()).updateStatus(any(), any(), anyList());
         verify(eventPublisher, never()).publishPolicyRequestApproved(any());
     }
 
@@ -164,7 +169,7 @@ class ApprovePolicyRequestUseCaseTest {
         
         assertTrue(exception.getMessage().contains("Transição inválida"));
         verify(policyRequestRepository, times(1)).findById(testPolicyId);
-        verify(policyRequestRepository, never()).save(any());
+        verify(policyRequestRepository, never()).updateStatus(any(), any(), anyList());
         verify(eventPublisher, never()).publishPolicyRequestApproved(any());
     }
 
@@ -183,7 +188,7 @@ class ApprovePolicyRequestUseCaseTest {
         
         assertTrue(exception.getMessage().contains("Transição inválida"));
         verify(policyRequestRepository, times(1)).findById(testPolicyId);
-        verify(policyRequestRepository, never()).save(any());
+        verify(policyRequestRepository, never()).updateStatus(any(), any(), anyList());
         verify(eventPublisher, never()).publishPolicyRequestApproved(any());
     }
 
@@ -202,7 +207,7 @@ class ApprovePolicyRequestUseCaseTest {
         
         assertTrue(exception.getMessage().contains("Transição inválida"));
         verify(policyRequestRepository, times(1)).findById(testPolicyId);
-        verify(policyRequestRepository, never()).save(any());
+        verify(policyRequestRepository, never()).updateStatus(any(), any(), anyList());
         verify(eventPublisher, never()).publishPolicyRequestApproved(any());
     }
 
@@ -221,7 +226,7 @@ class ApprovePolicyRequestUseCaseTest {
         
         assertTrue(exception.getMessage().contains("Transição inválida"));
         verify(policyRequestRepository, times(1)).findById(testPolicyId);
-        verify(policyRequestRepository, never()).save(any());
+        verify(policyRequestRepository, never()).updateStatus(any(), any(), anyList());
         verify(eventPublisher, never()).publishPolicyRequestApproved(any());
     }
 
@@ -237,7 +242,7 @@ class ApprovePolicyRequestUseCaseTest {
         // Assert - Verify order of operations
         var inOrder = inOrder(policyRequestRepository, eventPublisher);
         inOrder.verify(policyRequestRepository).findById(testPolicyId);
-        inOrder.verify(policyRequestRepository).save(policyRequest);
+        inOrder.verify(policyRequestRepository).updateStatus(eq(policyRequest), any(), anyList());
         inOrder.verify(eventPublisher).publishPolicyRequestApproved(policyRequest);
     }
 
@@ -252,7 +257,7 @@ class ApprovePolicyRequestUseCaseTest {
 
         // Assert - Verify repository interactions (log content testing would need additional setup)
         verify(policyRequestRepository, times(1)).findById(testPolicyId);
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
     }
 
     @Test
@@ -333,11 +338,11 @@ class ApprovePolicyRequestUseCaseTest {
     @Test
     void testExecuteWithComplexPolicyRequest() {
         // Arrange - Complex policy request with multiple coverages and assistances
-        Map<String, BigDecimal> complexCoverages = new HashMap<>();
-        complexCoverages.put("COLLISION", new BigDecimal("25000.00"));
-        complexCoverages.put("COMPREHENSIVE", new BigDecimal("30000.00"));
-        complexCoverages.put("LIABILITY", new BigDecimal("15000.00"));
-        complexCoverages.put("PERSONAL_INJURY", new BigDecimal("10000.00"));
+        Map<String, Money> complexCoverages = new HashMap<>();
+        complexCoverages.put("COLLISION", Money.parse("25000.00"));
+        complexCoverages.put("COMPREHENSIVE", Money.parse("30000.00"));
+        complexCoverages.put("LIABILITY", Money.parse("15000.00"));
+        complexCoverages.put("PERSONAL_INJURY", Money.parse("10000.00"));
         policyRequest.setCoverages(complexCoverages);
 
         List<String> multipleAssistances = Arrays.asList(
@@ -357,15 +362,15 @@ class ApprovePolicyRequestUseCaseTest {
         approvePolicyRequestUseCase.execute(testPolicyId);
 
         // Assert
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
         verify(eventPublisher, times(1)).publishPolicyRequestApproved(policyRequest);
     }
 
     @Test
     void testExecuteWithLargeInsuredAmounts() {
         // Arrange - Large insured amounts
-        policyRequest.setInsuredAmount(new BigDecimal("10000000.00"));
-        policyRequest.setTotalMonthlyPremiumAmount(new BigDecimal("5000.00"));
+        policyRequest.setInsuredAmount(Money.parse("10000000.00"));
+        policyRequest.setTotalMonthlyPremiumAmount(Money.parse("5000.00"));
 
         when(policyRequestRepository.findById(testPolicyId))
                 .thenReturn(Optional.of(policyRequest));
@@ -374,7 +379,7 @@ class ApprovePolicyRequestUseCaseTest {
         approvePolicyRequestUseCase.execute(testPolicyId);
 
         // Assert
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
         verify(eventPublisher, times(1)).publishPolicyRequestApproved(policyRequest);
     }
 
@@ -391,7 +396,7 @@ class ApprovePolicyRequestUseCaseTest {
         approvePolicyRequestUseCase.execute(testPolicyId);
 
         // Assert
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
         verify(eventPublisher, times(1)).publishPolicyRequestApproved(policyRequest);
     }
 
@@ -400,8 +405,7 @@ class ApprovePolicyRequestUseCaseTest {
         // Arrange
         when(policyRequestRepository.findById(testPolicyId))
                 .thenReturn(Optional.of(policyRequest));
-        when(policyRequestRepository.save(any()))
-                .thenThrow(new RuntimeException("Database error"));
+        doThrow(new RuntimeException("Database error")).when(policyRequestRepository).updateStatus(any(), any(), anyList());
 
         // Act & Assert - Should propagate the exception (transactional rollback)
         assertThrows(
@@ -409,7 +413,7 @@ class ApprovePolicyRequestUseCaseTest {
             () -> approvePolicyRequestUseCase.execute(testPolicyId)
         );
 
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
         verify(eventPublisher, never()).publishPolicyRequestApproved(any());
     }
 
@@ -432,7 +436,7 @@ class ApprovePolicyRequestUseCaseTest {
         approvePolicyRequestUseCase.execute(testPolicyId);
 
         // Assert
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
         verify(eventPublisher, times(1)).publishPolicyRequestApproved(policyRequest);
     }
 
@@ -447,7 +451,7 @@ class ApprovePolicyRequestUseCaseTest {
 
         // Assert - Verify that the status update method is called
         // (The specific reason "Pagamento confirmado e subscrição autorizada" is set in the use case)
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
         verify(eventPublisher, times(1)).publishPolicyRequestApproved(policyRequest);
     }
 
@@ -463,7 +467,7 @@ class ApprovePolicyRequestUseCaseTest {
         approvePolicyRequestUseCase.execute(testPolicyId);
 
         // Assert
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
         verify(eventPublisher, times(1)).publishPolicyRequestApproved(policyRequest);
     }
 
@@ -481,7 +485,7 @@ class ApprovePolicyRequestUseCaseTest {
         approvePolicyRequestUseCase.execute(testPolicyId);
 
         // Assert
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
         verify(eventPublisher, times(1)).publishPolicyRequestApproved(policyRequest);
     }
 }
\ No newline at end of file
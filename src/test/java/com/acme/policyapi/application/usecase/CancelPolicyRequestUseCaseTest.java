@@ -1,5 +1,6 @@
 package com.acme.policyapi.application.usecase;
 
+import com.acme.policyapi.domain.entity.Money;
 import com.acme.policyapi.domain.entity.PolicyRequest;
 import com.acme.policyapi.domain.entity.PolicyRequestStatus;
 import com.acme.policyapi.domain.entity.InsuranceCategory;
@@ -7,6 +8,7 @@ import com.acme.policyapi.domain.entity.SalesChannel;
 import com.acme.policyapi.domain.entity.PaymentMethod;
 import com.acme.policyapi.domain.entity.StatusHistory;
 import com.acme.policyapi.domain.repository.PolicyRequestRepository;
+import com.acme.policyapi.infrastructure.cache.PolicyRequestResponseCache;
 import com.acme.policyapi.infrastructure.messaging.PolicyEventPublisher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,12 +17,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +35,9 @@ class CancelPolicyRequestUseCaseTest {
     @Mock
     private PolicyEventPublisher eventPublisher;
 
+    @Mock
+    private PolicyRequestResponseCache policyRequestCache;
+
     @InjectMocks
     private CancelPolicyRequestUseCase cancelPolicyRequestUseCase;
 
@@ -59,12 +65,12 @@ class CancelPolicyRequestUseCaseTest {
         policyRequest.setPaymentMethod(PaymentMethod.CREDIT_CARD);
         policyRequest.setStatus(PolicyRequestStatus.RECEIVED);
         policyRequest.setCreatedAt(LocalDateTime.of(2025, 1, 1, 10, 0));
-        policyRequest.setTotalMonthlyPremiumAmount(new BigDecimal("150.00"));
-        policyRequest.setInsuredAmount(new BigDecimal("50000.00"));
+        policyRequest.setTotalMonthlyPremiumAmount(Money.parse("150.00"));
+        policyRequest.setInsuredAmount(Money.parse("50000.00"));
 
         // Setup collections
-        Map<String, BigDecimal> coverages = new HashMap<>();
-        coverages.put("COLLISION", new BigDecimal("25000.00"));
+        Map<String, Money> coverages = new HashMap<>();
+        coverages.put("COLLISION", Money.parse("25000.00"));
         policyRequest.setCoverages(coverages);
 
         List<String> assistances = Arrays.asList("24h Assistance");
@@ -87,16 +93,15 @@ class CancelPolicyRequestUseCaseTest {
         // Arrange
         when(policyRequestRepository.findById(testPolicyId))
                 .thenReturn(Optional.of(policyRequest));
-        when(policyRequestRepository.save(any(PolicyRequest.class)))
-                .thenReturn(policyRequest);
 
         // Act
         cancelPolicyRequestUseCase.execute(testPolicyId, cancellationReason);
 
         // Assert
         verify(policyRequestRepository, times(1)).findById(testPolicyId);
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
         verify(eventPublisher, times(1)).publishPolicyRequestCancelled(policyRequest);
+        verify(policyRequestCache, times(1)).evictAfterCommit(testPolicyId);
     }
 
     @Test
@@ -113,7 +118,7 @@ class CancelPolicyRequestUseCaseTest {
 
         assertEquals("Solicitação não encontrada: " + testPolicyId, exception.getMessage());
         verify(policyRequestRepository, times(1)).findById(testPolicyId);
-        verify(policyRequestRepository, never()).save(any());
+        verify(policyRequestRepository, never()).updateStatus(any(), any(), anyList());
         verify(eventPublisher, never()).publishPolicyRequestCancelled(any());
     }
 
@@ -133,7 +138,7 @@ class CancelPolicyRequestUseCaseTest {
         assertTrue(exception.getMessage().contains("não pode ser cancelada") || 
                    exception.getMessage().contains("Transição inválida"));
         verify(policyRequestRepository, times(1)).findById(testPolicyId);
-        verify(policyRequestRepository, never()).save(any());
+        verify(policyRequestRepository, never()).updateStatus(any(), any(), anyList());
         verify(eventPublisher, never()).publishPolicyRequestCancelled(any());
     }
 
@@ -148,7 +153,7 @@ class CancelPolicyRequestUseCaseTest {
         cancelPolicyRequestUseCase.execute(testPolicyId, cancellationReason);
 
         // Assert
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
         verify(eventPublisher, times(1)).publishPolicyRequestCancelled(policyRequest);
     }
 
@@ -163,7 +168,7 @@ class CancelPolicyRequestUseCaseTest {
         cancelPolicyRequestUseCase.execute(testPolicyId, cancellationReason);
 
         // Assert
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
         verify(eventPublisher, times(1)).publishPolicyRequestCancelled(policyRequest);
     }
 
@@ -178,7 +183,7 @@ class CancelPolicyRequestUseCaseTest {
         cancelPolicyRequestUseCase.execute(testPolicyId, cancellationReason);
 
         // Assert
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
         verify(eventPublisher, times(1)).publishPolicyRequestCancelled(policyRequest);
     }
 
@@ -197,7 +202,7 @@ class CancelPolicyRequestUseCaseTest {
 
         assertTrue(exception.getMessage().contains("não pode ser cancelada") || 
                    exception.getMessage().contains("Transição inválida"));
-        verify(policyRequestRepository, never()).save(any());
+        verify(policyRequestRepository, never()).updateStatus(any(), any(), anyList());
         verify(eventPublisher, never()).publishPolicyRequestCancelled(any());
     }
 
@@ -216,7 +221,7 @@ class CancelPolicyRequestUseCaseTest {
 
         assertTrue(exception.getMessage().contains("não pode ser cancelada") || 
                    exception.getMessage().contains("Transição inválida"));
-        verify(policyRequestRepository, never()).save(any());
+        verify(policyRequestRepository, never()).updateStatus(any(), any(), anyList());
         verify(eventPublisher, never()).publishPolicyRequestCancelled(any());
     }
 
@@ -233,7 +238,7 @@ class CancelPolicyRequestUseCaseTest {
         
         // Assert
         verify(policyRequestRepository, times(1)).findById(testPolicyId);
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
         verify(eventPublisher, times(1)).publishPolicyRequestCancelled(policyRequest);
     }
 
@@ -247,7 +252,7 @@ class CancelPolicyRequestUseCaseTest {
         cancelPolicyRequestUseCase.execute(testPolicyId, "");
 
         // Assert - Empty reason should still work
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
         verify(eventPublisher, times(1)).publishPolicyRequestCancelled(policyRequest);
     }
 
@@ -261,7 +266,7 @@ class CancelPolicyRequestUseCaseTest {
         cancelPolicyRequestUseCase.execute(testPolicyId, null);
 
         // Assert - Null reason should still work
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
         verify(eventPublisher, times(1)).publishPolicyRequestCancelled(policyRequest);
     }
 
@@ -277,7 +282,7 @@ class CancelPolicyRequestUseCaseTest {
         // Assert - Verify order of operations
         var inOrder = inOrder(policyRequestRepository, eventPublisher);
         inOrder.verify(policyRequestRepository).findById(testPolicyId);
-        inOrder.verify(policyRequestRepository).save(policyRequest);
+        inOrder.verify(policyRequestRepository).updateStatus(eq(policyRequest), any(), anyList());
         inOrder.verify(eventPublisher).publishPolicyRequestCancelled(policyRequest);
     }
 
@@ -292,16 +297,16 @@ class CancelPolicyRequestUseCaseTest {
 
         // Assert - Verify repository interactions (log content testing would need additional setup)
         verify(policyRequestRepository, times(1)).findById(testPolicyId);
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
     }
 
     @Test
     void testExecuteWithComplexPolicyRequest() {
         // Arrange - Complex policy request with multiple coverages and assistances
-        Map<String, BigDecimal> complexCoverages = new HashMap<>();
-        complexCoverages.put("COLLISION", new BigDecimal("25000.00"));
-        complexCoverages.put("COMPREHENSIVE", new BigDecimal("30000.00"));
-        complexCoverages.put("LIABILITY", new BigDecimal("15000.00"));
+        Map<String, Money> complexCoverages = new HashMap<>();
+        complexCoverages.put("COLLISION", Money.parse("25000.00"));
+        complexCoverages.put("COMPREHENSIVE", Money.parse("30000.00"));
+        complexCoverages.put("LIABILITY", Money.parse("15000.00"));
         policyRequest.setCoverages(complexCoverages);
 
         List<String> multipleAssistances = Arrays.asList(
@@ -316,7 +321,7 @@ class CancelPolicyRequestUseCaseTest {
         cancelPolicyRequestUseCase.execute(testPolicyId, cancellationReason);
 
         // Assert
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
         verify(eventPublisher, times(1)).publishPolicyRequestCancelled(policyRequest);
     }
 
@@ -349,8 +354,7 @@ class CancelPolicyRequestUseCaseTest {
         // Arrange
         when(policyRequestRepository.findById(testPolicyId))
                 .thenReturn(Optional.of(policyRequest));
-        when(policyRequestRepository.save(any()))
-                .thenThrow(new RuntimeException("Database error"));
+        doThrow(new RuntimeException("Database error")).when(policyRequestRepository).updateStatus(any(), any(), anyList());
 
         // Act & Assert - Should propagate the exception (transactional rollback)
         assertThrows(
@@ -358,7 +362,7 @@ class CancelPolicyRequestUseCaseTest {
             () -> cancelPolicyRequestUseCase.execute(testPolicyId, cancellationReason)
         );
 
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
         verify(eventPublisher, never()).publishPolicyRequestCancelled(any());
     }
 }
\ No newline at end of file
@@ -1,11 +1,15 @@
 package com.acme.policyapi.application.usecase;
 
+import com.acme.policyapi.application.dto.PolicyRequestBatchResultDTO;
 import com.acme.policyapi.application.dto.PolicyRequestCreateDTO;
 import com.acme.policyapi.application.dto.PolicyRequestResponseDTO;
 import com.acme.policyapi.application.service.impl.PolicyRequestMapper;
 import com.acme.policyapi.domain.entity.*;
 import com.acme.policyapi.domain.repository.PolicyRequestRepository;
 import com.acme.policyapi.infrastructure.messaging.PolicyEventPublisher;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Path;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,7 +17,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.*;
 
@@ -36,6 +39,9 @@ class CreatePolicyRequestUseCaseTest {
     @Mock
     private ProcessPolicyRequestUseCase processPolicyRequestUseCase;
 
+    @Mock
+    private Validator validator;
+
     @InjectMocks
     private CreatePolicyRequestUseCase createPolicyRequestUseCase;
 
@@ -62,11 +68,11 @@ class CreatePolicyRequestUseCaseTest {
         createDTO.setCategory(InsuranceCategory.AUTO);
         createDTO.setSalesChannel(SalesChannel.WEBSITE);
         createDTO.setPaymentMethod(PaymentMethod.CREDIT_CARD);
-        createDTO.setTotalMonthlyPremiumAmount(new BigDecimal("150.00"));
-        createDTO.setInsuredAmount(new BigDecimal("50000.00"));
+        createDTO.setTotalMonthlyPremiumAmount(Money.parse("150.00"));
+        createDTO.setInsuredAmount(Money.parse("50000.00"));
         
-        Map<String, BigDecimal> coverages = new HashMap<>();
-        coverages.put("COLLISION", new BigDecimal("25000.00"));
+        Map<String, Money> coverages = new HashMap<>();
+        coverages.put("COLLISION", Money.parse("25000.00"));
         createDTO.setCoverages(coverages);
         
         List<String> assistances = Arrays.asList("24h Assistance");
@@ -83,11 +89,11 @@ class CreatePolicyRequestUseCaseTest {
         policyRequest.setPaymentMethod(PaymentMethod.CREDIT_CARD);
         policyRequest.setStatus(PolicyRequestStatus.RECEIVED);
         policyRequest.setCreatedAt(LocalDateTime.now());
-        policyRequest.setTotalMonthlyPremiumAmount(new BigDecimal("150.00"));
-        policyRequest.setInsuredAmount(new BigDecimal("50000.00"));
+        policyRequest.setTotalMonthlyPremiumAmount(Money.parse("150.00"));
+        policyRequest.setInsuredAmount(Money.parse("50000.00"));
         
-        Map<String, BigDecimal> coverages = new HashMap<>();
-        coverages.put("COLLISION", new BigDecimal("25000.00"));
+        Map<String, Money> coverages = new HashMap<>();
+        coverages.put("COLLISION", Money.parse("25000.00"));
         policyRequest.setCoverages(coverages);
         
         List<String> assistances = Arrays.asList("24h Assistance");
@@ -105,8 +111,8 @@ class CreatePolicyRequestUseCaseTest {
         responseDTO.setSalesChannel(SalesChannel.WEBSITE);
         responseDTO.setPaymentMethod(PaymentMethod.CREDIT_CARD);
         responseDTO.setStatus(PolicyRequestStatus.RECEIVED);
-        responseDTO.setTotalMonthlyPremiumAmount(new BigDecimal("150.00"));
-        responseDTO.setInsuredAmount(new BigDecimal("50000.00"));
+        responseDTO.setTotalMonthlyPremiumAmount(Money.parse("150.00"));
+        responseDTO.setInsuredAmount(Money.parse("50000.00"));
     }
 
     @Test
@@ -142,10 +148,10 @@ class CreatePolicyRequestUseCaseTest {
         // Arrange - Create DTO with all optional fields
         // createDTO.setFinishedAt(LocalDateTime.now().plusDays(1)); // finishedAt não está disponível no CreateDTO
         
-        Map<String, BigDecimal> completeCoverages = new HashMap<>();
-        completeCoverages.put("COLLISION", new BigDecimal("25000.00"));
-        completeCoverages.put("COMPREHENSIVE", new BigDecimal("30000.00"));
-        completeCoverages.put("LIABILITY", new BigDecimal("15000.00"));
+        Map<String, Money> completeCoverages = new HashMap<>();
+        completeCoverages.put("COLLISION", Money.parse("25000.00"));
+        completeCoverages.put("COMPREHENSIVE", Money.parse("30000.00"));
+        completeCoverages.put("LIABILITY", Money.parse("15000.00"));
         createDTO.setCoverages(completeCoverages);
         
         List<String> completeAssistances = Arrays.asList(
@@ -247,17 +253,17 @@ class CreatePolicyRequestUseCaseTest {
     @Test
     void testExecuteWithLargeCoverageValues() {
         // Arrange - Large coverage values
-        Map<String, BigDecimal> largeCoverages = new HashMap<>();
-        largeCoverages.put("COLLISION", new BigDecimal("1000000.00"));
-        largeCoverages.put("COMPREHENSIVE", new BigDecimal("2000000.00"));
+        Map<String, Money> largeCoverages = new HashMap<>();
+        largeCoverages.put("COLLISION", Money.parse("1000000.00"));
+        largeCoverages.put("COMPREHENSIVE", Money.parse("2000000.00"));
         createDTO.setCoverages(largeCoverages);
         
-        createDTO.setInsuredAmount(new BigDecimal("5000000.00"));
-        createDTO.setTotalMonthlyPremiumAmount(new BigDecimal("2500.00"));
+        createDTO.setInsuredAmount(Money.parse("5000000.00"));
+        createDTO.setTotalMonthlyPremiumAmount(Money.parse("2500.00"));
         
         policyRequest.setCoverages(largeCoverages);
-        policyRequest.setInsuredAmount(new BigDecimal("5000000.00"));
-        policyRequest.setTotalMonthlyPremiumAmount(new BigDecimal("2500.00"));
+        policyRequest.setInsuredAmount(Money.parse("5000000.00"));
+        policyRequest.setTotalMonthlyPremiumAmount(Money.parse("2500.00"));
 
         when(policyRequestMapper.toEntity(createDTO)).thenReturn(policyRequest);
         when(policyRequestRepository.save(policyRequest)).thenReturn(policyRequest);
@@ -354,4 +360,72 @@ class CreatePolicyRequestUseCaseTest {
         assertNotNull(result);
         verify(processPolicyRequestUseCase, times(1)).executeAsync(testPolicyId);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testExecuteBatchAllValid() {
+        // Arrange
+        when(validator.validate(createDTO)).thenReturn(Set.of());
+        when(policyRequestMapper.toEntity(createDTO)).thenReturn(policyRequest);
+        when(policyRequestRepository.saveAll(List.of(policyRequest, policyRequest)))
+                .thenReturn(List.of(policyRequest, policyRequest));
+
+        // Act
+        PolicyRequestBatchResultDTO result = createPolicyRequestUseCase.executeBatch(List.of(createDTO, createDTO));
+
+        // Assert
+        assertEquals(2, result.getTotal());
+        assertEquals(2, result.getCreated());
+        assertEquals(0, result.getFailed());
+        assertEquals(testPolicyId, result.getItems().get(1).getId());
+        assertEquals(PolicyRequestStatus.RECEIVED, result.getItems().get(1).getStatus());
+        verify(policyRequestRepository, never()).save(any());
+        verify(eventPublisher).publishPolicyRequestsCreated(List.of(policyRequest, policyRequest));
+        verify(processPolicyRequestUseCase).executeAllAsync(List.of(testPolicyId, testPolicyId));
+        verify(processPolicyRequestUseCase, never()).executeAsync(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testExecuteBatchWithInvalidAndUnreadableItems() {
+        // Arrange
+        PolicyRequestCreateDTO invalidDTO = new PolicyRequestCreateDTO();
+        ConstraintViolation<PolicyRequestCreateDTO> violation = mock(ConstraintViolation.class);
+        Path path = mock(Path.class);
+        when(path.toString()).thenReturn("customerId");
+        when(violation.getPropertyPath()).thenReturn(path);
+        when(violation.getMessage()).thenReturn("ID do cliente é obrigatório");
+
+        when(validator.validate(createDTO)).thenReturn(Set.of());
+        when(validator.validate(invalidDTO)).thenReturn(Set.of(violation));
+        when(policyRequestMapper.toEntity(createDTO)).thenReturn(policyRequest);
+        when(policyRequestRepository.saveAll(List.of(policyRequest))).thenReturn(List.of(policyRequest));
+
+        // Act
+        PolicyRequestBatchResultDTO result = createPolicyRequestUseCase.executeBatch(
+                Arrays.asList(invalidDTO, createDTO, null));
+
+        // Assert
+        assertEquals(3, result.getTotal());
+        assertEquals(1, result.getCreated());
+        assertEquals(2, result.getFailed());
+        assertEquals(List.of("customerId: ID do cliente é obrigatório"), result.getItems().get(0).getErrors());
+        assertNull(result.getItems().get(0).getId());
+        assertEquals(testPolicyId, result.getItems().get(1).getId());
+        assertTrue(result.getItems().get(1).getErrors().isEmpty());
+        assertEquals(2, result.getItems().get(2).getIndex());
+        assertFalse(result.getItems().get(2).getErrors().isEmpty());
+        verify(policyRequestMapper, never()).toEntity(invalidDTO);
+    }
+
+    @Test
+    void testExecuteBatchNothingValid() {
+        // Act
+        PolicyRequestBatchResultDTO result = createPolicyRequestUseCase.executeBatch(Arrays.asList((PolicyRequestCreateDTO) null));
+
+        // Assert
+        assertEquals(0, result.getCreated());
+        assertEquals(1, result.getFailed());
+        verify(policyRequestRepository, never()).saveAll(any());
+        verifyNoInteractions(eventPublisher, processPolicyRequestUseCase);
+    }
+}
@@ -0,0 +1,138 @@
+package com.acme.policyapi.application.usecase;
+
+import com.acme.policyapi.application.dto.PolicyRequestResponseDTO;
+import com.acme.policyapi.application.dto.PolicyRequestSearchDTO;
+import com.acme.policyapi.application.dto.StatusHistoryDTO;
+import com.acme.policyapi.application.service.impl.PolicyRequestMapper;
+import com.acme.policyapi.domain.entity.PolicyRequest;
+import com.acme.policyapi.domain.entity.PolicyRequestStatus;
+import com.acme.policyapi.domain.repository.PolicyRequestRepository;
+import com.acme.policyapi.domain.repository.PolicyRequestSearchCriteria;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExportPolicyRequestsUseCaseTest {
+
+    @Mock
+    private PolicyRequestRepository policyRequestRepository;
+
+    @Mock
+    private PolicyRequestMapper policyRequestMapper;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private ExportPolicyRequestsUseCase exportPolicyRequestsUseCase;
+
+    @BeforeEach
+    void setUp() {
+        exportPolicyRequestsUseCase = new ExportPolicyRequestsUseCase(policyRequestRepository, policyRequestMapper, objectMapper);
+        when(policyRequestMapper.toResponseDTO(any(PolicyRequest.class))).thenAnswer(invocation -> {
+            PolicyRequest policyRequest = invocation.getArgument(0);
+            PolicyRequestResponseDTO dto = new PolicyRequestResponseDTO();
+            dto.setId(policyRequest.getId());
+            dto.setStatus(policyRequest.getStatus());
+            dto.setCreatedAt(policyRequest.getCreatedAt());
+            dto.setHistory(List.of(new StatusHistoryDTO()));
+            return dto;
+        });
+    }
+
+    private PolicyRequest policyRequest() {
+        PolicyRequest policyRequest = new PolicyRequest();
+        policyRequest.setId(UUID.randomUUID());
+        policyRequest.setStatus(PolicyRequestStatus.APPROVED);
+        policyRequest.setCreatedAt(LocalDateTime.of(2025, 1, 1, 10, 0));
+        return policyRequest;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void streamRows(List<PolicyRequest> rows) {
+        when(policyRequestRepository.streamAll(any(PolicyRequestSearchCriteria.class), any())).thenAnswer(invocation -> {
+            Consumer<PolicyRequest> consumer = invocation.getArgument(1);
+            rows.forEach(consumer);
+            return (long) rows.size();
+        });
+    }
+
+    @Test
+    void testExportWritesOneJsonObjectPerLine() throws Exception {
+        // Arrange
+        List<PolicyRequest> rows = List.of(policyRequest(), policyRequest());
+        streamRows(rows);
+        PolicyRequestSearchDTO filters = new PolicyRequestSearchDTO();
+        filters.setStatus(PolicyRequestStatus.APPROVED);
+        filters.setCreatedFrom(LocalDateTime.of(2025, 1, 1, 0, 0));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        long exported = exportPolicyRequestsUseCase.execute(filters, output);
+
+        // Assert
+        assertEquals(2, exported);
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n", -1);
+        assertEquals(3, lines.length);
+        assertEquals("", lines[2]);
+        for (int i = 0; i < rows.size(); i++) {
+            PolicyRequestResponseDTO line = objectMapper.readValue(lines[i], PolicyRequestResponseDTO.class);
+            assertEquals(rows.get(i).getId(), line.getId());
+            assertEquals(rows.get(i).getCreatedAt(), line.getCreatedAt());
+            assertNull(line.getHistory());
+        }
+
+        ArgumentCaptor<PolicyRequestSearchCriteria> criteriaCaptor = ArgumentCaptor.forClass(PolicyRequestSearchCriteria.class);
+        verify(policyRequestRepository).streamAll(criteriaCaptor.capture(), any());
+        assertEquals(PolicyRequestStatus.APPROVED, criteriaCaptor.getValue().getStatus());
+        assertEquals(filters.getCreatedFrom(), criteriaCaptor.getValue().getCreatedFrom());
+        assertNull(criteriaCaptor.getValue().getCreatedTo());
+    }
+
+    @Test
+    void testExportDoesNotFlushOrCloseOutputPerLine() throws Exception {
+        // Arrange
+        streamRows(List.of(policyRequest(), policyRequest(), policyRequest()));
+        OutputStream output = spy(new ByteArrayOutputStream());
+
+        // Act
+        exportPolicyRequestsUseCase.execute(new PolicyRequestSearchDTO(), output);
+
+        // Assert - o gerador descarrega apenas ao final e não fecha a resposta
+        verify(output, atMost(1)).flush();
+        verify(output, never()).close();
+    }
+
+    @Test
+    void testExportPropagatesWriteFailure() throws Exception {
+        // Arrange
+        streamRows(List.of(policyRequest()));
+        OutputStream output = mock(OutputStream.class);
+        doThrow(new IOException("Broken pipe")).when(output).write(any(byte[].class), anyInt(), anyInt());
+
+        // Act & Assert
+        IOException exception = assertThrows(IOException.class,
+                () -> exportPolicyRequestsUseCase.execute(new PolicyRequestSearchDTO(), output));
+        assertEquals("Broken pipe", exception.getMessage());
+    }
+}
@@ -1,23 +1,34 @@
 package com.acme.policyapi.application.usecase;
 
+import com.acme.policyapi.application.dto.PolicyRequestPageDTO;
 import com.acme.policyapi.application.dto.PolicyRequestResponseDTO;
+import com.acme.policyapi.application.dto.PolicyRequestSearchDTO;
 import com.acme.policyapi.application.dto.StatusHistoryDTO;
+import com.acme.policyapi.application.exception.InvalidSearchCursorException;
 import com.acme.policyapi.application.exception.PolicyRequestNotFoundException;
 import com.acme.policyapi.application.service.impl.PolicyRequestMapper;
 import com.acme.policyapi.domain.entity.*;
 import com.acme.policyapi.domain.repository.PolicyRequestRepository;
+import com.acme.policyapi.domain.repository.PolicyRequestSearchCriteria;
+import com.acme.policyapi.infrastructure.cache.PolicyRequestResponseCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 
-import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +40,13 @@ class FindPolicyRequestUseCaseTest {
     @Mock
     private PolicyRequestMapper policyRequestMapper;
 
+    @Spy
+    private PolicyRequestResponseCache policyRequestCache =
+            new PolicyRequestResponseCache(new SimpleMeterRegistry(), false, 0, Duration.ZERO);
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private FindPolicyRequestUseCase findPolicyRequestUseCase;
 
@@ -59,12 +77,12 @@ class FindPolicyRequestUseCaseTest {
         policyRequest.setPaymentMethod(PaymentMethod.CREDIT_CARD);
         policyRequest.setStatus(PolicyRequestStatus.RECEIVED);
         policyRequest.setCreatedAt(LocalDateTime.of(2025, 1, 1, 10, 0));
-        policyRequest.setTotalMonthlyPremiumAmount(new BigDecimal("150.00"));
-        policyRequest.setInsuredAmount(new BigDecimal("50000.00"));
+        policyRequest.setTotalMonthlyPremiumAmount(Money.parse("150.00"));
+        policyRequest.setInsuredAmount(Money.parse("50000.00"));
 
         // Setup collections
-        Map<String, BigDecimal> coverages = new HashMap<>();
-        coverages.put("COLLISION", new BigDecimal("25000.00"));
+        Map<String, Money> coverages = new HashMap<>();
+        coverages.put("COLLISION", Money.parse("25000.00"));
         policyRequest.setCoverages(coverages);
 
         List<String> assistances = Arrays.asList("24h Assistance");
@@ -92,8 +110,8 @@ class FindPolicyRequestUseCaseTest {
         responseDTO.setPaymentMethod(PaymentMethod.CREDIT_CARD);
         responseDTO.setStatus(PolicyRequestStatus.RECEIVED);
         responseDTO.setCreatedAt(LocalDateTime.of(2025, 1, 1, 10, 0));
-        responseDTO.setTotalMonthlyPremiumAmount(new BigDecimal("150.00"));
-        responseDTO.setInsuredAmount(new BigDecimal("50000.00"));
+        responseDTO.setTotalMonthlyPremiumAmount(Money.parse("150.00"));
+        responseDTO.setInsuredAmount(Money.parse("50000.00"));
 
         // Setup history DTO
         List<StatusHistoryDTO> historyDTOs = new ArrayList<>();
@@ -130,8 +148,8 @@ class FindPolicyRequestUseCaseTest {
         assertEquals(SalesChannel.WEBSITE, result.getSalesChannel());
         assertEquals(PaymentMethod.CREDIT_CARD, result.getPaymentMethod());
         assertEquals(PolicyRequestStatus.RECEIVED, result.getStatus());
-        assertEquals(new BigDecimal("150.00"), result.getTotalMonthlyPremiumAmount());
-        assertEquals(new BigDecimal("50000.00"), result.getInsuredAmount());
+        assertEquals(Money.parse("150.00"), result.getTotalMonthlyPremiumAmount());
+        assertEquals(Money.parse("50000.00"), result.getInsuredAmount());
         assertNotNull(result.getHistory());
         assertEquals(1, result.getHistory().size());
 
@@ -261,8 +279,8 @@ class FindPolicyRequestUseCaseTest {
         secondPolicyRequest.setPaymentMethod(PaymentMethod.PIX);
         secondPolicyRequest.setStatus(PolicyRequestStatus.APPROVED);
         secondPolicyRequest.setCreatedAt(LocalDateTime.of(2025, 1, 2, 14, 0));
-        secondPolicyRequest.setTotalMonthlyPremiumAmount(new BigDecimal("200.00"));
-        secondPolicyRequest.setInsuredAmount(new BigDecimal("75000.00"));
+        secondPolicyRequest.setTotalMonthlyPremiumAmount(Money.parse("200.00"));
+        secondPolicyRequest.setInsuredAmount(Money.parse("75000.00"));
         secondPolicyRequest.setHistory(new ArrayList<>());
 
         List<PolicyRequest> multipleRequests = Arrays.asList(policyRequest, secondPolicyRequest);
@@ -344,11 +362,11 @@ class FindPolicyRequestUseCaseTest {
     @Test
     void testFindByIdWithComplexCoverages() {
         // Arrange - Complex coverages
-        Map<String, BigDecimal> complexCoverages = new HashMap<>();
-        complexCoverages.put("COLLISION", new BigDecimal("25000.00"));
-        complexCoverages.put("COMPREHENSIVE", new BigDecimal("30000.00"));
-        complexCoverages.put("LIABILITY", new BigDecimal("15000.00"));
-        complexCoverages.put("PERSONAL_INJURY", new BigDecimal("10000.00"));
+        Map<String, Money> complexCoverages = new HashMap<>();
+        complexCoverages.put("COLLISION", Money.parse("25000.00"));
+        complexCoverages.put("COMPREHENSIVE", Money.parse("30000.00"));
+        complexCoverages.put("LIABILITY", Money.parse("15000.00"));
+        complexCoverages.put("PERSONAL_INJURY", Money.parse("10000.00"));
         
         policyRequest.setCoverages(complexCoverages);
 
@@ -416,4 +434,125 @@ class FindPolicyRequestUseCaseTest {
 
         verify(policyRequestRepository, times(5)).findByIdWithHistory(testPolicyId);
     }
-}
\ No newline at end of file
+
+    private PolicyRequest requestCreatedAt(LocalDateTime createdAt) {
+        PolicyRequest request = new PolicyRequest();
+        request.setId(UUID.randomUUID());
+        request.setCreatedAt(createdAt);
+        return request;
+    }
+
+    @Test
+    void testSearchFirstPageWithNextCursor() {
+        // Arrange
+        PolicyRequestSearchDTO searchDTO = new PolicyRequestSearchDTO();
+        searchDTO.setStatus(PolicyRequestStatus.PENDING);
+        searchDTO.setLimit(2);
+        List<PolicyRequest> found = List.of(
+                requestCreatedAt(LocalDateTime.of(2025, 1, 3, 10, 0)),
+                requestCreatedAt(LocalDateTime.of(2025, 1, 2, 10, 0)),
+                requestCreatedAt(LocalDateTime.of(2025, 1, 1, 10, 0)));
+        when(policyRequestRepository.search(any(PolicyRequestSearchCriteria.class))).thenReturn(found);
+        when(policyRequestMapper.toResponseDTOList(found.subList(0, 2)))
+                .thenReturn(new ArrayList<>(List.of(responseDTO, new PolicyRequestResponseDTO())));
+
+        // Act
+        PolicyRequestPageDTO page = findPolicyRequestUseCase.search(searchDTO);
+
+        // Assert - lê um registro além da página para detectar a próxima
+        ArgumentCaptor<PolicyRequestSearchCriteria> criteriaCaptor = ArgumentCaptor.forClass(PolicyRequestSearchCriteria.class);
+        verify(policyRequestRepository).search(criteriaCaptor.capture());
+        assertEquals(3, criteriaCaptor.getValue().getLimit());
+        assertEquals(PolicyRequestStatus.PENDING, criteriaCaptor.getValue().getStatus());
+        assertFalse(criteriaCaptor.getValue().hasCursor());
+
+        assertTrue(page.isHasNext());
+        assertEquals(2, page.getItems().size());
+        assertNotNull(page.getNextCursor());
+        assertNull(page.getItems().get(0).getHistory());
+    }
+
+    @Test
+    void testSearchCursorRoundTrip() {
+        // Arrange - primeira página define o cursor
+        PolicyRequest last = requestCreatedAt(LocalDateTime.of(2025, 1, 2, 10, 0, 5, 123000));
+        PolicyRequestSearchDTO firstPage = new PolicyRequestSearchDTO();
+        firstPage.setLimit(1);
+        when(policyRequestRepository.search(any(PolicyRequestSearchCriteria.class)))
+                .thenReturn(List.of(last, requestCreatedAt(LocalDateTime.of(2025, 1, 1, 10, 0))))
+                .thenReturn(List.of());
+        when(policyRequestMapper.toResponseDTOList(any())).thenReturn(new ArrayList<>());
+
+        String cursor = findPolicyRequestUseCase.search(firstPage).getNextCursor();
+
+        PolicyRequestSearchDTO secondPage = new PolicyRequestSearchDTO();
+        secondPage.setCursor(cursor);
+
+        // Act
+        PolicyRequestPageDTO page = findPolicyRequestUseCase.search(secondPage);
+
+        // Assert
+        ArgumentCaptor<PolicyRequestSearchCriteria> criteriaCaptor = ArgumentCaptor.forClass(PolicyRequestSearchCriteria.class);
+        verify(policyRequestRepository, times(2)).search(criteriaCaptor.capture());
+        PolicyRequestSearchCriteria criteria = criteriaCaptor.getAllValues().get(1);
+        assertEquals(last.getCreatedAt(), criteria.getAfterCreatedAt());
+        assertEquals(last.getId(), criteria.getAfterId());
+        assertEquals(51, criteria.getLimit());
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void testSearchLimitIsCappedAndHistoryKept() {
+        // Arrange
+        PolicyRequestSearchDTO searchDTO = new PolicyRequestSearchDTO();
+        searchDTO.setLimit(10_000);
+        searchDTO.setIncludeHistory(true);
+        responseDTO.setHistory(List.of(new StatusHistoryDTO()));
+        when(policyRequestRepository.search(any(PolicyRequestSearchCriteria.class))).thenReturn(List.of(policyRequest));
+        when(policyRequestMapper.toResponseDTOList(List.of(policyRequest))).thenReturn(new ArrayList<>(List.of(responseDTO)));
+
+        // Act
+        PolicyRequestPageDTO page = findPolicyRequestUseCase.search(searchDTO);
+
+        // Assert
+        ArgumentCaptor<PolicyRequestSearchCriteria> criteriaCaptor = ArgumentCaptor.forClass(PolicyRequestSearchCriteria.class);
+        verify(policyRequestRepository).search(criteriaCaptor.capture());
+        assertEquals(201, criteriaCaptor.getValue().getLimit());
+        assertTrue(criteriaCaptor.getValue().isIncludeHistory());
+        assertEquals(1, page.getItems().get(0).getHistory().size());
+    }
+
+    @Test
+    void testSearchInvalidCursor() {
+        // Arrange
+        PolicyRequestSearchDTO searchDTO = new PolicyRequestSearchDTO();
+        searchDTO.setCursor("not-a-cursor");
+
+        // Act & Assert
+        assertThrows(InvalidSearchCursorException.class, () -> findPolicyRequestUseCase.search(searchDTO));
+        verifyNoInteractions(policyRequestRepository);
+    }
+
+    @Test
+    void testFindByIdServedFromCacheUntilEvicted() {
+        // Arrange
+        PolicyRequestResponseCache enabledCache =
+                new PolicyRequestResponseCache(new SimpleMeterRegistry(), true, 100, Duration.ofMinutes(1));
+        FindPolicyRequestUseCase cachedUseCase = new FindPolicyRequestUseCase(
+                policyRequestRepository, policyRequestMapper, enabledCache, transactionManager);
+        when(policyRequestRepository.findByIdWithHistory(testPolicyId)).thenReturn(Optional.of(policyRequest));
+        when(policyRequestMapper.toResponseDTO(policyRequest)).thenReturn(responseDTO);
+
+        // Act
+        PolicyRequestResponseDTO first = cachedUseCase.findById(testPolicyId);
+        PolicyRequestResponseDTO second = cachedUseCase.findById(testPolicyId);
+        enabledCache.evict(testPolicyId);
+        cachedUseCase.findById(testPolicyId);
+
+        // Assert - a segunda consulta não abre transação nem acessa o banco
+        assertSame(first, second);
+        verify(transactionManager, times(2)).getTransaction(argThat(TransactionDefinition::isReadOnly));
+        verify(policyRequestRepository, times(2)).findByIdWithHistory(testPolicyId);
+    }
+}
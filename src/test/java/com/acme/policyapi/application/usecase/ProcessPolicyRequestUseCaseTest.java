@@ -5,20 +5,39 @@ import com.acme.policyapi.application.service.FraudAnalysisService;
 import com.acme.policyapi.domain.entity.*;
 import com.acme.policyapi.domain.repository.PolicyRequestRepository;
 import com.acme.policyapi.domain.service.PolicyValidationService;
+import com.acme.policyapi.domain.service.UnderwritingDecision;
+import com.acme.policyapi.domain.service.UnderwritingRule;
+import com.acme.policyapi.infrastructure.cache.PolicyRequestResponseCache;
+import com.acme.policyapi.infrastructure.external.AsyncConcurrencyLimiter;
 import com.acme.policyapi.infrastructure.messaging.PolicyEventPublisher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.mockito.junit.jupiter.MockitoExtension;
-
-import java.math.BigDecimal;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.UnexpectedRollbackException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -37,12 +56,24 @@ class ProcessPolicyRequestUseCaseTest {
     @Mock
     private PolicyEventPublisher eventPublisher;
 
+    @Mock
+    private PolicyRequestResponseCache policyRequestCache;
+
     @Mock
     private SetPendingPolicyRequestUseCase setPendingPolicyRequestUseCase;
 
     @Mock
     private RejectPolicyRequestUseCase rejectPolicyRequestUseCase;
 
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ObjectProvider<AsyncConcurrencyLimiter> fraudAnalysisLimiter;
+
+    @Mock
+    private AsyncConfigurer asyncConfigurer;
+
     @InjectMocks
     private ProcessPolicyRequestUseCase processPolicyRequestUseCase;
 
@@ -53,6 +84,7 @@ class ProcessPolicyRequestUseCaseTest {
     @BeforeEach
     void setUp() {
         testPolicyId = UUID.randomUUID();
+        lenient().when(asyncConfigurer.getAsyncExecutor()).thenReturn(Runnable::run);
         setupPolicyRequest();
         setupFraudAnalysisResponse();
     }
@@ -67,8 +99,8 @@ class ProcessPolicyRequestUseCaseTest {
         policyRequest.setPaymentMethod(PaymentMethod.CREDIT_CARD);
         policyRequest.setStatus(PolicyRequestStatus.RECEIVED);
         policyRequest.setCreatedAt(LocalDateTime.now());
-        policyRequest.setTotalMonthlyPremiumAmount(new BigDecimal("150.00"));
-        policyRequest.setInsuredAmount(new BigDecimal("50000.00"));
+        policyRequest.setTotalMonthlyPremiumAmount(Money.parse("150.00"));
+        policyRequest.setInsuredAmount(Money.parse("50000.00"));
         policyRequest.setHistory(new ArrayList<>());
     }
 
@@ -88,10 +120,8 @@ class ProcessPolicyRequestUseCaseTest {
                 .thenReturn(Optional.of(policyRequest));
         when(fraudAnalysisService.analyzeFraud(policyRequest))
                 .thenReturn(fraudAnalysisResponse);
-        when(policyValidationService.validatePolicyRequest(policyRequest, CustomerRiskClassification.REGULAR))
-                .thenReturn(true);
-        when(policyRequestRepository.save(policyRequest))
-                .thenReturn(policyRequest);
+        when(policyValidationService.evaluate(policyRequest, CustomerRiskClassification.REGULAR))
+                .thenReturn(UnderwritingDecision.APPROVED);
 
         // Act
         processPolicyRequestUseCase.execute(testPolicyId);
@@ -99,9 +129,10 @@ class ProcessPolicyRequestUseCaseTest {
         // Assert
         verify(policyRequestRepository, times(1)).findById(testPolicyId);
         verify(fraudAnalysisService, times(1)).analyzeFraud(policyRequest);
-        verify(policyValidationService, times(1)).validatePolicyRequest(policyRequest, CustomerRiskClassification.REGULAR);
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyValidationService, times(1)).evaluate(policyRequest, CustomerRiskClassification.REGULAR);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
         verify(eventPublisher, times(1)).publishPolicyRequestValidated(policyRequest);
+        verify(policyRequestCache, times(1)).evictAfterCommit(testPolicyId);
         verify(setPendingPolicyRequestUseCase, times(1)).execute(testPolicyId);
         verify(rejectPolicyRequestUseCase, never()).execute(any(UUID.class), any(String.class));
     }
@@ -113,10 +144,8 @@ class ProcessPolicyRequestUseCaseTest {
                 .thenReturn(Optional.of(policyRequest));
         when(fraudAnalysisService.analyzeFraud(policyRequest))
                 .thenReturn(fraudAnalysisResponse);
-        when(policyValidationService.validatePolicyRequest(policyRequest, CustomerRiskClassification.REGULAR))
-                .thenReturn(false);
-        when(policyValidationService.getRejectionReason(policyRequest, CustomerRiskClassification.REGULAR))
-                .thenReturn("Política não aprovada devido a critérios de risco");
+        when(policyValidationService.evaluate(policyRequest, CustomerRiskClassification.REGULAR))
+                .thenReturn(UnderwritingDecision.rejected(UnderwritingRule.INSURED_AMOUNT_LIMIT, "Política não aprovada devido a critérios de risco"));
 
         // Act
         processPolicyRequestUseCase.execute(testPolicyId);
@@ -124,10 +153,10 @@ class ProcessPolicyRequestUseCaseTest {
         // Assert
         verify(policyRequestRepository, times(1)).findById(testPolicyId);
         verify(fraudAnalysisService, times(1)).analyzeFraud(policyRequest);
-        verify(policyValidationService, times(1)).validatePolicyRequest(policyRequest, CustomerRiskClassification.REGULAR);
-        verify(policyValidationService, times(1)).getRejectionReason(policyRequest, CustomerRiskClassification.REGULAR);
+        verify(policyValidationService, times(1)).evaluate(policyRequest, CustomerRiskClassification.REGULAR);
+        verify(policyValidationService, never()).getRejectionReason(any(), any());
         verify(rejectPolicyRequestUseCase, times(1)).execute(testPolicyId, "Política não aprovada devido a critérios de risco");
-        verify(policyRequestRepository, never()).save(policyRequest);
+        verify(policyRequestRepository, never()).updateStatus(eq(policyRequest), any(), anyList());
         verify(eventPublisher, never()).publishPolicyRequestValidated(any());
         verify(setPendingPolicyRequestUseCase, never()).execute(any(UUID.class));
     }
@@ -141,17 +170,15 @@ class ProcessPolicyRequestUseCaseTest {
                 .thenReturn(Optional.of(policyRequest));
         when(fraudAnalysisService.analyzeFraud(policyRequest))
                 .thenReturn(fraudAnalysisResponse);
-        when(policyValidationService.validatePolicyRequest(policyRequest, CustomerRiskClassification.HIGH_RISK))
-                .thenReturn(false);
-        when(policyValidationService.getRejectionReason(policyRequest, CustomerRiskClassification.HIGH_RISK))
-                .thenReturn("Cliente classificado como alto risco");
+        when(policyValidationService.evaluate(policyRequest, CustomerRiskClassification.HIGH_RISK))
+                .thenReturn(UnderwritingDecision.rejected(UnderwritingRule.INSURED_AMOUNT_LIMIT, "Cliente classificado como alto risco"));
 
         // Act
         processPolicyRequestUseCase.execute(testPolicyId);
 
         // Assert
         verify(fraudAnalysisService, times(1)).analyzeFraud(policyRequest);
-        verify(policyValidationService, times(1)).validatePolicyRequest(policyRequest, CustomerRiskClassification.HIGH_RISK);
+        verify(policyValidationService, times(1)).evaluate(policyRequest, CustomerRiskClassification.HIGH_RISK);
         verify(rejectPolicyRequestUseCase, times(1)).execute(testPolicyId, "Cliente classificado como alto risco");
     }
 
@@ -164,16 +191,14 @@ class ProcessPolicyRequestUseCaseTest {
                 .thenReturn(Optional.of(policyRequest));
         when(fraudAnalysisService.analyzeFraud(policyRequest))
                 .thenReturn(fraudAnalysisResponse);
-        when(policyValidationService.validatePolicyRequest(policyRequest, CustomerRiskClassification.REGULAR))
-                .thenReturn(true);
-        when(policyRequestRepository.save(policyRequest))
-                .thenReturn(policyRequest);
+        when(policyValidationService.evaluate(policyRequest, CustomerRiskClassification.REGULAR))
+                .thenReturn(UnderwritingDecision.APPROVED);
 
         // Act
         processPolicyRequestUseCase.execute(testPolicyId);
 
         // Assert
-        verify(policyValidationService, times(1)).validatePolicyRequest(policyRequest, CustomerRiskClassification.REGULAR);
+        verify(policyValidationService, times(1)).evaluate(policyRequest, CustomerRiskClassification.REGULAR);
         verify(setPendingPolicyRequestUseCase, times(1)).execute(testPolicyId);
     }
 
@@ -191,8 +216,8 @@ class ProcessPolicyRequestUseCaseTest {
         // Assert
         verify(policyRequestRepository, times(1)).findById(testPolicyId);
         verify(fraudAnalysisService, never()).analyzeFraud(any());
-        verify(policyValidationService, never()).validatePolicyRequest(any(), any());
-        verify(policyRequestRepository, never()).save(any());
+        verify(policyValidationService, never()).evaluate(any(), any());
+        verify(policyRequestRepository, never()).updateStatus(any(), any(), anyList());
         verify(eventPublisher, never()).publishPolicyRequestValidated(any());
         verify(setPendingPolicyRequestUseCase, never()).execute(any(UUID.class));
         verify(rejectPolicyRequestUseCase, never()).execute(any(UUID.class), any(String.class));
@@ -262,7 +287,7 @@ class ProcessPolicyRequestUseCaseTest {
         verify(policyRequestRepository, times(1)).findById(testPolicyId);
         verify(fraudAnalysisService, times(1)).analyzeFraud(policyRequest);
         verify(rejectPolicyRequestUseCase, times(1)).execute(testPolicyId, "Erro no processamento: Erro na análise de fraudes");
-        verify(policyValidationService, never()).validatePolicyRequest(any(), any());
+        verify(policyValidationService, never()).evaluate(any(), any());
         verify(setPendingPolicyRequestUseCase, never()).execute(any(UUID.class));
     }
 
@@ -275,7 +300,7 @@ class ProcessPolicyRequestUseCaseTest {
                 .thenReturn(Optional.of(policyRequest));
         when(fraudAnalysisService.analyzeFraud(policyRequest))
                 .thenReturn(fraudAnalysisResponse);
-        when(policyValidationService.validatePolicyRequest(policyRequest, CustomerRiskClassification.REGULAR))
+        when(policyValidationService.evaluate(policyRequest, CustomerRiskClassification.REGULAR))
                 .thenThrow(validationException);
 
         // Act
@@ -284,7 +309,7 @@ class ProcessPolicyRequestUseCaseTest {
         // Assert
         verify(policyRequestRepository, times(1)).findById(testPolicyId);
         verify(fraudAnalysisService, times(1)).analyzeFraud(policyRequest);
-        verify(policyValidationService, times(1)).validatePolicyRequest(policyRequest, CustomerRiskClassification.REGULAR);
+        verify(policyValidationService, times(1)).evaluate(policyRequest, CustomerRiskClassification.REGULAR);
         verify(rejectPolicyRequestUseCase, times(1)).execute(testPolicyId, "Erro no processamento: Erro no serviço de validação");
     }
 
@@ -297,10 +322,9 @@ class ProcessPolicyRequestUseCaseTest {
                 .thenReturn(Optional.of(policyRequest));
         when(fraudAnalysisService.analyzeFraud(policyRequest))
                 .thenReturn(fraudAnalysisResponse);
-        when(policyValidationService.validatePolicyRequest(policyRequest, CustomerRiskClassification.REGULAR))
-                .thenReturn(true);
-        when(policyRequestRepository.save(policyRequest))
-                .thenThrow(saveException);
+        when(policyValidationService.evaluate(policyRequest, CustomerRiskClassification.REGULAR))
+                .thenReturn(UnderwritingDecision.APPROVED);
+        doThrow(saveException).when(policyRequestRepository).updateStatus(any(), any(), anyList());
 
         // Act
         processPolicyRequestUseCase.execute(testPolicyId);
@@ -320,10 +344,8 @@ class ProcessPolicyRequestUseCaseTest {
                 .thenReturn(Optional.of(policyRequest));
         when(fraudAnalysisService.analyzeFraud(policyRequest))
                 .thenReturn(fraudAnalysisResponse);
-        when(policyValidationService.validatePolicyRequest(policyRequest, CustomerRiskClassification.REGULAR))
-                .thenReturn(true);
-        when(policyRequestRepository.save(policyRequest))
-                .thenReturn(policyRequest);
+        when(policyValidationService.evaluate(policyRequest, CustomerRiskClassification.REGULAR))
+                .thenReturn(UnderwritingDecision.APPROVED);
         doThrow(eventException).when(eventPublisher).publishPolicyRequestValidated(policyRequest);
 
         // Act
@@ -343,10 +365,8 @@ class ProcessPolicyRequestUseCaseTest {
                 .thenReturn(Optional.of(policyRequest));
         when(fraudAnalysisService.analyzeFraud(policyRequest))
                 .thenReturn(fraudAnalysisResponse);
-        when(policyValidationService.validatePolicyRequest(policyRequest, CustomerRiskClassification.REGULAR))
-                .thenReturn(true);
-        when(policyRequestRepository.save(policyRequest))
-                .thenReturn(policyRequest);
+        when(policyValidationService.evaluate(policyRequest, CustomerRiskClassification.REGULAR))
+                .thenReturn(UnderwritingDecision.APPROVED);
         doThrow(pendingException).when(setPendingPolicyRequestUseCase).execute(testPolicyId);
 
         // Act
@@ -359,24 +379,107 @@ class ProcessPolicyRequestUseCaseTest {
     @Test
     void testExecuteAsync() {
         // Arrange
+        runTransactionCallbacks();
         when(policyRequestRepository.findById(testPolicyId))
                 .thenReturn(Optional.of(policyRequest));
-        when(fraudAnalysisService.analyzeFraud(policyRequest))
-                .thenReturn(fraudAnalysisResponse);
-        when(policyValidationService.validatePolicyRequest(policyRequest, CustomerRiskClassification.REGULAR))
-                .thenReturn(true);
-        when(policyRequestRepository.save(policyRequest))
-                .thenReturn(policyRequest);
+        when(fraudAnalysisService.analyzeFraudAsync(policyRequest))
+                .thenReturn(CompletableFuture.completedFuture(fraudAnalysisResponse));
+        when(policyValidationService.evaluate(policyRequest, CustomerRiskClassification.REGULAR))
+                .thenReturn(UnderwritingDecision.APPROVED);
 
         // Act
         processPolicyRequestUseCase.executeAsync(testPolicyId);
 
         // Assert - Verify that the same logic is executed
         verify(policyRequestRepository, times(1)).findById(testPolicyId);
-        verify(fraudAnalysisService, times(1)).analyzeFraud(policyRequest);
+        verify(fraudAnalysisService, times(1)).analyzeFraudAsync(policyRequest);
+        verify(fraudAnalysisService, never()).analyzeFraud(any());
+        verify(transactionTemplate, times(1)).executeWithoutResult(any());
         verify(setPendingPolicyRequestUseCase, times(1)).execute(testPolicyId);
     }
 
+    @Test
+    void testExecuteNonBlockingAppliesAnalysisOnlyWhenItCompletes() {
+        // Arrange
+        runTransactionCallbacks();
+        CompletableFuture<FraudAnalysisResponseDTO> analysis = new CompletableFuture<>();
+        when(policyRequestRepository.findById(testPolicyId)).thenReturn(Optional.of(policyRequest));
+        when(fraudAnalysisService.analyzeFraudAsync(policyRequest)).thenReturn(analysis);
+        when(policyValidationService.evaluate(policyRequest, CustomerRiskClassification.REGULAR))
+                .thenReturn(UnderwritingDecision.APPROVED);
+
+        // Act
+        CompletableFuture<Void> processing = processPolicyRequestUseCase.executeNonBlocking(testPolicyId);
+
+        // Assert - nada é gravado enquanto a análise está em andamento
+        assertFalse(processing.isDone());
+        verifyNoInteractions(transactionTemplate, policyValidationService, setPendingPolicyRequestUseCase);
+
+        analysis.complete(fraudAnalysisResponse);
+
+        assertTrue(processing.isDone());
+        verify(policyRequestRepository).updateStatus(eq(policyRequest), eq(PolicyRequestStatus.RECEIVED), anyList());
+        verify(setPendingPolicyRequestUseCase).execute(testPolicyId);
+    }
+
+    @Test
+    void testExecuteNonBlockingAppliesAnalysisOnProcessingExecutor() {
+        // Arrange
+        runTransactionCallbacks();
+        List<Runnable> scheduled = new ArrayList<>();
+        when(asyncConfigurer.getAsyncExecutor()).thenReturn(scheduled::add);
+        when(policyRequestRepository.findById(testPolicyId)).thenReturn(Optional.of(policyRequest));
+        when(fraudAnalysisService.analyzeFraudAsync(policyRequest))
+                .thenReturn(CompletableFuture.completedFuture(fraudAnalysisResponse));
+        when(policyValidationService.evaluate(policyRequest, CustomerRiskClassification.REGULAR))
+                .thenReturn(UnderwritingDecision.APPROVED);
+
+        // Act
+        CompletableFuture<Void> processing = processPolicyRequestUseCase.executeNonBlocking(testPolicyId);
+
+        // Assert - a gravação aguarda uma vaga do executor, mesmo com a análise concluída
+        assertFalse(processing.isDone());
+        verifyNoInteractions(transactionTemplate, setPendingPolicyRequestUseCase);
+
+        scheduled.forEach(Runnable::run);
+
+        assertTrue(processing.isDone());
+        verify(setPendingPolicyRequestUseCase).execute(testPolicyId);
+    }
+
+    @Test
+    void testExecuteNonBlockingFailsWhenRejectionCannotBeSaved() {
+        // Arrange
+        when(policyRequestRepository.findById(testPolicyId)).thenReturn(Optional.of(policyRequest));
+        when(fraudAnalysisService.analyzeFraudAsync(policyRequest))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("503")));
+        doThrow(new UnexpectedRollbackException("rollback-only"))
+                .when(rejectPolicyRequestUseCase).execute(eq(testPolicyId), anyString());
+
+        // Act
+        CompletableFuture<Void> processing = processPolicyRequestUseCase.executeNonBlocking(testPolicyId);
+
+        // Assert
+        CompletionException failure = assertThrows(CompletionException.class, processing::join);
+        assertInstanceOf(UnexpectedRollbackException.class, failure.getCause());
+        assertDoesNotThrow(() -> processPolicyRequestUseCase.executeAsync(testPolicyId));
+    }
+
+    @Test
+    void testExecuteNonBlockingRejectsWhenAnalysisFails() {
+        // Arrange
+        when(policyRequestRepository.findById(testPolicyId)).thenReturn(Optional.of(policyRequest));
+        when(fraudAnalysisService.analyzeFraudAsync(policyRequest))
+                .thenReturn(CompletableFuture.failedFuture(new TimeoutException("prazo esgotado")));
+
+        // Act
+        processPolicyRequestUseCase.executeNonBlocking(testPolicyId).join();
+
+        // Assert
+        verify(rejectPolicyRequestUseCase).execute(testPolicyId, "Erro no processamento: prazo esgotado");
+        verifyNoInteractions(transactionTemplate, policyValidationService);
+    }
+
     @Test
     void testExecuteWithDifferentPolicyCategories() {
         // Test with AUTO category only to avoid stubbing issues
@@ -386,15 +489,13 @@ class ProcessPolicyRequestUseCaseTest {
                 .thenReturn(Optional.of(policyRequest));
         when(fraudAnalysisService.analyzeFraud(policyRequest))
                 .thenReturn(fraudAnalysisResponse);
-        when(policyValidationService.validatePolicyRequest(policyRequest, CustomerRiskClassification.REGULAR))
-                .thenReturn(true);
-        when(policyRequestRepository.save(policyRequest))
-                .thenReturn(policyRequest);
+        when(policyValidationService.evaluate(policyRequest, CustomerRiskClassification.REGULAR))
+                .thenReturn(UnderwritingDecision.APPROVED);
 
         processPolicyRequestUseCase.execute(testPolicyId);
         
         verify(fraudAnalysisService, times(1)).analyzeFraud(policyRequest);
-        verify(policyValidationService, times(1)).validatePolicyRequest(policyRequest, CustomerRiskClassification.REGULAR);
+        verify(policyValidationService, times(1)).evaluate(policyRequest, CustomerRiskClassification.REGULAR);
         verify(setPendingPolicyRequestUseCase, times(1)).execute(testPolicyId);
     }
 
@@ -405,10 +506,8 @@ class ProcessPolicyRequestUseCaseTest {
                 .thenReturn(Optional.of(policyRequest));
         when(fraudAnalysisService.analyzeFraud(policyRequest))
                 .thenReturn(fraudAnalysisResponse);
-        when(policyValidationService.validatePolicyRequest(policyRequest, CustomerRiskClassification.REGULAR))
-                .thenReturn(true);
-        when(policyRequestRepository.save(policyRequest))
-                .thenReturn(policyRequest);
+        when(policyValidationService.evaluate(policyRequest, CustomerRiskClassification.REGULAR))
+                .thenReturn(UnderwritingDecision.APPROVED);
 
         processPolicyRequestUseCase.execute(testPolicyId);
 
@@ -422,10 +521,8 @@ class ProcessPolicyRequestUseCaseTest {
                 .thenReturn(Optional.of(policyRequest));
         when(fraudAnalysisService.analyzeFraud(policyRequest))
                 .thenReturn(fraudAnalysisResponse);
-        when(policyValidationService.validatePolicyRequest(policyRequest, CustomerRiskClassification.REGULAR))
-                .thenReturn(true);
-        when(policyRequestRepository.save(policyRequest))
-                .thenReturn(policyRequest);
+        when(policyValidationService.evaluate(policyRequest, CustomerRiskClassification.REGULAR))
+                .thenReturn(UnderwritingDecision.APPROVED);
 
         processPolicyRequestUseCase.execute(testPolicyId);
 
@@ -434,9 +531,199 @@ class ProcessPolicyRequestUseCaseTest {
                              eventPublisher, setPendingPolicyRequestUseCase);
         inOrder.verify(policyRequestRepository).findById(testPolicyId);
         inOrder.verify(fraudAnalysisService).analyzeFraud(policyRequest);
-        inOrder.verify(policyValidationService).validatePolicyRequest(policyRequest, CustomerRiskClassification.REGULAR);
-        inOrder.verify(policyRequestRepository).save(policyRequest);
+        inOrder.verify(policyValidationService).evaluate(policyRequest, CustomerRiskClassification.REGULAR);
+        inOrder.verify(policyRequestRepository).updateStatus(eq(policyRequest), any(), anyList());
         inOrder.verify(eventPublisher).publishPolicyRequestValidated(policyRequest);
         inOrder.verify(setPendingPolicyRequestUseCase).execute(testPolicyId);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testExecuteAllAsyncContinuesAfterFailure() {
+        // Arrange - first request does not exist, second is already processed
+        UUID missingId = UUID.randomUUID();
+        policyRequest.setStatus(PolicyRequestStatus.PENDING);
+        when(policyRequestRepository.findById(missingId)).thenReturn(Optional.empty());
+        when(policyRequestRepository.findById(testPolicyId)).thenReturn(Optional.of(policyRequest));
+
+        // Act
+        processPolicyRequestUseCase.executeAllAsync(List.of(missingId, testPolicyId));
+
+        // Assert
+        verify(policyRequestRepository).findById(missingId);
+        verify(policyRequestRepository).findById(testPolicyId);
+        verify(fraudAnalysisService, never()).analyzeFraudAsync(any());
+    }
+
+    @Test
+    void testExecuteAllAsyncAppliesEveryAnalysisOfTheChunk() {
+        // Arrange
+        runTransactionCallbacks();
+        PolicyRequest other = new PolicyRequest();
+        other.setId(UUID.randomUUID());
+        other.setStatus(PolicyRequestStatus.RECEIVED);
+        other.setHistory(new ArrayList<>());
+        when(policyRequestRepository.findById(testPolicyId)).thenReturn(Optional.of(policyRequest));
+        when(policyRequestRepository.findById(other.getId())).thenReturn(Optional.of(other));
+        when(fraudAnalysisService.analyzeFraudAsync(policyRequest))
+                .thenReturn(CompletableFuture.completedFuture(fraudAnalysisResponse));
+        when(fraudAnalysisService.analyzeFraudAsync(other))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("fila cheia")));
+        when(policyValidationService.evaluate(policyRequest, CustomerRiskClassification.REGULAR))
+                .thenReturn(UnderwritingDecision.APPROVED);
+
+        // Act
+        processPolicyRequestUseCase.executeAllAsync(List.of(testPolicyId, other.getId()));
+
+        // Assert
+        verify(setPendingPolicyRequestUseCase).execute(testPolicyId);
+        verify(rejectPolicyRequestUseCase).execute(other.getId(), "Erro no processamento: fila cheia");
+    }
+
+    @Test
+    void testExecuteSingleWriteAppliesBothTransitionsWithOneSaveAndOneSend() {
+        // Arrange
+        ReflectionTestUtils.setField(processPolicyRequestUseCase, "singleWrite", true);
+        when(policyRequestRepository.findById(testPolicyId)).thenReturn(Optional.of(policyRequest));
+        when(fraudAnalysisService.analyzeFraud(policyRequest)).thenReturn(fraudAnalysisResponse);
+        when(policyValidationService.evaluate(policyRequest, CustomerRiskClassification.REGULAR))
+                .thenReturn(UnderwritingDecision.APPROVED);
+
+        // Act
+        processPolicyRequestUseCase.execute(testPolicyId);
+
+        // Assert
+        assertEquals(PolicyRequestStatus.PENDING, policyRequest.getStatus());
+        assertEquals(List.of(PolicyRequestStatus.VALIDATED, PolicyRequestStatus.PENDING),
+                policyRequest.getHistory().stream().map(StatusHistory::getStatus).toList());
+        verify(policyRequestRepository, times(1)).findById(testPolicyId);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
+        verify(policyRequestCache, times(1)).evictAfterCommit(testPolicyId);
+        verify(eventPublisher, times(1)).publishPolicyRequestValidatedAndPending(policyRequest);
+        verify(eventPublisher, never()).publishPolicyRequestValidated(any());
+        verify(eventPublisher, never()).publishPolicyRequestPending(any());
+        verify(setPendingPolicyRequestUseCase).approveIfConfirmed(policyRequest);
+        verify(setPendingPolicyRequestUseCase, never()).execute(any());
+        verifyNoInteractions(rejectPolicyRequestUseCase);
+    }
+
+    @Test
+    void testExecuteSingleWriteRejectsWhenPublishFails() {
+        // Arrange
+        ReflectionTestUtils.setField(processPolicyRequestUseCase, "singleWrite", true);
+        when(policyRequestRepository.findById(testPolicyId)).thenReturn(Optional.of(policyRequest));
+        when(fraudAnalysisService.analyzeFraud(policyRequest)).thenReturn(fraudAnalysisResponse);
+        when(policyValidationService.evaluate(policyRequest, CustomerRiskClassification.REGULAR))
+                .thenReturn(UnderwritingDecision.APPROVED);
+        doThrow(new RuntimeException("Kafka down")).when(eventPublisher).publishPolicyRequestValidatedAndPending(policyRequest);
+
+        // Act
+        processPolicyRequestUseCase.execute(testPolicyId);
+
+        // Assert
+        verify(rejectPolicyRequestUseCase).execute(eq(testPolicyId), contains("Kafka down"));
+        verifyNoInteractions(setPendingPolicyRequestUseCase);
+    }
+
+    @Test
+    void testExecuteConcurrentStatusChangeIsNotRejected() {
+        // Arrange
+        when(policyRequestRepository.findById(testPolicyId)).thenReturn(Optional.of(policyRequest));
+        when(fraudAnalysisService.analyzeFraud(policyRequest)).thenReturn(fraudAnalysisResponse);
+        when(policyValidationService.evaluate(policyRequest, CustomerRiskClassification.REGULAR))
+                .thenReturn(UnderwritingDecision.APPROVED);
+        doThrow(new OptimisticLockingFailureException("cancelada"))
+                .when(policyRequestRepository).updateStatus(eq(policyRequest), eq(PolicyRequestStatus.RECEIVED), anyList());
+
+        // Act
+        processPolicyRequestUseCase.execute(testPolicyId);
+
+        // Assert - outra transação já alterou a solicitação; nada é publicado nem rejeitado
+        verifyNoInteractions(eventPublisher, setPendingPolicyRequestUseCase, rejectPolicyRequestUseCase);
+    }
+
+    @Test
+    void testExecuteUsesAdaptiveLimiterWhenAvailable() {
+        // Arrange
+        AsyncConcurrencyLimiter limiter = new AsyncConcurrencyLimiter("test.limiter", 1, 10, new SimpleMeterRegistry());
+        when(fraudAnalysisLimiter.getIfAvailable()).thenReturn(limiter);
+        when(policyRequestRepository.findById(testPolicyId)).thenReturn(Optional.of(policyRequest));
+        when(fraudAnalysisService.analyzeFraudAsync(policyRequest))
+                .thenReturn(CompletableFuture.completedFuture(fraudAnalysisResponse));
+        when(policyValidationService.evaluate(policyRequest, CustomerRiskClassification.REGULAR))
+                .thenReturn(UnderwritingDecision.APPROVED);
+
+        // Act
+        processPolicyRequestUseCase.execute(testPolicyId);
+
+        // Assert
+        verify(fraudAnalysisService, never()).analyzeFraud(any());
+        verify(setPendingPolicyRequestUseCase).execute(testPolicyId);
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void testExecuteNonBlockingWaitsForLimiterSlot() {
+        // Arrange
+        runTransactionCallbacks();
+        AsyncConcurrencyLimiter limiter = new AsyncConcurrencyLimiter("test.limiter", 1, 10, new SimpleMeterRegistry());
+        CompletableFuture<Object> busy = new CompletableFuture<>();
+        limiter.submit(() -> busy);
+        when(fraudAnalysisLimiter.getIfAvailable()).thenReturn(limiter);
+        when(policyRequestRepository.findById(testPolicyId)).thenReturn(Optional.of(policyRequest));
+        when(fraudAnalysisService.analyzeFraudAsync(policyRequest))
+                .thenReturn(CompletableFuture.completedFuture(fraudAnalysisResponse));
+        when(policyValidationService.evaluate(policyRequest, CustomerRiskClassification.REGULAR))
+                .thenReturn(UnderwritingDecision.APPROVED);
+
+        // Act
+        CompletableFuture<Void> processing = processPolicyRequestUseCase.executeNonBlocking(testPolicyId);
+
+        // Assert - a análise só é disparada quando a vaga é liberada
+        assertFalse(processing.isDone());
+        verify(fraudAnalysisService, never()).analyzeFraudAsync(any());
+
+        busy.complete(null);
+
+        assertTrue(processing.isDone());
+        verify(setPendingPolicyRequestUseCase).execute(testPolicyId);
+    }
+
+    @Test
+    void testExecuteNonBlockingRequeuesWhenLimiterQueueIsFull() throws Exception {
+        // Arrange
+        runTransactionCallbacks();
+        ReflectionTestUtils.setField(processPolicyRequestUseCase, "requeueDelay", Duration.ofMillis(10));
+        AsyncConcurrencyLimiter limiter = new AsyncConcurrencyLimiter("test.limiter", 1, 0, new SimpleMeterRegistry());
+        CompletableFuture<Object> busy = new CompletableFuture<>();
+        limiter.submit(() -> busy);
+        when(fraudAnalysisLimiter.getIfAvailable()).thenReturn(limiter);
+        when(policyRequestRepository.findById(testPolicyId)).thenReturn(Optional.of(policyRequest));
+        when(fraudAnalysisService.analyzeFraudAsync(policyRequest))
+                .thenReturn(CompletableFuture.completedFuture(fraudAnalysisResponse));
+        when(policyValidationService.evaluate(policyRequest, CustomerRiskClassification.REGULAR))
+                .thenReturn(UnderwritingDecision.APPROVED);
+
+        // Act
+        CompletableFuture<Void> processing = processPolicyRequestUseCase.executeNonBlocking(testPolicyId);
+        Thread.sleep(50);
+
+        // Assert - enquanto a fila está cheia a solicitação segue em RECEIVED, sem rejeição
+        assertFalse(processing.isDone());
+        assertEquals(PolicyRequestStatus.RECEIVED, policyRequest.getStatus());
+        verifyNoInteractions(rejectPolicyRequestUseCase);
+
+        busy.complete(null);
+
+        processing.get(1, TimeUnit.SECONDS);
+        verify(setPendingPolicyRequestUseCase).execute(testPolicyId);
+        verifyNoInteractions(rejectPolicyRequestUseCase);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runTransactionCallbacks() {
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Consumer.class).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+}
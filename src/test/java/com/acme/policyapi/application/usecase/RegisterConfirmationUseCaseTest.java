@@ -0,0 +1,110 @@
+package com.acme.policyapi.application.usecase;
+
+import com.acme.policyapi.domain.entity.ConfirmationType;
+import com.acme.policyapi.domain.entity.PolicyRequest;
+import com.acme.policyapi.domain.entity.PolicyRequestStatus;
+import com.acme.policyapi.domain.repository.PolicyConfirmationRepository;
+import com.acme.policyapi.domain.repository.PolicyRequestRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RegisterConfirmationUseCaseTest {
+
+    @Mock
+    private PolicyConfirmationRepository confirmationRepository;
+
+    @Mock
+    private ApprovePolicyRequestUseCase approvePolicyRequestUseCase;
+
+    @Mock
+    private PolicyRequestRepository policyRequestRepository;
+
+    @InjectMocks
+    private RegisterConfirmationUseCase registerConfirmationUseCase;
+
+    private UUID policyRequestId;
+    private PolicyRequest policyRequest;
+
+    @BeforeEach
+    void setUp() {
+        policyRequestId = UUID.randomUUID();
+        policyRequest = new PolicyRequest();
+        policyRequest.setId(policyRequestId);
+        policyRequest.setStatus(PolicyRequestStatus.PENDING);
+    }
+
+    @Test
+    void testExecuteApprovesWhenConfirmationCompletesPair() {
+        // Arrange
+        when(confirmationRepository.register(Map.of(policyRequestId, Set.of(ConfirmationType.UNDERWRITING))))
+                .thenReturn(Set.of(policyRequestId));
+        when(policyRequestRepository.findById(policyRequestId)).thenReturn(Optional.of(policyRequest));
+
+        // Act
+        boolean approved = registerConfirmationUseCase.execute(policyRequestId, ConfirmationType.UNDERWRITING);
+
+        // Assert
+        assertTrue(approved);
+        verify(approvePolicyRequestUseCase).approve(policyRequest);
+        verify(confirmationRepository, never()).reopen(any());
+    }
+
+    @Test
+    void testExecuteReopensWhenPairCompletesBeforePending() {
+        // Arrange
+        policyRequest.setStatus(PolicyRequestStatus.VALIDATED);
+        when(confirmationRepository.register(any())).thenReturn(Set.of(policyRequestId));
+        when(policyRequestRepository.findById(policyRequestId)).thenReturn(Optional.of(policyRequest));
+
+        // Act
+        boolean approved = registerConfirmationUseCase.execute(policyRequestId, ConfirmationType.PAYMENT);
+
+        // Assert
+        assertFalse(approved);
+        verify(confirmationRepository).reopen(List.of(policyRequestId));
+        verifyNoInteractions(approvePolicyRequestUseCase);
+    }
+
+    @Test
+    void testExecuteWaitsForOtherConfirmation() {
+        // Arrange
+        when(confirmationRepository.register(any())).thenReturn(Set.of());
+
+        // Act
+        boolean approved = registerConfirmationUseCase.execute(policyRequestId, ConfirmationType.PAYMENT);
+
+        // Assert
+        assertFalse(approved);
+        verify(confirmationRepository).register(Map.of(policyRequestId, Set.of(ConfirmationType.PAYMENT)));
+        verifyNoInteractions(approvePolicyRequestUseCase, policyRequestRepository);
+    }
+
+    @Test
+    void testExecutePropagatesApprovalFailure() {
+        // Arrange
+        policyRequest.setStatus(PolicyRequestStatus.CANCELLED);
+        when(confirmationRepository.register(any())).thenReturn(Set.of(policyRequestId));
+        when(policyRequestRepository.findById(policyRequestId)).thenReturn(Optional.of(policyRequest));
+        doThrow(new IllegalStateException("Transição inválida"))
+                .when(approvePolicyRequestUseCase).approve(policyRequest);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class,
+                () -> registerConfirmationUseCase.execute(policyRequestId, ConfirmationType.PAYMENT));
+    }
+}
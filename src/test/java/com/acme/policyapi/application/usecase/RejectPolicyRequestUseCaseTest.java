@@ -1,5 +1,6 @@
 package com.acme.policyapi.application.usecase;
 
+import com.acme.policyapi.domain.entity.Money;
 import com.acme.policyapi.domain.entity.PolicyRequest;
 import com.acme.policyapi.domain.entity.PolicyRequestStatus;
 import com.acme.policyapi.domain.entity.InsuranceCategory;
@@ -7,6 +8,7 @@ import com.acme.policyapi.domain.entity.SalesChannel;
 import com.acme.policyapi.domain.entity.PaymentMethod;
 import com.acme.policyapi.domain.entity.StatusHistory;
 import com.acme.policyapi.domain.repository.PolicyRequestRepository;
+import com.acme.policyapi.infrastructure.cache.PolicyRequestResponseCache;
 import com.acme.policyapi.infrastructure.messaging.PolicyEventPublisher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,12 +17,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +35,9 @@ class RejectPolicyRequestUseCaseTest {
     @Mock
     private PolicyEventPublisher eventPublisher;
 
+    @Mock
+    private PolicyRequestResponseCache policyRequestCache;
+
     @InjectMocks
     private RejectPolicyRequestUseCase rejectPolicyRequestUseCase;
 
@@ -59,12 +65,12 @@ class RejectPolicyRequestUseCaseTest {
         policyRequest.setPaymentMethod(PaymentMethod.CREDIT_CARD);
         policyRequest.setStatus(PolicyRequestStatus.RECEIVED);
         policyRequest.setCreatedAt(LocalDateTime.of(2025, 1, 1, 10, 0));
-        policyRequest.setTotalMonthlyPremiumAmount(new BigDecimal("150.00"));
-        policyRequest.setInsuredAmount(new BigDecimal("50000.00"));
+        policyRequest.setTotalMonthlyPremiumAmount(Money.parse("150.00"));
+        policyRequest.setInsuredAmount(Money.parse("50000.00"));
 
         // Setup collections
-        Map<String, BigDecimal> coverages = new HashMap<>();
-        coverages.put("COLLISION", new BigDecimal("25000.00"));
+        Map<String, Money> coverages = new HashMap<>();
+        coverages.put("COLLISION", Money.parse("25000.00"));
         policyRequest.setCoverages(coverages);
 
         List<String> assistances = Arrays.asList("24h Assistance");
@@ -87,16 +93,15 @@ class RejectPolicyRequestUseCaseTest {
         // Arrange
         when(policyRequestRepository.findById(testPolicyId))
                 .thenReturn(Optional.of(policyRequest));
-        when(policyRequestRepository.save(any(PolicyRequest.class)))
-                .thenReturn(policyRequest);
 
         // Act
         rejectPolicyRequestUseCase.execute(testPolicyId, rejectionReason);
 
         // Assert
         verify(policyRequestRepository, times(1)).findById(testPolicyId);
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
         verify(eventPublisher, times(1)).publishPolicyRequestRejected(policyRequest);
+        verify(policyRequestCache, times(1)).evictAfterCommit(testPolicyId);
     }
 
     @Test
@@ -113,7 +118,7 @@ class RejectPolicyRequestUseCaseTest {
 
         assertEquals("Solicitação não encontrada: " + testPolicyId, exception.getMessage());
         verify(policyRequestRepository, times(1)).findById(testPolicyId);
-        verify(policyRequestRepository, never()).save(any());
+        verify(policyRequestRepository, never()).updateStatus(any(), any(), anyList());
         verify(eventPublisher, never()).publishPolicyRequestRejected(any());
     }
 
@@ -128,7 +133,7 @@ class RejectPolicyRequestUseCaseTest {
         rejectPolicyRequestUseCase.execute(testPolicyId, rejectionReason);
 
         // Assert
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
         verify(eventPublisher, times(1)).publishPolicyRequestRejected(policyRequest);
     }
 
@@ -143,7 +148,7 @@ class RejectPolicyRequestUseCaseTest {
         rejectPolicyRequestUseCase.execute(testPolicyId, rejectionReason);
 
         // Assert
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
         verify(eventPublisher, times(1)).publishPolicyRequestRejected(policyRequest);
     }
 
@@ -158,7 +163,7 @@ class RejectPolicyRequestUseCaseTest {
         rejectPolicyRequestUseCase.execute(testPolicyId, rejectionReason);
 
         // Assert
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
         verify(eventPublisher, times(1)).publishPolicyRequestRejected(policyRequest);
     }
 
@@ -177,7 +182,7 @@ class RejectPolicyRequestUseCaseTest {
         
         assertTrue(exception.getMessage().contains("Transição inválida"));
         verify(policyRequestRepository, times(1)).findById(testPolicyId);
-        verify(policyRequestRepository, never()).save(any());
+        verify(policyRequestRepository, never()).updateStatus(any(), any(), anyList());
         verify(eventPublisher, never()).publishPolicyRequestRejected(any());
     }
 
@@ -196,7 +201,7 @@ class RejectPolicyRequestUseCaseTest {
         
         assertTrue(exception.getMessage().contains("Transição inválida"));
         verify(policyRequestRepository, times(1)).findById(testPolicyId);
-        verify(policyRequestRepository, never()).save(any());
+        verify(policyRequestRepository, never()).updateStatus(any(), any(), anyList());
         verify(eventPublisher, never()).publishPolicyRequestRejected(any());
     }
 
@@ -215,7 +220,7 @@ class RejectPolicyRequestUseCaseTest {
         
         assertTrue(exception.getMessage().contains("Transição inválida"));
         verify(policyRequestRepository, times(1)).findById(testPolicyId);
-        verify(policyRequestRepository, never()).save(any());
+        verify(policyRequestRepository, never()).updateStatus(any(), any(), anyList());
         verify(eventPublisher, never()).publishPolicyRequestRejected(any());
     }
 
@@ -232,7 +237,7 @@ class RejectPolicyRequestUseCaseTest {
         
         // Assert
         verify(policyRequestRepository, times(1)).findById(testPolicyId);
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
         verify(eventPublisher, times(1)).publishPolicyRequestRejected(policyRequest);
     }
 
@@ -246,7 +251,7 @@ class RejectPolicyRequestUseCaseTest {
         rejectPolicyRequestUseCase.execute(testPolicyId, "");
 
         // Assert - Empty reason should still work
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
         verify(eventPublisher, times(1)).publishPolicyRequestRejected(policyRequest);
     }
 
@@ -260,7 +265,7 @@ class RejectPolicyRequestUseCaseTest {
         rejectPolicyRequestUseCase.execute(testPolicyId, null);
 
         // Assert - Null reason should still work
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
         verify(eventPublisher, times(1)).publishPolicyRequestRejected(policyRequest);
     }
 
@@ -277,7 +282,7 @@ class RejectPolicyRequestUseCaseTest {
         rejectPolicyRequestUseCase.execute(testPolicyId, longReason);
 
         // Assert
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
         verify(eventPublisher, times(1)).publishPolicyRequestRejected(policyRequest);
     }
 
@@ -293,7 +298,7 @@ class RejectPolicyRequestUseCaseTest {
         // Assert - Verify order of operations
         var inOrder = inOrder(policyRequestRepository, eventPublisher);
         inOrder.verify(policyRequestRepository).findById(testPolicyId);
-        inOrder.verify(policyRequestRepository).save(policyRequest);
+        inOrder.verify(policyRequestRepository).updateStatus(eq(policyRequest), any(), anyList());
         inOrder.verify(eventPublisher).publishPolicyRequestRejected(policyRequest);
     }
 
@@ -308,7 +313,7 @@ class RejectPolicyRequestUseCaseTest {
 
         // Assert - Verify repository interactions (log content testing would need additional setup)
         verify(policyRequestRepository, times(1)).findById(testPolicyId);
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
     }
 
     @Test
@@ -386,11 +391,11 @@ class RejectPolicyRequestUseCaseTest {
     @Test
     void testExecuteWithComplexPolicyRequest() {
         // Arrange - Complex policy request with multiple coverages and assistances
-        Map<String, BigDecimal> complexCoverages = new HashMap<>();
-        complexCoverages.put("COLLISION", new BigDecimal("25000.00"));
-        complexCoverages.put("COMPREHENSIVE", new BigDecimal("30000.00"));
-        complexCoverages.put("LIABILITY", new BigDecimal("15000.00"));
-        complexCoverages.put("PERSONAL_INJURY", new BigDecimal("10000.00"));
+        Map<String, Money> complexCoverages = new HashMap<>();
+        complexCoverages.put("COLLISION", Money.parse("25000.00"));
+        complexCoverages.put("COMPREHENSIVE", Money.parse("30000.00"));
+        complexCoverages.put("LIABILITY", Money.parse("15000.00"));
+        complexCoverages.put("PERSONAL_INJURY", Money.parse("10000.00"));
         policyRequest.setCoverages(complexCoverages);
 
         List<String> multipleAssistances = Arrays.asList(
@@ -410,15 +415,15 @@ class RejectPolicyRequestUseCaseTest {
         rejectPolicyRequestUseCase.execute(testPolicyId, rejectionReason);
 
         // Assert
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
         verify(eventPublisher, times(1)).publishPolicyRequestRejected(policyRequest);
     }
 
     @Test
     void testExecuteWithLargeInsuredAmounts() {
         // Arrange - Large insured amounts
-        policyRequest.setInsuredAmount(new BigDecimal("50000000.00"));
-        policyRequest.setTotalMonthlyPremiumAmount(new BigDecimal("10000.00"));
+        policyRequest.setInsuredAmount(Money.parse("50000000.00"));
+        policyRequest.setTotalMonthlyPremiumAmount(Money.parse("10000.00"));
 
         when(policyRequestRepository.findById(testPolicyId))
                 .thenReturn(Optional.of(policyRequest));
@@ -427,7 +432,7 @@ class RejectPolicyRequestUseCaseTest {
         rejectPolicyRequestUseCase.execute(testPolicyId, "Amount exceeds limit");
 
         // Assert
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
         verify(eventPublisher, times(1)).publishPolicyRequestRejected(policyRequest);
     }
 
@@ -444,7 +449,7 @@ class RejectPolicyRequestUseCaseTest {
         rejectPolicyRequestUseCase.execute(testPolicyId, rejectionReason);
 
         // Assert
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
         verify(eventPublisher, times(1)).publishPolicyRequestRejected(policyRequest);
     }
 
@@ -453,8 +458,7 @@ class RejectPolicyRequestUseCaseTest {
         // Arrange
         when(policyRequestRepository.findById(testPolicyId))
                 .thenReturn(Optional.of(policyRequest));
-        when(policyRequestRepository.save(any()))
-                .thenThrow(new RuntimeException("Database error"));
+        doThrow(new RuntimeException("Database error")).when(policyRequestRepository).updateStatus(any(), any(), anyList());
 
         // Act & Assert - Should propagate the exception (transactional rollback)
         assertThrows(
@@ -462,7 +466,7 @@ class RejectPolicyRequestUseCaseTest {
             () -> rejectPolicyRequestUseCase.execute(testPolicyId, rejectionReason)
         );
 
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
         verify(eventPublisher, never()).publishPolicyRequestRejected(any());
     }
 
@@ -485,7 +489,7 @@ class RejectPolicyRequestUseCaseTest {
         rejectPolicyRequestUseCase.execute(testPolicyId, rejectionReason);
 
         // Assert
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
         verify(eventPublisher, times(1)).publishPolicyRequestRejected(policyRequest);
     }
 
@@ -501,7 +505,7 @@ class RejectPolicyRequestUseCaseTest {
         rejectPolicyRequestUseCase.execute(testPolicyId, rejectionReason);
 
         // Assert
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
         verify(eventPublisher, times(1)).publishPolicyRequestRejected(policyRequest);
     }
 
@@ -519,7 +523,7 @@ class RejectPolicyRequestUseCaseTest {
         rejectPolicyRequestUseCase.execute(testPolicyId, rejectionReason);
 
         // Assert
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
         verify(eventPublisher, times(1)).publishPolicyRequestRejected(policyRequest);
     }
 }
\ No newline at end of file
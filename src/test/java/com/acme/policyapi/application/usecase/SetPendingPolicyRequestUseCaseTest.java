@@ -1,12 +1,15 @@
 package com.acme.policyapi.application.usecase;
 
+import com.acme.policyapi.domain.entity.Money;
 import com.acme.policyapi.domain.entity.PolicyRequest;
 import com.acme.policyapi.domain.entity.PolicyRequestStatus;
 import com.acme.policyapi.domain.entity.InsuranceCategory;
 import com.acme.policyapi.domain.entity.SalesChannel;
 import com.acme.policyapi.domain.entity.PaymentMethod;
 import com.acme.policyapi.domain.entity.StatusHistory;
+import com.acme.policyapi.domain.repository.PolicyConfirmationRepository;
 import com.acme.policyapi.domain.repository.PolicyRequestRepository;
+import com.acme.policyapi.infrastructure.cache.PolicyRequestResponseCache;
 import com.acme.policyapi.infrastructure.messaging.PolicyEventPublisher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,12 +18,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +36,15 @@ class SetPendingPolicyRequestUseCaseTest {
     @Mock
     private PolicyEventPublisher eventPublisher;
 
+    @Mock
+    private PolicyRequestResponseCache policyRequestCache;
+
+    @Mock
+    private PolicyConfirmationRepository confirmationRepository;
+
+    @Mock
+    private ApprovePolicyRequestUseCase approvePolicyRequestUseCase;
+
     @InjectMocks
     private SetPendingPolicyRequestUseCase setPendingPolicyRequestUseCase;
 
@@ -57,12 +70,12 @@ class SetPendingPolicyRequestUseCaseTest {
         policyRequest.setPaymentMethod(PaymentMethod.CREDIT_CARD);
         policyRequest.setStatus(PolicyRequestStatus.VALIDATED);
         policyRequest.setCreatedAt(LocalDateTime.of(2025, 1, 1, 10, 0));
-        policyRequest.setTotalMonthlyPremiumAmount(new BigDecimal("150.00"));
-        policyRequest.setInsuredAmount(new BigDecimal("50000.00"));
+        policyRequest.setTotalMonthlyPremiumAmount(Money.parse("150.00"));
+        policyRequest.setInsuredAmount(Money.parse("50000.00"));
 
         // Setup collections
-        Map<String, BigDecimal> coverages = new HashMap<>();
-        coverages.put("COLLISION", new BigDecimal("25000.00"));
+        Map<String, Money> coverages = new HashMap<>();
+        coverages.put("COLLISION", Money.parse("25000.00"));
         policyRequest.setCoverages(coverages);
 
         List<String> assistances = Arrays.asList("24h Assistance");
@@ -85,16 +98,34 @@ class SetPendingPolicyRequestUseCaseTest {
         // Arrange
         when(policyRequestRepository.findById(testPolicyId))
                 .thenReturn(Optional.of(policyRequest));
-        when(policyRequestRepository.save(any(PolicyRequest.class)))
-                .thenReturn(policyRequest);
 
         // Act
         setPendingPolicyRequestUseCase.execute(testPolicyId);
 
         // Assert
         verify(policyRequestRepository, times(1)).findById(testPolicyId);
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
         verify(eventPublisher, times(1)).publishPolicyRequestPending(policyRequest);
+        verify(policyRequestCache, times(1)).evictAfterCommit(testPolicyId);
+        verify(confirmationRepository).markPending(testPolicyId);
+        verifyNoInteractions(approvePolicyRequestUseCase);
+    }
+
+    @Test
+    void testExecuteApprovesWhenConfirmationsArrivedBeforePending() {
+        // Arrange
+        when(policyRequestRepository.findById(testPolicyId))
+                .thenReturn(Optional.of(policyRequest));
+        when(confirmationRepository.markPending(testPolicyId)).thenReturn(true);
+
+        // Act
+        setPendingPolicyRequestUseCase.execute(testPolicyId);
+
+        // Assert
+        var inOrder = inOrder(policyRequestRepository, confirmationRepository, approvePolicyRequestUseCase);
+        inOrder.verify(policyRequestRepository).updateStatus(eq(policyRequest), eq(PolicyRequestStatus.VALIDATED), anyList());
+        inOrder.verify(confirmationRepository).markPending(testPolicyId);
+        inOrder.verify(approvePolicyRequestUseCase).approve(policyRequest);
     }
 
     @Test
@@ -111,7 +142,7 @@ class SetPendingPolicyRequestUseCaseTest {
 
         assertEquals("Solicitação não encontrada: " + testPolicyId, exception.getMessage());
         verify(policyRequestRepository, times(1)).findById(testPolicyId);
-        verify(policyRequestRepository, never()).save(any());
+        verify(policyRequestRepository, never()).updateStatus(any(), any(), anyList());
         verify(eventPublisher, never()).publishPolicyRequestPending(any());
     }
 
@@ -126,7 +157,7 @@ class SetPendingPolicyRequestUseCaseTest {
         setPendingPolicyRequestUseCase.execute(testPolicyId);
 
         // Assert
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
         verify(eventPublisher, times(1)).publishPolicyRequestPending(policyRequest);
     }
 
@@ -145,7 +176,7 @@ class SetPendingPolicyRequestUseCaseTest {
         
         assertTrue(exception.getMessage().contains("Transição inválida"));
         verify(policyRequestRepository, times(1)).findById(testPolicyId);
-        verify(policyRequestRepository, never()).save(any());
+        verify(policyRequestRepository, never()).updateStatus(any(), any(), anyList());
         verify(eventPublisher, never()).publishPolicyRequestPending(any());
     }
 
@@ -164,7 +195,7 @@ class SetPendingPolicyRequestUseCaseTest {
         
         assertTrue(exception.getMessage().contains("Transição inválida"));
         verify(policyRequestRepository, times(1)).findById(testPolicyId);
-        verify(policyRequestRepository, never()).save(any());
+        verify(policyRequestRepository, never()).updateStatus(any(), any(), anyList());
         verify(eventPublisher, never()).publishPolicyRequestPending(any());
     }
 
@@ -183,7 +214,7 @@ class SetPendingPolicyRequestUseCaseTest {
         
         assertTrue(exception.getMessage().contains("Transição inválida"));
         verify(policyRequestRepository, times(1)).findById(testPolicyId);
-        verify(policyRequestRepository, never()).save(any());
+        verify(policyRequestRepository, never()).updateStatus(any(), any(), anyList());
         verify(eventPublisher, never()).publishPolicyRequestPending(any());
     }
 
@@ -202,7 +233,7 @@ class SetPendingPolicyRequestUseCaseTest {
         
         assertTrue(exception.getMessage().contains("Transição inválida"));
         verify(policyRequestRepository, times(1)).findById(testPolicyId);
-        verify(policyRequestRepository, never()).save(any());
+        verify(policyRequestRepository, never()).updateStatus(any(), any(), anyList());
         verify(eventPublisher, never()).publishPolicyRequestPending(any());
     }
 
@@ -221,7 +252,7 @@ class SetPendingPolicyRequestUseCaseTest {
         
         assertTrue(exception.getMessage().contains("Transição inválida"));
         verify(policyRequestRepository, times(1)).findById(testPolicyId);
-        verify(policyRequestRepository, never()).save(any());
+        verify(policyRequestRepository, never()).updateStatus(any(), any(), anyList());
         verify(eventPublisher, never()).publishPolicyRequestPending(any());
     }
 
@@ -237,7 +268,7 @@ class SetPendingPolicyRequestUseCaseTest {
         // Assert - Verify order of operations
         var inOrder = inOrder(policyRequestRepository, eventPublisher);
         inOrder.verify(policyRequestRepository).findById(testPolicyId);
-        inOrder.verify(policyRequestRepository).save(policyRequest);
+        inOrder.verify(policyRequestRepository).updateStatus(eq(policyRequest), any(), anyList());
         inOrder.verify(eventPublisher).publishPolicyRequestPending(policyRequest);
     }
 
@@ -252,7 +283,7 @@ class SetPendingPolicyRequestUseCaseTest {
 
         // Assert - Verify repository interactions (log content testing would need additional setup)
         verify(policyRequestRepository, times(1)).findById(testPolicyId);
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
     }
 
     @Test
@@ -330,11 +361,11 @@ class SetPendingPolicyRequestUseCaseTest {
     @Test
     void testExecuteWithComplexPolicyRequest() {
         // Arrange - Complex policy request with multiple coverages and assistances
-        Map<String, BigDecimal> complexCoverages = new HashMap<>();
-        complexCoverages.put("COLLISION", new BigDecimal("25000.00"));
-        complexCoverages.put("COMPREHENSIVE", new BigDecimal("30000.00"));
-        complexCoverages.put("LIABILITY", new BigDecimal("15000.00"));
-        complexCoverages.put("PERSONAL_INJURY", new BigDecimal("10000.00"));
+        Map<String, Money> complexCoverages = new HashMap<>();
+        complexCoverages.put("COLLISION", Money.parse("25000.00"));
+        complexCoverages.put("COMPREHENSIVE", Money.parse("30000.00"));
+        complexCoverages.put("LIABILITY", Money.parse("15000.00"));
+        complexCoverages.put("PERSONAL_INJURY", Money.parse("10000.00"));
         policyRequest.setCoverages(complexCoverages);
 
         List<String> multipleAssistances = Arrays.asList(
@@ -354,15 +385,15 @@ class SetPendingPolicyRequestUseCaseTest {
         setPendingPolicyRequestUseCase.execute(testPolicyId);
 
         // Assert
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
         verify(eventPublisher, times(1)).publishPolicyRequestPending(policyRequest);
     }
 
     @Test
     void testExecuteWithLargeInsuredAmounts() {
         // Arrange - Large insured amounts
-        policyRequest.setInsuredAmount(new BigDecimal("5000000.00"));
-        policyRequest.setTotalMonthlyPremiumAmount(new BigDecimal("2500.00"));
+        policyRequest.setInsuredAmount(Money.parse("5000000.00"));
+        policyRequest.setTotalMonthlyPremiumAmount(Money.parse("2500.00"));
 
         when(policyRequestRepository.findById(testPolicyId))
                 .thenReturn(Optional.of(policyRequest));
@@ -371,7 +402,7 @@ class SetPendingPolicyRequestUseCaseTest {
         setPendingPolicyRequestUseCase.execute(testPolicyId);
 
         // Assert
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
         verify(eventPublisher, times(1)).publishPolicyRequestPending(policyRequest);
     }
 
@@ -388,7 +419,7 @@ class SetPendingPolicyRequestUseCaseTest {
         setPendingPolicyRequestUseCase.execute(testPolicyId);
 
         // Assert
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
         verify(eventPublisher, times(1)).publishPolicyRequestPending(policyRequest);
     }
 
@@ -397,8 +428,7 @@ class SetPendingPolicyRequestUseCaseTest {
         // Arrange
         when(policyRequestRepository.findById(testPolicyId))
                 .thenReturn(Optional.of(policyRequest));
-        when(policyRequestRepository.save(any()))
-                .thenThrow(new RuntimeException("Database error"));
+        doThrow(new RuntimeException("Database error")).when(policyRequestRepository).updateStatus(any(), any(), anyList());
 
         // Act & Assert - Should propagate the exception (transactional rollback)
         assertThrows(
@@ -406,7 +436,7 @@ class SetPendingPolicyRequestUseCaseTest {
             () -> setPendingPolicyRequestUseCase.execute(testPolicyId)
         );
 
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
         verify(eventPublisher, never()).publishPolicyRequestPending(any());
     }
 
@@ -427,7 +457,7 @@ class SetPendingPolicyRequestUseCaseTest {
         setPendingPolicyRequestUseCase.execute(testPolicyId);
 
         // Assert
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
         verify(eventPublisher, times(1)).publishPolicyRequestPending(policyRequest);
     }
 
@@ -442,7 +472,7 @@ class SetPendingPolicyRequestUseCaseTest {
 
         // Assert - Verify that the status update method is called
         // (The specific reason "Aguardando pagamento e autorização de subscrição" is set in the use case)
-        verify(policyRequestRepository, times(1)).save(policyRequest);
+        verify(policyRequestRepository, times(1)).updateStatus(eq(policyRequest), any(), anyList());
         verify(eventPublisher, times(1)).publishPolicyRequestPending(policyRequest);
     }
 }
\ No newline at end of file
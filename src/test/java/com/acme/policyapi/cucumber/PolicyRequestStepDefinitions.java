@@ -14,7 +14,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.http.*;
 
-import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -79,14 +78,14 @@ public class PolicyRequestStepDefinitions {
         currentRequest.setCategory(InsuranceCategory.valueOf(categoria));
         currentRequest.setSalesChannel(SalesChannel.MOBILE);
         currentRequest.setPaymentMethod(PaymentMethod.CREDIT_CARD);
-        currentRequest.setTotalMonthlyPremiumAmount(new BigDecimal("150.00"));
-        currentRequest.setCoverages(Map.of("Cobertura Básica", new BigDecimal("100000.00")));
+        currentRequest.setTotalMonthlyPremiumAmount(Money.parse("150.00"));
+        currentRequest.setCoverages(Map.of("Cobertura Básica", Money.parse("100000.00")));
         currentRequest.setAssistances(List.of("Assistência 24h"));
     }
 
     @E("com valor segurado de {string} reais")
     public void comValorSeguradoDeReais(String valor) {
-        currentRequest.setInsuredAmount(new BigDecimal(valor));
+        currentRequest.setInsuredAmount(Money.parse(valor));
     }
 
     @E("para cliente com classificação de risco {string}")
@@ -300,9 +299,9 @@ public class PolicyRequestStepDefinitions {
             request.setCategory(InsuranceCategory.AUTO);
             request.setSalesChannel(SalesChannel.MOBILE);
             request.setPaymentMethod(PaymentMethod.CREDIT_CARD);
-            request.setTotalMonthlyPremiumAmount(new BigDecimal("100.00"));
-            request.setInsuredAmount(new BigDecimal("150000.00"));
-            request.setCoverages(Map.of("Cobertura " + i, new BigDecimal("50000.00")));
+            request.setTotalMonthlyPremiumAmount(Money.parse("100.00"));
+            request.setInsuredAmount(Money.parse("150000.00"));
+            request.setCoverages(Map.of("Cobertura " + i, Money.parse("50000.00")));
             request.setAssistances(List.of("Assistência " + i));
 
             HttpHeaders headers = new HttpHeaders();
@@ -351,9 +350,9 @@ public class PolicyRequestStepDefinitions {
         invalidRequest.setCategory(InsuranceCategory.AUTO);
         invalidRequest.setSalesChannel(SalesChannel.MOBILE);
         invalidRequest.setPaymentMethod(PaymentMethod.CREDIT_CARD);
-        invalidRequest.setTotalMonthlyPremiumAmount(new BigDecimal("100.00"));
-        invalidRequest.setInsuredAmount(new BigDecimal("200000.00"));
-        invalidRequest.setCoverages(Map.of("Cobertura", new BigDecimal("100000.00")));
+        invalidRequest.setTotalMonthlyPremiumAmount(Money.parse("100.00"));
+        invalidRequest.setInsuredAmount(Money.parse("200000.00"));
+        invalidRequest.setCoverages(Map.of("Cobertura", Money.parse("100000.00")));
         invalidRequest.setAssistances(List.of("Assistência"));
         // customerId não definido
 
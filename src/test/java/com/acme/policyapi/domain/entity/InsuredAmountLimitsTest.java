@@ -0,0 +1,59 @@
+package com.acme.policyapi.domain.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a tabela InsuredAmountLimits.
+ *
+ * @author Sistema ACME
+ */
+class InsuredAmountLimitsTest {
+
+    private final InsuredAmountLimits limits = InsuredAmountLimits.DEFAULT;
+
+    @Test
+    void testDefaultLimitsInCents() {
+        assertEquals(50_000_000L, limits.getLimitInCents(CustomerRiskClassification.REGULAR, InsuranceCategory.VIDA));
+        assertEquals(7_500_000L, limits.getLimitInCents(CustomerRiskClassification.NO_INFORMATION, InsuranceCategory.AUTO));
+        assertEquals(new BigDecimal("800000.00"), limits.getLimit(CustomerRiskClassification.PREFERENTIAL, InsuranceCategory.VIDA));
+    }
+
+    @Test
+    void testLimitIsReusedBetweenLookups() {
+        assertSame(limits.getLimit(CustomerRiskClassification.HIGH_RISK, InsuranceCategory.AUTO),
+                   limits.getLimit(CustomerRiskClassification.HIGH_RISK, InsuranceCategory.AUTO));
+    }
+
+    @Test
+    void testIsWithinLimitIncludesBoundary() {
+        assertTrue(limits.isWithinLimit(35_000_000L, CustomerRiskClassification.REGULAR, InsuranceCategory.AUTO));
+        assertFalse(limits.isWithinLimit(35_000_001L, CustomerRiskClassification.REGULAR, InsuranceCategory.AUTO));
+        assertTrue(limits.isWithinLimit(Money.parse("350000"), CustomerRiskClassification.REGULAR, InsuranceCategory.AUTO));
+        assertFalse(limits.isWithinLimit(Money.parse("350000.01"), CustomerRiskClassification.REGULAR, InsuranceCategory.AUTO));
+    }
+
+    @Test
+    void testWithLimitReturnsNewTable() {
+        // Act
+        InsuredAmountLimits updated = limits.withLimit(CustomerRiskClassification.REGULAR, InsuranceCategory.AUTO,
+                new BigDecimal("400000.50"));
+
+        // Assert
+        assertEquals(40_000_050L, updated.getLimitInCents(CustomerRiskClassification.REGULAR, InsuranceCategory.AUTO));
+        assertEquals(35_000_000L, limits.getLimitInCents(CustomerRiskClassification.REGULAR, InsuranceCategory.AUTO));
+        assertEquals(limits.getLimit(CustomerRiskClassification.REGULAR, InsuranceCategory.VIDA),
+                     updated.getLimit(CustomerRiskClassification.REGULAR, InsuranceCategory.VIDA));
+    }
+
+    @Test
+    void testWithLimitRejectsInvalidValues() {
+        assertThrows(IllegalArgumentException.class, () -> limits.withLimit(
+                CustomerRiskClassification.REGULAR, InsuranceCategory.AUTO, BigDecimal.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> limits.withLimit(
+                CustomerRiskClassification.REGULAR, InsuranceCategory.AUTO, new BigDecimal("100.001")));
+    }
+}
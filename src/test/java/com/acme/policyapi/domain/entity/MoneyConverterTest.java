@@ -0,0 +1,29 @@
+package com.acme.policyapi.domain.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o MoneyConverter.
+ *
+ * @author Sistema ACME
+ */
+class MoneyConverterTest {
+
+    private final MoneyConverter converter = new MoneyConverter();
+
+    @Test
+    void testConvertsToDecimalColumn() {
+        assertEquals(new BigDecimal("75.50"), converter.convertToDatabaseColumn(Money.parse("75.5")));
+        assertNull(converter.convertToDatabaseColumn(null));
+    }
+
+    @Test
+    void testConvertsFromDecimalColumn() {
+        assertEquals(Money.ofCents(7_550), converter.convertToEntityAttribute(new BigDecimal("75.50")));
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+}
@@ -0,0 +1,58 @@
+package com.acme.policyapi.domain.entity;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de leitura e escrita de Money em JSON.
+ *
+ * @author Sistema ACME
+ */
+class MoneyJsonDeserializerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testReadsIntegerDecimalAndStringValues() throws Exception {
+        // Act
+        Map<String, Money> amounts = objectMapper.readValue(
+                "{\"a\": 1500, \"b\": 1500.5, \"c\": \"0.01\", \"d\": null}", new TypeReference<>() {});
+
+        // Assert
+        assertEquals(150_000L, amounts.get("a").getCents());
+        assertEquals(150_050L, amounts.get("b").getCents());
+        assertEquals(1L, amounts.get("c").getCents());
+        assertNull(amounts.get("d"));
+    }
+
+    @Test
+    void testRejectsMoreThanTwoDecimals() {
+        assertThrows(InvalidFormatException.class, () -> objectMapper.readValue("12.345", Money.class));
+    }
+
+    @Test
+    void testRejectsNonNumericTokens() {
+        assertThrows(Exception.class, () -> objectMapper.readValue("true", Money.class));
+    }
+
+    @Test
+    void testWritesNumberWithTwoDecimals() throws Exception {
+        // Arrange
+        Map<String, Money> amounts = new LinkedHashMap<>();
+        amounts.put("premium", Money.parse("150.5"));
+        amounts.put("insured", Money.ofCents(5_000_000));
+
+        // Act
+        String json = objectMapper.writeValueAsString(amounts);
+
+        // Assert
+        assertEquals("{\"premium\":150.50,\"insured\":50000.00}", json);
+    }
+}
@@ -0,0 +1,88 @@
+package com.acme.policyapi.domain.entity;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o valor monetário Money.
+ *
+ * @author Sistema ACME
+ */
+class MoneyTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "1500, 150000",
+        "1500.5, 150050",
+        "1500.50, 150050",
+        "0.01, 1",
+        ".99, 99",
+        "-12.30, -1230",
+        "+7, 700",
+        "10.000, 1000",
+        "1.5E+3, 150000"
+    })
+    void testParse(String text, long expectedCents) {
+        assertEquals(expectedCents, Money.parse(text).getCents());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "-", "abc", "1.2.3", "1.001", "12,50", "99999999999999999999", "\u0661\u0662", "\uFF11.\uFF15"})
+    void testParseRejectsInvalidValues(String text) {
+        assertThrows(IllegalArgumentException.class, () -> Money.parse(text));
+    }
+
+    @Test
+    void testConversionFromAndToBigDecimal() {
+        // Act
+        Money amount = Money.of(new BigDecimal("350000"));
+
+        // Assert
+        assertEquals(35_000_000L, amount.getCents());
+        assertEquals(new BigDecimal("350000.00"), amount.toBigDecimal());
+        assertThrows(IllegalArgumentException.class, () -> Money.of(new BigDecimal("0.001")));
+    }
+
+    @Test
+    void testArithmeticAndComparison() {
+        // Arrange
+        Money a = Money.parse("100.10");
+        Money b = Money.parse("0.90");
+
+        // Assert
+        assertEquals(Money.parse("101.00"), a.plus(b));
+        assertEquals(Money.parse("99.20"), a.minus(b));
+        assertTrue(a.isGreaterThan(b));
+        assertTrue(a.compareTo(b) > 0);
+        assertFalse(Money.ZERO.isPositive());
+        assertEquals(a.hashCode(), Money.ofCents(10_010).hashCode());
+    }
+
+    @Test
+    void testSumIgnoresNulls() {
+        assertEquals(Money.parse("30.05"),
+                     Money.sum(Arrays.asList(Money.parse("10.00"), null, Money.parse("20.05"))));
+        assertThrows(ArithmeticException.class,
+                     () -> Money.sum(Arrays.asList(Money.ofCents(Long.MAX_VALUE), Money.ofCents(1))));
+    }
+
+    @Test
+    void testRejectsLongMinValue() {
+        assertThrows(IllegalArgumentException.class, () -> Money.ofCents(Long.MIN_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> Money.ofCents(-Long.MAX_VALUE).minus(Money.ofCents(1)));
+        assertEquals("-92233720368547758.07", Money.ofCents(-Long.MAX_VALUE).toString());
+    }
+
+    @ParameterizedTest
+    @CsvSource({"150050, 1500.50", "5, 0.05", "0, 0.00", "-1230, -12.30", "-7, -0.07"})
+    void testToString(long cents, String expected) {
+        assertEquals(expected, Money.ofCents(cents).toString());
+    }
+}
@@ -3,7 +3,6 @@ package com.acme.policyapi.domain.entity;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
@@ -36,9 +35,9 @@ class PolicyRequestTest {
         policyRequest.setPaymentMethod(PaymentMethod.CREDIT_CARD);
         policyRequest.setStatus(PolicyRequestStatus.RECEIVED);
         policyRequest.setCreatedAt(LocalDateTime.now());
-        policyRequest.setTotalMonthlyPremiumAmount(new BigDecimal("150.00"));
-        policyRequest.setInsuredAmount(new BigDecimal("250000.00"));
-        policyRequest.setCoverages(Map.of("Roubo", new BigDecimal("100000.00")));
+        policyRequest.setTotalMonthlyPremiumAmount(Money.parse("150.00"));
+        policyRequest.setInsuredAmount(Money.parse("250000.00"));
+        policyRequest.setCoverages(Map.of("Roubo", Money.parse("100000.00")));
         policyRequest.setAssistances(List.of("Guincho 24h"));
     }
 
@@ -2,14 +2,21 @@ package com.acme.policyapi.domain.service;
 
 import com.acme.policyapi.domain.entity.CustomerRiskClassification;
 import com.acme.policyapi.domain.entity.InsuranceCategory;
+import com.acme.policyapi.domain.entity.InsuredAmountLimits;
+import com.acme.policyapi.domain.entity.Money;
 import com.acme.policyapi.domain.entity.PolicyRequest;
+import com.acme.policyapi.domain.entity.SalesChannel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Random;
 import java.util.UUID;
 import java.util.stream.Stream;
 
@@ -26,14 +33,15 @@ class PolicyValidationServiceTest {
 
     @BeforeEach
     void setUp() {
-        validationService = new PolicyValidationService();
+        validationService = new PolicyValidationService(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(validationService, "parallelThreshold", 16384);
     }
 
     @ParameterizedTest
     @MethodSource("provideValidPolicyRequests")
     void testValidatePolicyRequestValid(CustomerRiskClassification riskClassification,
                                        InsuranceCategory category,
-                                       BigDecimal insuredAmount,
+                                       Money insuredAmount,
                                        boolean expectedResult) {
         // Arrange
         PolicyRequest policyRequest = createPolicyRequest(category, insuredAmount);
@@ -48,43 +56,192 @@ class PolicyValidationServiceTest {
     static Stream<Arguments> provideValidPolicyRequests() {
         return Stream.of(
             // REGULAR customer - valid cases
-            Arguments.of(CustomerRiskClassification.REGULAR, InsuranceCategory.VIDA, new BigDecimal("499999.99"), true),
-            Arguments.of(CustomerRiskClassification.REGULAR, InsuranceCategory.AUTO, new BigDecimal("349999.99"), true),
-            Arguments.of(CustomerRiskClassification.REGULAR, InsuranceCategory.EMPRESARIAL, new BigDecimal("254999.99"), true),
+            Arguments.of(CustomerRiskClassification.REGULAR, InsuranceCategory.VIDA, Money.parse("499999.99"), true),
+            Arguments.of(CustomerRiskClassification.REGULAR, InsuranceCategory.AUTO, Money.parse("349999.99"), true),
+            Arguments.of(CustomerRiskClassification.REGULAR, InsuranceCategory.EMPRESARIAL, Money.parse("254999.99"), true),
 
             // REGULAR customer - invalid cases  
-            Arguments.of(CustomerRiskClassification.REGULAR, InsuranceCategory.VIDA, new BigDecimal("500000.01"), false),
-            Arguments.of(CustomerRiskClassification.REGULAR, InsuranceCategory.AUTO, new BigDecimal("350000.01"), false),
+            Arguments.of(CustomerRiskClassification.REGULAR, InsuranceCategory.VIDA, Money.parse("500000.01"), false),
+            Arguments.of(CustomerRiskClassification.REGULAR, InsuranceCategory.AUTO, Money.parse("350000.01"), false),
 
             // HIGH_RISK customer - valid cases
-            Arguments.of(CustomerRiskClassification.HIGH_RISK, InsuranceCategory.AUTO, new BigDecimal("249999.99"), true),
-            Arguments.of(CustomerRiskClassification.HIGH_RISK, InsuranceCategory.RESIDENCIAL, new BigDecimal("149999.99"), true),
+            Arguments.of(CustomerRiskClassification.HIGH_RISK, InsuranceCategory.AUTO, Money.parse("249999.99"), true),
+            Arguments.of(CustomerRiskClassification.HIGH_RISK, InsuranceCategory.RESIDENCIAL, Money.parse("149999.99"), true),
 
             // HIGH_RISK customer - invalid cases
-            Arguments.of(CustomerRiskClassification.HIGH_RISK, InsuranceCategory.AUTO, new BigDecimal("250000.01"), false),
-            Arguments.of(CustomerRiskClassification.HIGH_RISK, InsuranceCategory.RESIDENCIAL, new BigDecimal("150000.01"), false),
+            Arguments.of(CustomerRiskClassification.HIGH_RISK, InsuranceCategory.AUTO, Money.parse("250000.01"), false),
+            Arguments.of(CustomerRiskClassification.HIGH_RISK, InsuranceCategory.RESIDENCIAL, Money.parse("150000.01"), false),
 
             // PREFERENTIAL customer - valid cases
-            Arguments.of(CustomerRiskClassification.PREFERENTIAL, InsuranceCategory.VIDA, new BigDecimal("799999.99"), true),
-            Arguments.of(CustomerRiskClassification.PREFERENTIAL, InsuranceCategory.AUTO, new BigDecimal("449999.99"), true),
+            Arguments.of(CustomerRiskClassification.PREFERENTIAL, InsuranceCategory.VIDA, Money.parse("799999.99"), true),
+            Arguments.of(CustomerRiskClassification.PREFERENTIAL, InsuranceCategory.AUTO, Money.parse("449999.99"), true),
 
             // PREFERENTIAL customer - invalid cases
-            Arguments.of(CustomerRiskClassification.PREFERENTIAL, InsuranceCategory.VIDA, new BigDecimal("800000.01"), false),
+            Arguments.of(CustomerRiskClassification.PREFERENTIAL, InsuranceCategory.VIDA, Money.parse("800000.01"), false),
 
             // NO_INFORMATION customer - valid cases
-            Arguments.of(CustomerRiskClassification.NO_INFORMATION, InsuranceCategory.VIDA, new BigDecimal("199999.99"), true),
-            Arguments.of(CustomerRiskClassification.NO_INFORMATION, InsuranceCategory.AUTO, new BigDecimal("74999.99"), true),
+            Arguments.of(CustomerRiskClassification.NO_INFORMATION, InsuranceCategory.VIDA, Money.parse("199999.99"), true),
+            Arguments.of(CustomerRiskClassification.NO_INFORMATION, InsuranceCategory.AUTO, Money.parse("74999.99"), true),
 
             // NO_INFORMATION customer - invalid cases
-            Arguments.of(CustomerRiskClassification.NO_INFORMATION, InsuranceCategory.VIDA, new BigDecimal("200000.01"), false),
-            Arguments.of(CustomerRiskClassification.NO_INFORMATION, InsuranceCategory.AUTO, new BigDecimal("75000.01"), false)
+            Arguments.of(CustomerRiskClassification.NO_INFORMATION, InsuranceCategory.VIDA, Money.parse("200000.01"), false),
+            Arguments.of(CustomerRiskClassification.NO_INFORMATION, InsuranceCategory.AUTO, Money.parse("75000.01"), false)
         );
     }
 
+    @Test
+    void testUpdateRulesAppliesToNextValidations() {
+        // Arrange
+        PolicyRequest policyRequest = createPolicyRequest(InsuranceCategory.AUTO, Money.parse("400000.00"));
+        assertFalse(validationService.validatePolicyRequest(policyRequest, CustomerRiskClassification.REGULAR));
+
+        // Act
+        validationService.updateRules(UnderwritingRules.builder(InsuredAmountLimits.DEFAULT.withLimit(
+                CustomerRiskClassification.REGULAR, InsuranceCategory.AUTO, new BigDecimal("400000.00"))).build());
+
+        // Assert
+        assertTrue(validationService.validatePolicyRequest(policyRequest, CustomerRiskClassification.REGULAR));
+        assertNull(validationService.getRejectionReason(policyRequest, CustomerRiskClassification.REGULAR));
+    }
+
+    @Test
+    void testRecordsEvaluationLatencyAndRuleHits() {
+        // Arrange
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        validationService = new PolicyValidationService(meterRegistry);
+        validationService.updateRules(UnderwritingRules.builder(InsuredAmountLimits.DEFAULT)
+                .coverageCap(InsuranceCategory.AUTO, "ROUBO", Money.parse("1000.00"))
+                .build());
+        PolicyRequest overLimit = createPolicyRequest(InsuranceCategory.AUTO, Money.parse("400000.00"));
+        PolicyRequest overCap = createPolicyRequest(InsuranceCategory.AUTO, Money.parse("1000.00"));
+        overCap.setCoverages(Map.of("ROUBO", Money.parse("1000.01")));
+
+        // Act
+        validationService.validatePolicyRequest(overLimit, CustomerRiskClassification.REGULAR);
+        validationService.validatePolicyRequest(overCap, CustomerRiskClassification.REGULAR);
+        validationService.validatePolicyRequest(createPolicyRequest(InsuranceCategory.AUTO, Money.parse("1000.00")),
+                CustomerRiskClassification.REGULAR);
+        validationService.getRejectionReason(overLimit, CustomerRiskClassification.REGULAR);
+
+        // Assert
+        assertEquals(3, meterRegistry.get("policy.validation.rules.evaluation").timer().count());
+        assertEquals(1.0, meterRegistry.get("policy.validation.rules.hits").tag("rule", "insured-amount-limit").counter().count());
+        assertEquals(1.0, meterRegistry.get("policy.validation.rules.hits").tag("rule", "coverage-cap").counter().count());
+        assertEquals(0.0, meterRegistry.get("policy.validation.rules.hits").tag("rule", "assistance-limit").counter().count());
+    }
+
+    @Test
+    void testValidateBatchAppliesLimitsByClassificationCategoryAndChannel() {
+        // Arrange
+        validationService.updateRules(UnderwritingRules.builder(InsuredAmountLimits.DEFAULT)
+                .insuredAmountLimit(CustomerRiskClassification.REGULAR, InsuranceCategory.AUTO, SalesChannel.WHATSAPP,
+                        Money.parse("100000.00"))
+                .build());
+        int regular = CustomerRiskClassification.REGULAR.ordinal();
+        int auto = InsuranceCategory.AUTO.ordinal();
+        int[] classifications = {regular, regular, regular, CustomerRiskClassification.PREFERENTIAL.ordinal()};
+        int[] categories = {auto, auto, auto, auto};
+        int[] channels = {SalesChannel.MOBILE.ordinal(), SalesChannel.WHATSAPP.ordinal(), SalesChannel.MOBILE.ordinal(),
+                SalesChannel.MOBILE.ordinal()};
+        long[] amounts = {35_000_000L, 10_000_001L, 35_000_001L, 35_000_001L};
+
+        // Act
+        BatchValidationResult result = validationService.validateBatch(classifications, categories, channels, amounts);
+        BatchValidationResult withoutChannels = validationService.validateBatch(classifications, categories, null, amounts);
+
+        // Assert
+        assertEquals(4, result.size());
+        assertTrue(result.isApproved(0));
+        assertFalse(result.isApproved(1));
+        assertFalse(result.isApproved(2));
+        assertTrue(result.isApproved(3));
+        assertEquals(BatchValidationResult.APPROVED, result.reasonCodes()[0]);
+        assertNull(result.getRule(0));
+        assertEquals(UnderwritingRule.INSURED_AMOUNT_LIMIT, result.getRule(1));
+        assertEquals(2, result.rejectedCount());
+        assertTrue(withoutChannels.isApproved(1));
+        assertEquals(3, withoutChannels.approvedCount());
+    }
+
+    @Test
+    void testValidateBatchInParallelMatchesSingleValidation() {
+        // Arrange
+        ReflectionTestUtils.setField(validationService, "parallelThreshold", 1000);
+        int size = 3 * PolicyValidationService.BATCH_CHUNK_SIZE + 17;
+        Random random = new Random(42);
+        CustomerRiskClassification[] classificationValues = CustomerRiskClassification.values();
+        InsuranceCategory[] categoryValues = InsuranceCategory.values();
+        int[] classifications = new int[size];
+        int[] categories = new int[size];
+        long[] amounts = new long[size];
+        for (int i = 0; i < size; i++) {
+            classifications[i] = random.nextInt(classificationValues.length);
+            categories[i] = random.nextInt(categoryValues.length);
+            amounts[i] = random.nextLong(100_000_000L);
+        }
+
+        // Act
+        BatchValidationResult result = validationService.validateBatch(classifications, categories, null, amounts);
+
+        // Assert
+        for (int i = 0; i < size; i++) {
+            PolicyRequest policyRequest = createPolicyRequest(categoryValues[categories[i]], Money.ofCents(amounts[i]));
+            assertEquals(validationService.validatePolicyRequest(policyRequest, classificationValues[classifications[i]]),
+                    result.isApproved(i), "posição " + i);
+        }
+    }
+
+    @Test
+    void testValidateBatchRecordsOneTimingAndRuleHits() {
+        // Arrange
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        validationService = new PolicyValidationService(meterRegistry);
+        int regular = CustomerRiskClassification.REGULAR.ordinal();
+        int auto = InsuranceCategory.AUTO.ordinal();
+
+        // Act
+        validationService.validateBatch(new int[]{regular, regular, regular}, new int[]{auto, auto, auto}, null,
+                new long[]{1L, 35_000_001L, 40_000_000L});
+
+        // Assert
+        assertEquals(1, meterRegistry.get("policy.validation.rules.batch").timer().count());
+        assertEquals(0, meterRegistry.get("policy.validation.rules.evaluation").timer().count());
+        assertEquals(2.0, meterRegistry.get("policy.validation.rules.hits").tag("rule", "insured-amount-limit").counter().count());
+    }
+
+    @Test
+    void testValidateBatchRejectsInvalidColumns() {
+        assertThrows(IllegalArgumentException.class,
+                () -> validationService.validateBatch(new int[]{0}, new int[]{0, 0}, null, new long[]{1L}));
+        assertThrows(IllegalArgumentException.class,
+                () -> validationService.validateBatch(new int[]{0}, new int[]{InsuranceCategory.values().length}, null,
+                        new long[]{1L}));
+        assertThrows(IllegalArgumentException.class,
+                () -> validationService.validateBatch(new int[]{0}, new int[]{0}, new int[]{-1}, new long[]{1L}));
+    }
+
+    @Test
+    void testEvaluateReturnsRuleAndReasonFromSingleEvaluation() {
+        // Arrange
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        validationService = new PolicyValidationService(meterRegistry);
+        PolicyRequest policyRequest = createPolicyRequest(InsuranceCategory.AUTO, Money.parse("400000.00"));
+
+        // Act
+        UnderwritingDecision decision = validationService.evaluate(policyRequest, CustomerRiskClassification.REGULAR);
+
+        // Assert
+        assertFalse(decision.isApproved());
+        assertEquals(UnderwritingRule.INSURED_AMOUNT_LIMIT, decision.rule());
+        assertTrue(decision.reason().contains("excede o limite"));
+        assertEquals(1, meterRegistry.get("policy.validation.rules.evaluation").timer().count());
+        assertEquals(1.0, meterRegistry.get("policy.validation.rules.hits").tag("rule", "insured-amount-limit").counter().count());
+    }
+
     @Test
     void testGetRejectionReasonForValidRequest() {
         // Arrange
-        PolicyRequest policyRequest = createPolicyRequest(InsuranceCategory.AUTO, new BigDecimal("100000.00"));
+        PolicyRequest policyRequest = createPolicyRequest(InsuranceCategory.AUTO, Money.parse("100000.00"));
         CustomerRiskClassification classification = CustomerRiskClassification.REGULAR;
 
         // Act
@@ -97,7 +254,7 @@ class PolicyValidationServiceTest {
     @Test
     void testGetRejectionReasonForInvalidRequest() {
         // Arrange
-        PolicyRequest policyRequest = createPolicyRequest(InsuranceCategory.AUTO, new BigDecimal("400000.00"));
+        PolicyRequest policyRequest = createPolicyRequest(InsuranceCategory.AUTO, Money.parse("400000.00"));
         CustomerRiskClassification classification = CustomerRiskClassification.REGULAR;
 
         // Act
@@ -115,7 +272,7 @@ class PolicyValidationServiceTest {
     @Test
     void testValidatePolicyRequestOnExactLimit() {
         // Arrange
-        PolicyRequest policyRequest = createPolicyRequest(InsuranceCategory.AUTO, new BigDecimal("350000.00"));
+        PolicyRequest policyRequest = createPolicyRequest(InsuranceCategory.AUTO, Money.parse("350000.00"));
         CustomerRiskClassification classification = CustomerRiskClassification.REGULAR;
 
         // Act
@@ -128,7 +285,7 @@ class PolicyValidationServiceTest {
     @Test
     void testValidatePolicyRequestJustOverLimit() {
         // Arrange
-        PolicyRequest policyRequest = createPolicyRequest(InsuranceCategory.AUTO, new BigDecimal("350000.01"));
+        PolicyRequest policyRequest = createPolicyRequest(InsuranceCategory.AUTO, Money.parse("350000.01"));
         CustomerRiskClassification classification = CustomerRiskClassification.REGULAR;
 
         // Act
@@ -143,8 +300,8 @@ class PolicyValidationServiceTest {
         for (CustomerRiskClassification classification : CustomerRiskClassification.values()) {
             for (InsuranceCategory category : InsuranceCategory.values()) {
                 // Test with amount just below limit
-                BigDecimal limit = classification.getInsuredAmountLimit(category);
-                BigDecimal belowLimit = limit.subtract(new BigDecimal("0.01"));
+                Money limit = Money.of(classification.getInsuredAmountLimit(category));
+                Money belowLimit = limit.minus(Money.ofCents(1));
                 
                 PolicyRequest validRequest = createPolicyRequest(category, belowLimit);
                 assertTrue(validationService.validatePolicyRequest(validRequest, classification),
@@ -152,7 +309,7 @@ class PolicyValidationServiceTest {
                                       classification, category, belowLimit, limit));
 
                 // Test with amount just above limit
-                BigDecimal aboveLimit = limit.add(new BigDecimal("0.01"));
+                Money aboveLimit = limit.plus(Money.ofCents(1));
                 PolicyRequest invalidRequest = createPolicyRequest(category, aboveLimit);
                 assertFalse(validationService.validatePolicyRequest(invalidRequest, classification),
                            String.format("Should be invalid: %s/%s with amount %s (limit: %s)", 
@@ -161,7 +318,7 @@ class PolicyValidationServiceTest {
         }
     }
 
-    private PolicyRequest createPolicyRequest(InsuranceCategory category, BigDecimal insuredAmount) {
+    private PolicyRequest createPolicyRequest(InsuranceCategory category, Money insuredAmount) {
         PolicyRequest policyRequest = new PolicyRequest();
         policyRequest.setId(UUID.randomUUID());
         policyRequest.setCustomerId(UUID.randomUUID());
@@ -0,0 +1,121 @@
+package com.acme.policyapi.domain.service;
+
+import com.acme.policyapi.domain.entity.CustomerRiskClassification;
+import com.acme.policyapi.domain.entity.InsuranceCategory;
+import com.acme.policyapi.domain.entity.InsuredAmountLimits;
+import com.acme.policyapi.domain.entity.Money;
+import com.acme.policyapi.domain.entity.PolicyRequest;
+import com.acme.policyapi.domain.entity.SalesChannel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a tabela de regras UnderwritingRules.
+ *
+ * @author Sistema ACME
+ */
+class UnderwritingRulesTest {
+
+    private PolicyRequest policyRequest;
+
+    @BeforeEach
+    void setUp() {
+        policyRequest = new PolicyRequest();
+        policyRequest.setCategory(InsuranceCategory.AUTO);
+        policyRequest.setSalesChannel(SalesChannel.MOBILE);
+        policyRequest.setInsuredAmount(Money.parse("300000.00"));
+        policyRequest.setCoverages(new HashMap<>(Map.of("ROUBO", Money.parse("50000.00"))));
+        policyRequest.setAssistances(new ArrayList<>(List.of("Guincho")));
+    }
+
+    @Test
+    void testDefaultRulesOnlyCheckInsuredAmountLimit() {
+        // Act
+        UnderwritingDecision approved = UnderwritingRules.DEFAULT.evaluate(policyRequest, CustomerRiskClassification.REGULAR);
+        policyRequest.setInsuredAmount(Money.parse("350000.01"));
+        UnderwritingDecision rejected = UnderwritingRules.DEFAULT.evaluate(policyRequest, CustomerRiskClassification.REGULAR);
+
+        // Assert
+        assertTrue(approved.isApproved());
+        assertNull(approved.reason());
+        assertEquals(UnderwritingRule.INSURED_AMOUNT_LIMIT, rejected.rule());
+        assertEquals("Valor do capital segurado (R$ 350000.01) excede o limite para cliente Regular na categoria Auto (R$ 350000.00)",
+                     rejected.reason());
+    }
+
+    @Test
+    void testChannelLimitOverridesBaseLimitOnlyForThatChannel() {
+        // Arrange
+        UnderwritingRules rules = UnderwritingRules.builder(InsuredAmountLimits.DEFAULT)
+                .insuredAmountLimit(CustomerRiskClassification.REGULAR, InsuranceCategory.AUTO, SalesChannel.MOBILE,
+                        Money.parse("250000.00"))
+                .build();
+
+        // Act
+        UnderwritingDecision mobile = rules.evaluate(policyRequest, CustomerRiskClassification.REGULAR);
+        policyRequest.setSalesChannel(SalesChannel.PRESENCIAL);
+        UnderwritingDecision presencial = rules.evaluate(policyRequest, CustomerRiskClassification.REGULAR);
+
+        // Assert
+        assertEquals(UnderwritingRule.INSURED_AMOUNT_LIMIT, mobile.rule());
+        assertTrue(mobile.reason().endsWith("(R$ 250000.00)"));
+        assertTrue(presencial.isApproved());
+        assertEquals(35_000_000L, rules.getLimitInCents(CustomerRiskClassification.REGULAR, InsuranceCategory.AUTO, null));
+        assertEquals(1, rules.getDefinitions());
+    }
+
+    @Test
+    void testCoverageCap() {
+        // Arrange
+        UnderwritingRules rules = UnderwritingRules.builder(InsuredAmountLimits.DEFAULT)
+                .coverageCap(InsuranceCategory.AUTO, "ROUBO", Money.parse("40000.00"))
+                .coverageCap(InsuranceCategory.VIDA, "ROUBO", Money.parse("1.00"))
+                .build();
+
+        // Act
+        UnderwritingDecision decision = rules.evaluate(policyRequest, CustomerRiskClassification.REGULAR);
+
+        // Assert
+        assertEquals(UnderwritingRule.COVERAGE_CAP, decision.rule());
+        assertEquals("Cobertura ROUBO (R$ 50000.00) excede o limite da categoria Auto (R$ 40000.00)", decision.reason());
+    }
+
+    @Test
+    void testAssistanceConstraints() {
+        // Arrange
+        UnderwritingRules maxOne = UnderwritingRules.builder(InsuredAmountLimits.DEFAULT)
+                .maxAssistances(InsuranceCategory.AUTO, 1)
+                .build();
+        UnderwritingRules allowed = UnderwritingRules.builder(InsuredAmountLimits.DEFAULT)
+                .allowedAssistances(InsuranceCategory.AUTO, List.of("Guincho", "Chaveiro"))
+                .build();
+
+        // Act & Assert
+        assertTrue(maxOne.evaluate(policyRequest, CustomerRiskClassification.REGULAR).isApproved());
+        assertTrue(allowed.evaluate(policyRequest, CustomerRiskClassification.REGULAR).isApproved());
+
+        policyRequest.getAssistances().add("Vidros");
+
+        assertEquals(UnderwritingRule.ASSISTANCE_LIMIT, maxOne.evaluate(policyRequest, CustomerRiskClassification.REGULAR).rule());
+        UnderwritingDecision notAllowed = allowed.evaluate(policyRequest, CustomerRiskClassification.REGULAR);
+        assertEquals(UnderwritingRule.ASSISTANCE_NOT_ALLOWED, notAllowed.rule());
+        assertEquals("Assistência Vidros não disponível para a categoria Auto", notAllowed.reason());
+    }
+
+    @Test
+    void testBuilderRejectsInvalidDefinitions() {
+        UnderwritingRules.Builder builder = UnderwritingRules.builder(InsuredAmountLimits.DEFAULT);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> builder.coverageCap(InsuranceCategory.AUTO, "ROUBO", Money.ZERO));
+        assertThrows(IllegalArgumentException.class,
+                () -> builder.maxAssistances(InsuranceCategory.AUTO, -1));
+    }
+}
@@ -0,0 +1,188 @@
+package com.acme.policyapi.infrastructure.cache;
+
+import com.acme.policyapi.application.dto.FraudAnalysisResponseDTO;
+import com.acme.policyapi.domain.entity.CustomerRiskClassification;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FraudClassificationCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicInteger loads;
+    private UUID customerId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loads = new AtomicInteger();
+        customerId = UUID.randomUUID();
+    }
+
+    private FraudClassificationCache enabledCache(Duration negativeTtl) {
+        return new FraudClassificationCache(meterRegistry, true, 100, Duration.ofMinutes(10), negativeTtl);
+    }
+
+    private FraudAnalysisResponseDTO load(UUID id, CustomerRiskClassification classification, boolean fallback) {
+        loads.incrementAndGet();
+        FraudAnalysisResponseDTO dto = new FraudAnalysisResponseDTO();
+        dto.setCustomerId(id);
+        dto.setClassification(classification);
+        dto.setFallback(fallback);
+        return dto;
+    }
+
+    @Test
+    void testGetLoadsOnceAndRecordsHitRatio() {
+        // Arrange
+        FraudClassificationCache cache = enabledCache(Duration.ofMinutes(1));
+
+        // Act
+        FraudAnalysisResponseDTO first = cache.get(customerId, id -> load(id, CustomerRiskClassification.REGULAR, false));
+        FraudAnalysisResponseDTO second = cache.get(customerId, id -> load(id, CustomerRiskClassification.REGULAR, false));
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(0.5, meterRegistry.get("fraud.classification.cache.hit-ratio").gauge().value());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "fraud-classifications")
+                .tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void testFallbackResponsesAreNotCached() {
+        // Arrange
+        FraudClassificationCache cache = enabledCache(Duration.ofMinutes(1));
+
+        // Act
+        cache.get(customerId, id -> load(id, CustomerRiskClassification.NO_INFORMATION, true));
+        cache.get(customerId, id -> load(id, CustomerRiskClassification.NO_INFORMATION, true));
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testNoInformationUsesNegativeTtl() {
+        // Arrange - TTL negativo zerado: NO_INFORMATION expira de imediato
+        FraudClassificationCache cache = enabledCache(Duration.ZERO);
+
+        // Act
+        cache.get(customerId, id -> load(id, CustomerRiskClassification.NO_INFORMATION, false));
+        cache.get(customerId, id -> load(id, CustomerRiskClassification.NO_INFORMATION, false));
+        UUID other = UUID.randomUUID();
+        cache.get(other, id -> load(id, CustomerRiskClassification.HIGH_RISK, false));
+        cache.get(other, id -> load(id, CustomerRiskClassification.HIGH_RISK, false));
+
+        // Assert
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void testLoaderFailureIsNotCached() {
+        // Arrange
+        FraudClassificationCache cache = enabledCache(Duration.ofMinutes(1));
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> cache.get(customerId, id -> {
+            throw new IllegalStateException("falha");
+        }));
+        cache.get(customerId, id -> load(id, CustomerRiskClassification.REGULAR, false));
+
+        // Assert
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testConcurrentMissesForSameCustomerLoadOnce() throws Exception {
+        // Arrange
+        FraudClassificationCache cache = enabledCache(Duration.ofMinutes(1));
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            // Act
+            List<Future<FraudAnalysisResponseDTO>> results = new ArrayList<>();
+            results.add(executor.submit(() -> cache.get(customerId, id -> {
+                loading.countDown();
+                await(release);
+                return load(id, CustomerRiskClassification.PREFERENTIAL, false);
+            })));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 3; i++) {
+                results.add(executor.submit(() -> cache.get(customerId,
+                        id -> load(id, CustomerRiskClassification.REGULAR, false))));
+            }
+            release.countDown();
+
+            // Assert
+            for (Future<FraudAnalysisResponseDTO> result : results) {
+                assertEquals(CustomerRiskClassification.PREFERENTIAL, result.get(5, TimeUnit.SECONDS).getClassification());
+            }
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testGetAsyncSharesPendingLoad() {
+        // Arrange
+        FraudClassificationCache cache = enabledCache(Duration.ofMinutes(1));
+        CompletableFuture<FraudAnalysisResponseDTO> pending = new CompletableFuture<>();
+
+        // Act
+        CompletableFuture<FraudAnalysisResponseDTO> first = cache.getAsync(customerId, id -> {
+            loads.incrementAndGet();
+            return pending;
+        });
+        CompletableFuture<FraudAnalysisResponseDTO> second = cache.getAsync(customerId, id -> {
+            loads.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+        pending.complete(load(customerId, CustomerRiskClassification.REGULAR, false));
+
+        // Assert
+        assertSame(first.join(), second.join());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testDisabledCacheAlwaysLoads() {
+        // Arrange
+        FraudClassificationCache cache = new FraudClassificationCache(meterRegistry, false, 100,
+                Duration.ofMinutes(10), Duration.ofMinutes(1));
+
+        // Act
+        cache.get(customerId, id -> load(id, CustomerRiskClassification.REGULAR, false));
+        cache.get(customerId, id -> load(id, CustomerRiskClassification.REGULAR, false));
+
+        // Assert
+        assertFalse(cache.isEnabled());
+        assertEquals(2, loads.get());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.acme.policyapi.infrastructure.cache;
+
+import com.acme.policyapi.application.dto.PolicyRequestResponseDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PolicyRequestResponseCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicInteger loads;
+    private Function<UUID, PolicyRequestResponseDTO> loader;
+    private UUID id;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loads = new AtomicInteger();
+        loader = key -> {
+            loads.incrementAndGet();
+            PolicyRequestResponseDTO dto = new PolicyRequestResponseDTO();
+            dto.setId(key);
+            return dto;
+        };
+        id = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private PolicyRequestResponseCache enabledCache(long maxSize) {
+        return new PolicyRequestResponseCache(meterRegistry, true, maxSize, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void testGetLoadsOnceAndRecordsHitsAndMisses() {
+        PolicyRequestResponseCache cache = enabledCache(100);
+
+        PolicyRequestResponseDTO first = cache.get(id, loader);
+        PolicyRequestResponseDTO second = cache.get(id, loader);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tags("cache", "policy-requests", "result", "hit")
+                .functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tags("cache", "policy-requests", "result", "miss")
+                .functionCounter().count());
+    }
+
+    @Test
+    void testLoaderExceptionIsNotCached() {
+        PolicyRequestResponseCache cache = enabledCache(100);
+
+        assertThrows(IllegalStateException.class, () -> cache.get(id, key -> {
+            throw new IllegalStateException("not found");
+        }));
+        cache.get(id, loader);
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testEvictAfterCommitWaitsForCommit() {
+        PolicyRequestResponseCache cache = enabledCache(100);
+        cache.get(id, loader);
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.evictAfterCommit(id);
+        cache.get(id, loader);
+        assertEquals(1, loads.get());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        cache.get(id, loader);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testEvictAfterCommitWithoutTransactionEvictsImmediately() {
+        PolicyRequestResponseCache cache = enabledCache(100);
+        cache.get(id, loader);
+
+        cache.evictAfterCommit(id);
+        cache.get(id, loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testDisabledCacheAlwaysLoadsAndRegistersNoMetrics() {
+        PolicyRequestResponseCache cache = new PolicyRequestResponseCache(meterRegistry, false, 100, Duration.ofMinutes(1));
+
+        cache.get(id, loader);
+        cache.get(id, loader);
+        cache.evictAfterCommit(id);
+
+        assertFalse(cache.isEnabled());
+        assertEquals(2, loads.get());
+        assertNull(meterRegistry.find("cache.gets").meter());
+    }
+}
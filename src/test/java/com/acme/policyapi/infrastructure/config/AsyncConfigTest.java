@@ -0,0 +1,44 @@
+package com.acme.policyapi.infrastructure.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AsyncConfigTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testVirtualModeReturnsBoundedExecutor() {
+        ObjectProvider<MeterRegistry> provider = mock(ObjectProvider.class);
+        when(provider.getObject()).thenReturn(new SimpleMeterRegistry());
+        AsyncConfig config = new AsyncConfig(provider, mock(ObjectProvider.class));
+        ReflectionTestUtils.setField(config, "executorMode", "virtual");
+        ReflectionTestUtils.setField(config, "maxConcurrency", 4);
+
+        Executor executor = config.getAsyncExecutor();
+
+        assertInstanceOf(BoundedVirtualThreadExecutor.class, executor);
+        assertEquals(4, ((BoundedVirtualThreadExecutor) executor).getMaxConcurrency());
+        assertSame(executor, config.getAsyncExecutor());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testPlatformModeUsesDefaultExecutor() {
+        ObjectProvider<ThreadPoolTaskExecutor> provider = mock(ObjectProvider.class);
+        ThreadPoolTaskExecutor applicationTaskExecutor = new ThreadPoolTaskExecutor();
+        when(provider.getIfAvailable()).thenReturn(applicationTaskExecutor);
+        AsyncConfig config = new AsyncConfig(mock(ObjectProvider.class), provider);
+
+        assertSame(applicationTaskExecutor, config.getAsyncExecutor());
+    }
+}
@@ -0,0 +1,98 @@
+package com.acme.policyapi.infrastructure.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedVirtualThreadExecutorTest {
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void testRunsTasksOnVirtualThreads() throws InterruptedException {
+        BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor("test-", 2, 10, meterRegistry);
+        AtomicBoolean virtual = new AtomicBoolean();
+        CountDownLatch done = new CountDownLatch(1);
+
+        executor.execute(() -> {
+            virtual.set(Thread.currentThread().isVirtual());
+            done.countDown();
+        });
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(virtual.get());
+    }
+
+    @Test
+    void testRespectsConcurrencyLimitAndExposesCounts() throws InterruptedException {
+        BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor("test-", 2, 10, meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        for (int i = 0; i < 5; i++) {
+            executor.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+            });
+        }
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> executor.getActiveCount() == 2 && executor.getQueuedCount() == 3);
+        assertEquals(2.0, meterRegistry.get("policy.processing.executor.active").gauge().value());
+        assertEquals(3.0, meterRegistry.get("policy.processing.executor.queued").gauge().value());
+        assertEquals(2.0, meterRegistry.get("policy.processing.executor.limit").gauge().value());
+
+        release.countDown();
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> executor.getActiveCount() == 0 && executor.getQueuedCount() == 0);
+        assertEquals(2, maxRunning.get());
+    }
+
+    @Test
+    void testRejectsWhenQueueIsFull() {
+        BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor("test-", 1, 1, meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable blocking = () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        executor.execute(blocking);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> executor.getActiveCount() == 1);
+        executor.execute(blocking);
+
+        assertThrows(TaskRejectedException.class, () -> executor.execute(blocking));
+        assertEquals(1.0, meterRegistry.counter("policy.processing.executor.rejected").count());
+
+        release.countDown();
+    }
+
+    @Test
+    void testInvalidConcurrencyLimit() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new BoundedVirtualThreadExecutor("test-", 0, 10, meterRegistry));
+    }
+}
@@ -0,0 +1,107 @@
+package com.acme.policyapi.infrastructure.config;
+
+import com.acme.policyapi.application.dto.FraudAnalysisResponseDTO;
+import com.acme.policyapi.domain.entity.PolicyRequest;
+import com.acme.policyapi.infrastructure.cache.FraudClassificationCache;
+import com.acme.policyapi.infrastructure.external.AsyncConcurrencyLimiter;
+import com.acme.policyapi.infrastructure.external.CachedFraudAnalysisService;
+import com.acme.policyapi.infrastructure.external.CircuitBreaker;
+import com.acme.policyapi.infrastructure.external.FraudAnalysisBatcher;
+import com.acme.policyapi.infrastructure.external.FraudAnalysisHedger;
+import com.acme.policyapi.infrastructure.external.FraudAnalysisHttpClient;
+import com.acme.policyapi.infrastructure.external.FraudAnalysisResilience;
+import com.acme.policyapi.infrastructure.external.FraudAnalysisServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FraudAnalysisLimiterConfigTest {
+
+    @Mock
+    private FraudAnalysisHttpClient httpClient;
+
+    @Mock
+    private ObjectProvider<FraudAnalysisHttpClient> asyncClient;
+
+    @Mock
+    private ObjectProvider<FraudAnalysisBatcher> batcher;
+
+    private SimpleMeterRegistry meterRegistry;
+    private FraudAnalysisResilience resilience;
+    private FraudAnalysisHedger hedger;
+    private CachedFraudAnalysisService fraudAnalysisService;
+    private AsyncConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        resilience = new FraudAnalysisResilience(meterRegistry, true, 10, 2, 50,
+                Duration.ofSeconds(2), 100, Duration.ofMinutes(1), 1, 4, Duration.ZERO);
+        hedger = new FraudAnalysisHedger(meterRegistry, false, 0.95, Duration.ofMillis(20), 100, 10, 5, 10);
+        FraudAnalysisServiceImpl delegate = new FraudAnalysisServiceImpl(new RestTemplate(), new ObjectMapper(),
+                asyncClient, batcher, resilience, hedger);
+        ReflectionTestUtils.setField(delegate, "mockEnabled", false);
+        fraudAnalysisService = new CachedFraudAnalysisService(delegate, new FraudClassificationCache(meterRegistry,
+                true, 100, Duration.ofMinutes(10), Duration.ofMinutes(1)));
+
+        limiter = new FraudAnalysisLimiterConfig().fraudAnalysisLimiter(meterRegistry, 10, 1, 10, 0.2, 1.5, 10, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hedger.shutdown();
+    }
+
+    @Test
+    void shouldLowerLimitWhenServiceAnswersWithFallback() {
+        // Arrange - o provedor estoura o prazo; o serviço converte a falha em contingência
+        when(asyncClient.getIfAvailable()).thenReturn(httpClient);
+        when(asyncClient.getObject()).thenReturn(httpClient);
+        when(httpClient.analyze(any(), any(), any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(2).run();
+            return CompletableFuture.supplyAsync(() -> {
+                throw new IllegalStateException(new TimeoutException("prazo esgotado"));
+            }, CompletableFuture.delayedExecutor(20, TimeUnit.MILLISECONDS));
+        });
+
+        // Act - duas falhas abrem o circuito; a terceira recebe o fallback já no disparo
+        FraudAnalysisResponseDTO first = analyze();
+        int afterFirst = limiter.getLimit();
+        analyze();
+        FraudAnalysisResponseDTO whileOpen = analyze();
+
+        // Assert
+        assertTrue(first.isFallback());
+        assertTrue(whileOpen.isFallback());
+        assertEquals(CircuitBreaker.State.OPEN, resilience.getCircuitBreaker().getState());
+        assertEquals(9, afterFirst);
+        assertEquals(7, limiter.getLimit());
+        verify(httpClient, times(2)).analyze(any(), any(), any());
+    }
+
+    private FraudAnalysisResponseDTO analyze() {
+        PolicyRequest policyRequest = new PolicyRequest();
+        policyRequest.setId(UUID.randomUUID());
+        policyRequest.setCustomerId(UUID.randomUUID());
+        return limiter.submit(() -> fraudAnalysisService.analyzeFraudAsync(policyRequest)).join();
+    }
+}
@@ -0,0 +1,41 @@
+package com.acme.policyapi.infrastructure.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class KafkaConsumerConfigTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testBatchFactoryInheritsBootConfigurationAndEnablesBatchMode() {
+        ConcurrentKafkaListenerContainerFactoryConfigurer configurer = mock(ConcurrentKafkaListenerContainerFactoryConfigurer.class);
+        ConsumerFactory<Object, Object> consumerFactory = mock(ConsumerFactory.class);
+
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory =
+                new KafkaConsumerConfig().batchKafkaListenerContainerFactory(configurer, consumerFactory);
+
+        verify(configurer).configure(factory, consumerFactory);
+        assertTrue(factory.isBatchListener());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testAsyncAckFactoryAllowsOutOfOrderManualAcks() {
+        ConcurrentKafkaListenerContainerFactoryConfigurer configurer = mock(ConcurrentKafkaListenerContainerFactoryConfigurer.class);
+        ConsumerFactory<Object, Object> consumerFactory = mock(ConsumerFactory.class);
+
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory =
+                new KafkaConsumerConfig().asyncAckKafkaListenerContainerFactory(configurer, consumerFactory);
+
+        verify(configurer).configure(factory, consumerFactory);
+        assertFalse(Boolean.TRUE.equals(factory.isBatchListener()));
+        assertEquals(ContainerProperties.AckMode.MANUAL, factory.getContainerProperties().getAckMode());
+        assertTrue(factory.getContainerProperties().isAsyncAcks());
+    }
+}
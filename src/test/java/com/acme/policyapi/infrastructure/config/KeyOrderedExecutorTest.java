@@ -0,0 +1,121 @@
+package com.acme.policyapi.infrastructure.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeyOrderedExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void testTasksOfSameKeyRunInSubmissionOrder() throws Exception {
+        KeyOrderedExecutor executor = new KeyOrderedExecutor("test", 8, meterRegistry);
+        List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        for (int i = 0; i < 50; i++) {
+            int value = i;
+            futures.add(executor.execute("key", () -> {
+                if (value % 7 == 0) {
+                    sleep(2);
+                }
+                executed.add(value);
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            expected.add(i);
+        }
+        assertEquals(expected, executed);
+    }
+
+    @Test
+    void testSlowKeyDoesNotBlockOtherKeys() throws Exception {
+        KeyOrderedExecutor executor = new KeyOrderedExecutor("test", 4, meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Void> slow = executor.execute("slow", () -> awaitLatch(release));
+        CompletableFuture<Void> behindSlow = executor.execute("slow", () -> { });
+        CompletableFuture<Void> other = executor.execute("other", () -> { });
+
+        other.get(2, TimeUnit.SECONDS);
+        assertFalse(slow.isDone());
+        assertFalse(behindSlow.isDone());
+        assertEquals(2, executor.getPendingCount());
+
+        release.countDown();
+        behindSlow.get(2, TimeUnit.SECONDS);
+        await().atMost(Duration.ofSeconds(2)).until(() -> executor.getKeyCount() == 0);
+        assertEquals(0, executor.getPendingCount());
+        assertEquals(0.0, meterRegistry.get("policy.consumer.parallel.pending").gauge().value());
+    }
+
+    @Test
+    void testFailedTaskDoesNotBreakKeyChain() throws Exception {
+        KeyOrderedExecutor executor = new KeyOrderedExecutor("test", 2, meterRegistry);
+        AtomicInteger ran = new AtomicInteger();
+
+        CompletableFuture<Void> failed = executor.execute("key", () -> {
+            throw new IllegalStateException("boom");
+        });
+        CompletableFuture<Void> next = executor.execute("key", ran::incrementAndGet);
+
+        next.get(2, TimeUnit.SECONDS);
+        assertFalse(failed.isCompletedExceptionally());
+        assertEquals(1, ran.get());
+    }
+
+    @Test
+    void testConcurrencyIsLimited() throws Exception {
+        KeyOrderedExecutor executor = new KeyOrderedExecutor("test", 2, meterRegistry);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        for (int i = 0; i < 20; i++) {
+            futures.add(executor.execute("key-" + i, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(5);
+                running.decrementAndGet();
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        assertTrue(maxRunning.get() <= 2);
+    }
+
+    @Test
+    void testInvalidConcurrency() {
+        assertThrows(IllegalArgumentException.class, () -> new KeyOrderedExecutor("test", 0, meterRegistry));
+    }
+
+    private static void awaitLatch(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
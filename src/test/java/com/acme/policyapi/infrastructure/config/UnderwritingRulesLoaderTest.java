@@ -0,0 +1,139 @@
+package com.acme.policyapi.infrastructure.config;
+
+import com.acme.policyapi.domain.entity.CustomerRiskClassification;
+import com.acme.policyapi.domain.entity.InsuranceCategory;
+import com.acme.policyapi.domain.entity.Money;
+import com.acme.policyapi.domain.entity.PolicyRequest;
+import com.acme.policyapi.domain.entity.SalesChannel;
+import com.acme.policyapi.domain.service.PolicyValidationService;
+import com.acme.policyapi.domain.service.UnderwritingRule;
+import com.acme.policyapi.domain.service.UnderwritingRules;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnderwritingRulesLoaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path file;
+    private SimpleMeterRegistry meterRegistry;
+    private PolicyValidationService validationService;
+    private UnderwritingRulesLoader loader;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        file = tempDir.resolve("underwriting-rules.properties");
+        Files.writeString(file, "REGULAR.AUTO=400000.00\n");
+        meterRegistry = new SimpleMeterRegistry();
+        validationService = new PolicyValidationService(new SimpleMeterRegistry());
+        loader = new UnderwritingRulesLoader(validationService, meterRegistry, file.toString());
+    }
+
+    private long limitInCents(CustomerRiskClassification classification, InsuranceCategory category, SalesChannel channel) {
+        return validationService.getRules().getLimitInCents(classification, category, channel);
+    }
+
+    private double reloads(String outcome) {
+        return meterRegistry.get("policy.validation.rules.reloads").tag("outcome", outcome).counter().count();
+    }
+
+    private void rewrite(String content) throws Exception {
+        Files.writeString(file, content);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 1000));
+    }
+
+    @Test
+    void shouldApplyFileOverDefaults() {
+        // Act
+        loader.load();
+
+        // Assert
+        assertEquals(40_000_000L, limitInCents(CustomerRiskClassification.REGULAR, InsuranceCategory.AUTO, null));
+        assertEquals(40_000_000L, limitInCents(CustomerRiskClassification.REGULAR, InsuranceCategory.AUTO, SalesChannel.MOBILE));
+        assertEquals(50_000_000L, limitInCents(CustomerRiskClassification.REGULAR, InsuranceCategory.VIDA, null));
+        assertEquals(1.0, reloads("success"));
+    }
+
+    @Test
+    void shouldCompileEveryRuleType() throws Exception {
+        // Arrange
+        rewrite("""
+                REGULAR.AUTO=400000.00
+                REGULAR.AUTO.WHATSAPP=200000.00
+                coverage-cap.AUTO.Roubo\\ total=90000.00
+                assistances.allowed.AUTO=Guincho, Chaveiro
+                assistances.max.VIDA=2
+                """);
+
+        // Act
+        UnderwritingRules rules = UnderwritingRulesLoader.read(file);
+
+        // Assert
+        assertEquals(4, rules.getDefinitions());
+        assertEquals(40_000_000L, rules.getLimitInCents(CustomerRiskClassification.REGULAR, InsuranceCategory.AUTO, SalesChannel.MOBILE));
+        assertEquals(20_000_000L, rules.getLimitInCents(CustomerRiskClassification.REGULAR, InsuranceCategory.AUTO, SalesChannel.WHATSAPP));
+
+        PolicyRequest policyRequest = new PolicyRequest();
+        policyRequest.setCategory(InsuranceCategory.AUTO);
+        policyRequest.setSalesChannel(SalesChannel.MOBILE);
+        policyRequest.setInsuredAmount(Money.parse("100000.00"));
+        policyRequest.setCoverages(Map.of("Roubo total", Money.parse("90000.01")));
+        policyRequest.setAssistances(List.of("Guincho"));
+        assertEquals(UnderwritingRule.COVERAGE_CAP, rules.evaluate(policyRequest, CustomerRiskClassification.REGULAR).rule());
+
+        policyRequest.setCoverages(Map.of());
+        policyRequest.setAssistances(List.of("Guincho", "Vidros"));
+        assertEquals(UnderwritingRule.ASSISTANCE_NOT_ALLOWED, rules.evaluate(policyRequest, CustomerRiskClassification.REGULAR).rule());
+    }
+
+    @Test
+    void shouldReloadOnlyWhenFileChanges() throws Exception {
+        // Arrange
+        loader.load();
+
+        // Act
+        loader.reloadIfModified();
+        rewrite("REGULAR.AUTO=420000.00\nHIGH_RISK.VIDA=130000\n");
+        loader.reloadIfModified();
+
+        // Assert
+        assertEquals(42_000_000L, limitInCents(CustomerRiskClassification.REGULAR, InsuranceCategory.AUTO, null));
+        assertEquals(13_000_000L, limitInCents(CustomerRiskClassification.HIGH_RISK, InsuranceCategory.VIDA, null));
+        assertEquals(2.0, reloads("success"));
+    }
+
+    @Test
+    void shouldKeepCurrentRulesWhenReloadedFileIsInvalid() throws Exception {
+        // Arrange
+        loader.load();
+        UnderwritingRules current = validationService.getRules();
+
+        // Act
+        rewrite("REGULAR.BARCO=1000.00\n");
+        loader.reloadIfModified();
+
+        // Assert
+        assertSame(current, validationService.getRules());
+        assertEquals(1.0, reloads("failure"));
+    }
+
+    @Test
+    void shouldFailStartupWhenFileIsInvalid() throws Exception {
+        // Arrange
+        Files.writeString(file, "REGULAR=1000.00\n");
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, loader::load);
+    }
+}
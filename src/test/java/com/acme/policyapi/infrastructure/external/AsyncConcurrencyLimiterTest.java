@@ -0,0 +1,184 @@
+package com.acme.policyapi.infrastructure.external;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncConcurrencyLimiterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AsyncConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        limiter = new AsyncConcurrencyLimiter("test.client", 2, 1, meterRegistry);
+    }
+
+    @Test
+    void shouldQueueCallsAboveLimitAndDispatchThemOnCompletion() {
+        // Arrange
+        List<CompletableFuture<String>> calls = new ArrayList<>();
+        AtomicInteger started = new AtomicInteger();
+
+        // Act
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            results.add(limiter.submit(() -> {
+                started.incrementAndGet();
+                CompletableFuture<String> call = new CompletableFuture<>();
+                calls.add(call);
+                return call;
+            }));
+        }
+
+        // Assert
+        assertEquals(2, started.get());
+        assertEquals(2, limiter.getInFlight());
+        assertEquals(1, limiter.getQueued());
+        assertEquals(1.0, meterRegistry.get("test.client.queued").gauge().value());
+
+        calls.get(0).complete("a");
+
+        assertEquals("a", results.get(0).join());
+        assertEquals(3, started.get());
+        assertEquals(2, limiter.getInFlight());
+        assertEquals(0, limiter.getQueued());
+
+        calls.get(1).complete("b");
+        calls.get(2).complete("c");
+
+        assertEquals("c", results.get(2).join());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void shouldRejectWhenQueueIsFull() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            limiter.submit(CompletableFuture::new);
+        }
+
+        // Act
+        CompletableFuture<Object> rejected = limiter.submit(CompletableFuture::new);
+
+        // Assert
+        CompletionException e = assertThrows(CompletionException.class, rejected::join);
+        assertInstanceOf(RejectedExecutionException.class, e.getCause());
+        assertEquals(1.0, meterRegistry.get("test.client.rejected").counter().count());
+        assertEquals(1, limiter.getQueued());
+    }
+
+    @Test
+    void shouldReleaseSlotWhenCallFailsOrThrows() {
+        // Act
+        CompletableFuture<Object> failed = limiter.submit(() -> CompletableFuture.failedFuture(new IllegalStateException("falha")));
+        CompletableFuture<Object> thrown = limiter.submit(() -> {
+            throw new IllegalArgumentException("erro ao disparar");
+        });
+
+        // Assert
+        assertTrue(failed.isCompletedExceptionally());
+        assertTrue(thrown.isCompletedExceptionally());
+        assertEquals(0, limiter.getInFlight());
+        assertEquals(2.0, meterRegistry.get("test.client.limit").gauge().value());
+    }
+
+    @Test
+    void shouldPropagateCancellationAndSkipCancelledQueuedCalls() {
+        // Arrange
+        List<CompletableFuture<String>> calls = new ArrayList<>();
+        AtomicInteger started = new AtomicInteger();
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            results.add(limiter.submit(() -> {
+                started.incrementAndGet();
+                CompletableFuture<String> call = new CompletableFuture<>();
+                calls.add(call);
+                return call;
+            }));
+        }
+
+        // Act
+        results.get(2).cancel(true);
+        results.get(0).cancel(true);
+
+        // Assert
+        assertTrue(calls.get(0).isCancelled());
+        assertEquals(2, started.get());
+        assertEquals(1, limiter.getInFlight());
+        assertEquals(0, limiter.getQueued());
+    }
+
+    @Test
+    void shouldRaiseAdaptiveLimitAndDispatchQueuedCalls() throws Exception {
+        // Arrange
+        AsyncConcurrencyLimiter adaptive = new AsyncConcurrencyLimiter("test.adaptive",
+                new GradientLimit(2, 1, 10, 1.0, 1.5, 10), 10, meterRegistry);
+        List<CompletableFuture<String>> calls = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            adaptive.submit(() -> {
+                CompletableFuture<String> call = new CompletableFuture<>();
+                calls.add(call);
+                return call;
+            });
+        }
+        Thread.sleep(5);
+
+        // Act
+        calls.get(0).complete("a");
+
+        // Assert - limite 2 → 3: as duas chamadas enfileiradas são disparadas
+        assertEquals(3, adaptive.getLimit());
+        assertEquals(3, adaptive.getInFlight());
+        assertEquals(0, adaptive.getQueued());
+        assertEquals(3.0, meterRegistry.get("test.adaptive.limit").gauge().value());
+        assertTrue(meterRegistry.get("test.adaptive.rtt").gauge().value() > 0);
+    }
+
+    @Test
+    void shouldLowerAdaptiveLimitOnTimeout() {
+        // Arrange
+        AsyncConcurrencyLimiter adaptive = new AsyncConcurrencyLimiter("test.adaptive",
+                new GradientLimit(10, 1, 10, 0.2, 1.5, 10), 10, meterRegistry);
+        CompletableFuture<String> call = new CompletableFuture<>();
+        adaptive.submit(() -> call);
+
+        // Act
+        call.completeExceptionally(new TimeoutException("prazo esgotado"));
+
+        // Assert
+        assertEquals(9, adaptive.getLimit());
+    }
+
+    @Test
+    void shouldIgnoreCallsCompletedOnDispatchAndCancellations() {
+        // Arrange
+        AsyncConcurrencyLimiter adaptive = new AsyncConcurrencyLimiter("test.adaptive",
+                new GradientLimit(2, 1, 10, 1.0, 1.5, 10), 10, meterRegistry);
+
+        // Act
+        adaptive.submit(() -> CompletableFuture.completedFuture("cache"));
+        adaptive.submit(CompletableFuture::new).cancel(true);
+
+        // Assert
+        assertEquals(2, adaptive.getLimit());
+        assertEquals(0.0, meterRegistry.get("test.adaptive.rtt").gauge().value());
+    }
+
+    @Test
+    void shouldRejectNonPositiveLimit() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new AsyncConcurrencyLimiter("invalid", 0, 1, meterRegistry));
+    }
+}
@@ -0,0 +1,54 @@
+package com.acme.policyapi.infrastructure.external;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkheadTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private Bulkhead bulkhead;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        bulkhead = new Bulkhead("test", 2, Duration.ofMillis(10), meterRegistry);
+    }
+
+    @Test
+    void shouldRejectAboveLimitAfterMaxWait() {
+        // Act
+        assertTrue(bulkhead.tryAcquire());
+        assertTrue(bulkhead.tryAcquire());
+        boolean third = bulkhead.tryAcquire();
+
+        // Assert
+        assertFalse(third);
+        assertEquals(2, bulkhead.getInFlight());
+        assertEquals(2.0, meterRegistry.get("test.bulkhead.in-flight").gauge().value());
+        assertEquals(1.0, meterRegistry.get("test.bulkhead.rejected").counter().count());
+    }
+
+    @Test
+    void shouldAdmitAgainAfterRelease() {
+        // Arrange
+        bulkhead.tryAcquire();
+        bulkhead.tryAcquire();
+
+        // Act
+        bulkhead.release();
+
+        // Assert
+        assertTrue(bulkhead.tryAcquire());
+        assertEquals(0.0, meterRegistry.get("test.bulkhead.rejected").counter().count());
+    }
+
+    @Test
+    void shouldRejectNonPositiveLimit() {
+        assertThrows(IllegalArgumentException.class, () -> new Bulkhead("invalid", 0, Duration.ZERO, meterRegistry));
+    }
+}
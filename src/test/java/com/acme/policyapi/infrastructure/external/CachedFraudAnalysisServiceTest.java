@@ -0,0 +1,123 @@
+package com.acme.policyapi.infrastructure.external;
+
+import com.acme.policyapi.application.dto.FraudAnalysisResponseDTO;
+import com.acme.policyapi.domain.entity.CustomerRiskClassification;
+import com.acme.policyapi.domain.entity.PolicyRequest;
+import com.acme.policyapi.infrastructure.cache.FraudClassificationCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachedFraudAnalysisServiceTest {
+
+    @Mock
+    private FraudAnalysisServiceImpl delegate;
+
+    private CachedFraudAnalysisService service;
+    private UUID customerId;
+
+    @BeforeEach
+    void setUp() {
+        FraudClassificationCache cache = new FraudClassificationCache(new SimpleMeterRegistry(), true, 100,
+                Duration.ofMinutes(10), Duration.ofMinutes(1));
+        service = new CachedFraudAnalysisService(delegate, cache);
+        customerId = UUID.randomUUID();
+    }
+
+    @Test
+    void shouldReuseClassificationForOtherOrdersOfSameCustomer() {
+        // Arrange
+        UUID firstOrder = UUID.randomUUID();
+        UUID secondOrder = UUID.randomUUID();
+        FraudAnalysisResponseDTO analysis = response(firstOrder, CustomerRiskClassification.PREFERENTIAL);
+        when(delegate.analyzeFraud(firstOrder, customerId)).thenReturn(analysis);
+
+        // Act
+        FraudAnalysisResponseDTO first = service.analyzeFraud(firstOrder, customerId);
+        FraudAnalysisResponseDTO second = service.analyzeFraud(secondOrder, customerId);
+
+        // Assert
+        assertSame(analysis, first);
+        assertEquals(secondOrder, second.getOrderId());
+        assertEquals(CustomerRiskClassification.PREFERENTIAL, second.getClassification());
+        assertEquals(firstOrder, analysis.getOrderId());
+        verify(delegate, times(1)).analyzeFraud(any(UUID.class), any(UUID.class));
+    }
+
+    @Test
+    void shouldCallApiAgainAfterFallback() {
+        // Arrange
+        UUID orderId = UUID.randomUUID();
+        FraudAnalysisResponseDTO fallback = response(orderId, CustomerRiskClassification.NO_INFORMATION);
+        fallback.setFallback(true);
+        when(delegate.analyzeFraud(orderId, customerId)).thenReturn(fallback);
+
+        // Act
+        service.analyzeFraud(orderId, customerId);
+        service.analyzeFraud(orderId, customerId);
+
+        // Assert
+        verify(delegate, times(2)).analyzeFraud(orderId, customerId);
+    }
+
+    @Test
+    void shouldShareCachedAnalysisOnAsyncPath() {
+        // Arrange
+        PolicyRequest first = policyRequest();
+        PolicyRequest second = policyRequest();
+        when(delegate.analyzeFraudAsync(first))
+                .thenReturn(CompletableFuture.completedFuture(response(first.getId(), CustomerRiskClassification.HIGH_RISK)));
+
+        // Act
+        service.analyzeFraudAsync(first).join();
+        FraudAnalysisResponseDTO response = service.analyzeFraudAsync(second).join();
+
+        // Assert
+        assertEquals(second.getId(), response.getOrderId());
+        assertEquals(CustomerRiskClassification.HIGH_RISK, response.getClassification());
+        verify(delegate, never()).analyzeFraudAsync(second);
+    }
+
+    @Test
+    void shouldBypassCacheWithoutCustomer() {
+        // Arrange
+        UUID orderId = UUID.randomUUID();
+        when(delegate.analyzeFraud(orderId, null)).thenReturn(response(orderId, CustomerRiskClassification.REGULAR));
+
+        // Act
+        service.analyzeFraud(orderId, null);
+        service.analyzeFraud(orderId, null);
+
+        // Assert
+        verify(delegate, times(2)).analyzeFraud(orderId, null);
+    }
+
+    private PolicyRequest policyRequest() {
+        PolicyRequest request = new PolicyRequest();
+        request.setId(UUID.randomUUID());
+        request.setCustomerId(customerId);
+        return request;
+    }
+
+    private FraudAnalysisResponseDTO response(UUID orderId, CustomerRiskClassification classification) {
+        FraudAnalysisResponseDTO dto = new FraudAnalysisResponseDTO();
+        dto.setOrderId(orderId);
+        dto.setCustomerId(customerId);
+        dto.setClassification(classification);
+        dto.setOccurrences(List.of());
+        return dto;
+    }
+}
@@ -0,0 +1,136 @@
+package com.acme.policyapi.infrastructure.external;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofSeconds(3).toNanos();
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong now;
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        now = new AtomicLong();
+        circuitBreaker = new CircuitBreaker("test", new CircuitBreaker.Config(4, 4, 50,
+                Duration.ofSeconds(2), 75, Duration.ofSeconds(30), 2), meterRegistry, now::get);
+    }
+
+    @Test
+    void shouldStayClosedBelowMinimumCalls() {
+        // Act
+        for (int i = 0; i < 3; i++) {
+            assertTrue(circuitBreaker.tryAcquirePermission());
+            circuitBreaker.onError(FAST);
+        }
+
+        // Assert
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void shouldOpenWhenFailureRateReachesThreshold() {
+        // Act
+        record(false, true, false, true);
+
+        // Assert
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquirePermission());
+        assertEquals(1.0, meterRegistry.get("test.circuit.rejected").counter().count());
+        assertEquals(1.0, meterRegistry.get("test.circuit.state").gauge().value());
+        assertEquals(1.0, meterRegistry.get("test.circuit.transitions")
+                .tag("from", "CLOSED").tag("to", "OPEN").counter().count());
+    }
+
+    @Test
+    void shouldOpenWhenSlowCallRateReachesThreshold() {
+        // Act
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.tryAcquirePermission();
+            circuitBreaker.onSuccess(i == 0 ? FAST : SLOW);
+        }
+
+        // Assert
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    void shouldEvaluateOnlyTheSlidingWindow() {
+        // Act - falhas antigas saem da janela
+        record(true, false, false, false, false, false);
+
+        // Assert
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void shouldCloseAfterSuccessfulProbes() {
+        // Arrange
+        record(true, true, true, true);
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        // Act
+        assertTrue(circuitBreaker.tryAcquirePermission());
+        assertTrue(circuitBreaker.tryAcquirePermission());
+        assertFalse(circuitBreaker.tryAcquirePermission());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        circuitBreaker.onSuccess(FAST);
+        circuitBreaker.onSuccess(FAST);
+
+        // Assert
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertEquals(1.0, meterRegistry.get("test.circuit.transitions")
+                .tag("from", "HALF_OPEN").tag("to", "CLOSED").counter().count());
+    }
+
+    @Test
+    void shouldReopenWhenProbeFails() {
+        // Arrange
+        record(true, true, true, true);
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        // Act
+        assertTrue(circuitBreaker.tryAcquirePermission());
+        circuitBreaker.onError(FAST);
+
+        // Assert
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquirePermission());
+    }
+
+    @Test
+    void shouldReturnProbePermissionWhenCallIsNotMade() {
+        // Arrange
+        record(true, true, true, true);
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+        circuitBreaker.tryAcquirePermission();
+        circuitBreaker.tryAcquirePermission();
+
+        // Act
+        circuitBreaker.releasePermission();
+
+        // Assert
+        assertTrue(circuitBreaker.tryAcquirePermission());
+    }
+
+    private void record(boolean... failures) {
+        for (boolean failed : failures) {
+            assertTrue(circuitBreaker.tryAcquirePermission());
+            if (failed) {
+                circuitBreaker.onError(FAST);
+            } else {
+                circuitBreaker.onSuccess(FAST);
+            }
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package com.acme.policyapi.infrastructure.external;
+
+import com.acme.policyapi.application.dto.FraudAnalysisResponseDTO;
+import com.acme.policyapi.domain.entity.CustomerRiskClassification;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FraudAnalysisBatcherTest {
+
+    @Mock
+    private FraudAnalysisHttpClient client;
+
+    private SimpleMeterRegistry meterRegistry;
+    private FraudAnalysisBatcher batcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (batcher != null) {
+            batcher.shutdown();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldSendOneBatchWhenMaxSizeIsReached() {
+        // Arrange
+        batcher = new FraudAnalysisBatcher(client, meterRegistry, Duration.ofMinutes(1), 3, true);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID customer = UUID.randomUUID();
+        when(client.analyzeBatch(anyList(), any())).thenReturn(CompletableFuture.completedFuture(
+                List.of(response(second, CustomerRiskClassification.HIGH_RISK), response(first, CustomerRiskClassification.REGULAR))));
+
+        // Act - a mesma ordem duas vezes compartilha a resposta
+        CompletableFuture<FraudAnalysisResponseDTO> a = batcher.analyze(first, customer);
+        CompletableFuture<FraudAnalysisResponseDTO> b = batcher.analyze(second, customer);
+        CompletableFuture<FraudAnalysisResponseDTO> c = batcher.analyze(first, customer);
+
+        // Assert
+        assertEquals(CustomerRiskClassification.REGULAR, a.join().getClassification());
+        assertEquals(CustomerRiskClassification.HIGH_RISK, b.join().getClassification());
+        assertSame(a.join(), c.join());
+
+        ArgumentCaptor<List<FraudAnalysisHttpClient.AnalysisRequest>> sent = ArgumentCaptor.forClass(List.class);
+        verify(client).analyzeBatch(sent.capture(), any());
+        assertEquals(List.of(new FraudAnalysisHttpClient.AnalysisRequest(first, customer),
+                new FraudAnalysisHttpClient.AnalysisRequest(second, customer)), sent.getValue());
+        verify(client, never()).analyze(any(), any(), any());
+
+        assertEquals(3.0, meterRegistry.get("fraud.analysis.batch.size")
+                .tag("trigger", "size").tag("mode", "batch").summary().totalAmount());
+    }
+
+    @Test
+    void shouldFlushWhenWindowExpires() throws Exception {
+        // Arrange
+        batcher = new FraudAnalysisBatcher(client, meterRegistry, Duration.ofMillis(20), 100, true);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        when(client.analyzeBatch(anyList(), any())).thenReturn(CompletableFuture.completedFuture(
+                List.of(response(first, CustomerRiskClassification.REGULAR), response(second, CustomerRiskClassification.REGULAR))));
+
+        // Act
+        CompletableFuture<FraudAnalysisResponseDTO> a = batcher.analyze(first, UUID.randomUUID());
+        CompletableFuture<FraudAnalysisResponseDTO> b = batcher.analyze(second, UUID.randomUUID());
+
+        // Assert
+        assertEquals(first, a.get(5, TimeUnit.SECONDS).getOrderId());
+        assertEquals(second, b.get(5, TimeUnit.SECONDS).getOrderId());
+        assertEquals(1, meterRegistry.get("fraud.analysis.batch.size").tag("trigger", "window").summary().count());
+    }
+
+    @Test
+    void shouldMarkDispatchWhenWindowIsFlushed() throws Exception {
+        // Arrange
+        batcher = new FraudAnalysisBatcher(client, meterRegistry, Duration.ofMillis(50), 100, true);
+        UUID orderId = UUID.randomUUID();
+        DispatchClock clock = new DispatchClock();
+        when(client.analyze(eq(orderId), any(), any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(2).run();
+            return CompletableFuture.completedFuture(response(orderId, CustomerRiskClassification.REGULAR));
+        });
+
+        // Act
+        long requestedAt = System.nanoTime();
+        CompletableFuture<FraudAnalysisResponseDTO> result = batcher.analyze(orderId, UUID.randomUUID(), clock);
+        boolean dispatchedBeforeWindow = clock.isDispatched();
+        result.get(5, TimeUnit.SECONDS);
+
+        // Assert - a espera pela janela não entra na duração
+        assertFalse(dispatchedBeforeWindow);
+        assertTrue(clock.isDispatched());
+        assertTrue(clock.elapsedNanos() < System.nanoTime() - requestedAt - Duration.ofMillis(40).toNanos());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {400, 404, 405, 415, 422, 501})
+    void shouldFallBackToSingleCallsWhenBatchEndpointIsRejected(int status) {
+        // Arrange
+        batcher = new FraudAnalysisBatcher(client, meterRegistry, Duration.ofMinutes(1), 2, true);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID customer = UUID.randomUUID();
+        when(client.analyzeBatch(anyList(), any())).thenReturn(CompletableFuture.failedFuture(
+                new RestClientResponseException(String.valueOf(status), HttpStatusCode.valueOf(status), "", null, null, null)));
+        when(client.analyze(eq(first), eq(customer), any())).thenReturn(CompletableFuture.completedFuture(response(first, CustomerRiskClassification.REGULAR)));
+        when(client.analyze(eq(second), eq(customer), any())).thenReturn(CompletableFuture.completedFuture(response(second, CustomerRiskClassification.PREFERENTIAL)));
+
+        // Act
+        CompletableFuture<FraudAnalysisResponseDTO> a = batcher.analyze(first, customer);
+        CompletableFuture<FraudAnalysisResponseDTO> b = batcher.analyze(second, customer);
+        batcher.analyze(first, customer);
+        batcher.analyze(second, customer);
+
+        // Assert - depois da primeira recusa os lotes seguem direto em chamadas individuais
+        assertEquals(CustomerRiskClassification.REGULAR, a.join().getClassification());
+        assertEquals(CustomerRiskClassification.PREFERENTIAL, b.join().getClassification());
+        assertFalse(batcher.isBatchEndpointAvailable());
+        verify(client, times(1)).analyzeBatch(anyList(), any());
+        verify(client, times(2)).analyze(eq(first), eq(customer), any());
+        assertEquals(1, meterRegistry.get("fraud.analysis.batch.size").tag("mode", "single").summary().count());
+    }
+
+    @Test
+    void shouldFailEveryCallerWhenBatchFails() {
+        // Arrange
+        batcher = new FraudAnalysisBatcher(client, meterRegistry, Duration.ofMinutes(1), 2, true);
+        when(client.analyzeBatch(anyList(), any())).thenReturn(CompletableFuture.failedFuture(new IllegalStateException("503")));
+
+        // Act
+        CompletableFuture<FraudAnalysisResponseDTO> a = batcher.analyze(UUID.randomUUID(), UUID.randomUUID());
+        CompletableFuture<FraudAnalysisResponseDTO> b = batcher.analyze(UUID.randomUUID(), UUID.randomUUID());
+
+        // Assert
+        assertInstanceOf(IllegalStateException.class, assertThrows(CompletionException.class, a::join).getCause());
+        assertInstanceOf(IllegalStateException.class, assertThrows(CompletionException.class, b::join).getCause());
+        assertTrue(batcher.isBatchEndpointAvailable());
+    }
+
+    @Test
+    void shouldKeepBatchEndpointWhenProviderFailsWithServerError() {
+        // Arrange
+        batcher = new FraudAnalysisBatcher(client, meterRegistry, Duration.ofMinutes(1), 2, true);
+        when(client.analyzeBatch(anyList(), any())).thenReturn(CompletableFuture.failedFuture(
+                new RestClientResponseException("503", HttpStatusCode.valueOf(503), "", null, null, null)));
+
+        // Act
+        CompletableFuture<FraudAnalysisResponseDTO> a = batcher.analyze(UUID.randomUUID(), UUID.randomUUID());
+        batcher.analyze(UUID.randomUUID(), UUID.randomUUID());
+
+        // Assert
+        assertInstanceOf(RestClientResponseException.class, assertThrows(CompletionException.class, a::join).getCause());
+        assertTrue(batcher.isBatchEndpointAvailable());
+        verify(client, never()).analyze(any(), any(), any());
+    }
+
+    @Test
+    void shouldFailCallerMissingFromBatchResponse() {
+        // Arrange
+        batcher = new FraudAnalysisBatcher(client, meterRegistry, Duration.ofMinutes(1), 2, true);
+        UUID answered = UUID.randomUUID();
+        when(client.analyzeBatch(anyList(), any())).thenReturn(CompletableFuture.completedFuture(
+                List.of(response(answered, CustomerRiskClassification.REGULAR))));
+
+        // Act
+        CompletableFuture<FraudAnalysisResponseDTO> a = batcher.analyze(answered, UUID.randomUUID());
+        CompletableFuture<FraudAnalysisResponseDTO> missing = batcher.analyze(UUID.randomUUID(), UUID.randomUUID());
+
+        // Assert
+        assertEquals(answered, a.join().getOrderId());
+        assertThrows(CompletionException.class, missing::join);
+    }
+
+    @Test
+    void shouldSendSingleCallsWhenEndpointIsDisabledAndFlushOnShutdown() {
+        // Arrange
+        batcher = new FraudAnalysisBatcher(client, meterRegistry, Duration.ofMinutes(1), 10, false);
+        UUID orderId = UUID.randomUUID();
+        UUID customer = UUID.randomUUID();
+        when(client.analyze(eq(orderId), eq(customer), any())).thenReturn(CompletableFuture.completedFuture(response(orderId, CustomerRiskClassification.REGULAR)));
+
+        // Act
+        CompletableFuture<FraudAnalysisResponseDTO> result = batcher.analyze(orderId, customer);
+        batcher.shutdown();
+
+        // Assert
+        assertEquals(orderId, result.join().getOrderId());
+        verify(client, never()).analyzeBatch(anyList(), any());
+        assertEquals(1, meterRegistry.get("fraud.analysis.batch.size").tag("trigger", "shutdown").summary().count());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldLeaveCancelledCallerOutOfBatch() {
+        // Arrange
+        batcher = new FraudAnalysisBatcher(client, meterRegistry, Duration.ofMinutes(1), 3, true);
+        UUID cancelled = UUID.randomUUID();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        when(client.analyzeBatch(anyList(), any())).thenReturn(CompletableFuture.completedFuture(
+                List.of(response(first, CustomerRiskClassification.REGULAR), response(second, CustomerRiskClassification.REGULAR))));
+
+        // Act - a tentativa perdedora do hedge é cancelada antes de o lote fechar
+        batcher.analyze(cancelled, UUID.randomUUID()).cancel(true);
+        batcher.analyze(first, UUID.randomUUID());
+        batcher.analyze(second, UUID.randomUUID());
+
+        // Assert
+        ArgumentCaptor<List<FraudAnalysisHttpClient.AnalysisRequest>> sent = ArgumentCaptor.forClass(List.class);
+        verify(client).analyzeBatch(sent.capture(), any());
+        assertEquals(List.of(first, second), sent.getValue().stream()
+                .map(FraudAnalysisHttpClient.AnalysisRequest::orderId).toList());
+        assertEquals(2.0, meterRegistry.get("fraud.analysis.batch.size").tag("trigger", "size").summary().totalAmount());
+    }
+
+    @Test
+    void shouldCancelBatchCallOnlyWhenEveryCallerIsCancelled() {
+        // Arrange
+        batcher = new FraudAnalysisBatcher(client, meterRegistry, Duration.ofMinutes(1), 2, true);
+        CompletableFuture<List<FraudAnalysisResponseDTO>> call = new CompletableFuture<>();
+        when(client.analyzeBatch(anyList(), any())).thenReturn(call);
+        CompletableFuture<FraudAnalysisResponseDTO> a = batcher.analyze(UUID.randomUUID(), UUID.randomUUID());
+        CompletableFuture<FraudAnalysisResponseDTO> b = batcher.analyze(UUID.randomUUID(), UUID.randomUUID());
+
+        // Act
+        a.cancel(true);
+        boolean cancelledWithOneCaller = call.isCancelled();
+        b.cancel(true);
+
+        // Assert
+        assertFalse(cancelledWithOneCaller);
+        assertTrue(call.isCancelled());
+    }
+
+    @Test
+    void shouldCancelSingleCallWhenEveryCallerOfTheOrderIsCancelled() {
+        // Arrange
+        batcher = new FraudAnalysisBatcher(client, meterRegistry, Duration.ofMinutes(1), 2, false);
+        UUID orderId = UUID.randomUUID();
+        CompletableFuture<FraudAnalysisResponseDTO> call = new CompletableFuture<>();
+        when(client.analyze(eq(orderId), any(), any())).thenReturn(call);
+        CompletableFuture<FraudAnalysisResponseDTO> a = batcher.analyze(orderId, UUID.randomUUID());
+        CompletableFuture<FraudAnalysisResponseDTO> b = batcher.analyze(orderId, UUID.randomUUID());
+
+        // Act
+        a.cancel(true);
+        boolean cancelledWithOneCaller = call.isCancelled();
+        b.cancel(true);
+
+        // Assert - as duas chamadas da mesma ordem compartilham uma única requisição
+        assertFalse(cancelledWithOneCaller);
+        assertTrue(call.isCancelled());
+        verify(client, times(1)).analyze(any(), any(), any());
+    }
+
+    private static FraudAnalysisResponseDTO response(UUID orderId, CustomerRiskClassification classification) {
+        FraudAnalysisResponseDTO dto = new FraudAnalysisResponseDTO();
+        dto.setOrderId(orderId);
+        dto.setClassification(classification);
+        return dto;
+    }
+}
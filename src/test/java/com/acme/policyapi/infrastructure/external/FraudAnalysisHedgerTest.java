@@ -0,0 +1,221 @@
+package com.acme.policyapi.infrastructure.external;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FraudAnalysisHedgerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private FraudAnalysisHedger hedger;
+    private List<CompletableFuture<String>> attempts;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        attempts = new ArrayList<>();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (hedger != null) {
+            hedger.shutdown();
+        }
+    }
+
+    private FraudAnalysisHedger hedger(double budgetPercent, int maxBurst) {
+        return new FraudAnalysisHedger(meterRegistry, true, 0.9, Duration.ofMillis(20), 50, 5, budgetPercent, maxBurst);
+    }
+
+    private void warmUp() {
+        for (int i = 0; i < 5; i++) {
+            hedger.execute(() -> CompletableFuture.completedFuture("rápida")).join();
+        }
+    }
+
+    private CompletableFuture<String> pendingAttempt() {
+        CompletableFuture<String> attempt = new CompletableFuture<>();
+        attempts.add(attempt);
+        return attempt;
+    }
+
+    @Test
+    void shouldNotHedgeBeforeMinimumSamples() throws Exception {
+        // Arrange
+        hedger = hedger(100, 10);
+
+        // Act
+        CompletableFuture<String> result = hedger.execute(this::pendingAttempt);
+        Thread.sleep(100);
+
+        // Assert
+        assertEquals(1, attempts.size());
+        assertFalse(result.isDone());
+        assertEquals(-1, hedger.getHedgeDelayNanos());
+    }
+
+    @Test
+    void shouldHedgeSlowCallAndCancelLoser() throws Exception {
+        // Arrange
+        hedger = hedger(100, 10);
+        warmUp();
+
+        // Act
+        CompletableFuture<String> result = hedger.execute(() -> {
+            CompletableFuture<String> attempt = pendingAttempt();
+            if (attempts.size() == 2) {
+                attempt.complete("segunda");
+            }
+            return attempt;
+        });
+
+        // Assert
+        assertEquals("segunda", result.get(5, TimeUnit.SECONDS));
+        assertEquals(2, attempts.size());
+        assertTrue(attempts.get(0).isCancelled());
+        assertEquals(Duration.ofMillis(20).toNanos(), hedger.getHedgeDelayNanos());
+        assertEquals(1.0, meterRegistry.get("fraud.analysis.hedge.sent").counter().count());
+        assertEquals(1.0, meterRegistry.get("fraud.analysis.hedge.won").counter().count());
+    }
+
+    @Test
+    void shouldReportDispatchOfWinningAttempt() throws Exception {
+        // Arrange
+        hedger = hedger(100, 10);
+        warmUp();
+        DispatchClock clock = new DispatchClock();
+        List<DispatchClock> attemptClocks = new ArrayList<>();
+
+        // Act
+        CompletableFuture<String> result = hedger.execute(clock, attemptClock -> {
+            attemptClock.markDispatched();
+            attemptClocks.add(attemptClock);
+            CompletableFuture<String> attempt = pendingAttempt();
+            if (attempts.size() == 2) {
+                attempt.complete("segunda");
+            }
+            return attempt;
+        });
+
+        // Assert - a duração não inclui o atraso antes da segunda tentativa
+        assertEquals("segunda", result.get(5, TimeUnit.SECONDS));
+        assertTrue(clock.isDispatched());
+        assertTrue(clock.elapsedNanos() < attemptClocks.get(0).elapsedNanos());
+    }
+
+    @Test
+    void shouldKeepPrimaryWhenItAnswersFirst() throws Exception {
+        // Arrange
+        hedger = hedger(100, 10);
+        warmUp();
+
+        // Act
+        CompletableFuture<String> result = hedger.execute(this::pendingAttempt);
+        Thread.sleep(100);
+        attempts.get(0).complete("primeira");
+
+        // Assert
+        assertEquals("primeira", result.get(5, TimeUnit.SECONDS));
+        assertEquals(2, attempts.size());
+        assertTrue(attempts.get(1).isCancelled());
+        assertEquals(0.0, meterRegistry.get("fraud.analysis.hedge.won").counter().count());
+    }
+
+    @Test
+    void shouldRecordWinnerLatencyFromPrimaryDispatch() throws Exception {
+        // Arrange - a primeira tentativa nunca responde; a segunda leva 30 ms
+        hedger = hedger(100, 10);
+        warmUp();
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            attempts.clear();
+            hedger.execute(() -> {
+                CompletableFuture<String> attempt = pendingAttempt();
+                return attempts.size() == 1 ? attempt
+                        : attempt.completeAsync(() -> "segunda", CompletableFuture.delayedExecutor(30, TimeUnit.MILLISECONDS));
+            }).get(5, TimeUnit.SECONDS);
+        }
+
+        // Assert - a amostra censurada soma o atraso do hedge (>= 20 ms) aos 30 ms da segunda
+        assertTrue(hedger.getHedgeDelayNanos() >= Duration.ofMillis(50).toNanos());
+    }
+
+    @Test
+    void shouldCancelEveryAttemptWhenResultIsCancelled() throws Exception {
+        // Arrange
+        hedger = hedger(100, 10);
+        warmUp();
+        CompletableFuture<String> result = hedger.execute(this::pendingAttempt);
+        Thread.sleep(100);
+
+        // Act
+        result.cancel(true);
+
+        // Assert
+        assertEquals(2, attempts.size());
+        assertTrue(attempts.stream().allMatch(CompletableFuture::isCancelled));
+    }
+
+    @Test
+    void shouldFailOnlyWhenEveryAttemptFails() throws Exception {
+        // Arrange
+        hedger = hedger(100, 10);
+        warmUp();
+
+        // Act
+        CompletableFuture<String> result = hedger.execute(this::pendingAttempt);
+        Thread.sleep(100);
+        attempts.get(1).completeExceptionally(new IllegalStateException("503"));
+
+        // Assert
+        assertFalse(result.isDone());
+        attempts.get(0).complete("primeira");
+        assertEquals("primeira", result.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void shouldSkipHedgeWhenBudgetIsExhausted() throws Exception {
+        // Arrange - 10% por chamada: 6 chamadas acumulam 0,6 tentativa extra
+        hedger = hedger(10, 1);
+        warmUp();
+
+        // Act
+        CompletableFuture<String> result = hedger.execute(this::pendingAttempt);
+        Thread.sleep(100);
+
+        // Assert
+        assertEquals(1, attempts.size());
+        assertFalse(result.isDone());
+        assertEquals(1.0, meterRegistry.get("fraud.analysis.hedge.skipped").counter().count());
+        assertEquals(0.6, meterRegistry.get("fraud.analysis.hedge.budget").gauge().value(), 0.001);
+    }
+
+    @Test
+    void shouldPassThroughWhenDisabled() {
+        // Arrange
+        hedger = new FraudAnalysisHedger(meterRegistry, false, 0.9, Duration.ofMillis(20), 50, 5, 100, 10);
+        CompletableFuture<String> attempt = new CompletableFuture<>();
+
+        // Act
+        CompletableFuture<String> result = hedger.execute(() -> attempt);
+
+        // Assert
+        assertSame(attempt, result);
+    }
+
+    @Test
+    void shouldRejectInvalidPercentile() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new FraudAnalysisHedger(meterRegistry, true, 1.0, Duration.ZERO, 50, 5, 5, 10));
+    }
+}
@@ -0,0 +1,228 @@
+package com.acme.policyapi.infrastructure.external;
+
+import com.acme.policyapi.application.dto.FraudAnalysisResponseDTO;
+import com.acme.policyapi.domain.entity.CustomerRiskClassification;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FraudAnalysisHttpClientTest {
+
+    private HttpServer server;
+    private SimpleMeterRegistry meterRegistry;
+    private ObjectMapper objectMapper;
+    private String baseUrl;
+
+    private volatile int responseStatus = 200;
+    private volatile long responseDelayMillis;
+    private volatile CountDownLatch release;
+    private final AtomicInteger concurrent = new AtomicInteger();
+    private final AtomicInteger maxConcurrent = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        meterRegistry = new SimpleMeterRegistry();
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/fraud-analysis/analyze", exchange -> {
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            try {
+                if (release != null) {
+                    release.await(5, TimeUnit.SECONDS);
+                }
+                if (responseDelayMillis > 0) {
+                    Thread.sleep(responseDelayMillis);
+                }
+                String query = exchange.getRequestURI().getQuery();
+                byte[] body = ("{\"orderId\":\"" + param(query, "orderId") + "\",\"customerId\":\"" + param(query, "customerId")
+                        + "\",\"analyzedAt\":\"2024-01-15T10:00:00\",\"classification\":\"PREFERENTIAL\",\"occurrences\":[]}")
+                        .getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(responseStatus, body.length);
+                exchange.getResponseBody().write(body);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException e) {
+                // cliente cancelou a troca
+            } finally {
+                concurrent.decrementAndGet();
+                exchange.close();
+            }
+        });
+        server.createContext("/fraud-analysis/analyze/batch", exchange -> {
+            try (exchange) {
+                List<Map<String, String>> requests = objectMapper.readValue(exchange.getRequestBody(), new TypeReference<>() { });
+                List<Map<String, String>> responses = new ArrayList<>();
+                for (Map<String, String> request : requests) {
+                    responses.add(Map.of("orderId", request.get("orderId"), "customerId", request.get("customerId"),
+                            "classification", "HIGH_RISK"));
+                }
+                byte[] body = objectMapper.writeValueAsBytes(responses);
+                exchange.sendResponseHeaders("POST".equals(exchange.getRequestMethod()) ? responseStatus : 405, body.length);
+                exchange.getResponseBody().write(body);
+            }
+        });
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort() + "/fraud-analysis";
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (release != null) {
+            release.countDown();
+        }
+        server.stop(0);
+    }
+
+    @Test
+    void shouldParseSuccessfulResponse() {
+        // Arrange
+        FraudAnalysisHttpClient client = client(Duration.ofSeconds(3), 4);
+        UUID orderId = UUID.randomUUID();
+        UUID customerId = UUID.randomUUID();
+
+        // Act
+        FraudAnalysisResponseDTO response = client.analyze(orderId, customerId).join();
+
+        // Assert
+        assertEquals(orderId, response.getOrderId());
+        assertEquals(customerId, response.getCustomerId());
+        assertEquals(CustomerRiskClassification.PREFERENTIAL, response.getClassification());
+        assertEquals(1, meterRegistry.get("fraud.analysis.client.latency").tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    void shouldPostBatchAndParseEveryAnalysis() {
+        // Arrange
+        FraudAnalysisHttpClient client = client(Duration.ofSeconds(3), 4);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID customerId = UUID.randomUUID();
+
+        // Act
+        List<FraudAnalysisResponseDTO> responses = client.analyzeBatch(List.of(
+                new FraudAnalysisHttpClient.AnalysisRequest(first, customerId),
+                new FraudAnalysisHttpClient.AnalysisRequest(second, customerId))).join();
+
+        // Assert
+        assertEquals(List.of(first, second), responses.stream().map(FraudAnalysisResponseDTO::getOrderId).toList());
+        assertTrue(responses.stream().allMatch(r -> r.getClassification() == CustomerRiskClassification.HIGH_RISK));
+        assertEquals(1, meterRegistry.get("fraud.analysis.client.latency")
+                .tag("endpoint", "analyze-batch").tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    void shouldFailWithResponseExceptionOnNon2xx() {
+        // Arrange
+        responseStatus = 503;
+        FraudAnalysisHttpClient client = client(Duration.ofSeconds(3), 4);
+
+        // Act
+        CompletionException e = assertThrows(CompletionException.class,
+                () -> client.analyze(UUID.randomUUID(), UUID.randomUUID()).join());
+
+        // Assert
+        RestClientResponseException cause = assertInstanceOf(RestClientResponseException.class, e.getCause());
+        assertEquals(503, cause.getStatusCode().value());
+        assertEquals(1, meterRegistry.get("fraud.analysis.client.latency").tag("outcome", "error").timer().count());
+    }
+
+    @Test
+    void shouldFailWithTimeoutWhenDeadlineExpires() {
+        // Arrange
+        responseDelayMillis = 1_000;
+        FraudAnalysisHttpClient client = client(Duration.ofMillis(100), 4);
+
+        // Act
+        long start = System.nanoTime();
+        CompletionException e = assertThrows(CompletionException.class,
+                () -> client.analyze(UUID.randomUUID(), UUID.randomUUID()).join());
+
+        // Assert
+        assertTrue(e.getCause() instanceof TimeoutException || e.getCause() instanceof java.net.http.HttpTimeoutException);
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 1_000);
+        assertEquals(1, meterRegistry.get("fraud.analysis.client.latency").tag("outcome", "timeout").timer().count());
+        assertEquals(0, client.getLimiter().getInFlight());
+    }
+
+    @Test
+    void shouldReleaseSlotWhenCallIsCancelled() throws Exception {
+        // Arrange
+        release = new CountDownLatch(1);
+        FraudAnalysisHttpClient client = client(Duration.ofSeconds(5), 1);
+        CompletableFuture<FraudAnalysisResponseDTO> call = client.analyze(UUID.randomUUID(), UUID.randomUUID());
+
+        // Act
+        call.cancel(true);
+
+        // Assert
+        assertTrue(call.isCancelled());
+        for (int i = 0; i < 50 && client.getLimiter().getInFlight() > 0; i++) {
+            Thread.sleep(20);
+        }
+        assertEquals(0, client.getLimiter().getInFlight());
+    }
+
+    @Test
+    void shouldKeepAtMostMaxConcurrencyCallsInFlight() throws Exception {
+        // Arrange
+        release = new CountDownLatch(1);
+        FraudAnalysisHttpClient client = client(Duration.ofSeconds(5), 2);
+
+        // Act
+        List<CompletableFuture<FraudAnalysisResponseDTO>> calls = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            calls.add(client.analyze(UUID.randomUUID(), UUID.randomUUID()));
+        }
+        Thread.sleep(200);
+        int queuedWhileBlocked = client.getLimiter().getQueued();
+        release.countDown();
+        CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals(4, queuedWhileBlocked);
+        assertTrue(maxConcurrent.get() <= 2);
+        assertEquals(0, client.getLimiter().getInFlight());
+        assertEquals(0, client.getLimiter().getQueued());
+    }
+
+    private FraudAnalysisHttpClient client(Duration deadline, int maxConcurrency) {
+        return new FraudAnalysisHttpClient(objectMapper, meterRegistry, baseUrl,
+                Duration.ofSeconds(1), deadline, maxConcurrency, 100);
+    }
+
+    private static String param(String query, String name) {
+        for (String pair : query.split("&")) {
+            String[] parts = pair.split("=", 2);
+            if (parts[0].equals(name)) {
+                return parts[1];
+            }
+        }
+        return "";
+    }
+}
@@ -0,0 +1,120 @@
+package com.acme.policyapi.infrastructure.external;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FraudAnalysisResilienceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private FraudAnalysisResilience resilience;
+    private AtomicInteger calls;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        resilience = new FraudAnalysisResilience(meterRegistry, true, 10, 2, 50,
+                Duration.ofSeconds(2), 100, Duration.ofMinutes(1), 1, 1, Duration.ZERO);
+        calls = new AtomicInteger();
+    }
+
+    @Test
+    void shouldReturnFallbackWithoutCallingOnceCircuitOpens() {
+        // Act
+        for (int i = 0; i < 3; i++) {
+            resilience.call(this::failingCall, e -> "fallback");
+        }
+        String result = resilience.call(() -> "ok", e -> e.getMessage());
+
+        // Assert
+        assertEquals(2, calls.get());
+        assertEquals("Circuito da API de fraudes aberto", result);
+        assertEquals(CircuitBreaker.State.OPEN, resilience.getCircuitBreaker().getState());
+        assertEquals(2.0, meterRegistry.get("fraud.analysis.circuit.rejected").counter().count());
+    }
+
+    @Test
+    void shouldRejectWhenBulkheadIsFull() {
+        // Act
+        String result = resilience.call(() -> resilience.call(() -> "interna", Throwable::getMessage), e -> "externa");
+
+        // Assert
+        assertEquals("Limite de chamadas simultâneas à API de fraudes atingido", result);
+        assertEquals(1.0, meterRegistry.get("fraud.analysis.bulkhead.rejected").counter().count());
+        assertEquals(0, resilience.getBulkhead().getInFlight());
+    }
+
+    @Test
+    void shouldCountAsyncFailuresButNotLimiterRejections() {
+        // Act
+        for (int i = 0; i < 3; i++) {
+            resilience.callAsync(() -> CompletableFuture.<String>failedFuture(new RejectedExecutionException("fila cheia")),
+                    e -> "fallback").join();
+        }
+        String afterRejections = resilience.callAsync(() -> CompletableFuture.completedFuture("ok"), e -> "fallback").join();
+
+        resilience.callAsync(() -> CompletableFuture.<String>failedFuture(new IllegalStateException("503")), e -> "fallback").join();
+
+        // Assert - 1 falha em 2 chamadas (50%) abre o circuito
+        assertEquals("ok", afterRejections);
+        assertEquals(CircuitBreaker.State.OPEN, resilience.getCircuitBreaker().getState());
+        assertEquals("fallback", resilience.callAsync(() -> CompletableFuture.completedFuture("ok"), e -> "fallback").join());
+    }
+
+    @Test
+    void shouldMeasureAsyncCallsFromDispatch() {
+        // Arrange - chamadas de 50 ms ou mais são lentas; 50% de lentas abre o circuito
+        FraudAnalysisResilience slowAware = new FraudAnalysisResilience(meterRegistry, true, 10, 2, 100,
+                Duration.ofMillis(50), 50, Duration.ofMinutes(1), 1, 1, Duration.ZERO);
+
+        // Act - 100 ms de espera antes do envio e resposta imediata
+        for (int i = 0; i < 2; i++) {
+            slowAware.callAsync(clock -> CompletableFuture.supplyAsync(() -> {
+                clock.markDispatched();
+                return "ok";
+            }, CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS)), e -> "fallback").join();
+        }
+        CircuitBreaker.State afterQueuedCalls = slowAware.getCircuitBreaker().getState();
+
+        // Act - envio imediato e resposta em 100 ms
+        for (int i = 0; i < 2; i++) {
+            slowAware.callAsync(clock -> {
+                clock.markDispatched();
+                return CompletableFuture.supplyAsync(() -> "ok", CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS));
+            }, e -> "fallback").join();
+        }
+
+        // Assert
+        assertEquals(CircuitBreaker.State.CLOSED, afterQueuedCalls);
+        assertEquals(CircuitBreaker.State.OPEN, slowAware.getCircuitBreaker().getState());
+    }
+
+    @Test
+    void shouldOnlyApplyFallbackWhenDisabled() {
+        // Arrange
+        FraudAnalysisResilience disabled = new FraudAnalysisResilience(meterRegistry, false, 10, 1, 1,
+                Duration.ofSeconds(2), 100, Duration.ofMinutes(1), 1, 1, Duration.ZERO);
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            disabled.call(this::failingCall, e -> "fallback");
+        }
+
+        // Assert
+        assertEquals(5, calls.get());
+        assertEquals(CircuitBreaker.State.CLOSED, disabled.getCircuitBreaker().getState());
+    }
+
+    private String failingCall() {
+        calls.incrementAndGet();
+        throw new IllegalStateException("API indisponível");
+    }
+}
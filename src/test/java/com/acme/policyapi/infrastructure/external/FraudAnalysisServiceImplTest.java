@@ -4,22 +4,29 @@ import com.acme.policyapi.application.dto.FraudAnalysisResponseDTO;
 import com.acme.policyapi.application.dto.OccurrenceDTO;
 import com.acme.policyapi.domain.entity.*;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
-import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -33,6 +40,15 @@ class FraudAnalysisServiceImplTest {
     @Mock
     private RestTemplate restTemplate;
 
+    @Mock
+    private ObjectProvider<FraudAnalysisHttpClient> asyncClient;
+
+    @Mock
+    private ObjectProvider<FraudAnalysisBatcher> batcher;
+
+    @Mock
+    private FraudAnalysisHttpClient httpClient;
+
     private FraudAnalysisServiceImpl fraudAnalysisService;
     private ObjectMapper objectMapper;
     private PolicyRequest policyRequest;
@@ -40,7 +56,7 @@ class FraudAnalysisServiceImplTest {
     @BeforeEach
     void setUp() {
         objectMapper = new ObjectMapper();
-        fraudAnalysisService = new FraudAnalysisServiceImpl(restTemplate, objectMapper);
+        fraudAnalysisService = new FraudAnalysisServiceImpl(restTemplate, objectMapper, asyncClient, batcher, resilience(false), hedger());
         
         // Configure mock mode by default
         ReflectionTestUtils.setField(fraudAnalysisService, "mockEnabled", true);
@@ -134,6 +150,78 @@ class FraudAnalysisServiceImplTest {
         assertTrue(response.getOccurrences().isEmpty());
     }
 
+    @Test
+    void testAnalyzeFraudAsyncUsesNonBlockingClient() {
+        // Arrange
+        ReflectionTestUtils.setField(fraudAnalysisService, "mockEnabled", false);
+        FraudAnalysisResponseDTO apiResponse = new FraudAnalysisResponseDTO();
+        apiResponse.setOrderId(policyRequest.getId());
+        apiResponse.setClassification(CustomerRiskClassification.PREFERENTIAL);
+        when(asyncClient.getIfAvailable()).thenReturn(httpClient);
+        when(asyncClient.getObject()).thenReturn(httpClient);
+        when(httpClient.analyze(eq(policyRequest.getId()), eq(policyRequest.getCustomerId()), any()))
+            .thenReturn(CompletableFuture.completedFuture(apiResponse));
+
+        // Act
+        FraudAnalysisResponseDTO response = fraudAnalysisService.analyzeFraudAsync(policyRequest).join();
+
+        // Assert
+        assertSame(apiResponse, response);
+        verify(restTemplate, never()).getForObject(any(String.class), eq(FraudAnalysisResponseDTO.class));
+    }
+
+    @Test
+    void testAnalyzeFraudAsyncFallsBackWhenClientFails() {
+        // Arrange
+        ReflectionTestUtils.setField(fraudAnalysisService, "mockEnabled", false);
+        when(asyncClient.getIfAvailable()).thenReturn(httpClient);
+        when(asyncClient.getObject()).thenReturn(httpClient);
+        when(httpClient.analyze(eq(policyRequest.getId()), eq(policyRequest.getCustomerId()), any()))
+            .thenReturn(CompletableFuture.failedFuture(new TimeoutException("prazo esgotado")));
+
+        // Act
+        FraudAnalysisResponseDTO response = fraudAnalysisService.analyzeFraudAsync(policyRequest).join();
+
+        // Assert - should return fallback response
+        assertEquals(policyRequest.getId(), response.getOrderId());
+        assertEquals(CustomerRiskClassification.NO_INFORMATION, response.getClassification());
+    }
+
+    @Test
+    void testAnalyzeFraudAsyncWithoutClientUsesRestTemplate() {
+        // Arrange
+        ReflectionTestUtils.setField(fraudAnalysisService, "mockEnabled", false);
+        FraudAnalysisResponseDTO apiResponse = new FraudAnalysisResponseDTO();
+        apiResponse.setClassification(CustomerRiskClassification.REGULAR);
+        when(restTemplate.getForObject(any(String.class), eq(FraudAnalysisResponseDTO.class))).thenReturn(apiResponse);
+
+        // Act
+        CompletableFuture<FraudAnalysisResponseDTO> response = fraudAnalysisService.analyzeFraudAsync(policyRequest);
+
+        // Assert
+        assertTrue(response.isDone());
+        assertSame(apiResponse, response.join());
+    }
+
+    @Test
+    void testAnalyzeFraudFailsFastWhenCircuitIsOpen() {
+        // Arrange - circuito abre após 2 falhas em 2 chamadas
+        fraudAnalysisService = new FraudAnalysisServiceImpl(restTemplate, objectMapper, asyncClient, batcher, resilience(true), hedger());
+        ReflectionTestUtils.setField(fraudAnalysisService, "mockEnabled", false);
+        ReflectionTestUtils.setField(fraudAnalysisService, "fraudAnalysisApiUrl", "http://localhost:9999/fraud-analysis");
+        when(restTemplate.getForObject(any(String.class), eq(FraudAnalysisResponseDTO.class)))
+            .thenThrow(new RestClientException("API call failed"));
+
+        // Act
+        fraudAnalysisService.analyzeFraud(policyRequest);
+        fraudAnalysisService.analyzeFraud(policyRequest);
+        FraudAnalysisResponseDTO response = fraudAnalysisService.analyzeFraud(policyRequest);
+
+        // Assert - a terceira chamada não chega à API
+        assertEquals(CustomerRiskClassification.NO_INFORMATION, response.getClassification());
+        verify(restTemplate, times(2)).getForObject(any(String.class), eq(FraudAnalysisResponseDTO.class));
+    }
+
     @Test
     void testAnalyzeFraudWithUUIDParameters() {
         // Arrange
@@ -195,6 +283,15 @@ class FraudAnalysisServiceImplTest {
         assertTrue(response.getClassification() instanceof CustomerRiskClassification);
     }
 
+    private static FraudAnalysisHedger hedger() {
+        return new FraudAnalysisHedger(new SimpleMeterRegistry(), false, 0.95, Duration.ofMillis(20), 100, 10, 5, 10);
+    }
+
+    private static FraudAnalysisResilience resilience(boolean enabled) {
+        return new FraudAnalysisResilience(new SimpleMeterRegistry(), enabled, 10, 2, 50,
+                Duration.ofSeconds(2), 100, Duration.ofMinutes(1), 1, 4, Duration.ZERO);
+    }
+
     private PolicyRequest createPolicyRequest() {
         PolicyRequest request = new PolicyRequest();
         request.setId(UUID.randomUUID());
@@ -203,8 +300,8 @@ class FraudAnalysisServiceImplTest {
         request.setCategory(InsuranceCategory.AUTO);
         request.setSalesChannel(SalesChannel.MOBILE);
         request.setPaymentMethod(PaymentMethod.CREDIT_CARD);
-        request.setTotalMonthlyPremiumAmount(new BigDecimal("150.00"));
-        request.setInsuredAmount(new BigDecimal("250000.00"));
+        request.setTotalMonthlyPremiumAmount(Money.parse("150.00"));
+        request.setInsuredAmount(Money.parse("250000.00"));
         return request;
     }
 }
\ No newline at end of file
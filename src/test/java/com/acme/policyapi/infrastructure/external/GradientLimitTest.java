@@ -0,0 +1,89 @@
+package com.acme.policyapi.infrastructure.external;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GradientLimitTest {
+
+    private static final long RTT = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final GradientLimit limit = new GradientLimit(20, 4, 200, 0.2, 1.5, 100);
+
+    @Test
+    void shouldGrowWhileLatencyIsStableAndDemandIsHigh() {
+        // Act
+        for (int i = 0; i < 50; i++) {
+            limit.update(RTT, limit.getLimit(), false);
+        }
+
+        // Assert
+        assertTrue(limit.getLimit() > 20);
+        assertEquals(RTT, limit.getLongRttNanos(), 1);
+    }
+
+    @Test
+    void shouldNotGrowWithoutDemand() {
+        // Act
+        for (int i = 0; i < 50; i++) {
+            limit.update(RTT, 5, false);
+        }
+
+        // Assert
+        assertEquals(20, limit.getLimit());
+    }
+
+    @Test
+    void shouldShrinkWhenLatencyRises() {
+        // Arrange
+        for (int i = 0; i < 20; i++) {
+            limit.update(RTT, limit.getLimit(), false);
+        }
+        int before = limit.getLimit();
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            limit.update(RTT * 10, limit.getLimit(), false);
+        }
+
+        // Assert
+        assertTrue(limit.getLimit() < before);
+        assertEquals(RTT * 10, limit.getLastRttNanos(), 1);
+    }
+
+    @Test
+    void shouldBackOffOnDropDownToMinimum() {
+        // Act
+        int afterOneDrop = limit.update(RTT, 20, true);
+        for (int i = 0; i < 100; i++) {
+            limit.update(RTT, 20, true);
+        }
+
+        // Assert
+        assertEquals(18, afterOneDrop);
+        assertEquals(4, limit.getLimit());
+        assertEquals(0, limit.getLongRttNanos());
+    }
+
+    @Test
+    void shouldNotExceedMaximum() {
+        // Arrange
+        GradientLimit small = new GradientLimit(8, 1, 10, 1.0, 1.5, 10);
+
+        // Act
+        for (int i = 0; i < 50; i++) {
+            small.update(RTT, small.getLimit(), false);
+        }
+
+        // Assert
+        assertEquals(10, small.getLimit());
+    }
+
+    @Test
+    void shouldRejectInvalidBounds() {
+        assertThrows(IllegalArgumentException.class, () -> new GradientLimit(2, 4, 200, 0.2, 1.5, 100));
+        assertThrows(IllegalArgumentException.class, () -> new GradientLimit(20, 0, 200, 0.2, 1.5, 100));
+    }
+}
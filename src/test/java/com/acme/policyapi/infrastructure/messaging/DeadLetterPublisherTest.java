@@ -0,0 +1,71 @@
+package com.acme.policyapi.infrastructure.messaging;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.SendResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DeadLetterPublisherTest {
+
+    @Mock
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    private DeadLetterPublisher deadLetterPublisher;
+
+    @BeforeEach
+    void setUp() {
+        deadLetterPublisher = new DeadLetterPublisher(kafkaTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testPublishSendsToDltTopicWithOriginalKeyAndFailureHeaders() {
+        // Arrange
+        ConsumerRecord<String, String> record = new ConsumerRecord<>("payments.events", 2, 42L, "key", "{poison");
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        // Act
+        deadLetterPublisher.publish(record, new IllegalStateException("transição inválida"));
+
+        // Assert
+        ArgumentCaptor<ProducerRecord<String, String>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate).send(captor.capture());
+        ProducerRecord<String, String> sent = captor.getValue();
+        assertEquals("payments.events" + DeadLetterReplayer.DLT_SUFFIX, sent.topic());
+        assertNull(sent.partition());
+        assertEquals("key", sent.key());
+        assertEquals("{poison", sent.value());
+        assertEquals("payments.events", new String(
+                sent.headers().lastHeader(KafkaHeaders.DLT_ORIGINAL_TOPIC).value(), StandardCharsets.UTF_8));
+        assertNotNull(sent.headers().lastHeader(KafkaHeaders.DLT_EXCEPTION_MESSAGE));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testPublishFailsWhenDltSendFails() {
+        // Arrange
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker indisponível")));
+
+        // Act & Assert
+        assertThrows(KafkaException.class, () -> deadLetterPublisher.publish(
+                new ConsumerRecord<>("payments.events", 0, 0L, "key", "{}"), new RuntimeException("falha")));
+    }
+}
@@ -0,0 +1,211 @@
+package com.acme.policyapi.infrastructure.messaging;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.SendResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DeadLetterReplayerTest {
+
+    private static final String TOPIC = "payments.events";
+    private static final String DLT = "payments.events-dlt";
+
+    @Mock
+    private ConsumerFactory<String, String> consumerFactory;
+
+    @Mock
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    @Mock
+    private Consumer<String, String> consumer;
+
+    private DeadLetterReplayer replayer;
+
+    @BeforeEach
+    void setUp() {
+        replayer = new DeadLetterReplayer(consumerFactory, kafkaTemplate, TOPIC, "underwriting.events");
+    }
+
+    private void stubConsumer(int partitions) {
+        when(consumerFactory.createConsumer(anyString(), isNull(), eq("-replay"), any(Properties.class))).thenReturn(consumer);
+        List<PartitionInfo> infos = new java.util.ArrayList<>();
+        for (int i = 0; i < partitions; i++) {
+            infos.add(new PartitionInfo(DLT, i, null, null, null));
+        }
+        when(consumer.partitionsFor(DLT)).thenReturn(infos);
+    }
+
+    private ConsumerRecord<String, String> dltRecord(int partition, long offset) {
+        ConsumerRecord<String, String> record = new ConsumerRecord<>(DLT, partition, offset, "key-" + offset, "value-" + offset);
+        record.headers().add(KafkaHeaders.DLT_ORIGINAL_TOPIC, "payments.events-retry-2".getBytes(StandardCharsets.UTF_8));
+        record.headers().add(KafkaHeaders.DLT_EXCEPTION_MESSAGE, "boom".getBytes(StandardCharsets.UTF_8));
+        record.headers().add("retry_topic-attempts", new byte[] {4});
+        record.headers().add("traceparent", "00-abc".getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+
+    private ConsumerRecords<String, String> records(ConsumerRecord<String, String>... records) {
+        return new ConsumerRecords<>(Map.of(new TopicPartition(DLT, records[0].partition()), List.of(records)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testReplaySendsToOriginalTopicWithoutFailureHeadersAndCommits() {
+        // Arrange
+        stubConsumer(1);
+        when(consumer.poll(any(Duration.class)))
+                .thenReturn(records(dltRecord(0, 5), dltRecord(0, 6)))
+                .thenReturn(ConsumerRecords.empty());
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        // Act
+        DeadLetterReplayer.ReplayResult result = replayer.replay(TOPIC, 10);
+
+        // Assert
+        assertEquals(2, result.getRead());
+        assertEquals(2, result.getReplayed());
+        assertEquals(0, result.getFailed());
+
+        verify(consumer).assign(List.of(new TopicPartition(DLT, 0)));
+        ArgumentCaptor<ProducerRecord<String, String>> sent = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate, times(2)).send(sent.capture());
+        ProducerRecord<String, String> first = sent.getAllValues().get(0);
+        assertEquals(TOPIC, first.topic());
+        assertEquals("key-5", first.key());
+        assertEquals("value-5", first.value());
+        assertNull(first.headers().lastHeader(KafkaHeaders.DLT_EXCEPTION_MESSAGE));
+        assertNull(first.headers().lastHeader("retry_topic-attempts"));
+        assertNotNull(first.headers().lastHeader("traceparent"));
+
+        verify(consumer).commitSync(Map.of(new TopicPartition(DLT, 0), new OffsetAndMetadata(7)));
+        verify(consumer).close();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testReplayCommitsOnlyUpToFirstFailedRecord() {
+        // Arrange
+        stubConsumer(1);
+        when(consumer.poll(any(Duration.class)))
+                .thenReturn(records(dltRecord(0, 0), dltRecord(0, 1), dltRecord(0, 2)))
+                .thenReturn(ConsumerRecords.empty());
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("timeout")))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        // Act
+        DeadLetterReplayer.ReplayResult result = replayer.replay(TOPIC, 10);
+
+        // Assert
+        assertEquals(3, result.getRead());
+        assertEquals(2, result.getReplayed());
+        assertEquals(1, result.getFailed());
+        // O registro 2 já foi reenviado: fica nos metadados para não ser reenviado de novo
+        verify(consumer).commitSync(Map.of(new TopicPartition(DLT, 0), new OffsetAndMetadata(1, "2")));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testReplayResumesSkippingRecordsAlreadyReplayed() {
+        // Arrange - a chamada anterior falhou no offset 1 e reenviou 2 e 3
+        stubConsumer(1);
+        TopicPartition partition = new TopicPartition(DLT, 0);
+        when(consumer.committed(Set.of(partition))).thenReturn(Map.of(partition, new OffsetAndMetadata(1, "2-3")));
+        when(consumer.poll(any(Duration.class)))
+                .thenReturn(records(dltRecord(0, 1), dltRecord(0, 2), dltRecord(0, 3), dltRecord(0, 4)))
+                .thenReturn(ConsumerRecords.empty());
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        // Act
+        DeadLetterReplayer.ReplayResult result = replayer.replay(TOPIC, 10);
+
+        // Assert
+        assertEquals(2, result.getReplayed());
+        ArgumentCaptor<ProducerRecord<String, String>> sent = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate, times(2)).send(sent.capture());
+        assertEquals(List.of("key-1", "key-4"), sent.getAllValues().stream().map(ProducerRecord::key).toList());
+        verify(consumer).commitSync(Map.of(partition, new OffsetAndMetadata(5)));
+    }
+
+    @Test
+    void testReplayedOffsetsAreEncodedAsRanges() {
+        // Arrange
+        TreeSet<Long> offsets = new TreeSet<>(List.of(3L, 4L, 5L, 8L, 10L, 11L));
+
+        // Act
+        String encoded = DeadLetterReplayer.encodeOffsets(new TopicPartition(DLT, 0), offsets);
+
+        // Assert
+        assertEquals("3-5,8,10-11", encoded);
+        assertEquals(offsets, DeadLetterReplayer.decodeOffsets(encoded));
+        assertEquals("", DeadLetterReplayer.encodeOffsets(new TopicPartition(DLT, 0), new TreeSet<>()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testReplayStopsAtLimit() {
+        // Arrange
+        stubConsumer(1);
+        when(consumer.poll(any(Duration.class))).thenReturn(records(dltRecord(0, 0), dltRecord(0, 1), dltRecord(0, 2)));
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        // Act
+        DeadLetterReplayer.ReplayResult result = replayer.replay(TOPIC, 2);
+
+        // Assert
+        assertEquals(2, result.getReplayed());
+        verify(consumer, times(1)).poll(any(Duration.class));
+        verify(consumer).commitSync(Map.of(new TopicPartition(DLT, 0), new OffsetAndMetadata(2)));
+    }
+
+    @Test
+    void testReplayWithoutDeadLetterTopicDoesNothing() {
+        // Arrange
+        stubConsumer(0);
+
+        // Act
+        DeadLetterReplayer.ReplayResult result = replayer.replay(TOPIC, 10);
+
+        // Assert
+        assertEquals(0, result.getRead());
+        verify(consumer, never()).poll(any(Duration.class));
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    @Test
+    void testReplayRejectsUnknownTopic() {
+        assertThrows(IllegalArgumentException.class, () -> replayer.replay("policy-requests.events", 10));
+        verifyNoInteractions(consumerFactory);
+    }
+}
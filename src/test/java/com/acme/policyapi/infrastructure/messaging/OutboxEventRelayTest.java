@@ -0,0 +1,136 @@
+package com.acme.policyapi.infrastructure.messaging;
+
+import com.acme.policyapi.infrastructure.persistence.jpa.OutboxEventJpaEntity;
+import com.acme.policyapi.infrastructure.persistence.jpa.OutboxEventJpaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para OutboxEventRelay.
+ */
+@ExtendWith(MockitoExtension.class)
+class OutboxEventRelayTest {
+
+    @Mock
+    private OutboxEventJpaRepository outboxRepository;
+
+    @Mock
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private MeterRegistry meterRegistry;
+    private OutboxEventRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new OutboxEventRelay(outboxRepository, kafkaTemplate, transactionTemplate, meterRegistry);
+        ReflectionTestUtils.setField(relay, "batchSize", 2);
+        ReflectionTestUtils.setField(relay, "sendTimeoutMs", 1000L);
+    }
+
+    private OutboxEventJpaEntity entry(long id) {
+        return OutboxEventJpaEntity.builder()
+                .id(id)
+                .aggregateId(UUID.randomUUID())
+                .eventType("POLICY_REQUEST_CREATED")
+                .topic("policy-requests.events")
+                .eventKey("key-" + id)
+                .payload("{\"id\":" + id + "}")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    void testRelayBatchDeletesOnlyConfirmedEvents() {
+        // Arrange
+        when(outboxRepository.claimBatch(2)).thenReturn(List.of(entry(1L), entry(2L)));
+        when(kafkaTemplate.send("policy-requests.events", "key-1", "{\"id\":1}"))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+        when(kafkaTemplate.send("policy-requests.events", "key-2", "{\"id\":2}"))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("broker unavailable")));
+
+        // Act
+        int published = relay.relayBatch();
+
+        // Assert
+        assertEquals(1, published);
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(1L));
+        assertEquals(1.0, meterRegistry.counter("policy.outbox.events.published").count());
+        assertEquals(1.0, meterRegistry.counter("policy.outbox.events.failed").count());
+    }
+
+    @Test
+    void testRelayBatchEmpty() {
+        // Arrange
+        when(outboxRepository.claimBatch(2)).thenReturn(List.of());
+
+        // Act
+        int published = relay.relayBatch();
+
+        // Assert
+        assertEquals(0, published);
+        verifyNoInteractions(kafkaTemplate);
+        verify(outboxRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRelayDrainsWhileBatchesPublishAndUpdatesLag() {
+        // Arrange
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Integer>) invocation.getArgument(0)).doInTransaction(null));
+        when(outboxRepository.claimBatch(anyInt()))
+                .thenReturn(List.of(entry(1L), entry(2L)))
+                .thenReturn(List.of(entry(3L)))
+                .thenReturn(List.of());
+        when(kafkaTemplate.send(any(String.class), any(String.class), any(String.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+        when(outboxRepository.findOldestCreatedAt()).thenReturn(LocalDateTime.now().minusSeconds(5));
+
+        // Act
+        relay.relay();
+
+        // Assert
+        verify(outboxRepository, times(3)).claimBatch(2);
+        assertEquals(3.0, meterRegistry.counter("policy.outbox.events.published").count());
+        assertTrue(relay.getLagMillis() >= 5000);
+        assertEquals(3, meterRegistry.timer("policy.outbox.relay.batch").count());
+    }
+
+    @Test
+    void testLagIsZeroWhenOutboxIsEmpty() {
+        // Arrange
+        when(transactionTemplate.execute(any())).thenReturn(0);
+        when(outboxRepository.findOldestCreatedAt()).thenReturn(null);
+
+        // Act
+        relay.relay();
+
+        // Assert
+        assertEquals(0, relay.getLagMillis());
+        assertEquals(0.0, meterRegistry.get("policy.outbox.lag").gauge().value());
+    }
+}
@@ -0,0 +1,133 @@
+package com.acme.policyapi.infrastructure.messaging;
+
+import com.acme.policyapi.application.dto.PolicyRequestResponseDTO;
+import com.acme.policyapi.domain.entity.PolicyRequestStatus;
+import com.acme.policyapi.infrastructure.cache.PolicyRequestResponseCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PolicyCacheInvalidationConsumerTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private SimpleMeterRegistry meterRegistry;
+    private PolicyRequestResponseCache cache;
+    private PolicyCacheInvalidationConsumer consumer;
+    private AtomicInteger loads;
+    private UUID id;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new PolicyRequestResponseCache(meterRegistry, true, 100, Duration.ofMinutes(1));
+        consumer = new PolicyCacheInvalidationConsumer(cache, objectMapper, meterRegistry,
+                Duration.ofSeconds(5), Clock.fixed(NOW, ZoneId.systemDefault()));
+        loads = new AtomicInteger();
+        id = UUID.randomUUID();
+    }
+
+    private PolicyRequestResponseDTO load(UUID key) {
+        loads.incrementAndGet();
+        return new PolicyRequestResponseDTO();
+    }
+
+    private ConsumerRecord<String, String> record(UUID policyRequestId, Duration age) throws Exception {
+        PolicyEvent event = new PolicyEvent(policyRequestId, UUID.randomUUID(), "PROD",
+                PolicyRequestStatus.APPROVED, "POLICY_REQUEST_APPROVED");
+        event.setTimestamp(LocalDateTime.ofInstant(NOW.minus(age), ZoneId.systemDefault()));
+        return new ConsumerRecord<>("policy-requests.events", 0, 0L, policyRequestId.toString(),
+                objectMapper.writeValueAsString(event));
+    }
+
+    private void assign() {
+        consumer.onPartitionsAssigned(Map.of(new TopicPartition("policy-requests.events", 0), 0L), null);
+    }
+
+    @Test
+    void testCacheSuspendedUntilPartitionsAssigned() {
+        assertTrue(cache.isSuspended());
+        cache.get(id, this::load);
+        cache.get(id, this::load);
+        assertEquals(2, loads.get());
+
+        assign();
+        cache.get(id, this::load);
+        cache.get(id, this::load);
+
+        assertFalse(cache.isSuspended());
+        assertEquals(3, loads.get());
+        assertEquals(0.0, meterRegistry.get("policy.cache.invalidation.suspended").gauge().value());
+    }
+
+    @Test
+    void testEventEvictsEntryAndRecordsLag() throws Exception {
+        assign();
+        cache.get(id, this::load);
+
+        consumer.handlePolicyEvent(record(id, Duration.ofMillis(800)));
+        cache.get(id, this::load);
+
+        assertEquals(2, loads.get());
+        assertEquals(1, meterRegistry.get("policy.cache.invalidation.lag").timer().count());
+        assertEquals(800.0, meterRegistry.get("policy.cache.invalidation.lag").timer().max(TimeUnit.MILLISECONDS));
+        assertFalse(cache.isSuspended());
+    }
+
+    @Test
+    void testLagAboveBoundSuspendsCacheUntilCaughtUp() throws Exception {
+        assign();
+
+        consumer.handlePolicyEvent(record(UUID.randomUUID(), Duration.ofSeconds(30)));
+        assertTrue(cache.isSuspended());
+        assertEquals(1.0, meterRegistry.get("policy.cache.invalidation.suspended").gauge().value());
+
+        consumer.handlePolicyEvent(record(UUID.randomUUID(), Duration.ofMillis(100)));
+        assertFalse(cache.isSuspended());
+    }
+
+    @Test
+    void testRevokeSuspendsAndReassignClearsCache() {
+        assign();
+        cache.get(id, this::load);
+
+        consumer.onPartitionsRevoked(List.of(new TopicPartition("policy-requests.events", 0)));
+        assertTrue(cache.isSuspended());
+
+        assign();
+        cache.get(id, this::load);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testUnreadableEventIsCountedAndSkipped() {
+        assign();
+
+        consumer.handlePolicyEvent(new ConsumerRecord<>("policy-requests.events", 0, 5L, "key", "{not json"));
+
+        assertEquals(1.0, meterRegistry.get("policy.cache.invalidation.failed").counter().count());
+        assertFalse(cache.isSuspended());
+    }
+}
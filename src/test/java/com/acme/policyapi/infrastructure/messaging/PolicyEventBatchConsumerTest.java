@@ -0,0 +1,176 @@
+package com.acme.policyapi.infrastructure.messaging;
+
+import com.acme.policyapi.application.dto.PolicyStatusUpdateDTO;
+import com.acme.policyapi.application.service.PolicyRequestService;
+import com.acme.policyapi.application.usecase.ApprovePolicyRequestUseCase;
+import com.acme.policyapi.domain.entity.ConfirmationType;
+import com.acme.policyapi.domain.entity.PolicyRequestStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PolicyEventBatchConsumerTest {
+
+    @Mock
+    private PolicyRequestService policyRequestService;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    @Mock
+    private ProcessedEventStore processedEventStore;
+
+    @Mock
+    private DeadLetterPublisher deadLetterPublisher;
+
+    private PolicyEventBatchConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        consumer = new PolicyEventBatchConsumer(policyRequestService, new ObjectMapper(), processedEventStore, deadLetterPublisher);
+    }
+
+    private ConsumerRecord<String, String> record(long offset, String value) {
+        return new ConsumerRecord<>("events", 0, offset, "key-" + offset, value);
+    }
+
+    private String event(UUID policyRequestId, String eventType) {
+        return "{\"policyRequestId\":\"" + policyRequestId + "\",\"eventType\":\"" + eventType + "\",\"reason\":\"motivo\"}";
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testPaymentBatchAppliesConfirmationsAndRejectionsOnceAndAcksOnce() {
+        UUID confirmed = UUID.randomUUID();
+        UUID rejected = UUID.randomUUID();
+
+        consumer.handlePaymentEvents(List.of(
+                record(0, event(confirmed, "PAYMENT_CONFIRMED")),
+                record(1, "{poison"),
+                record(2, event(rejected, "PAYMENT_REJECTED")),
+                record(3, event(UUID.randomUUID(), "UNKNOWN"))), acknowledgment);
+
+        ArgumentCaptor<List<PolicyStatusUpdateDTO>> captor = ArgumentCaptor.forClass(List.class);
+        verify(policyRequestService, times(1)).applyStatusUpdates(captor.capture(), any(Runnable.class));
+        assertEquals(2, captor.getValue().size());
+        assertEquals(confirmed, captor.getValue().get(0).getPolicyRequestId());
+        assertEquals(ConfirmationType.PAYMENT, captor.getValue().get(0).getConfirmation());
+        assertEquals(rejected, captor.getValue().get(1).getPolicyRequestId());
+        assertEquals(PolicyRequestStatus.REJECTED, captor.getValue().get(1).getStatus());
+        assertNull(captor.getValue().get(1).getConfirmation());
+        assertEquals("Pagamento rejeitado: motivo", captor.getValue().get(1).getReason());
+        verify(acknowledgment, times(1)).acknowledge();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testUnderwritingBatchMapsApprovalsAndRejections() {
+        UUID approved = UUID.randomUUID();
+        UUID rejected = UUID.randomUUID();
+
+        consumer.handleUnderwritingEvents(List.of(
+                record(0, event(approved, "UNDERWRITING_APPROVED")),
+                record(1, "{\"eventType\":null}"),
+                record(2, event(rejected, "UNDERWRITING_REJECTED"))), acknowledgment);
+
+        ArgumentCaptor<List<PolicyStatusUpdateDTO>> captor = ArgumentCaptor.forClass(List.class);
+        verify(policyRequestService).applyStatusUpdates(captor.capture(), any(Runnable.class));
+        List<PolicyStatusUpdateDTO> updates = captor.getValue();
+        assertEquals(2, updates.size());
+        assertEquals(PolicyRequestStatus.APPROVED, updates.get(0).getStatus());
+        assertEquals(ApprovePolicyRequestUseCase.APPROVAL_REASON, updates.get(0).getReason());
+        assertEquals(ConfirmationType.UNDERWRITING, updates.get(0).getConfirmation());
+        assertEquals(rejected, updates.get(1).getPolicyRequestId());
+        assertEquals("Subscrição rejeitada: motivo", updates.get(1).getReason());
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    void testBatchFailureFallsBackToIndividualUpdates() {
+        UUID approved = UUID.randomUUID();
+        UUID failing = UUID.randomUUID();
+        UUID rejected = UUID.randomUUID();
+        when(policyRequestService.applyStatusUpdates(anyList(), any(Runnable.class))).thenThrow(new RuntimeException("deadlock"));
+        lenient().doThrow(new RuntimeException("Solicitação não encontrada"))
+                .when(policyRequestService).registerConfirmation(eq(failing), eq(ConfirmationType.UNDERWRITING), any(Runnable.class));
+        ConsumerRecord<String, String> failingRecord = record(1, event(failing, "UNDERWRITING_APPROVED"));
+
+        consumer.handleUnderwritingEvents(List.of(
+                record(0, event(approved, "UNDERWRITING_APPROVED")),
+                failingRecord,
+                record(2, event(rejected, "UNDERWRITING_REJECTED"))), acknowledgment);
+
+        verify(policyRequestService).registerConfirmation(eq(approved), eq(ConfirmationType.UNDERWRITING), any(Runnable.class));
+        verify(policyRequestService).registerConfirmation(eq(failing), eq(ConfirmationType.UNDERWRITING), any(Runnable.class));
+        verify(policyRequestService).rejectRequest(eq(rejected), eq("Subscrição rejeitada: motivo"), any(Runnable.class));
+        verify(deadLetterPublisher).publish(eq(failingRecord), any(RuntimeException.class));
+        verifyNoMoreInteractions(deadLetterPublisher);
+        // Só o registro enviado ao DLT é marcado fora da transação de uma alteração
+        verify(processedEventStore).markProcessed(failingRecord);
+        verify(processedEventStore, never()).markProcessed(anyList());
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    void testBatchWithoutTransitionsOnlyAcks() {
+        ConsumerRecord<String, String> poison = record(1, "not json");
+
+        consumer.handlePaymentEvents(List.of(
+                record(0, event(UUID.randomUUID(), "PAYMENT_PENDING")),
+                poison), acknowledgment);
+
+        verifyNoInteractions(policyRequestService);
+        verify(deadLetterPublisher).publish(eq(poison), any(Exception.class));
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    void testDeadLetterFailureLeavesBatchUnacknowledged() {
+        doThrow(new IllegalStateException("broker indisponível")).when(deadLetterPublisher).publish(any(), any());
+
+        assertThrows(IllegalStateException.class,
+                () -> consumer.handlePaymentEvents(List.of(record(0, "not json")), acknowledgment));
+
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRedeliveredRecordsAreDroppedAndAppliedOnesMarked() {
+        UUID redelivered = UUID.randomUUID();
+        UUID fresh = UUID.randomUUID();
+        ConsumerRecord<String, String> duplicate = record(0, event(redelivered, "UNDERWRITING_REJECTED"));
+        ConsumerRecord<String, String> newRecord = record(1, event(fresh, "UNDERWRITING_REJECTED"));
+        ConsumerRecord<String, String> noOp = record(2, event(UUID.randomUUID(), "UNDERWRITING_PENDING"));
+        List<ConsumerRecord<String, String>> records = List.of(duplicate, newRecord, noOp);
+        when(processedEventStore.findProcessed(records)).thenReturn(Set.of(ProcessedEventStore.keyOf(duplicate)));
+        when(policyRequestService.applyStatusUpdates(anyList(), any(Runnable.class))).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return 1;
+        });
+
+        consumer.handleUnderwritingEvents(records, acknowledgment);
+
+        ArgumentCaptor<List<PolicyStatusUpdateDTO>> captor = ArgumentCaptor.forClass(List.class);
+        verify(policyRequestService).applyStatusUpdates(captor.capture(), any(Runnable.class));
+        assertEquals(1, captor.getValue().size());
+        assertEquals(fresh, captor.getValue().get(0).getPolicyRequestId());
+        verify(processedEventStore).markProcessed(List.of(newRecord));
+        verify(acknowledgment).acknowledge();
+    }
+}
@@ -1,16 +1,30 @@
 package com.acme.policyapi.infrastructure.messaging;
 
 import com.acme.policyapi.application.service.PolicyRequestService;
+import com.acme.policyapi.domain.entity.ConfirmationType;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -32,6 +46,12 @@ class PolicyEventConsumerTest {
     @Mock
     private Acknowledgment acknowledgment;
 
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    private ProcessedEventStore processedEventStore;
+
     @InjectMocks
     private PolicyEventConsumer policyEventConsumer;
 
@@ -44,6 +64,10 @@ class PolicyEventConsumerTest {
         testKey = "test-key";
     }
 
+    private ConsumerRecord<String, String> record(String message) {
+        return new ConsumerRecord<>("events", 0, 0L, testKey, message);
+    }
+
     @Test
     void testHandlePaymentEventConfirmed() throws JsonProcessingException {
         // Arrange
@@ -54,12 +78,12 @@ class PolicyEventConsumerTest {
             .thenReturn(paymentEvent);
 
         // Act
-        policyEventConsumer.handlePaymentEvent(message, testKey, acknowledgment);
+        policyEventConsumer.handlePaymentEvent(record(message), acknowledgment);
 
         // Assert
         verify(objectMapper).readValue(message, PolicyEventConsumer.PaymentEvent.class);
+        verify(policyRequestService).registerConfirmation(eq(testPolicyRequestId), eq(ConfirmationType.PAYMENT), any(Runnable.class));
         verify(acknowledgment).acknowledge();
-        verifyNoInteractions(policyRequestService); // Payment confirmed não chama service diretamente
     }
 
     @Test
@@ -73,11 +97,11 @@ class PolicyEventConsumerTest {
             .thenReturn(paymentEvent);
 
         // Act
-        policyEventConsumer.handlePaymentEvent(message, testKey, acknowledgment);
+        policyEventConsumer.handlePaymentEvent(record(message), acknowledgment);
 
         // Assert
         verify(objectMapper).readValue(message, PolicyEventConsumer.PaymentEvent.class);
-        verify(policyRequestService).rejectRequest(testPolicyRequestId, "Pagamento rejeitado: Insufficient funds");
+        verify(policyRequestService).rejectRequest(eq(testPolicyRequestId), eq("Pagamento rejeitado: Insufficient funds"), any(Runnable.class));
         verify(acknowledgment).acknowledge();
     }
 
@@ -91,7 +115,7 @@ class PolicyEventConsumerTest {
             .thenReturn(paymentEvent);
 
         // Act
-        policyEventConsumer.handlePaymentEvent(message, testKey, acknowledgment);
+        policyEventConsumer.handlePaymentEvent(record(message), acknowledgment);
 
         // Assert
         verify(objectMapper).readValue(message, PolicyEventConsumer.PaymentEvent.class);
@@ -106,10 +130,9 @@ class PolicyEventConsumerTest {
         when(objectMapper.readValue(message, PolicyEventConsumer.PaymentEvent.class))
             .thenThrow(new JsonProcessingException("Invalid JSON") {});
 
-        // Act
-        policyEventConsumer.handlePaymentEvent(message, testKey, acknowledgment);
-
-        // Assert
+        // Act & Assert
+        assertThrows(JsonProcessingException.class,
+                () -> policyEventConsumer.handlePaymentEvent(record(message), acknowledgment));
         verify(objectMapper).readValue(message, PolicyEventConsumer.PaymentEvent.class);
         verifyNoInteractions(policyRequestService);
         verifyNoInteractions(acknowledgment); // Não deve fazer acknowledge em caso de erro
@@ -124,14 +147,13 @@ class PolicyEventConsumerTest {
         when(objectMapper.readValue(message, PolicyEventConsumer.PaymentEvent.class))
             .thenReturn(paymentEvent);
         doThrow(new RuntimeException("Service error"))
-            .when(policyRequestService).rejectRequest(any(UUID.class), anyString());
+            .when(policyRequestService).rejectRequest(any(UUID.class), anyString(), any(Runnable.class));
 
-        // Act
-        policyEventConsumer.handlePaymentEvent(message, testKey, acknowledgment);
-
-        // Assert
+        // Act & Assert
+        assertThrows(RuntimeException.class,
+                () -> policyEventConsumer.handlePaymentEvent(record(message), acknowledgment));
         verify(objectMapper).readValue(message, PolicyEventConsumer.PaymentEvent.class);
-        verify(policyRequestService).rejectRequest(any(UUID.class), anyString());
+        verify(policyRequestService).rejectRequest(any(UUID.class), anyString(), any(Runnable.class));
         verifyNoInteractions(acknowledgment); // Não deve fazer acknowledge em caso de erro
     }
 
@@ -145,11 +167,12 @@ class PolicyEventConsumerTest {
             .thenReturn(underwritingEvent);
 
         // Act
-        policyEventConsumer.handleUnderwritingEvent(message, testKey, acknowledgment);
+        policyEventConsumer.handleUnderwritingEvent(record(message), acknowledgment);
 
         // Assert
         verify(objectMapper).readValue(message, PolicyEventConsumer.UnderwritingEvent.class);
-        verify(policyRequestService).approveRequest(testPolicyRequestId);
+        verify(policyRequestService).registerConfirmation(eq(testPolicyRequestId), eq(ConfirmationType.UNDERWRITING), any(Runnable.class));
+        verify(policyRequestService, never()).approveRequest(any(UUID.class));
         verify(acknowledgment).acknowledge();
     }
 
@@ -164,11 +187,11 @@ class PolicyEventConsumerTest {
             .thenReturn(underwritingEvent);
 
         // Act
-        policyEventConsumer.handleUnderwritingEvent(message, testKey, acknowledgment);
+        policyEventConsumer.handleUnderwritingEvent(record(message), acknowledgment);
 
         // Assert
         verify(objectMapper).readValue(message, PolicyEventConsumer.UnderwritingEvent.class);
-        verify(policyRequestService).rejectRequest(testPolicyRequestId, "Subscrição rejeitada: High risk profile");
+        verify(policyRequestService).rejectRequest(eq(testPolicyRequestId), eq("Subscrição rejeitada: High risk profile"), any(Runnable.class));
         verify(acknowledgment).acknowledge();
     }
 
@@ -182,7 +205,7 @@ class PolicyEventConsumerTest {
             .thenReturn(underwritingEvent);
 
         // Act
-        policyEventConsumer.handleUnderwritingEvent(message, testKey, acknowledgment);
+        policyEventConsumer.handleUnderwritingEvent(record(message), acknowledgment);
 
         // Assert
         verify(objectMapper).readValue(message, PolicyEventConsumer.UnderwritingEvent.class);
@@ -197,10 +220,9 @@ class PolicyEventConsumerTest {
         when(objectMapper.readValue(message, PolicyEventConsumer.UnderwritingEvent.class))
             .thenThrow(new JsonProcessingException("Invalid JSON") {});
 
-        // Act
-        policyEventConsumer.handleUnderwritingEvent(message, testKey, acknowledgment);
-
-        // Assert
+        // Act & Assert
+        assertThrows(JsonProcessingException.class,
+                () -> policyEventConsumer.handleUnderwritingEvent(record(message), acknowledgment));
         verify(objectMapper).readValue(message, PolicyEventConsumer.UnderwritingEvent.class);
         verifyNoInteractions(policyRequestService);
         verifyNoInteractions(acknowledgment);
@@ -215,15 +237,99 @@ class PolicyEventConsumerTest {
         when(objectMapper.readValue(message, PolicyEventConsumer.UnderwritingEvent.class))
             .thenReturn(underwritingEvent);
         doThrow(new RuntimeException("Service error"))
-            .when(policyRequestService).approveRequest(any(UUID.class));
+            .when(policyRequestService).registerConfirmation(any(UUID.class), eq(ConfirmationType.UNDERWRITING), any(Runnable.class));
+
+        // Act & Assert
+        assertThrows(RuntimeException.class,
+                () -> policyEventConsumer.handleUnderwritingEvent(record(message), acknowledgment));
+        verify(objectMapper).readValue(message, PolicyEventConsumer.UnderwritingEvent.class);
+        verify(policyRequestService).registerConfirmation(eq(testPolicyRequestId), eq(ConfirmationType.UNDERWRITING), any(Runnable.class));
+        verifyNoInteractions(acknowledgment);
+    }
+
+    @Test
+    void testRedeliveredEventIsAckedWithoutReadingOrApplying() {
+        // Arrange
+        ConsumerRecord<String, String> record = record("{\"eventType\":\"UNDERWRITING_APPROVED\"}");
+        when(processedEventStore.isProcessed(record)).thenReturn(true);
 
         // Act
-        policyEventConsumer.handleUnderwritingEvent(message, testKey, acknowledgment);
+        assertDoesNotThrow(() -> policyEventConsumer.handleUnderwritingEvent(record, acknowledgment));
 
         // Assert
-        verify(objectMapper).readValue(message, PolicyEventConsumer.UnderwritingEvent.class);
-        verify(policyRequestService).approveRequest(testPolicyRequestId);
-        verifyNoInteractions(acknowledgment);
+        verify(acknowledgment).acknowledge();
+        verifyNoInteractions(objectMapper, policyRequestService);
+        verify(processedEventStore, never()).markProcessed(any(ConsumerRecord.class));
+    }
+
+    @Test
+    void testAppliedEventIsMarkedInsideTheUpdateTransaction() throws JsonProcessingException {
+        // Arrange
+        ConsumerRecord<String, String> record = record("{\"eventType\":\"PAYMENT_REJECTED\"}");
+        when(objectMapper.readValue(record.value(), PolicyEventConsumer.PaymentEvent.class))
+            .thenReturn(createPaymentEvent("PAYMENT_REJECTED"));
+        ArgumentCaptor<Runnable> inTransaction = ArgumentCaptor.forClass(Runnable.class);
+
+        // Act
+        policyEventConsumer.handlePaymentEvent(record, acknowledgment);
+
+        // Assert - o registro só é gravado pela transação da rejeição
+        InOrder inOrder = inOrder(policyRequestService, acknowledgment);
+        inOrder.verify(policyRequestService).rejectRequest(eq(testPolicyRequestId), anyString(), inTransaction.capture());
+        inOrder.verify(acknowledgment).acknowledge();
+        verify(processedEventStore, never()).markProcessed(any(ConsumerRecord.class));
+
+        inTransaction.getValue().run();
+        verify(processedEventStore).markProcessed(record);
+    }
+
+    @Test
+    void testEventWithoutChangeIsMarkedDirectly() throws JsonProcessingException {
+        // Arrange
+        ConsumerRecord<String, String> record = record("{\"eventType\":\"UNKNOWN_EVENT\"}");
+        when(objectMapper.readValue(record.value(), PolicyEventConsumer.UnderwritingEvent.class))
+            .thenReturn(createUnderwritingEvent("UNKNOWN_EVENT"));
+
+        // Act
+        policyEventConsumer.handleUnderwritingEvent(record, acknowledgment);
+
+        // Assert
+        verify(processedEventStore).markProcessed(record);
+        verifyNoInteractions(policyRequestService);
+    }
+
+    @Test
+    void testPartitionChangesResetKnownWatermarks() {
+        // Arrange
+        TopicPartition partition = new TopicPartition("payments.events", 0);
+
+        // Act
+        policyEventConsumer.onPartitionsAssigned(Map.of(partition, 0L), null);
+        policyEventConsumer.onPartitionsRevoked(List.of(partition));
+
+        // Assert
+        verify(processedEventStore).resetPartitions(Set.of(partition));
+        verify(processedEventStore).resetPartitions(List.of(partition));
+    }
+
+    @Test
+    void testHandleDeadLetterCountsByOriginalTopicAndAcks() {
+        // Arrange
+        ConsumerRecord<String, String> record = new ConsumerRecord<>("payments.events-dlt", 0, 7L, testKey, "invalid-json");
+        record.headers().add(KafkaHeaders.DLT_ORIGINAL_TOPIC, "payments.events".getBytes(StandardCharsets.UTF_8));
+        record.headers().add(KafkaHeaders.DLT_ORIGINAL_OFFSET, ByteBuffer.allocate(Long.BYTES).putLong(42L).array());
+        record.headers().add(KafkaHeaders.DLT_EXCEPTION_MESSAGE, "Invalid JSON".getBytes(StandardCharsets.UTF_8));
+
+        // Act
+        policyEventConsumer.handleDeadLetter(record, acknowledgment);
+
+        // Assert
+        verify(acknowledgment).acknowledge();
+        verifyNoInteractions(policyRequestService);
+        assertEquals(1.0, meterRegistry.get("policy.consumer.dead-letters").tag("topic", "payments.events").counter().count());
+        assertEquals("42", PolicyEventConsumer.headerValue(record, KafkaHeaders.DLT_ORIGINAL_OFFSET));
+        assertEquals("Invalid JSON", PolicyEventConsumer.headerValue(record, KafkaHeaders.DLT_EXCEPTION_MESSAGE));
+        assertNull(PolicyEventConsumer.headerValue(record, KafkaHeaders.DLT_ORIGINAL_PARTITION));
     }
 
     @Test
@@ -318,15 +424,15 @@ class PolicyEventConsumerTest {
             reset(acknowledgment, policyRequestService);
 
             // Act
-            policyEventConsumer.handlePaymentEvent(message, testKey, acknowledgment);
+            policyEventConsumer.handlePaymentEvent(record(message), acknowledgment);
 
             // Assert baseado no tipo
             if ("PAYMENT_CONFIRMED".equals(eventType)) {
                 verify(acknowledgment).acknowledge();
-                verifyNoInteractions(policyRequestService);
+                verify(policyRequestService).registerConfirmation(eq(testPolicyRequestId), eq(ConfirmationType.PAYMENT), any(Runnable.class));
             } else if ("PAYMENT_REJECTED".equals(eventType)) {
                 verify(acknowledgment).acknowledge();
-                verify(policyRequestService).rejectRequest(eq(testPolicyRequestId), anyString());
+                verify(policyRequestService).rejectRequest(eq(testPolicyRequestId), anyString(), any(Runnable.class));
             } else {
                 // Tipos desconhecidos
                 verify(acknowledgment).acknowledge();
@@ -351,15 +457,15 @@ class PolicyEventConsumerTest {
             reset(acknowledgment, policyRequestService);
 
             // Act
-            policyEventConsumer.handleUnderwritingEvent(message, testKey, acknowledgment);
+            policyEventConsumer.handleUnderwritingEvent(record(message), acknowledgment);
 
             // Assert baseado no tipo
             if ("UNDERWRITING_APPROVED".equals(eventType)) {
                 verify(acknowledgment).acknowledge();
-                verify(policyRequestService).approveRequest(testPolicyRequestId);
+                verify(policyRequestService).registerConfirmation(eq(testPolicyRequestId), eq(ConfirmationType.UNDERWRITING), any(Runnable.class));
             } else if ("UNDERWRITING_REJECTED".equals(eventType)) {
                 verify(acknowledgment).acknowledge();
-                verify(policyRequestService).rejectRequest(eq(testPolicyRequestId), anyString());
+                verify(policyRequestService).rejectRequest(eq(testPolicyRequestId), anyString(), any(Runnable.class));
             } else {
                 // Tipos desconhecidos
                 verify(acknowledgment).acknowledge();
@@ -379,10 +485,10 @@ class PolicyEventConsumerTest {
             .thenReturn(paymentEvent);
 
         // Act
-        policyEventConsumer.handlePaymentEvent(message, testKey, acknowledgment);
+        policyEventConsumer.handlePaymentEvent(record(message), acknowledgment);
 
         // Assert
-        verify(policyRequestService).rejectRequest(testPolicyRequestId, "Pagamento rejeitado: null");
+        verify(policyRequestService).rejectRequest(eq(testPolicyRequestId), eq("Pagamento rejeitado: null"), any(Runnable.class));
         verify(acknowledgment).acknowledge();
     }
 
@@ -397,10 +503,10 @@ class PolicyEventConsumerTest {
             .thenReturn(underwritingEvent);
 
         // Act
-        policyEventConsumer.handleUnderwritingEvent(message, testKey, acknowledgment);
+        policyEventConsumer.handleUnderwritingEvent(record(message), acknowledgment);
 
         // Assert
-        verify(policyRequestService).rejectRequest(testPolicyRequestId, "Subscrição rejeitada: null");
+        verify(policyRequestService).rejectRequest(eq(testPolicyRequestId), eq("Subscrição rejeitada: null"), any(Runnable.class));
         verify(acknowledgment).acknowledge();
     }
 
@@ -0,0 +1,143 @@
+package com.acme.policyapi.infrastructure.messaging;
+
+import com.acme.policyapi.application.service.PolicyRequestService;
+import com.acme.policyapi.domain.entity.ConfirmationType;
+import com.acme.policyapi.infrastructure.config.KeyOrderedExecutor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PolicyEventParallelConsumerTest {
+
+    @Mock
+    private PolicyRequestService policyRequestService;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    @Mock
+    private ProcessedEventStore processedEventStore;
+
+    @Mock
+    private DeadLetterPublisher deadLetterPublisher;
+
+    private KeyOrderedExecutor executor;
+    private PolicyEventParallelConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        executor = new KeyOrderedExecutor("test", 4, new SimpleMeterRegistry());
+        consumer = new PolicyEventParallelConsumer(policyRequestService, new ObjectMapper(), processedEventStore,
+                deadLetterPublisher, executor);
+    }
+
+    private ConsumerRecord<String, String> record(long offset, UUID policyRequestId, String eventType) {
+        return new ConsumerRecord<>("events", 0, offset, "key",
+                "{\"policyRequestId\":\"" + policyRequestId + "\",\"eventType\":\"" + eventType + "\",\"reason\":\"motivo\"}");
+    }
+
+    @Test
+    void testEventsOfSameRequestAppliedInOrderAndAckedAfterCompletion() {
+        UUID id = UUID.randomUUID();
+
+        consumer.handleUnderwritingEvent(record(0, id, "UNDERWRITING_APPROVED"), acknowledgment);
+        consumer.handlePaymentEvent(record(1, id, "PAYMENT_REJECTED"), acknowledgment);
+
+        verify(acknowledgment, timeout(2000).times(2)).acknowledge();
+        InOrder inOrder = inOrder(policyRequestService);
+        inOrder.verify(policyRequestService).registerConfirmation(eq(id), eq(ConfirmationType.UNDERWRITING), any(Runnable.class));
+        inOrder.verify(policyRequestService).rejectRequest(eq(id), eq("Pagamento rejeitado: motivo"), any(Runnable.class));
+    }
+
+    @Test
+    void testSlowRequestDoesNotHoldOthersOnSamePartition() throws Exception {
+        UUID slow = UUID.randomUUID();
+        UUID fast = UUID.randomUUID();
+        CountDownLatch release = new CountDownLatch(1);
+        Acknowledgment slowAck = mock(Acknowledgment.class);
+        doAnswer(invocation -> release.await(5, TimeUnit.SECONDS))
+                .when(policyRequestService).registerConfirmation(eq(slow), eq(ConfirmationType.UNDERWRITING), any(Runnable.class));
+
+        consumer.handleUnderwritingEvent(record(0, slow, "UNDERWRITING_APPROVED"), slowAck);
+        consumer.handleUnderwritingEvent(record(1, fast, "UNDERWRITING_APPROVED"), acknowledgment);
+
+        verify(policyRequestService, timeout(2000)).registerConfirmation(eq(fast), eq(ConfirmationType.UNDERWRITING), any(Runnable.class));
+        verify(acknowledgment, timeout(2000)).acknowledge();
+        verify(slowAck, never()).acknowledge();
+
+        release.countDown();
+        verify(slowAck, timeout(2000)).acknowledge();
+    }
+
+    @Test
+    void testFailedUpdateIsSentToDeadLetterAndAcknowledged() {
+        UUID id = UUID.randomUUID();
+        ConsumerRecord<String, String> failing = record(0, id, "UNDERWRITING_REJECTED");
+        doThrow(new RuntimeException("Solicitação não encontrada")).when(policyRequestService).rejectRequest(eq(id), anyString(), any(Runnable.class));
+
+        consumer.handleUnderwritingEvent(failing, acknowledgment);
+
+        verify(acknowledgment, timeout(2000)).acknowledge();
+        verify(deadLetterPublisher).publish(eq(failing), any(RuntimeException.class));
+    }
+
+    @Test
+    void testFailedDeadLetterSendStillAcknowledges() {
+        UUID id = UUID.randomUUID();
+        doThrow(new RuntimeException("Solicitação não encontrada")).when(policyRequestService).rejectRequest(eq(id), anyString(), any(Runnable.class));
+        doThrow(new IllegalStateException("broker indisponível")).when(deadLetterPublisher).publish(any(), any());
+
+        consumer.handleUnderwritingEvent(record(0, id, "UNDERWRITING_REJECTED"), acknowledgment);
+
+        verify(acknowledgment, timeout(2000)).acknowledge();
+    }
+
+    @Test
+    void testInvalidAndNoOpRecordsAckedImmediately() {
+        ConsumerRecord<String, String> poison = new ConsumerRecord<>("events", 0, 0L, "key", "{poison");
+
+        consumer.handlePaymentEvent(poison, acknowledgment);
+        consumer.handlePaymentEvent(record(1, UUID.randomUUID(), "PAYMENT_PENDING"), acknowledgment);
+
+        verify(deadLetterPublisher).publish(eq(poison), any(Exception.class));
+        verify(acknowledgment, times(2)).acknowledge();
+        verifyNoInteractions(policyRequestService);
+        assertEquals(0, executor.getPendingCount());
+    }
+
+    @Test
+    void testRedeliveredRecordIsSkippedButAcknowledged() {
+        ConsumerRecord<String, String> duplicate = record(0, UUID.randomUUID(), "UNDERWRITING_REJECTED");
+        ConsumerRecord<String, String> fresh = record(1, UUID.randomUUID(), "UNDERWRITING_REJECTED");
+        when(processedEventStore.isProcessed(any())).thenAnswer(invocation -> invocation.getArgument(0) == duplicate);
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(2).run();
+            return null;
+        }).when(policyRequestService).rejectRequest(any(UUID.class), anyString(), any(Runnable.class));
+
+        consumer.handleUnderwritingEvent(duplicate, acknowledgment);
+        consumer.handleUnderwritingEvent(fresh, acknowledgment);
+
+        verify(acknowledgment, timeout(2000).times(2)).acknowledge();
+        verify(policyRequestService, times(1)).rejectRequest(any(UUID.class), anyString(), any(Runnable.class));
+        verify(processedEventStore).markProcessed(fresh);
+        verify(processedEventStore, never()).markProcessed(duplicate);
+    }
+}
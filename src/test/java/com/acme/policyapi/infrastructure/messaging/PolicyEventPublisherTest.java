@@ -3,6 +3,8 @@ package com.acme.policyapi.infrastructure.messaging;
 import com.acme.policyapi.domain.entity.PolicyRequest;
 import com.acme.policyapi.domain.entity.PolicyRequestStatus;
 import com.acme.policyapi.domain.entity.StatusHistory;
+import com.acme.policyapi.infrastructure.persistence.jpa.OutboxEventJpaEntity;
+import com.acme.policyapi.infrastructure.persistence.jpa.OutboxEventJpaRepository;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +16,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -36,6 +40,9 @@ class PolicyEventPublisherTest {
     @Mock
     private ObjectMapper objectMapper;
 
+    @Mock
+    private OutboxEventJpaRepository outboxRepository;
+
     @InjectMocks
     private PolicyEventPublisher policyEventPublisher;
 
@@ -416,4 +423,137 @@ class PolicyEventPublisherTest {
         history.setTimestamp(LocalDateTime.now());
         return history;
     }
-}
\ No newline at end of file
+
+    @Test
+    void testPublishPolicyRequestsCreated() throws JsonProcessingException {
+        // Arrange
+        PolicyRequest other = new PolicyRequest();
+        other.setId(UUID.randomUUID());
+        other.setCustomerId(UUID.randomUUID());
+        other.setProductId("PROD456");
+        other.setStatus(PolicyRequestStatus.RECEIVED);
+        when(objectMapper.writeValueAsString(any(PolicyEvent.class)))
+                .thenThrow(new JsonProcessingException("Serialization error") {})
+                .thenReturn("{}");
+
+        // Act
+        policyEventPublisher.publishPolicyRequestsCreated(List.of(testPolicyRequest, other));
+
+        // Assert - a falha de um item não impede o envio dos demais
+        verify(objectMapper, times(2)).writeValueAsString(any(PolicyEvent.class));
+        verify(kafkaTemplate, never()).send(testTopicName, testPolicyRequest.getId().toString(), "{}");
+        verify(kafkaTemplate).send(testTopicName, other.getId().toString(), "{}");
+    }
+
+    @Test
+    void testPublishInsideTransactionSendsOnlyAfterCommit() throws JsonProcessingException {
+        // Arrange
+        when(objectMapper.writeValueAsString(any(PolicyEvent.class))).thenReturn("{}");
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            policyEventPublisher.publishPolicyRequestApproved(testPolicyRequest);
+            policyEventPublisher.publishPolicyRequestRejected(testPolicyRequest);
+
+            // Assert - nada sai antes do commit; um rollback descarta os envios
+            verifyNoInteractions(kafkaTemplate);
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            assertEquals(2, synchronizations.size());
+            synchronizations.get(0).afterCommit();
+            verify(kafkaTemplate).send(testTopicName, testPolicyRequest.getId().toString(), "{}");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testPublishWithOutboxEnabledWritesOutboxInsteadOfKafka() throws JsonProcessingException {
+        // Arrange
+        ReflectionTestUtils.setField(policyEventPublisher, "outboxEnabled", true);
+        when(objectMapper.writeValueAsString(any(PolicyEvent.class))).thenReturn("{}");
+
+        // Act
+        policyEventPublisher.publishPolicyRequestValidated(testPolicyRequest);
+
+        // Assert
+        ArgumentCaptor<OutboxEventJpaEntity> entryCaptor = ArgumentCaptor.forClass(OutboxEventJpaEntity.class);
+        verify(outboxRepository).save(entryCaptor.capture());
+        OutboxEventJpaEntity entry = entryCaptor.getValue();
+        assertEquals(testPolicyRequest.getId(), entry.getAggregateId());
+        assertEquals("POLICY_REQUEST_VALIDATED", entry.getEventType());
+        assertEquals(testTopicName, entry.getTopic());
+        assertEquals(testPolicyRequest.getId().toString(), entry.getEventKey());
+        assertEquals("{}", entry.getPayload());
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    @Test
+    void testPublishWithOutboxEnabledPropagatesPersistenceFailure() throws JsonProcessingException {
+        // Arrange
+        ReflectionTestUtils.setField(policyEventPublisher, "outboxEnabled", true);
+        when(objectMapper.writeValueAsString(any(PolicyEvent.class))).thenReturn("{}");
+        when(outboxRepository.save(any(OutboxEventJpaEntity.class))).thenThrow(new IllegalStateException("DB down"));
+
+        // Act & Assert - a falha deve desfazer a transação que originou o evento
+        assertThrows(IllegalStateException.class,
+                () -> policyEventPublisher.publishPolicyRequestApproved(testPolicyRequest));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testPublishPolicyRequestsCreatedWithOutboxEnabledSavesInOneBatch() throws JsonProcessingException {
+        // Arrange
+        ReflectionTestUtils.setField(policyEventPublisher, "outboxEnabled", true);
+        when(objectMapper.writeValueAsString(any(PolicyEvent.class))).thenReturn("{}");
+
+        // Act
+        policyEventPublisher.publishPolicyRequestsCreated(List.of(testPolicyRequest, testPolicyRequest));
+
+        // Assert
+        ArgumentCaptor<List<OutboxEventJpaEntity>> entriesCaptor = ArgumentCaptor.forClass(List.class);
+        verify(outboxRepository).saveAll(entriesCaptor.capture());
+        assertEquals(2, entriesCaptor.getValue().size());
+        verify(outboxRepository, never()).save(any());
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    @Test
+    void testPublishPolicyRequestValidatedAndPendingSendsBothEventsInOrder() throws JsonProcessingException {
+        // Arrange
+        testPolicyRequest.setStatus(PolicyRequestStatus.PENDING);
+        when(objectMapper.writeValueAsString(any(PolicyEvent.class))).thenReturn("{}");
+
+        // Act
+        policyEventPublisher.publishPolicyRequestValidatedAndPending(testPolicyRequest);
+
+        // Assert
+        ArgumentCaptor<PolicyEvent> eventCaptor = ArgumentCaptor.forClass(PolicyEvent.class);
+        verify(objectMapper, times(2)).writeValueAsString(eventCaptor.capture());
+        List<PolicyEvent> events = eventCaptor.getAllValues();
+        assertEquals("POLICY_REQUEST_VALIDATED", events.get(0).getEventType());
+        assertEquals(PolicyRequestStatus.VALIDATED, events.get(0).getStatus());
+        assertEquals("POLICY_REQUEST_PENDING", events.get(1).getEventType());
+        assertEquals(PolicyRequestStatus.PENDING, events.get(1).getStatus());
+        verify(kafkaTemplate, times(2)).send(testTopicName, testPolicyRequest.getId().toString(), "{}");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testPublishPolicyRequestValidatedAndPendingWithOutboxSavesInOneBatch() throws JsonProcessingException {
+        // Arrange
+        ReflectionTestUtils.setField(policyEventPublisher, "outboxEnabled", true);
+        testPolicyRequest.setStatus(PolicyRequestStatus.PENDING);
+        when(objectMapper.writeValueAsString(any(PolicyEvent.class))).thenReturn("{}");
+
+        // Act
+        policyEventPublisher.publishPolicyRequestValidatedAndPending(testPolicyRequest);
+
+        // Assert
+        ArgumentCaptor<List<OutboxEventJpaEntity>> entriesCaptor = ArgumentCaptor.forClass(List.class);
+        verify(outboxRepository).saveAll(entriesCaptor.capture());
+        assertEquals(List.of("POLICY_REQUEST_VALIDATED", "POLICY_REQUEST_PENDING"),
+                entriesCaptor.getValue().stream().map(OutboxEventJpaEntity::getEventType).toList());
+        verify(outboxRepository, never()).save(any());
+        verifyNoInteractions(kafkaTemplate);
+    }
+}
@@ -0,0 +1,143 @@
+package com.acme.policyapi.infrastructure.messaging;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProcessedEventStoreTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProcessedEventStore store;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        store = new ProcessedEventStore(jdbcTemplate, meterRegistry, true, 1000, Duration.ofDays(7));
+    }
+
+    private ConsumerRecord<String, String> record(long offset) {
+        return new ConsumerRecord<>("payments.events", 0, offset, "key", "{}");
+    }
+
+    private void givenHighWatermark(long offset) {
+        when(jdbcTemplate.queryForObject(eq(ProcessedEventStore.MAX_OFFSET_SQL), eq(Long.class), any(), any()))
+                .thenReturn(offset);
+    }
+
+    @Test
+    void testRecordsAboveHighWatermarkAreNewWithoutOffsetLookup() {
+        // Arrange
+        givenHighWatermark(9L);
+
+        // Act
+        Set<String> processed = store.findProcessed(List.of(record(10), record(11)));
+        store.findProcessed(List.of(record(12)));
+
+        // Assert
+        assertTrue(processed.isEmpty());
+        verify(jdbcTemplate, times(1)).queryForObject(eq(ProcessedEventStore.MAX_OFFSET_SQL), eq(Long.class), any(), any());
+        verify(jdbcTemplate, never()).queryForList(anyString(), eq(Long.class), any(Object[].class));
+    }
+
+    @Test
+    void testRecordsWithinHighWatermarkAreResolvedInOneQueryPerPartition() {
+        // Arrange
+        givenHighWatermark(20L);
+        when(jdbcTemplate.queryForList(ProcessedEventStore.FIND_OFFSETS_SQL, Long.class, "payments.events", 0, 3L, 7L))
+                .thenReturn(List.of(3L, 4L, 5L));
+
+        // Act
+        Set<String> processed = store.findProcessed(List.of(record(3), record(5), record(7)));
+
+        // Assert
+        assertEquals(Set.of("payments.events-0@3", "payments.events-0@5"), processed);
+        assertEquals(2.0, meterRegistry.get("policy.consumer.duplicates").tag("source", "database").counter().count());
+    }
+
+    @Test
+    void testMarkedRecordsAreRecognisedFromMemory() {
+        // Arrange
+        ConsumerRecord<String, String> applied = record(4);
+
+        // Act
+        store.markProcessed(List.of(applied));
+        boolean redelivered = store.isProcessed(applied);
+
+        // Assert
+        assertTrue(redelivered);
+        verify(jdbcTemplate).batchUpdate(eq(ProcessedEventStore.INSERT_SQL), anyList());
+        verify(jdbcTemplate, never()).queryForObject(anyString(), eq(Long.class), any(), any());
+        assertEquals(1.0, meterRegistry.get("policy.consumer.duplicates").tag("source", "memory").counter().count());
+    }
+
+    @Test
+    void testRecordsMarkedInTransactionReachMemoryOnlyAfterCommit() {
+        // Arrange - nada gravado na tabela: sem commit, a marca não existe para outras leituras
+        givenHighWatermark(-1L);
+        ConsumerRecord<String, String> applied = record(4);
+        TransactionSynchronizationManager.initSynchronization();
+        boolean beforeCommit;
+        try {
+            // Act
+            store.markProcessed(List.of(applied));
+            beforeCommit = store.isProcessed(applied);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Assert
+        assertFalse(beforeCommit);
+        assertTrue(store.isProcessed(applied));
+        verify(jdbcTemplate).batchUpdate(eq(ProcessedEventStore.INSERT_SQL), anyList());
+    }
+
+    @Test
+    void testResetPartitionsReloadsHighWatermark() {
+        // Arrange
+        givenHighWatermark(-1L);
+        store.isProcessed(record(0));
+
+        // Act
+        store.resetPartitions(List.of(new TopicPartition("payments.events", 0)));
+        store.isProcessed(record(1));
+
+        // Assert
+        verify(jdbcTemplate, times(2)).queryForObject(eq(ProcessedEventStore.MAX_OFFSET_SQL), eq(Long.class), any(), any());
+    }
+
+    @Test
+    void testDisabledStoreNeverTouchesDatabase() {
+        // Arrange
+        store = new ProcessedEventStore(jdbcTemplate, meterRegistry, false, 1000, Duration.ofDays(7));
+
+        // Act
+        store.markProcessed(record(1));
+        boolean redelivered = store.isProcessed(record(1));
+        store.purgeExpired();
+
+        // Assert
+        assertFalse(redelivered);
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
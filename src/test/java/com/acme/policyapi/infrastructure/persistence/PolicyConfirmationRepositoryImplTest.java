@@ -0,0 +1,210 @@
+package com.acme.policyapi.infrastructure.persistence;
+
+import com.acme.policyapi.domain.entity.ConfirmationType;
+import com.acme.policyapi.infrastructure.persistence.jpa.PolicyConfirmationJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PolicyConfirmationRepositoryImplTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 15, 10, 0);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PolicyConfirmationJpaRepository jpaRepository;
+
+    @InjectMocks
+    private PolicyConfirmationRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(repository, "clock", Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+        ReflectionTestUtils.setField(repository, "ttl", Duration.ofDays(7));
+    }
+
+    @Test
+    void testRegisterWritesAllConfirmationsInOneUpsertAndReturnsCompleted() throws Exception {
+        // Arrange
+        UUID completedId = UUID.randomUUID();
+        UUID waitingId = UUID.randomUUID();
+        Map<UUID, Set<ConfirmationType>> confirmations = new LinkedHashMap<>();
+        confirmations.put(completedId, EnumSet.of(ConfirmationType.UNDERWRITING));
+        confirmations.put(waitingId, EnumSet.of(ConfirmationType.PAYMENT, ConfirmationType.UNDERWRITING));
+
+        ResultSet completedRow = mock(ResultSet.class);
+        when(completedRow.getBoolean("completed")).thenReturn(true);
+        when(completedRow.getObject("policy_request_id", UUID.class)).thenReturn(completedId);
+        ResultSet waitingRow = mock(ResultSet.class);
+        when(waitingRow.getBoolean("completed")).thenReturn(false);
+
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(2);
+            handler.processRow(completedRow);
+            handler.processRow(waitingRow);
+            return null;
+        }).when(jdbcTemplate).query(eq(PolicyConfirmationRepositoryImpl.UPSERT_SQL),
+                any(PreparedStatementSetter.class), any(RowCallbackHandler.class));
+
+        // Act
+        Set<UUID> completed = repository.register(confirmations);
+
+        // Assert
+        assertEquals(Set.of(completedId), completed);
+
+        ArgumentCaptor<PreparedStatementSetter> setterCaptor = ArgumentCaptor.forClass(PreparedStatementSetter.class);
+        verify(jdbcTemplate, times(1)).query(anyString(), setterCaptor.capture(), any(RowCallbackHandler.class));
+
+        PreparedStatement ps = mock(PreparedStatement.class);
+        Connection connection = mock(Connection.class);
+        when(ps.getConnection()).thenReturn(connection);
+        when(connection.createArrayOf(anyString(), any())).thenReturn(mock(Array.class));
+        setterCaptor.getValue().setValues(ps);
+
+        verify(ps).setTimestamp(2, Timestamp.valueOf(NOW.plusDays(7)));
+        verify(ps).setTimestamp(3, Timestamp.valueOf(NOW));
+        // Linhas em ordem de ID, para que upserts concorrentes bloqueiem na mesma ordem
+        boolean completedFirst = completedId.compareTo(waitingId) < 0;
+        verify(connection).createArrayOf("uuid", completedFirst
+                ? new UUID[] {completedId, waitingId} : new UUID[] {waitingId, completedId});
+        verify(connection).createArrayOf("int2", completedFirst ? new Short[] {2, 3} : new Short[] {3, 2});
+        verify(ps).setShort(1, (short) ConfirmationType.ALL_MASK);
+        verify(ps).setShort(6, (short) ConfirmationType.ALL_MASK);
+    }
+
+    @Test
+    void testRegisterWithoutConfirmationsDoesNotTouchDatabase() {
+        // Act
+        Set<UUID> completed = repository.register(Map.of());
+
+        // Assert
+        assertTrue(completed.isEmpty());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void testUpsertOnlyReturnsRowsNotCompletedBefore() {
+        assertTrue(PolicyConfirmationRepositoryImpl.UPSERT_SQL.contains("ON CONFLICT (policy_request_id) DO UPDATE"));
+        assertTrue(PolicyConfirmationRepositoryImpl.UPSERT_SQL.contains("WHERE NOT c.completed"));
+    }
+
+    @Test
+    void testReopenClearsCompletedForGivenRequests() throws Exception {
+        // Arrange
+        UUID first = UUID.fromString("00000000-0000-0000-0000-000000000002");
+        UUID second = UUID.fromString("00000000-0000-0000-0000-000000000001");
+        PreparedStatement ps = mock(PreparedStatement.class);
+        Connection connection = mock(Connection.class);
+        when(ps.getConnection()).thenReturn(connection);
+        when(connection.createArrayOf(eq("uuid"), any())).thenReturn(mock(Array.class));
+        when(jdbcTemplate.update(eq(PolicyConfirmationRepositoryImpl.REOPEN_SQL), any(PreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    invocation.<PreparedStatementSetter>getArgument(1).setValues(ps);
+                    return 2;
+                });
+
+        // Act
+        repository.reopen(List.of(first, second));
+
+        // Assert
+        ArgumentCaptor<Object[]> idsCaptor = ArgumentCaptor.forClass(Object[].class);
+        verify(connection).createArrayOf(eq("uuid"), idsCaptor.capture());
+        assertArrayEquals(new UUID[]{second, first}, idsCaptor.getValue());
+        verify(ps).setTimestamp(1, Timestamp.valueOf(NOW));
+        assertTrue(PolicyConfirmationRepositoryImpl.REOPEN_SQL.contains("SET completed = false"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testMarkPendingReturnsWhetherCorrelationWasCompleted() throws Exception {
+        // Arrange
+        UUID policyRequestId = UUID.randomUUID();
+        PreparedStatement ps = mock(PreparedStatement.class);
+        when(jdbcTemplate.query(eq(PolicyConfirmationRepositoryImpl.MARK_PENDING_SQL),
+                any(PreparedStatementSetter.class), any(RowMapper.class)))
+                .thenAnswer(invocation -> {
+                    invocation.<PreparedStatementSetter>getArgument(1).setValues(ps);
+                    return List.of(true);
+                });
+
+        // Act
+        boolean completed = repository.markPending(policyRequestId);
+
+        // Assert
+        assertTrue(completed);
+        verify(ps).setObject(1, policyRequestId);
+        verify(ps).setTimestamp(2, Timestamp.valueOf(NOW.plusDays(7)));
+        verify(ps).setTimestamp(3, Timestamp.valueOf(NOW));
+        verify(ps).setShort(4, (short) ConfirmationType.ALL_MASK);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testMarkPendingWithoutBothConfirmationsDoesNotComplete() {
+        // Arrange
+        when(jdbcTemplate.query(eq(PolicyConfirmationRepositoryImpl.MARK_PENDING_SQL),
+                any(PreparedStatementSetter.class), any(RowMapper.class)))
+                .thenReturn(List.of(false));
+
+        // Act & Assert
+        assertFalse(repository.markPending(UUID.randomUUID()));
+        assertTrue(PolicyConfirmationRepositoryImpl.MARK_PENDING_SQL.contains("VALUES (?, 0, false, ?, ?)"));
+        assertTrue(PolicyConfirmationRepositoryImpl.MARK_PENDING_SQL.contains("WHERE NOT c.completed"));
+    }
+
+    @Test
+    void testReopenWithoutIdsDoesNotTouchDatabase() {
+        // Act
+        repository.reopen(List.of());
+
+        // Assert
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void testPurgeExpiredDeletesUsingCurrentTime() {
+        // Arrange
+        when(jpaRepository.deleteExpired(NOW)).thenReturn(3);
+
+        // Act
+        repository.purgeExpired();
+
+        // Assert
+        verify(jpaRepository).deleteExpired(NOW);
+    }
+
+}
@@ -0,0 +1,133 @@
+package com.acme.policyapi.infrastructure.persistence;
+
+import com.acme.policyapi.domain.entity.InsuranceCategory;
+import com.acme.policyapi.domain.entity.Money;
+import com.acme.policyapi.domain.entity.PaymentMethod;
+import com.acme.policyapi.domain.entity.PolicyRequest;
+import com.acme.policyapi.domain.entity.PolicyRequestStatus;
+import com.acme.policyapi.domain.entity.SalesChannel;
+import com.acme.policyapi.domain.entity.StatusHistory;
+import com.acme.policyapi.domain.repository.StatusTransition;
+import com.acme.policyapi.infrastructure.persistence.jpa.PolicyRequestJpaEntity;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Executa {@link PolicyRequestRepositoryImpl} contra o H2 para cobrir a interação entre os
+ * UPDATEs condicionais via JDBC e o contexto de persistência do JPA na mesma transação.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(PolicyRequestRepositoryImpl.class)
+class PolicyRequestRepositoryImplJpaTest {
+
+    @Autowired
+    private PolicyRequestRepositoryImpl repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void testConsecutiveStatusUpdatesInSameTransactionSeeLatestStatus() {
+        // Arrange
+        PolicyRequest saved = repository.save(newRequest());
+        PolicyRequest received = repository.findById(saved.getId()).orElseThrow();
+        long initialVersion = received.getVersion();
+        StatusHistory validated = received.updateStatus(PolicyRequestStatus.VALIDATED, "Validado");
+        repository.updateStatus(received, PolicyRequestStatus.RECEIVED, List.of(validated));
+
+        // Act
+        PolicyRequest reloaded = repository.findById(saved.getId()).orElseThrow();
+        StatusHistory pending = reloaded.updateStatus(PolicyRequestStatus.PENDING, "Aguardando");
+        repository.updateStatus(reloaded, PolicyRequestStatus.VALIDATED, List.of(pending));
+
+        // Assert
+        PolicyRequest result = repository.findByIdWithHistory(saved.getId()).orElseThrow();
+        assertEquals(PolicyRequestStatus.PENDING, result.getStatus());
+        assertEquals(initialVersion + 2, result.getVersion());
+        assertEquals(List.of(PolicyRequestStatus.VALIDATED, PolicyRequestStatus.PENDING),
+                result.getHistory().stream().map(StatusHistory::getStatus).toList());
+    }
+
+    @Test
+    void testStatusUpdateDetachesOnlyTheUpdatedRequest() {
+        // Arrange
+        PolicyRequest received = repository.findById(repository.save(newRequest()).getId()).orElseThrow();
+        UUID untouchedId = repository.save(newRequest()).getId();
+        PolicyRequestJpaEntity updatedEntity = entityManager.find(PolicyRequestJpaEntity.class, received.getId());
+        PolicyRequestJpaEntity untouchedEntity = entityManager.find(PolicyRequestJpaEntity.class, untouchedId);
+        StatusHistory validated = received.updateStatus(PolicyRequestStatus.VALIDATED, "Validado");
+
+        // Act
+        repository.updateStatus(received, PolicyRequestStatus.RECEIVED, List.of(validated));
+
+        // Assert
+        assertFalse(entityManager.contains(updatedEntity));
+        assertTrue(entityManager.contains(untouchedEntity));
+        assertEquals(PolicyRequestStatus.VALIDATED, repository.findById(received.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void testUpdateStatusesWritesAllTransitionsAndHistory() {
+        // Arrange
+        PolicyRequest first = repository.findById(repository.save(newRequest()).getId()).orElseThrow();
+        PolicyRequest second = repository.findById(repository.save(newRequest()).getId()).orElseThrow();
+        long firstVersion = first.getVersion();
+        StatusHistory validated = first.updateStatus(PolicyRequestStatus.VALIDATED, "Validado");
+        StatusHistory rejected = second.updateStatus(PolicyRequestStatus.REJECTED, "Recusado");
+
+        // Act
+        repository.updateStatuses(List.of(
+                new StatusTransition(first, PolicyRequestStatus.RECEIVED, List.of(validated)),
+                new StatusTransition(second, PolicyRequestStatus.RECEIVED, List.of(rejected))));
+
+        // Assert
+        PolicyRequest firstResult = repository.findByIdWithHistory(first.getId()).orElseThrow();
+        PolicyRequest secondResult = repository.findByIdWithHistory(second.getId()).orElseThrow();
+        assertEquals(PolicyRequestStatus.VALIDATED, firstResult.getStatus());
+        assertEquals(firstVersion + 1, firstResult.getVersion());
+        assertEquals(PolicyRequestStatus.REJECTED, secondResult.getStatus());
+        assertNotNull(secondResult.getFinishedAt());
+        assertEquals(List.of("Recusado"), secondResult.getHistory().stream().map(StatusHistory::getReason).toList());
+    }
+
+    @Test
+    void testUpdateStatusesRejectsStaleVersion() {
+        // Arrange
+        PolicyRequest stale = repository.findById(repository.save(newRequest()).getId()).orElseThrow();
+        stale.setVersion(stale.getVersion() + 5);
+        StatusHistory validated = stale.updateStatus(PolicyRequestStatus.VALIDATED, "Validado");
+
+        // Act & Assert
+        assertThrows(OptimisticLockingFailureException.class, () -> repository.updateStatuses(
+                List.of(new StatusTransition(stale, PolicyRequestStatus.RECEIVED, List.of(validated)))));
+    }
+
+    private PolicyRequest newRequest() {
+        PolicyRequest request = new PolicyRequest();
+        request.setCustomerId(UUID.randomUUID());
+        request.setProductId("PROD123");
+        request.setCategory(InsuranceCategory.AUTO);
+        request.setSalesChannel(SalesChannel.WEBSITE);
+        request.setPaymentMethod(PaymentMethod.CREDIT_CARD);
+        request.setStatus(PolicyRequestStatus.RECEIVED);
+        request.setCreatedAt(LocalDateTime.of(2025, 1, 1, 10, 0));
+        request.setTotalMonthlyPremiumAmount(Money.parse("150.00"));
+        request.setInsuredAmount(Money.parse("50000.00"));
+        request.setCoverages(Map.of("COLLISION", Money.parse("25000.00")));
+        request.setAssistances(List.of("24h Assistance"));
+        return request;
+    }
+}
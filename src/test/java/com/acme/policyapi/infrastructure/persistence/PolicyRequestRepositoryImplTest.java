@@ -1,22 +1,40 @@
 package com.acme.policyapi.infrastructure.persistence;
 
 import com.acme.policyapi.domain.entity.*;
+import com.acme.policyapi.domain.repository.PolicyRequestSearchCriteria;
+import com.acme.policyapi.domain.repository.StatusTransition;
 import com.acme.policyapi.infrastructure.persistence.jpa.PolicyRequestJpaEntity;
 import com.acme.policyapi.infrastructure.persistence.jpa.PolicyRequestJpaRepository;
 import com.acme.policyapi.infrastructure.persistence.jpa.StatusHistoryJpaEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-
-import java.math.BigDecimal;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.time.LocalDateTime;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,6 +43,12 @@ class PolicyRequestRepositoryImplTest {
     @Mock
     private PolicyRequestJpaRepository jpaRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
     @InjectMocks
     private PolicyRequestRepositoryImpl repository;
 
@@ -52,13 +76,13 @@ class PolicyRequestRepositoryImplTest {
                 .paymentMethod("CREDIT_CARD")
                 .status("RECEIVED")
                 .createdAt(LocalDateTime.of(2025, 1, 1, 10, 0))
-                .totalMonthlyPremiumAmount(new BigDecimal("150.00"))
-                .insuredAmount(new BigDecimal("50000.00"))
+                .totalMonthlyPremiumAmount(Money.parse("150.00"))
+                .insuredAmount(Money.parse("50000.00"))
                 .build();
 
         // Configurar coleções
-        Map<String, BigDecimal> coverages = new HashMap<>();
-        coverages.put("COLLISION", new BigDecimal("25000.00"));
+        Map<String, Money> coverages = new HashMap<>();
+        coverages.put("COLLISION", Money.parse("25000.00"));
         jpaEntity.setCoverages(coverages);
 
         List<String> assistances = Arrays.asList("24h Assistance");
@@ -86,11 +110,11 @@ class PolicyRequestRepositoryImplTest {
         domainEntity.setPaymentMethod(PaymentMethod.CREDIT_CARD);
         domainEntity.setStatus(PolicyRequestStatus.RECEIVED);
         domainEntity.setCreatedAt(LocalDateTime.of(2025, 1, 1, 10, 0));
-        domainEntity.setTotalMonthlyPremiumAmount(new BigDecimal("150.00"));
-        domainEntity.setInsuredAmount(new BigDecimal("50000.00"));
+        domainEntity.setTotalMonthlyPremiumAmount(Money.parse("150.00"));
+        domainEntity.setInsuredAmount(Money.parse("50000.00"));
 
-        Map<String, BigDecimal> coverages = new HashMap<>();
-        coverages.put("COLLISION", new BigDecimal("25000.00"));
+        Map<String, Money> coverages = new HashMap<>();
+        coverages.put("COLLISION", Money.parse("25000.00"));
         domainEntity.setCoverages(coverages);
 
         List<String> assistances = Arrays.asList("24h Assistance");
@@ -179,6 +203,29 @@ class PolicyRequestRepositoryImplTest {
         verify(jpaRepository, times(1)).save(any(PolicyRequestJpaEntity.class));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void testSaveAllFlushesAndClearsPerChunk() {
+        ReflectionTestUtils.setField(repository, "batchSize", 2);
+        when(jpaRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<PolicyRequest> result = repository.saveAll(List.of(domainEntity, domainEntity, domainEntity));
+
+        assertEquals(3, result.size());
+        assertEquals(testId, result.get(2).getId());
+        verify(jpaRepository, times(2)).saveAll(anyList());
+        verify(entityManager, times(2)).flush();
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    void testSaveAllEmpty() {
+        List<PolicyRequest> result = repository.saveAll(List.of());
+
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(jpaRepository, entityManager);
+    }
+
     @Test
     void testFindById() {
         when(jpaRepository.findById(testId)).thenReturn(Optional.of(jpaEntity));
@@ -254,8 +301,8 @@ class PolicyRequestRepositoryImplTest {
         assertEquals(PolicyRequestStatus.RECEIVED, domain.getStatus());
         assertEquals(LocalDateTime.of(2025, 1, 1, 10, 0), domain.getCreatedAt());
         assertEquals(LocalDateTime.of(2025, 1, 2, 15, 30), domain.getFinishedAt());
-        assertEquals(new BigDecimal("150.00"), domain.getTotalMonthlyPremiumAmount());
-        assertEquals(new BigDecimal("50000.00"), domain.getInsuredAmount());
+        assertEquals(Money.parse("150.00"), domain.getTotalMonthlyPremiumAmount());
+        assertEquals(Money.parse("50000.00"), domain.getInsuredAmount());
         assertEquals(1, domain.getCoverages().size());
         assertEquals(1, domain.getAssistances().size());
     }
@@ -351,11 +398,11 @@ class PolicyRequestRepositoryImplTest {
 
     @Test
     void testComplexCoveragesConversion() {
-        Map<String, BigDecimal> complexCoverages = new HashMap<>();
-        complexCoverages.put("COMPREHENSIVE", new BigDecimal("30000.00"));
-        complexCoverages.put("COLLISION", new BigDecimal("20000.00"));
-        complexCoverages.put("LIABILITY", new BigDecimal("15000.00"));
-        complexCoverages.put("PERSONAL_INJURY", new BigDecimal("10000.00"));
+        Map<String, Money> complexCoverages = new HashMap<>();
+        complexCoverages.put("COMPREHENSIVE", Money.parse("30000.00"));
+        complexCoverages.put("COLLISION", Money.parse("20000.00"));
+        complexCoverages.put("LIABILITY", Money.parse("15000.00"));
+        complexCoverages.put("PERSONAL_INJURY", Money.parse("10000.00"));
         
         jpaEntity.setCoverages(complexCoverages);
 
@@ -366,10 +413,10 @@ class PolicyRequestRepositoryImplTest {
         assertTrue(result.isPresent());
         PolicyRequest domain = result.get();
         assertEquals(4, domain.getCoverages().size());
-        assertEquals(new BigDecimal("30000.00"), domain.getCoverages().get("COMPREHENSIVE"));
-        assertEquals(new BigDecimal("20000.00"), domain.getCoverages().get("COLLISION"));
-        assertEquals(new BigDecimal("15000.00"), domain.getCoverages().get("LIABILITY"));
-        assertEquals(new BigDecimal("10000.00"), domain.getCoverages().get("PERSONAL_INJURY"));
+        assertEquals(Money.parse("30000.00"), domain.getCoverages().get("COMPREHENSIVE"));
+        assertEquals(Money.parse("20000.00"), domain.getCoverages().get("COLLISION"));
+        assertEquals(Money.parse("15000.00"), domain.getCoverages().get("LIABILITY"));
+        assertEquals(Money.parse("10000.00"), domain.getCoverages().get("PERSONAL_INJURY"));
     }
 
     @Test
@@ -397,4 +444,227 @@ class PolicyRequestRepositoryImplTest {
         assertTrue(domain.getAssistances().contains("Glass Repair"));
         assertTrue(domain.getAssistances().contains("Locksmith Service"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testSearchWithFiltersCursorAndHistory() {
+        TypedQuery<PolicyRequestJpaEntity> query = mock(TypedQuery.class);
+        when(entityManager.createQuery(anyString(), eq(PolicyRequestJpaEntity.class))).thenReturn(query);
+        when(query.getResultList()).thenReturn(List.of(jpaEntity));
+        when(jpaRepository.findHistoryByPolicyRequestIds(List.of(testId))).thenReturn(jpaEntity.getHistory());
+        LocalDateTime cursorCreatedAt = LocalDateTime.of(2025, 2, 1, 0, 0);
+        UUID cursorId = UUID.randomUUID();
+
+        List<PolicyRequest> result = repository.search(PolicyRequestSearchCriteria.builder()
+                .status(PolicyRequestStatus.RECEIVED)
+                .category(InsuranceCategory.AUTO)
+                .afterCreatedAt(cursorCreatedAt)
+                .afterId(cursorId)
+                .limit(11)
+                .includeHistory(true)
+                .build());
+
+        assertEquals(1, result.size());
+        assertEquals(1, result.get(0).getHistory().size());
+        ArgumentCaptor<String> jpql = ArgumentCaptor.forClass(String.class);
+        verify(entityManager).createQuery(jpql.capture(), eq(PolicyRequestJpaEntity.class));
+        assertTrue(jpql.getValue().contains("pr.status = :status"));
+        assertTrue(jpql.getValue().contains("pr.category = :category"));
+        assertFalse(jpql.getValue().contains("pr.customerId"));
+        assertTrue(jpql.getValue().contains("(pr.createdAt < :afterCreatedAt OR (pr.createdAt = :afterCreatedAt AND pr.id < :afterId))"));
+        assertTrue(jpql.getValue().endsWith("ORDER BY pr.createdAt DESC, pr.id DESC"));
+        verify(query).setParameter("status", "RECEIVED");
+        verify(query).setParameter("afterId", cursorId);
+        verify(query).setMaxResults(11);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testSearchWithoutHistoryDoesNotLoadHistory() {
+        TypedQuery<PolicyRequestJpaEntity> query = mock(TypedQuery.class);
+        when(entityManager.createQuery(anyString(), eq(PolicyRequestJpaEntity.class))).thenReturn(query);
+        when(query.getResultList()).thenReturn(List.of(jpaEntity));
+
+        List<PolicyRequest> result = repository.search(PolicyRequestSearchCriteria.builder()
+                .customerId(testCustomerId)
+                .limit(5)
+                .build());
+
+        assertEquals(1, result.size());
+        assertTrue(result.get(0).getHistory().isEmpty());
+        verify(jpaRepository, never()).findHistoryByPolicyRequestIds(any());
+    }
+
+    @Test
+    void testStreamAllUsesForwardOnlyCursorAndLoadsCollectionsPerChunk() throws Exception {
+        ReflectionTestUtils.setField(repository, "exportFetchSize", 2);
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        ResultSet rs = mock(ResultSet.class, withSettings().strictness(Strictness.LENIENT));
+        when(rs.getObject("id", UUID.class)).thenReturn(ids.get(0), ids.get(1), ids.get(2));
+        when(rs.getString("category")).thenReturn("AUTO");
+        when(rs.getString("sales_channel")).thenReturn("WEBSITE");
+        when(rs.getString("payment_method")).thenReturn("PIX");
+        when(rs.getString("status")).thenReturn("APPROVED");
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(anyString(), eq(ResultSet.TYPE_FORWARD_ONLY), eq(ResultSet.CONCUR_READ_ONLY)))
+                .thenReturn(statement);
+        doAnswer(invocation -> {
+            invocation.<PreparedStatementCreator>getArgument(0).createPreparedStatement(connection);
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (int i = 0; i < ids.size(); i++) {
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+        LocalDateTime from = LocalDateTime.of(2025, 1, 1, 0, 0);
+        List<PolicyRequest> received = new ArrayList<>();
+
+        long count = repository.streamAll(PolicyRequestSearchCriteria.builder()
+                .status(PolicyRequestStatus.APPROVED)
+                .createdFrom(from)
+                .build(), received::add);
+
+        assertEquals(3, count);
+        assertEquals(ids, received.stream().map(PolicyRequest::getId).toList());
+        assertEquals(PolicyRequestStatus.APPROVED, received.get(0).getStatus());
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(connection).prepareStatement(sql.capture(), eq(ResultSet.TYPE_FORWARD_ONLY), eq(ResultSet.CONCUR_READ_ONLY));
+        assertTrue(sql.getValue().contains("status = ? AND created_at >= ?"));
+        assertTrue(sql.getValue().endsWith("ORDER BY created_at, id"));
+        verify(statement).setFetchSize(2);
+        verify(statement).setObject(1, "APPROVED");
+        verify(statement).setObject(2, from);
+        verify(jdbcTemplate, times(2)).query(contains("policy_coverages"), any(RowCallbackHandler.class), any(Object[].class));
+        verify(jdbcTemplate, times(2)).query(contains("policy_assistances"), any(RowCallbackHandler.class), any(Object[].class));
+        verifyNoInteractions(entityManager, jpaRepository);
+    }
+
+    @Test
+    void testStreamAllWithoutRowsSkipsCollectionQueries() {
+        long count = repository.streamAll(PolicyRequestSearchCriteria.builder().build(), policyRequest -> fail());
+
+        assertEquals(0, count);
+        verify(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+        verifyNoMoreInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void testFindAllById() {
+        when(jpaRepository.findAllById(List.of(testId))).thenReturn(List.of(jpaEntity));
+
+        List<PolicyRequest> result = repository.findAllById(List.of(testId));
+
+        assertEquals(1, result.size());
+        assertEquals(testId, result.get(0).getId());
+        assertTrue(result.get(0).getHistory().isEmpty());
+        verify(jpaRepository, times(1)).findAllById(List.of(testId));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testUpdateStatusIssuesConditionalUpdateAndAppendsHistory() {
+        // Arrange
+        domainEntity.setVersion(4L);
+        StatusHistory validated = domainEntity.updateStatus(PolicyRequestStatus.VALIDATED, "Validado");
+        StatusHistory pending = domainEntity.updateStatus(PolicyRequestStatus.PENDING, "Aguardando");
+        when(jdbcTemplate.update(PolicyRequestRepositoryImpl.UPDATE_STATUS_SQL, "PENDING", null, testId, "RECEIVED", 4L))
+                .thenReturn(1);
+        when(entityManager.getReference(PolicyRequestJpaEntity.class, testId)).thenReturn(jpaEntity);
+
+        // Act
+        repository.updateStatus(domainEntity, PolicyRequestStatus.RECEIVED, List.of(validated, pending));
+
+        // Assert
+        ArgumentCaptor<List<Object[]>> rowsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(PolicyRequestRepositoryImpl.INSERT_HISTORY_SQL), rowsCaptor.capture());
+        List<Object[]> rows = rowsCaptor.getValue();
+        assertEquals(2, rows.size());
+        assertEquals(testId, rows.get(0)[1]);
+        assertEquals("VALIDATED", rows.get(0)[2]);
+        assertEquals("PENDING", rows.get(1)[2]);
+        assertEquals("Aguardando", rows.get(1)[4]);
+        assertEquals(5L, domainEntity.getVersion());
+        InOrder inOrder = inOrder(entityManager, jdbcTemplate);
+        inOrder.verify(entityManager).flush();
+        inOrder.verify(jdbcTemplate).update(PolicyRequestRepositoryImpl.UPDATE_STATUS_SQL, "PENDING", null, testId, "RECEIVED", 4L);
+        inOrder.verify(jdbcTemplate).batchUpdate(eq(PolicyRequestRepositoryImpl.INSERT_HISTORY_SQL), anyList());
+        inOrder.verify(entityManager).detach(jpaEntity);
+        verify(entityManager, never()).clear();
+        verifyNoInteractions(jpaRepository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testUpdateStatusesBatchesConditionalUpdatesAndHistory() {
+        // Arrange
+        domainEntity.setVersion(2L);
+        StatusHistory approved = domainEntity.updateStatus(PolicyRequestStatus.VALIDATED, "Validado");
+        PolicyRequest other = new PolicyRequest();
+        other.setId(UUID.randomUUID());
+        other.setStatus(PolicyRequestStatus.RECEIVED);
+        other.setVersion(7L);
+        StatusHistory rejected = other.updateStatus(PolicyRequestStatus.REJECTED, "Recusado");
+        when(jdbcTemplate.batchUpdate(eq(PolicyRequestRepositoryImpl.UPDATE_STATUS_SQL), anyList())).thenReturn(new int[] {1, 1});
+
+        // Act
+        repository.updateStatuses(List.of(
+                new StatusTransition(domainEntity, PolicyRequestStatus.RECEIVED, List.of(approved)),
+                new StatusTransition(other, PolicyRequestStatus.RECEIVED, List.of(rejected))));
+
+        // Assert
+        ArgumentCaptor<List<Object[]>> updatesCaptor = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<Object[]>> historyCaptor = ArgumentCaptor.forClass(List.class);
+        InOrder inOrder = inOrder(entityManager, jdbcTemplate);
+        inOrder.verify(entityManager).flush();
+        inOrder.verify(jdbcTemplate).batchUpdate(eq(PolicyRequestRepositoryImpl.UPDATE_STATUS_SQL), updatesCaptor.capture());
+        inOrder.verify(jdbcTemplate).batchUpdate(eq(PolicyRequestRepositoryImpl.INSERT_HISTORY_SQL), historyCaptor.capture());
+        assertArrayEquals(new Object[] {"VALIDATED", null, testId, "RECEIVED", 2L}, updatesCaptor.getValue().get(0));
+        assertEquals("REJECTED", updatesCaptor.getValue().get(1)[0]);
+        assertNotNull(updatesCaptor.getValue().get(1)[1]);
+        assertEquals(7L, updatesCaptor.getValue().get(1)[4]);
+        assertEquals(List.of(testId, other.getId()), historyCaptor.getValue().stream().map(row -> row[1]).toList());
+        assertEquals(3L, domainEntity.getVersion());
+        assertEquals(8L, other.getVersion());
+        verify(entityManager).getReference(PolicyRequestJpaEntity.class, other.getId());
+        verify(entityManager, never()).clear();
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+    }
+
+    @Test
+    void testUpdateStatusesFailsWithoutHistoryWhenAnyRequestChangedConcurrently() {
+        // Arrange
+        domainEntity.setVersion(2L);
+        StatusHistory entry = domainEntity.updateStatus(PolicyRequestStatus.VALIDATED, "Validado");
+        when(jdbcTemplate.batchUpdate(eq(PolicyRequestRepositoryImpl.UPDATE_STATUS_SQL), anyList())).thenReturn(new int[] {0});
+
+        // Act & Assert
+        assertThrows(OptimisticLockingFailureException.class, () -> repository.updateStatuses(
+                List.of(new StatusTransition(domainEntity, PolicyRequestStatus.RECEIVED, List.of(entry)))));
+        verify(jdbcTemplate, never()).batchUpdate(eq(PolicyRequestRepositoryImpl.INSERT_HISTORY_SQL), anyList());
+        assertEquals(2L, domainEntity.getVersion());
+    }
+
+    @Test
+    void testUpdateStatusesWithoutTransitionsDoesNotTouchDatabase() {
+        // Act
+        repository.updateStatuses(List.of());
+
+        // Assert
+        verifyNoInteractions(jdbcTemplate, entityManager);
+    }
+
+    @Test
+    void testUpdateStatusFailsWithoutHistoryWhenStatusChangedConcurrently() {
+        // Arrange
+        domainEntity.setVersion(4L);
+        StatusHistory entry = domainEntity.updateStatus(PolicyRequestStatus.VALIDATED, "Validado");
+        when(jdbcTemplate.update(eq(PolicyRequestRepositoryImpl.UPDATE_STATUS_SQL), any(Object[].class))).thenReturn(0);
+
+        // Act & Assert
+        assertThrows(OptimisticLockingFailureException.class,
+                () -> repository.updateStatus(domainEntity, PolicyRequestStatus.RECEIVED, List.of(entry)));
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        assertEquals(4L, domainEntity.getVersion());
+    }
+}
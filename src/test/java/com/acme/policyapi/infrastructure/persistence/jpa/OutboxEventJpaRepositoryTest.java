@@ -0,0 +1,65 @@
+package com.acme.policyapi.infrastructure.persistence.jpa;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Executa a reserva de lotes da outbox contra o H2.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class OutboxEventJpaRepositoryTest {
+
+    @Autowired
+    private OutboxEventJpaRepository repository;
+
+    @Test
+    void testClaimBatchReturnsOnlyOldestEventOfEachKey() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        OutboxEventJpaEntity firstOfA = repository.save(event("key-a", now.minusSeconds(3)));
+        OutboxEventJpaEntity onlyOfB = repository.save(event("key-b", now.minusSeconds(2)));
+        repository.save(event("key-a", now.minusSeconds(1)));
+
+        // Act
+        List<OutboxEventJpaEntity> batch = repository.claimBatch(10);
+
+        // Assert
+        assertEquals(List.of(firstOfA.getId(), onlyOfB.getId()),
+                batch.stream().map(OutboxEventJpaEntity::getId).toList());
+    }
+
+    @Test
+    void testClaimBatchReleasesNextEventOfKeyAfterPreviousIsRemoved() {
+        // Arrange
+        LocalDateTime createdAt = LocalDateTime.now();
+        OutboxEventJpaEntity first = repository.save(event("key-a", createdAt));
+        OutboxEventJpaEntity second = repository.save(event("key-a", createdAt));
+        repository.deleteAllByIdInBatch(List.of(first.getId()));
+
+        // Act
+        List<OutboxEventJpaEntity> batch = repository.claimBatch(10);
+
+        // Assert
+        assertEquals(List.of(second.getId()), batch.stream().map(OutboxEventJpaEntity::getId).toList());
+    }
+
+    private OutboxEventJpaEntity event(String key, LocalDateTime createdAt) {
+        return OutboxEventJpaEntity.builder()
+                .aggregateId(UUID.randomUUID())
+                .eventType("POLICY_REQUEST_CREATED")
+                .topic("policy-requests.events")
+                .eventKey(key)
+                .payload("{}")
+                .createdAt(createdAt)
+                .build();
+    }
+}
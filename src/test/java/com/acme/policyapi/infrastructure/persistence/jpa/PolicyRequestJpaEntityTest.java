@@ -1,9 +1,9 @@
 package com.acme.policyapi.infrastructure.persistence.jpa;
 
+import com.acme.policyapi.domain.entity.Money;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.*;
 
@@ -52,20 +52,21 @@ class PolicyRequestJpaEntityTest {
         String status = "RECEIVED";
         LocalDateTime createdAt = LocalDateTime.now();
         LocalDateTime finishedAt = LocalDateTime.now().plusHours(1);
-        BigDecimal totalMonthlyPremiumAmount = new BigDecimal("150.00");
-        BigDecimal insuredAmount = new BigDecimal("50000.00");
-        Map<String, BigDecimal> coverages = new HashMap<>();
-        coverages.put("COLLISION", new BigDecimal("25000.00"));
+        Money totalMonthlyPremiumAmount = Money.parse("150.00");
+        Money insuredAmount = Money.parse("50000.00");
+        Map<String, Money> coverages = new HashMap<>();
+        coverages.put("COLLISION", Money.parse("25000.00"));
         List<String> assistances = Arrays.asList("24h Assistance", "Towing");
         List<StatusHistoryJpaEntity> history = new ArrayList<>();
 
         PolicyRequestJpaEntity allArgsEntity = new PolicyRequestJpaEntity(
                 id, customerId, productId, category, salesChannel, paymentMethod, status,
                 createdAt, finishedAt, totalMonthlyPremiumAmount, insuredAmount,
-                coverages, assistances, history
+                coverages, assistances, history, 3L
         );
 
         assertEquals(id, allArgsEntity.getId());
+        assertEquals(3L, allArgsEntity.getVersion());
         assertEquals(customerId, allArgsEntity.getCustomerId());
         assertEquals(productId, allArgsEntity.getProductId());
         assertEquals(category, allArgsEntity.getCategory());
@@ -86,7 +87,7 @@ class PolicyRequestJpaEntityTest {
         UUID id = UUID.randomUUID();
         UUID customerId = UUID.randomUUID();
         String productId = "PROD456";
-        BigDecimal premiumAmount = new BigDecimal("200.00");
+        Money premiumAmount = Money.parse("200.00");
 
         PolicyRequestJpaEntity builtEntity = PolicyRequestJpaEntity.builder()
                 .id(id)
@@ -97,7 +98,7 @@ class PolicyRequestJpaEntityTest {
                 .paymentMethod("DEBIT_CARD")
                 .status("VALIDATED")
                 .totalMonthlyPremiumAmount(premiumAmount)
-                .insuredAmount(new BigDecimal("100000.00"))
+                .insuredAmount(Money.parse("100000.00"))
                 .build();
 
         assertEquals(id, builtEntity.getId());
@@ -108,7 +109,7 @@ class PolicyRequestJpaEntityTest {
         assertEquals("DEBIT_CARD", builtEntity.getPaymentMethod());
         assertEquals("VALIDATED", builtEntity.getStatus());
         assertEquals(premiumAmount, builtEntity.getTotalMonthlyPremiumAmount());
-        assertEquals(new BigDecimal("100000.00"), builtEntity.getInsuredAmount());
+        assertEquals(Money.parse("100000.00"), builtEntity.getInsuredAmount());
     }
 
     @Test
@@ -122,8 +123,8 @@ class PolicyRequestJpaEntityTest {
         String status = "PENDING";
         LocalDateTime createdAt = LocalDateTime.now();
         LocalDateTime finishedAt = LocalDateTime.now().plusDays(1);
-        BigDecimal totalMonthlyPremiumAmount = new BigDecimal("75.50");
-        BigDecimal insuredAmount = new BigDecimal("25000.00");
+        Money totalMonthlyPremiumAmount = Money.parse("75.50");
+        Money insuredAmount = Money.parse("25000.00");
 
         entity.setId(id);
         entity.setCustomerId(customerId);
@@ -152,17 +153,17 @@ class PolicyRequestJpaEntityTest {
 
     @Test
     void testCoveragesCollection() {
-        Map<String, BigDecimal> coverages = new HashMap<>();
-        coverages.put("COMPREHENSIVE", new BigDecimal("30000.00"));
-        coverages.put("COLLISION", new BigDecimal("20000.00"));
-        coverages.put("LIABILITY", new BigDecimal("15000.00"));
+        Map<String, Money> coverages = new HashMap<>();
+        coverages.put("COMPREHENSIVE", Money.parse("30000.00"));
+        coverages.put("COLLISION", Money.parse("20000.00"));
+        coverages.put("LIABILITY", Money.parse("15000.00"));
 
         entity.setCoverages(coverages);
 
         assertEquals(3, entity.getCoverages().size());
-        assertEquals(new BigDecimal("30000.00"), entity.getCoverages().get("COMPREHENSIVE"));
-        assertEquals(new BigDecimal("20000.00"), entity.getCoverages().get("COLLISION"));
-        assertEquals(new BigDecimal("15000.00"), entity.getCoverages().get("LIABILITY"));
+        assertEquals(Money.parse("30000.00"), entity.getCoverages().get("COMPREHENSIVE"));
+        assertEquals(Money.parse("20000.00"), entity.getCoverages().get("COLLISION"));
+        assertEquals(Money.parse("15000.00"), entity.getCoverages().get("LIABILITY"));
     }
 
     @Test
@@ -259,7 +260,7 @@ class PolicyRequestJpaEntityTest {
 
     @Test
     void testBuilderWithCustomCollections() {
-        Map<String, BigDecimal> customCoverages = Map.of("FIRE", new BigDecimal("10000"));
+        Map<String, Money> customCoverages = Map.of("FIRE", Money.parse("10000"));
         List<String> customAssistances = List.of("Emergency Support");
 
         PolicyRequestJpaEntity entity = PolicyRequestJpaEntity.builder()
@@ -0,0 +1,57 @@
+package com.acme.policyapi.infrastructure.rest;
+
+import com.acme.policyapi.infrastructure.messaging.DeadLetterReplayer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DeadLetterAdminControllerTest {
+
+    @Mock
+    private DeadLetterReplayer deadLetterReplayer;
+
+    @InjectMocks
+    private DeadLetterAdminController controller;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(controller, "maxRecords", 500);
+        when(deadLetterReplayer.getReplayableTopics()).thenReturn(Set.of("payments.events", "underwriting.events"));
+    }
+
+    @Test
+    void testReplayClampsLimitToConfiguredMaximum() {
+        // Arrange
+        DeadLetterReplayer.ReplayResult expected = DeadLetterReplayer.ReplayResult.builder()
+                .topic("payments.events").read(500).replayed(500).build();
+        when(deadLetterReplayer.replay("payments.events", 500)).thenReturn(expected);
+
+        // Act
+        ResponseEntity<DeadLetterReplayer.ReplayResult> response = controller.replay("payments.events", 10_000);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(expected, response.getBody());
+    }
+
+    @Test
+    void testReplayRejectsUnknownTopicAndInvalidLimit() {
+        assertEquals(HttpStatus.BAD_REQUEST, controller.replay("policy-requests.events", 10).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, controller.replay("payments.events", 0).getStatusCode());
+        verify(deadLetterReplayer, never()).replay(anyString(), anyInt());
+    }
+}
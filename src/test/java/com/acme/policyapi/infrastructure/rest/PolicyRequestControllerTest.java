@@ -1,15 +1,27 @@
 package com.acme.policyapi.infrastructure.rest;
 
+import com.acme.policyapi.application.dto.PolicyRequestBatchResultDTO;
 import com.acme.policyapi.application.dto.PolicyRequestCreateDTO;
+import com.acme.policyapi.application.dto.PolicyRequestPageDTO;
 import com.acme.policyapi.application.dto.PolicyRequestResponseDTO;
+import com.acme.policyapi.application.dto.PolicyRequestSearchDTO;
 import com.acme.policyapi.application.service.PolicyRequestService;
+import com.acme.policyapi.domain.entity.InsuranceCategory;
 import com.acme.policyapi.domain.entity.PolicyRequestStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -18,6 +30,7 @@ import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import org.springframework.http.HttpStatus;
 
@@ -25,6 +38,9 @@ class PolicyRequestControllerTest {
     @Mock
     private PolicyRequestService policyRequestService;
 
+    @Mock
+    private ObjectMapper objectMapper;
+
     @InjectMocks
     private PolicyRequestController controller;
 
@@ -111,4 +127,105 @@ class PolicyRequestControllerTest {
         req.setReason("Motivo X");
         assertEquals("Motivo X", req.getReason());
     }
+
+    @Test
+    void testCreatePolicyRequestsAllCreated() {
+        PolicyRequestBatchResultDTO result = new PolicyRequestBatchResultDTO();
+        result.setTotal(1);
+        result.setCreated(1);
+        when(policyRequestService.createPolicyRequests(any())).thenReturn(result);
+
+        ResponseEntity<PolicyRequestBatchResultDTO> resp = controller.createPolicyRequests(List.of(createDTO));
+
+        assertEquals(HttpStatus.CREATED, resp.getStatusCode());
+        assertSame(result, resp.getBody());
+    }
+
+    @Test
+    void testCreatePolicyRequestsPartialFailure() {
+        PolicyRequestBatchResultDTO result = new PolicyRequestBatchResultDTO();
+        result.setTotal(2);
+        result.setCreated(1);
+        result.setFailed(1);
+        when(policyRequestService.createPolicyRequests(any())).thenReturn(result);
+
+        ResponseEntity<PolicyRequestBatchResultDTO> resp = controller.createPolicyRequests(List.of(createDTO, createDTO));
+
+        assertEquals(HttpStatus.MULTI_STATUS, resp.getStatusCode());
+    }
+
+    @Test
+    void testCreatePolicyRequestsTooLarge() {
+        ReflectionTestUtils.setField(controller, "batchMaxSize", 1);
+
+        ResponseEntity<PolicyRequestBatchResultDTO> resp = controller.createPolicyRequests(List.of(createDTO, createDTO));
+
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, resp.getStatusCode());
+        verify(policyRequestService, never()).createPolicyRequests(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testCreatePolicyRequestsNdjson() throws Exception {
+        ReflectionTestUtils.setField(controller, "objectMapper", new ObjectMapper());
+        String customerId = UUID.randomUUID().toString();
+        String body = "{\"customerId\":\"" + customerId + "\",\"productId\":\"P1\"}\n"
+                + "\n"
+                + "not-json\n";
+        when(policyRequestService.createPolicyRequests(any())).thenReturn(new PolicyRequestBatchResultDTO());
+
+        controller.createPolicyRequestsNdjson(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        ArgumentCaptor<List<PolicyRequestCreateDTO>> captor = ArgumentCaptor.forClass(List.class);
+        verify(policyRequestService).createPolicyRequests(captor.capture());
+        List<PolicyRequestCreateDTO> parsed = captor.getValue();
+        assertEquals(2, parsed.size());
+        assertEquals(customerId, parsed.get(0).getCustomerId().toString());
+        assertNull(parsed.get(1));
+    }
+
+    @Test
+    void testSearch() {
+        PolicyRequestPageDTO page = new PolicyRequestPageDTO();
+        page.setItems(List.of(responseDTO));
+        when(policyRequestService.search(any())).thenReturn(page);
+        LocalDateTime from = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+        ResponseEntity<PolicyRequestPageDTO> resp = controller.search(createDTO.getCustomerId(), PolicyRequestStatus.PENDING,
+                InsuranceCategory.AUTO, null, from, null, "cursor", 20, true);
+
+        assertEquals(HttpStatus.OK, resp.getStatusCode());
+        assertSame(page, resp.getBody());
+        ArgumentCaptor<PolicyRequestSearchDTO> captor = ArgumentCaptor.forClass(PolicyRequestSearchDTO.class);
+        verify(policyRequestService).search(captor.capture());
+        PolicyRequestSearchDTO searchDTO = captor.getValue();
+        assertEquals(createDTO.getCustomerId(), searchDTO.getCustomerId());
+        assertEquals(PolicyRequestStatus.PENDING, searchDTO.getStatus());
+        assertEquals(InsuranceCategory.AUTO, searchDTO.getCategory());
+        assertEquals(from, searchDTO.getCreatedFrom());
+        assertEquals("cursor", searchDTO.getCursor());
+        assertEquals(20, searchDTO.getLimit());
+        assertTrue(searchDTO.isIncludeHistory());
+    }
+
+    @Test
+    void testExportStreamsThroughService() throws Exception {
+        LocalDateTime from = LocalDateTime.of(2025, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 2, 1, 0, 0);
+
+        ResponseEntity<StreamingResponseBody> resp = controller.export(PolicyRequestStatus.APPROVED, from, to);
+
+        assertEquals(HttpStatus.OK, resp.getStatusCode());
+        assertEquals("application/x-ndjson", resp.getHeaders().getContentType().toString());
+        verifyNoInteractions(policyRequestService);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        resp.getBody().writeTo(output);
+
+        ArgumentCaptor<PolicyRequestSearchDTO> captor = ArgumentCaptor.forClass(PolicyRequestSearchDTO.class);
+        verify(policyRequestService).exportPolicyRequests(captor.capture(), eq(output));
+        assertEquals(PolicyRequestStatus.APPROVED, captor.getValue().getStatus());
+        assertEquals(from, captor.getValue().getCreatedFrom());
+        assertEquals(to, captor.getValue().getCreatedTo());
+    }
 }